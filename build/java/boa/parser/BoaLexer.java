@@ -0,0 +1,402 @@
+// Generated from Boa.g by ANTLR 4.5
+package boa.parser;
+
+import java.util.ArrayList;
+
+import boa.compiler.ast.*;
+import boa.compiler.ast.expressions.*;
+import boa.compiler.ast.literals.*;
+import boa.compiler.ast.statements.*;
+import boa.compiler.ast.types.*;
+
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.misc.*;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class BoaLexer extends Lexer {
+	static { RuntimeMetaData.checkVersion("4.5", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		OF=1, IF=2, DO=3, MAP=4, STACK=5, SET=6, FOR=7, FOREACH=8, IFALL=9, EXISTS=10, 
+		NOT=11, TYPE=12, ELSE=13, CASE=14, OUTPUT=15, FORMAT=16, WHILE=17, BREAK=18, 
+		ARRAY=19, STATIC=20, SWITCH=21, RETURN=22, WEIGHT=23, DEFAULT=24, CONTINUE=25, 
+		FUNCTION=26, FIXP=27, VISITOR=28, TRAVERSAL=29, BEFORE=30, AFTER=31, STOP=32, 
+		ENUM=33, SEMICOLON=34, COLON=35, COMMA=36, DOT=37, LBRACE=38, RBRACE=39, 
+		LPAREN=40, RPAREN=41, LBRACKET=42, RBRACKET=43, OR=44, ONEOR=45, TWOOR=46, 
+		AND=47, ONEAND=48, TWOAND=49, INCR=50, DECR=51, EQEQ=52, NEQ=53, LT=54, 
+		LTEQ=55, GT=56, GTEQ=57, PLUS=58, MINUS=59, XOR=60, STAR=61, DIV=62, MOD=63, 
+		RSHIFT=64, NEG=65, INV=66, PLUSEQ=67, MINUSEQ=68, STAREQ=69, DIVEQ=70, 
+		ONEOREQ=71, XOREQ=72, MODEQ=73, ONEANDEQ=74, RSHIFTEQ=75, LSHIFTEQ=76, 
+		WILDCARD=77, QUESTION=78, DOLLAR=79, EQUALS=80, EMIT=81, RIGHT_ARROW=82, 
+		ML_STRING=83, IntegerLiteral=84, FloatingPointLiteral=85, CharacterLiteral=86, 
+		RegexLiteral=87, MultilineStringLiteral=88, StringLiteral=89, TimeLiteral=90, 
+		Identifier=91, WS=92, LINE_COMMENT=93;
+	public static String[] modeNames = {
+		"DEFAULT_MODE"
+	};
+
+	public static final String[] ruleNames = {
+		"OF", "IF", "DO", "MAP", "STACK", "SET", "FOR", "FOREACH", "IFALL", "EXISTS", 
+		"NOT", "TYPE", "ELSE", "CASE", "OUTPUT", "FORMAT", "WHILE", "BREAK", "ARRAY", 
+		"STATIC", "SWITCH", "RETURN", "WEIGHT", "DEFAULT", "CONTINUE", "FUNCTION", 
+		"FIXP", "VISITOR", "TRAVERSAL", "BEFORE", "AFTER", "STOP", "ENUM", "SEMICOLON", 
+		"COLON", "COMMA", "DOT", "LBRACE", "RBRACE", "LPAREN", "RPAREN", "LBRACKET", 
+		"RBRACKET", "OR", "ONEOR", "TWOOR", "AND", "ONEAND", "TWOAND", "INCR", 
+		"DECR", "EQEQ", "NEQ", "LT", "LTEQ", "GT", "GTEQ", "PLUS", "MINUS", "XOR", 
+		"STAR", "DIV", "MOD", "RSHIFT", "NEG", "INV", "PLUSEQ", "MINUSEQ", "STAREQ", 
+		"DIVEQ", "ONEOREQ", "XOREQ", "MODEQ", "ONEANDEQ", "RSHIFTEQ", "LSHIFTEQ", 
+		"WILDCARD", "QUESTION", "DOLLAR", "EQUALS", "EMIT", "RIGHT_ARROW", "ML_STRING", 
+		"IntegerLiteral", "DecimalNumeral", "Digit", "NonZeroDigit", "HexNumeral", 
+		"OctalNumeral", "BinaryNumeral", "FloatingPointLiteral", "ExponentPart", 
+		"CharacterLiteral", "SingleCharacter", "RegexLiteral", "RegexCharacter", 
+		"MultilineStringLiteral", "StringLiteral", "StringCharacter", "EscapeSequence", 
+		"OctalEscape", "TimeLiteral", "Identifier", "WS", "LINE_COMMENT"
+	};
+
+	private static final String[] _LITERAL_NAMES = {
+		null, "'of'", "'if'", "'do'", "'map'", "'stack'", "'set'", "'for'", "'foreach'", 
+		"'ifall'", "'exists'", "'not'", "'type'", "'else'", "'case'", "'output'", 
+		"'format'", "'while'", "'break'", "'array'", "'static'", "'switch'", "'return'", 
+		"'weight'", "'default'", "'continue'", "'function'", "'fixp'", "'visitor'", 
+		"'traversal'", "'before'", "'after'", "'stop'", "'enum'", "';'", "':'", 
+		"','", "'.'", "'{'", "'}'", "'('", "')'", "'['", "']'", "'or'", "'|'", 
+		"'||'", "'and'", "'&'", "'&&'", "'++'", "'--'", "'=='", "'!='", "'<'", 
+		"'<='", "'>'", "'>='", "'+'", "'-'", "'^'", "'*'", "'/'", "'%'", "'>>'", 
+		"'~'", "'!'", "'+='", "'-='", "'*='", "'/='", "'|='", "'^='", "'%='", 
+		"'&='", "'>>='", "'<<='", "'_'", "'?'", "'$'", "'='", "'<<'", "'->'", 
+		"'\"\"\"'"
+	};
+	private static final String[] _SYMBOLIC_NAMES = {
+		null, "OF", "IF", "DO", "MAP", "STACK", "SET", "FOR", "FOREACH", "IFALL", 
+		"EXISTS", "NOT", "TYPE", "ELSE", "CASE", "OUTPUT", "FORMAT", "WHILE", 
+		"BREAK", "ARRAY", "STATIC", "SWITCH", "RETURN", "WEIGHT", "DEFAULT", "CONTINUE", 
+		"FUNCTION", "FIXP", "VISITOR", "TRAVERSAL", "BEFORE", "AFTER", "STOP", 
+		"ENUM", "SEMICOLON", "COLON", "COMMA", "DOT", "LBRACE", "RBRACE", "LPAREN", 
+		"RPAREN", "LBRACKET", "RBRACKET", "OR", "ONEOR", "TWOOR", "AND", "ONEAND", 
+		"TWOAND", "INCR", "DECR", "EQEQ", "NEQ", "LT", "LTEQ", "GT", "GTEQ", "PLUS", 
+		"MINUS", "XOR", "STAR", "DIV", "MOD", "RSHIFT", "NEG", "INV", "PLUSEQ", 
+		"MINUSEQ", "STAREQ", "DIVEQ", "ONEOREQ", "XOREQ", "MODEQ", "ONEANDEQ", 
+		"RSHIFTEQ", "LSHIFTEQ", "WILDCARD", "QUESTION", "DOLLAR", "EQUALS", "EMIT", 
+		"RIGHT_ARROW", "ML_STRING", "IntegerLiteral", "FloatingPointLiteral", 
+		"CharacterLiteral", "RegexLiteral", "MultilineStringLiteral", "StringLiteral", 
+		"TimeLiteral", "Identifier", "WS", "LINE_COMMENT"
+	};
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+
+	public BoaLexer(CharStream input) {
+		super(input);
+		_interp = new LexerATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@Override
+	public String getGrammarFileName() { return "Boa.g"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public String[] getModeNames() { return modeNames; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public static final String _serializedATN =
+		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\2_\u02cb\b\1\4\2\t"+
+		"\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13"+
+		"\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
+		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
+		"\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t \4!"+
+		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t+\4"+
+		",\t,\4-\t-\4.\t.\4/\t/\4\60\t\60\4\61\t\61\4\62\t\62\4\63\t\63\4\64\t"+
+		"\64\4\65\t\65\4\66\t\66\4\67\t\67\48\t8\49\t9\4:\t:\4;\t;\4<\t<\4=\t="+
+		"\4>\t>\4?\t?\4@\t@\4A\tA\4B\tB\4C\tC\4D\tD\4E\tE\4F\tF\4G\tG\4H\tH\4I"+
+		"\tI\4J\tJ\4K\tK\4L\tL\4M\tM\4N\tN\4O\tO\4P\tP\4Q\tQ\4R\tR\4S\tS\4T\tT"+
+		"\4U\tU\4V\tV\4W\tW\4X\tX\4Y\tY\4Z\tZ\4[\t[\4\\\t\\\4]\t]\4^\t^\4_\t_\4"+
+		"`\t`\4a\ta\4b\tb\4c\tc\4d\td\4e\te\4f\tf\4g\tg\4h\th\4i\ti\4j\tj\3\2\3"+
+		"\2\3\2\3\3\3\3\3\3\3\4\3\4\3\4\3\5\3\5\3\5\3\5\3\6\3\6\3\6\3\6\3\6\3\6"+
+		"\3\7\3\7\3\7\3\7\3\b\3\b\3\b\3\b\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\n\3"+
+		"\n\3\n\3\n\3\n\3\n\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\f\3\f\3\f\3\f"+
+		"\3\r\3\r\3\r\3\r\3\r\3\16\3\16\3\16\3\16\3\16\3\17\3\17\3\17\3\17\3\17"+
+		"\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\21\3\21\3\21\3\21\3\21\3\21\3\21"+
+		"\3\22\3\22\3\22\3\22\3\22\3\22\3\23\3\23\3\23\3\23\3\23\3\23\3\24\3\24"+
+		"\3\24\3\24\3\24\3\24\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\26\3\26\3\26"+
+		"\3\26\3\26\3\26\3\26\3\27\3\27\3\27\3\27\3\27\3\27\3\27\3\30\3\30\3\30"+
+		"\3\30\3\30\3\30\3\30\3\31\3\31\3\31\3\31\3\31\3\31\3\31\3\31\3\32\3\32"+
+		"\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\33\3\33\3\33\3\33\3\33\3\33\3\33"+
+		"\3\33\3\33\3\34\3\34\3\34\3\34\3\34\3\35\3\35\3\35\3\35\3\35\3\35\3\35"+
+		"\3\35\3\36\3\36\3\36\3\36\3\36\3\36\3\36\3\36\3\36\3\36\3\37\3\37\3\37"+
+		"\3\37\3\37\3\37\3\37\3 \3 \3 \3 \3 \3 \3!\3!\3!\3!\3!\3\"\3\"\3\"\3\""+
+		"\3\"\3#\3#\3$\3$\3%\3%\3&\3&\3\'\3\'\3(\3(\3)\3)\3*\3*\3+\3+\3,\3,\3-"+
+		"\3-\3-\3.\3.\3/\3/\3/\3\60\3\60\3\60\3\60\3\61\3\61\3\62\3\62\3\62\3\63"+
+		"\3\63\3\63\3\64\3\64\3\64\3\65\3\65\3\65\3\66\3\66\3\66\3\67\3\67\38\3"+
+		"8\38\39\39\3:\3:\3:\3;\3;\3<\3<\3=\3=\3>\3>\3?\3?\3@\3@\3A\3A\3A\3B\3"+
+		"B\3C\3C\3D\3D\3D\3E\3E\3E\3F\3F\3F\3G\3G\3G\3H\3H\3H\3I\3I\3I\3J\3J\3"+
+		"J\3K\3K\3K\3L\3L\3L\3L\3M\3M\3M\3M\3N\3N\3O\3O\3P\3P\3Q\3Q\3R\3R\3R\3"+
+		"S\3S\3S\3T\3T\3T\3T\3U\3U\3U\3U\5U\u0221\nU\3V\3V\7V\u0225\nV\fV\16V\u0228"+
+		"\13V\3W\3W\5W\u022c\nW\3X\3X\3Y\3Y\3Y\6Y\u0233\nY\rY\16Y\u0234\3Z\3Z\7"+
+		"Z\u0239\nZ\fZ\16Z\u023c\13Z\3[\3[\3[\6[\u0241\n[\r[\16[\u0242\3\\\6\\"+
+		"\u0246\n\\\r\\\16\\\u0247\3\\\3\\\7\\\u024c\n\\\f\\\16\\\u024f\13\\\3"+
+		"\\\5\\\u0252\n\\\3\\\3\\\6\\\u0256\n\\\r\\\16\\\u0257\3\\\5\\\u025b\n"+
+		"\\\3\\\6\\\u025e\n\\\r\\\16\\\u025f\3\\\3\\\5\\\u0264\n\\\3]\3]\5]\u0268"+
+		"\n]\3]\6]\u026b\n]\r]\16]\u026c\3^\3^\3^\3^\3^\3^\3^\3^\5^\u0277\n^\3"+
+		"_\3_\3`\3`\7`\u027d\n`\f`\16`\u0280\13`\3`\3`\3a\3a\3b\3b\3b\7b\u0289"+
+		"\nb\fb\16b\u028c\13b\3b\3b\3c\3c\7c\u0292\nc\fc\16c\u0295\13c\3c\3c\3"+
+		"d\3d\5d\u029b\nd\3e\3e\3e\5e\u02a0\ne\3f\3f\3f\3f\3f\3f\3f\3f\3f\5f\u02ab"+
+		"\nf\3g\3g\5g\u02af\ng\3g\3g\5g\u02b3\ng\3h\3h\7h\u02b7\nh\fh\16h\u02ba"+
+		"\13h\3i\6i\u02bd\ni\ri\16i\u02be\3i\3i\3j\3j\7j\u02c5\nj\fj\16j\u02c8"+
+		"\13j\3j\3j\3\u028a\2k\3\3\5\4\7\5\t\6\13\7\r\b\17\t\21\n\23\13\25\f\27"+
+		"\r\31\16\33\17\35\20\37\21!\22#\23%\24\'\25)\26+\27-\30/\31\61\32\63\33"+
+		"\65\34\67\359\36;\37= ?!A\"C#E$G%I&K\'M(O)Q*S+U,W-Y.[/]\60_\61a\62c\63"+
+		"e\64g\65i\66k\67m8o9q:s;u<w=y>{?}@\177A\u0081B\u0083C\u0085D\u0087E\u0089"+
+		"F\u008bG\u008dH\u008fI\u0091J\u0093K\u0095L\u0097M\u0099N\u009bO\u009d"+
+		"P\u009fQ\u00a1R\u00a3S\u00a5T\u00a7U\u00a9V\u00ab\2\u00ad\2\u00af\2\u00b1"+
+		"\2\u00b3\2\u00b5\2\u00b7W\u00b9\2\u00bbX\u00bd\2\u00bfY\u00c1\2\u00c3"+
+		"Z\u00c5[\u00c7\2\u00c9\2\u00cb\2\u00cd\\\u00cf]\u00d1^\u00d3_\3\2\34\3"+
+		"\2\62\62\3\2\63;\4\2ZZzz\5\2\62;CHch\3\2\629\4\2DDdd\3\2\62\63\4\2GGg"+
+		"g\4\2--//\3\2))\6\2\f\f\17\17))^^\3\2bb\5\2\f\f\17\17bb\5\2\f\f\17\17"+
+		"$$\3\2$$\6\2\f\f\17\17$$^^\3\2^^\n\2$$))^^ddhhppttvv\3\2\62\65\4\2VVv"+
+		"v\3\2VV\4\2C\\c|\6\2\62;C\\aac|\5\2\13\f\16\17\"\"\3\2%%\4\2\f\f\17\17"+
+		"\u02de\2\3\3\2\2\2\2\5\3\2\2\2\2\7\3\2\2\2\2\t\3\2\2\2\2\13\3\2\2\2\2"+
+		"\r\3\2\2\2\2\17\3\2\2\2\2\21\3\2\2\2\2\23\3\2\2\2\2\25\3\2\2\2\2\27\3"+
+		"\2\2\2\2\31\3\2\2\2\2\33\3\2\2\2\2\35\3\2\2\2\2\37\3\2\2\2\2!\3\2\2\2"+
+		"\2#\3\2\2\2\2%\3\2\2\2\2\'\3\2\2\2\2)\3\2\2\2\2+\3\2\2\2\2-\3\2\2\2\2"+
+		"/\3\2\2\2\2\61\3\2\2\2\2\63\3\2\2\2\2\65\3\2\2\2\2\67\3\2\2\2\29\3\2\2"+
+		"\2\2;\3\2\2\2\2=\3\2\2\2\2?\3\2\2\2\2A\3\2\2\2\2C\3\2\2\2\2E\3\2\2\2\2"+
+		"G\3\2\2\2\2I\3\2\2\2\2K\3\2\2\2\2M\3\2\2\2\2O\3\2\2\2\2Q\3\2\2\2\2S\3"+
+		"\2\2\2\2U\3\2\2\2\2W\3\2\2\2\2Y\3\2\2\2\2[\3\2\2\2\2]\3\2\2\2\2_\3\2\2"+
+		"\2\2a\3\2\2\2\2c\3\2\2\2\2e\3\2\2\2\2g\3\2\2\2\2i\3\2\2\2\2k\3\2\2\2\2"+
+		"m\3\2\2\2\2o\3\2\2\2\2q\3\2\2\2\2s\3\2\2\2\2u\3\2\2\2\2w\3\2\2\2\2y\3"+
+		"\2\2\2\2{\3\2\2\2\2}\3\2\2\2\2\177\3\2\2\2\2\u0081\3\2\2\2\2\u0083\3\2"+
+		"\2\2\2\u0085\3\2\2\2\2\u0087\3\2\2\2\2\u0089\3\2\2\2\2\u008b\3\2\2\2\2"+
+		"\u008d\3\2\2\2\2\u008f\3\2\2\2\2\u0091\3\2\2\2\2\u0093\3\2\2\2\2\u0095"+
+		"\3\2\2\2\2\u0097\3\2\2\2\2\u0099\3\2\2\2\2\u009b\3\2\2\2\2\u009d\3\2\2"+
+		"\2\2\u009f\3\2\2\2\2\u00a1\3\2\2\2\2\u00a3\3\2\2\2\2\u00a5\3\2\2\2\2\u00a7"+
+		"\3\2\2\2\2\u00a9\3\2\2\2\2\u00b7\3\2\2\2\2\u00bb\3\2\2\2\2\u00bf\3\2\2"+
+		"\2\2\u00c3\3\2\2\2\2\u00c5\3\2\2\2\2\u00cd\3\2\2\2\2\u00cf\3\2\2\2\2\u00d1"+
+		"\3\2\2\2\2\u00d3\3\2\2\2\3\u00d5\3\2\2\2\5\u00d8\3\2\2\2\7\u00db\3\2\2"+
+		"\2\t\u00de\3\2\2\2\13\u00e2\3\2\2\2\r\u00e8\3\2\2\2\17\u00ec\3\2\2\2\21"+
+		"\u00f0\3\2\2\2\23\u00f8\3\2\2\2\25\u00fe\3\2\2\2\27\u0105\3\2\2\2\31\u0109"+
+		"\3\2\2\2\33\u010e\3\2\2\2\35\u0113\3\2\2\2\37\u0118\3\2\2\2!\u011f\3\2"+
+		"\2\2#\u0126\3\2\2\2%\u012c\3\2\2\2\'\u0132\3\2\2\2)\u0138\3\2\2\2+\u013f"+
+		"\3\2\2\2-\u0146\3\2\2\2/\u014d\3\2\2\2\61\u0154\3\2\2\2\63\u015c\3\2\2"+
+		"\2\65\u0165\3\2\2\2\67\u016e\3\2\2\29\u0173\3\2\2\2;\u017b\3\2\2\2=\u0185"+
+		"\3\2\2\2?\u018c\3\2\2\2A\u0192\3\2\2\2C\u0197\3\2\2\2E\u019c\3\2\2\2G"+
+		"\u019e\3\2\2\2I\u01a0\3\2\2\2K\u01a2\3\2\2\2M\u01a4\3\2\2\2O\u01a6\3\2"+
+		"\2\2Q\u01a8\3\2\2\2S\u01aa\3\2\2\2U\u01ac\3\2\2\2W\u01ae\3\2\2\2Y\u01b0"+
+		"\3\2\2\2[\u01b3\3\2\2\2]\u01b5\3\2\2\2_\u01b8\3\2\2\2a\u01bc\3\2\2\2c"+
+		"\u01be\3\2\2\2e\u01c1\3\2\2\2g\u01c4\3\2\2\2i\u01c7\3\2\2\2k\u01ca\3\2"+
+		"\2\2m\u01cd\3\2\2\2o\u01cf\3\2\2\2q\u01d2\3\2\2\2s\u01d4\3\2\2\2u\u01d7"+
+		"\3\2\2\2w\u01d9\3\2\2\2y\u01db\3\2\2\2{\u01dd\3\2\2\2}\u01df\3\2\2\2\177"+
+		"\u01e1\3\2\2\2\u0081\u01e3\3\2\2\2\u0083\u01e6\3\2\2\2\u0085\u01e8\3\2"+
+		"\2\2\u0087\u01ea\3\2\2\2\u0089\u01ed\3\2\2\2\u008b\u01f0\3\2\2\2\u008d"+
+		"\u01f3\3\2\2\2\u008f\u01f6\3\2\2\2\u0091\u01f9\3\2\2\2\u0093\u01fc\3\2"+
+		"\2\2\u0095\u01ff\3\2\2\2\u0097\u0202\3\2\2\2\u0099\u0206\3\2\2\2\u009b"+
+		"\u020a\3\2\2\2\u009d\u020c\3\2\2\2\u009f\u020e\3\2\2\2\u00a1\u0210\3\2"+
+		"\2\2\u00a3\u0212\3\2\2\2\u00a5\u0215\3\2\2\2\u00a7\u0218\3\2\2\2\u00a9"+
+		"\u0220\3\2\2\2\u00ab\u0222\3\2\2\2\u00ad\u022b\3\2\2\2\u00af\u022d\3\2"+
+		"\2\2\u00b1\u022f\3\2\2\2\u00b3\u0236\3\2\2\2\u00b5\u023d\3\2\2\2\u00b7"+
+		"\u0263\3\2\2\2\u00b9\u0265\3\2\2\2\u00bb\u0276\3\2\2\2\u00bd\u0278\3\2"+
+		"\2\2\u00bf\u027a\3\2\2\2\u00c1\u0283\3\2\2\2\u00c3\u0285\3\2\2\2\u00c5"+
+		"\u028f\3\2\2\2\u00c7\u029a\3\2\2\2\u00c9\u029f\3\2\2\2\u00cb\u02aa\3\2"+
+		"\2\2\u00cd\u02b2\3\2\2\2\u00cf\u02b4\3\2\2\2\u00d1\u02bc\3\2\2\2\u00d3"+
+		"\u02c2\3\2\2\2\u00d5\u00d6\7q\2\2\u00d6\u00d7\7h\2\2\u00d7\4\3\2\2\2\u00d8"+
+		"\u00d9\7k\2\2\u00d9\u00da\7h\2\2\u00da\6\3\2\2\2\u00db\u00dc\7f\2\2\u00dc"+
+		"\u00dd\7q\2\2\u00dd\b\3\2\2\2\u00de\u00df\7o\2\2\u00df\u00e0\7c\2\2\u00e0"+
+		"\u00e1\7r\2\2\u00e1\n\3\2\2\2\u00e2\u00e3\7u\2\2\u00e3\u00e4\7v\2\2\u00e4"+
+		"\u00e5\7c\2\2\u00e5\u00e6\7e\2\2\u00e6\u00e7\7m\2\2\u00e7\f\3\2\2\2\u00e8"+
+		"\u00e9\7u\2\2\u00e9\u00ea\7g\2\2\u00ea\u00eb\7v\2\2\u00eb\16\3\2\2\2\u00ec"+
+		"\u00ed\7h\2\2\u00ed\u00ee\7q\2\2\u00ee\u00ef\7t\2\2\u00ef\20\3\2\2\2\u00f0"+
+		"\u00f1\7h\2\2\u00f1\u00f2\7q\2\2\u00f2\u00f3\7t\2\2\u00f3\u00f4\7g\2\2"+
+		"\u00f4\u00f5\7c\2\2\u00f5\u00f6\7e\2\2\u00f6\u00f7\7j\2\2\u00f7\22\3\2"+
+		"\2\2\u00f8\u00f9\7k\2\2\u00f9\u00fa\7h\2\2\u00fa\u00fb\7c\2\2\u00fb\u00fc"+
+		"\7n\2\2\u00fc\u00fd\7n\2\2\u00fd\24\3\2\2\2\u00fe\u00ff\7g\2\2\u00ff\u0100"+
+		"\7z\2\2\u0100\u0101\7k\2\2\u0101\u0102\7u\2\2\u0102\u0103\7v\2\2\u0103"+
+		"\u0104\7u\2\2\u0104\26\3\2\2\2\u0105\u0106\7p\2\2\u0106\u0107\7q\2\2\u0107"+
+		"\u0108\7v\2\2\u0108\30\3\2\2\2\u0109\u010a\7v\2\2\u010a\u010b\7{\2\2\u010b"+
+		"\u010c\7r\2\2\u010c\u010d\7g\2\2\u010d\32\3\2\2\2\u010e\u010f\7g\2\2\u010f"+
+		"\u0110\7n\2\2\u0110\u0111\7u\2\2\u0111\u0112\7g\2\2\u0112\34\3\2\2\2\u0113"+
+		"\u0114\7e\2\2\u0114\u0115\7c\2\2\u0115\u0116\7u\2\2\u0116\u0117\7g\2\2"+
+		"\u0117\36\3\2\2\2\u0118\u0119\7q\2\2\u0119\u011a\7w\2\2\u011a\u011b\7"+
+		"v\2\2\u011b\u011c\7r\2\2\u011c\u011d\7w\2\2\u011d\u011e\7v\2\2\u011e "+
+		"\3\2\2\2\u011f\u0120\7h\2\2\u0120\u0121\7q\2\2\u0121\u0122\7t\2\2\u0122"+
+		"\u0123\7o\2\2\u0123\u0124\7c\2\2\u0124\u0125\7v\2\2\u0125\"\3\2\2\2\u0126"+
+		"\u0127\7y\2\2\u0127\u0128\7j\2\2\u0128\u0129\7k\2\2\u0129\u012a\7n\2\2"+
+		"\u012a\u012b\7g\2\2\u012b$\3\2\2\2\u012c\u012d\7d\2\2\u012d\u012e\7t\2"+
+		"\2\u012e\u012f\7g\2\2\u012f\u0130\7c\2\2\u0130\u0131\7m\2\2\u0131&\3\2"+
+		"\2\2\u0132\u0133\7c\2\2\u0133\u0134\7t\2\2\u0134\u0135\7t\2\2\u0135\u0136"+
+		"\7c\2\2\u0136\u0137\7{\2\2\u0137(\3\2\2\2\u0138\u0139\7u\2\2\u0139\u013a"+
+		"\7v\2\2\u013a\u013b\7c\2\2\u013b\u013c\7v\2\2\u013c\u013d\7k\2\2\u013d"+
+		"\u013e\7e\2\2\u013e*\3\2\2\2\u013f\u0140\7u\2\2\u0140\u0141\7y\2\2\u0141"+
+		"\u0142\7k\2\2\u0142\u0143\7v\2\2\u0143\u0144\7e\2\2\u0144\u0145\7j\2\2"+
+		"\u0145,\3\2\2\2\u0146\u0147\7t\2\2\u0147\u0148\7g\2\2\u0148\u0149\7v\2"+
+		"\2\u0149\u014a\7w\2\2\u014a\u014b\7t\2\2\u014b\u014c\7p\2\2\u014c.\3\2"+
+		"\2\2\u014d\u014e\7y\2\2\u014e\u014f\7g\2\2\u014f\u0150\7k\2\2\u0150\u0151"+
+		"\7i\2\2\u0151\u0152\7j\2\2\u0152\u0153\7v\2\2\u0153\60\3\2\2\2\u0154\u0155"+
+		"\7f\2\2\u0155\u0156\7g\2\2\u0156\u0157\7h\2\2\u0157\u0158\7c\2\2\u0158"+
+		"\u0159\7w\2\2\u0159\u015a\7n\2\2\u015a\u015b\7v\2\2\u015b\62\3\2\2\2\u015c"+
+		"\u015d\7e\2\2\u015d\u015e\7q\2\2\u015e\u015f\7p\2\2\u015f\u0160\7v\2\2"+
+		"\u0160\u0161\7k\2\2\u0161\u0162\7p\2\2\u0162\u0163\7w\2\2\u0163\u0164"+
+		"\7g\2\2\u0164\64\3\2\2\2\u0165\u0166\7h\2\2\u0166\u0167\7w\2\2\u0167\u0168"+
+		"\7p\2\2\u0168\u0169\7e\2\2\u0169\u016a\7v\2\2\u016a\u016b\7k\2\2\u016b"+
+		"\u016c\7q\2\2\u016c\u016d\7p\2\2\u016d\66\3\2\2\2\u016e\u016f\7h\2\2\u016f"+
+		"\u0170\7k\2\2\u0170\u0171\7z\2\2\u0171\u0172\7r\2\2\u01728\3\2\2\2\u0173"+
+		"\u0174\7x\2\2\u0174\u0175\7k\2\2\u0175\u0176\7u\2\2\u0176\u0177\7k\2\2"+
+		"\u0177\u0178\7v\2\2\u0178\u0179\7q\2\2\u0179\u017a\7t\2\2\u017a:\3\2\2"+
+		"\2\u017b\u017c\7v\2\2\u017c\u017d\7t\2\2\u017d\u017e\7c\2\2\u017e\u017f"+
+		"\7x\2\2\u017f\u0180\7g\2\2\u0180\u0181\7t\2\2\u0181\u0182\7u\2\2\u0182"+
+		"\u0183\7c\2\2\u0183\u0184\7n\2\2\u0184<\3\2\2\2\u0185\u0186\7d\2\2\u0186"+
+		"\u0187\7g\2\2\u0187\u0188\7h\2\2\u0188\u0189\7q\2\2\u0189\u018a\7t\2\2"+
+		"\u018a\u018b\7g\2\2\u018b>\3\2\2\2\u018c\u018d\7c\2\2\u018d\u018e\7h\2"+
+		"\2\u018e\u018f\7v\2\2\u018f\u0190\7g\2\2\u0190\u0191\7t\2\2\u0191@\3\2"+
+		"\2\2\u0192\u0193\7u\2\2\u0193\u0194\7v\2\2\u0194\u0195\7q\2\2\u0195\u0196"+
+		"\7r\2\2\u0196B\3\2\2\2\u0197\u0198\7g\2\2\u0198\u0199\7p\2\2\u0199\u019a"+
+		"\7w\2\2\u019a\u019b\7o\2\2\u019bD\3\2\2\2\u019c\u019d\7=\2\2\u019dF\3"+
+		"\2\2\2\u019e\u019f\7<\2\2\u019fH\3\2\2\2\u01a0\u01a1\7.\2\2\u01a1J\3\2"+
+		"\2\2\u01a2\u01a3\7\60\2\2\u01a3L\3\2\2\2\u01a4\u01a5\7}\2\2\u01a5N\3\2"+
+		"\2\2\u01a6\u01a7\7\177\2\2\u01a7P\3\2\2\2\u01a8\u01a9\7*\2\2\u01a9R\3"+
+		"\2\2\2\u01aa\u01ab\7+\2\2\u01abT\3\2\2\2\u01ac\u01ad\7]\2\2\u01adV\3\2"+
+		"\2\2\u01ae\u01af\7_\2\2\u01afX\3\2\2\2\u01b0\u01b1\7q\2\2\u01b1\u01b2"+
+		"\7t\2\2\u01b2Z\3\2\2\2\u01b3\u01b4\7~\2\2\u01b4\\\3\2\2\2\u01b5\u01b6"+
+		"\7~\2\2\u01b6\u01b7\7~\2\2\u01b7^\3\2\2\2\u01b8\u01b9\7c\2\2\u01b9\u01ba"+
+		"\7p\2\2\u01ba\u01bb\7f\2\2\u01bb`\3\2\2\2\u01bc\u01bd\7(\2\2\u01bdb\3"+
+		"\2\2\2\u01be\u01bf\7(\2\2\u01bf\u01c0\7(\2\2\u01c0d\3\2\2\2\u01c1\u01c2"+
+		"\7-\2\2\u01c2\u01c3\7-\2\2\u01c3f\3\2\2\2\u01c4\u01c5\7/\2\2\u01c5\u01c6"+
+		"\7/\2\2\u01c6h\3\2\2\2\u01c7\u01c8\7?\2\2\u01c8\u01c9\7?\2\2\u01c9j\3"+
+		"\2\2\2\u01ca\u01cb\7#\2\2\u01cb\u01cc\7?\2\2\u01ccl\3\2\2\2\u01cd\u01ce"+
+		"\7>\2\2\u01cen\3\2\2\2\u01cf\u01d0\7>\2\2\u01d0\u01d1\7?\2\2\u01d1p\3"+
+		"\2\2\2\u01d2\u01d3\7@\2\2\u01d3r\3\2\2\2\u01d4\u01d5\7@\2\2\u01d5\u01d6"+
+		"\7?\2\2\u01d6t\3\2\2\2\u01d7\u01d8\7-\2\2\u01d8v\3\2\2\2\u01d9\u01da\7"+
+		"/\2\2\u01dax\3\2\2\2\u01db\u01dc\7`\2\2\u01dcz\3\2\2\2\u01dd\u01de\7,"+
+		"\2\2\u01de|\3\2\2\2\u01df\u01e0\7\61\2\2\u01e0~\3\2\2\2\u01e1\u01e2\7"+
+		"\'\2\2\u01e2\u0080\3\2\2\2\u01e3\u01e4\7@\2\2\u01e4\u01e5\7@\2\2\u01e5"+
+		"\u0082\3\2\2\2\u01e6\u01e7\7\u0080\2\2\u01e7\u0084\3\2\2\2\u01e8\u01e9"+
+		"\7#\2\2\u01e9\u0086\3\2\2\2\u01ea\u01eb\7-\2\2\u01eb\u01ec\7?\2\2\u01ec"+
+		"\u0088\3\2\2\2\u01ed\u01ee\7/\2\2\u01ee\u01ef\7?\2\2\u01ef\u008a\3\2\2"+
+		"\2\u01f0\u01f1\7,\2\2\u01f1\u01f2\7?\2\2\u01f2\u008c\3\2\2\2\u01f3\u01f4"+
+		"\7\61\2\2\u01f4\u01f5\7?\2\2\u01f5\u008e\3\2\2\2\u01f6\u01f7\7~\2\2\u01f7"+
+		"\u01f8\7?\2\2\u01f8\u0090\3\2\2\2\u01f9\u01fa\7`\2\2\u01fa\u01fb\7?\2"+
+		"\2\u01fb\u0092\3\2\2\2\u01fc\u01fd\7\'\2\2\u01fd\u01fe\7?\2\2\u01fe\u0094"+
+		"\3\2\2\2\u01ff\u0200\7(\2\2\u0200\u0201\7?\2\2\u0201\u0096\3\2\2\2\u0202"+
+		"\u0203\7@\2\2\u0203\u0204\7@\2\2\u0204\u0205\7?\2\2\u0205\u0098\3\2\2"+
+		"\2\u0206\u0207\7>\2\2\u0207\u0208\7>\2\2\u0208\u0209\7?\2\2\u0209\u009a"+
+		"\3\2\2\2\u020a\u020b\7a\2\2\u020b\u009c\3\2\2\2\u020c\u020d\7A\2\2\u020d"+
+		"\u009e\3\2\2\2\u020e\u020f\7&\2\2\u020f\u00a0\3\2\2\2\u0210\u0211\7?\2"+
+		"\2\u0211\u00a2\3\2\2\2\u0212\u0213\7>\2\2\u0213\u0214\7>\2\2\u0214\u00a4"+
+		"\3\2\2\2\u0215\u0216\7/\2\2\u0216\u0217\7@\2\2\u0217\u00a6\3\2\2\2\u0218"+
+		"\u0219\7$\2\2\u0219\u021a\7$\2\2\u021a\u021b\7$\2\2\u021b\u00a8\3\2\2"+
+		"\2\u021c\u0221\5\u00abV\2\u021d\u0221\5\u00b1Y\2\u021e\u0221\5\u00b3Z"+
+		"\2\u021f\u0221\5\u00b5[\2\u0220\u021c\3\2\2\2\u0220\u021d\3\2\2\2\u0220"+
+		"\u021e\3\2\2\2\u0220\u021f\3\2\2\2\u0221\u00aa\3\2\2\2\u0222\u0226\5\u00af"+
+		"X\2\u0223\u0225\5\u00adW\2\u0224\u0223\3\2\2\2\u0225\u0228\3\2\2\2\u0226"+
+		"\u0224\3\2\2\2\u0226\u0227\3\2\2\2\u0227\u00ac\3\2\2\2\u0228\u0226\3\2"+
+		"\2\2\u0229\u022c\t\2\2\2\u022a\u022c\5\u00afX\2\u022b\u0229\3\2\2\2\u022b"+
+		"\u022a\3\2\2\2\u022c\u00ae\3\2\2\2\u022d\u022e\t\3\2\2\u022e\u00b0\3\2"+
+		"\2\2\u022f\u0230\t\2\2\2\u0230\u0232\t\4\2\2\u0231\u0233\t\5\2\2\u0232"+
+		"\u0231\3\2\2\2\u0233\u0234\3\2\2\2\u0234\u0232\3\2\2\2\u0234\u0235\3\2"+
+		"\2\2\u0235\u00b2\3\2\2\2\u0236\u023a\t\2\2\2\u0237\u0239\t\6\2\2\u0238"+
+		"\u0237\3\2\2\2\u0239\u023c\3\2\2\2\u023a\u0238\3\2\2\2\u023a\u023b\3\2"+
+		"\2\2\u023b\u00b4\3\2\2\2\u023c\u023a\3\2\2\2\u023d\u023e\t\2\2\2\u023e"+
+		"\u0240\t\7\2\2\u023f\u0241\t\b\2\2\u0240\u023f\3\2\2\2\u0241\u0242\3\2"+
+		"\2\2\u0242\u0240\3\2\2\2\u0242\u0243\3\2\2\2\u0243\u00b6\3\2\2\2\u0244"+
+		"\u0246\5\u00adW\2\u0245\u0244\3\2\2\2\u0246\u0247\3\2\2\2\u0247\u0245"+
+		"\3\2\2\2\u0247\u0248\3\2\2\2\u0248\u0249\3\2\2\2\u0249\u024d\5K&\2\u024a"+
+		"\u024c\5\u00adW\2\u024b\u024a\3\2\2\2\u024c\u024f\3\2\2\2\u024d\u024b"+
+		"\3\2\2\2\u024d\u024e\3\2\2\2\u024e\u0251\3\2\2\2\u024f\u024d\3\2\2\2\u0250"+
+		"\u0252\5\u00b9]\2\u0251\u0250\3\2\2\2\u0251\u0252\3\2\2\2\u0252\u0264"+
+		"\3\2\2\2\u0253\u0255\5K&\2\u0254\u0256\5\u00adW\2\u0255\u0254\3\2\2\2"+
+		"\u0256\u0257\3\2\2\2\u0257\u0255\3\2\2\2\u0257\u0258\3\2\2\2\u0258\u025a"+
+		"\3\2\2\2\u0259\u025b\5\u00b9]\2\u025a\u0259\3\2\2\2\u025a\u025b\3\2\2"+
+		"\2\u025b\u0264\3\2\2\2\u025c\u025e\5\u00adW\2\u025d\u025c\3\2\2\2\u025e"+
+		"\u025f\3\2\2\2\u025f\u025d\3\2\2\2\u025f\u0260\3\2\2\2\u0260\u0261\3\2"+
+		"\2\2\u0261\u0262\5\u00b9]\2\u0262\u0264\3\2\2\2\u0263\u0245\3\2\2\2\u0263"+
+		"\u0253\3\2\2\2\u0263\u025d\3\2\2\2\u0264\u00b8\3\2\2\2\u0265\u0267\t\t"+
+		"\2\2\u0266\u0268\t\n\2\2\u0267\u0266\3\2\2\2\u0267\u0268\3\2\2\2\u0268"+
+		"\u026a\3\2\2\2\u0269\u026b\5\u00adW\2\u026a\u0269\3\2\2\2\u026b\u026c"+
+		"\3\2\2\2\u026c\u026a\3\2\2\2\u026c\u026d\3\2\2\2\u026d\u00ba\3\2\2\2\u026e"+
+		"\u026f\t\13\2\2\u026f\u0270\5\u00bd_\2\u0270\u0271\t\13\2\2\u0271\u0277"+
+		"\3\2\2\2\u0272\u0273\t\13\2\2\u0273\u0274\5\u00c9e\2\u0274\u0275\t\13"+
+		"\2\2\u0275\u0277\3\2\2\2\u0276\u026e\3\2\2\2\u0276\u0272\3\2\2\2\u0277"+
+		"\u00bc\3\2\2\2\u0278\u0279\n\f\2\2\u0279\u00be\3\2\2\2\u027a\u027e\t\r"+
+		"\2\2\u027b\u027d\5\u00c1a\2\u027c\u027b\3\2\2\2\u027d\u0280\3\2\2\2\u027e"+
+		"\u027c\3\2\2\2\u027e\u027f\3\2\2\2\u027f\u0281\3\2\2\2\u0280\u027e\3\2"+
+		"\2\2\u0281\u0282\t\r\2\2\u0282\u00c0\3\2\2\2\u0283\u0284\n\16\2\2\u0284"+
+		"\u00c2\3\2\2\2\u0285\u028a\5\u00a7T\2\u0286\u0289\5\u00c7d\2\u0287\u0289"+
+		"\t\17\2\2\u0288\u0286\3\2\2\2\u0288\u0287\3\2\2\2\u0289\u028c\3\2\2\2"+
+		"\u028a\u028b\3\2\2\2\u028a\u0288\3\2\2\2\u028b\u028d\3\2\2\2\u028c\u028a"+
+		"\3\2\2\2\u028d\u028e\5\u00a7T\2\u028e\u00c4\3\2\2\2\u028f\u0293\t\20\2"+
+		"\2\u0290\u0292\5\u00c7d\2\u0291\u0290\3\2\2\2\u0292\u0295\3\2\2\2\u0293"+
+		"\u0291\3\2\2\2\u0293\u0294\3\2\2\2\u0294\u0296\3\2\2\2\u0295\u0293\3\2"+
+		"\2\2\u0296\u0297\t\20\2\2\u0297\u00c6\3\2\2\2\u0298\u029b\n\21\2\2\u0299"+
+		"\u029b\5\u00c9e\2\u029a\u0298\3\2\2\2\u029a\u0299\3\2\2\2\u029b\u00c8"+
+		"\3\2\2\2\u029c\u029d\t\22\2\2\u029d\u02a0\t\23\2\2\u029e\u02a0\5\u00cb"+
+		"f\2\u029f\u029c\3\2\2\2\u029f\u029e\3\2\2\2\u02a0\u00ca\3\2\2\2\u02a1"+
+		"\u02a2\t\22\2\2\u02a2\u02ab\t\6\2\2\u02a3\u02a4\t\22\2\2\u02a4\u02a5\t"+
+		"\6\2\2\u02a5\u02ab\t\6\2\2\u02a6\u02a7\t\22\2\2\u02a7\u02a8\t\24\2\2\u02a8"+
+		"\u02a9\t\6\2\2\u02a9\u02ab\t\6\2\2\u02aa\u02a1\3\2\2\2\u02aa\u02a3\3\2"+
+		"\2\2\u02aa\u02a6\3\2\2\2\u02ab\u00cc\3\2\2\2\u02ac\u02ae\5\u00a9U\2\u02ad"+
+		"\u02af\t\25\2\2\u02ae\u02ad\3\2\2\2\u02ae\u02af\3\2\2\2\u02af\u02b3\3"+
+		"\2\2\2\u02b0\u02b1\t\26\2\2\u02b1\u02b3\5\u00c5c\2\u02b2\u02ac\3\2\2\2"+
+		"\u02b2\u02b0\3\2\2\2\u02b3\u00ce\3\2\2\2\u02b4\u02b8\t\27\2\2\u02b5\u02b7"+
+		"\t\30\2\2\u02b6\u02b5\3\2\2\2\u02b7\u02ba\3\2\2\2\u02b8\u02b6\3\2\2\2"+
+		"\u02b8\u02b9\3\2\2\2\u02b9\u00d0\3\2\2\2\u02ba\u02b8\3\2\2\2\u02bb\u02bd"+
+		"\t\31\2\2\u02bc\u02bb\3\2\2\2\u02bd\u02be\3\2\2\2\u02be\u02bc\3\2\2\2"+
+		"\u02be\u02bf\3\2\2\2\u02bf\u02c0\3\2\2\2\u02c0\u02c1\bi\2\2\u02c1\u00d2"+
+		"\3\2\2\2\u02c2\u02c6\t\32\2\2\u02c3\u02c5\n\33\2\2\u02c4\u02c3\3\2\2\2"+
+		"\u02c5\u02c8\3\2\2\2\u02c6\u02c4\3\2\2\2\u02c6\u02c7\3\2\2\2\u02c7\u02c9"+
+		"\3\2\2\2\u02c8\u02c6\3\2\2\2\u02c9\u02ca\bj\2\2\u02ca\u00d4\3\2\2\2\37"+
+		"\2\u0220\u0226\u022b\u0234\u023a\u0242\u0247\u024d\u0251\u0257\u025a\u025f"+
+		"\u0263\u0267\u026c\u0276\u027e\u0288\u028a\u0293\u029a\u029f\u02aa\u02ae"+
+		"\u02b2\u02b8\u02be\u02c6\3\b\2\2";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
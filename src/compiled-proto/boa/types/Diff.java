@@ -229,7 +229,7 @@ public final class Diff {
      * <code>repeated int32 previous_indices = 10;</code>
      *
      * <pre>
-     ** @exclude The indices of the previous files in the list of changed files of the corresponding parent commits 
+     ** @exclude The indices of the previous files in the list of changed files of the commits in previous_commits, or -1 if not known 
      * </pre>
      */
     java.util.List<java.lang.Integer> getPreviousIndicesList();
@@ -237,7 +237,7 @@ public final class Diff {
      * <code>repeated int32 previous_indices = 10;</code>
      *
      * <pre>
-     ** @exclude The indices of the previous files in the list of changed files of the corresponding parent commits 
+     ** @exclude The indices of the previous files in the list of changed files of the commits in previous_commits, or -1 if not known 
      * </pre>
      */
     int getPreviousIndicesCount();
@@ -245,10 +245,35 @@ public final class Diff {
      * <code>repeated int32 previous_indices = 10;</code>
      *
      * <pre>
-     ** @exclude The indices of the previous files in the list of changed files of the corresponding parent commits 
+     ** @exclude The indices of the previous files in the list of changed files of the commits in previous_commits, or -1 if not known 
      * </pre>
      */
     int getPreviousIndices(int index);
+    // repeated int32 previous_commits = 11;
+    /**
+     * <code>repeated int32 previous_commits = 11;</code>
+     *
+     * <pre>
+     ** @exclude The indices of the commits holding the previous versions in the list of all commits, or -1 if not known 
+     * </pre>
+     */
+    java.util.List<java.lang.Integer> getPreviousCommitsList();
+    /**
+     * <code>repeated int32 previous_commits = 11;</code>
+     *
+     * <pre>
+     ** @exclude The indices of the commits holding the previous versions in the list of all commits, or -1 if not known 
+     * </pre>
+     */
+    int getPreviousCommitsCount();
+    /**
+     * <code>repeated int32 previous_commits = 11;</code>
+     *
+     * <pre>
+     ** @exclude The indices of the commits holding the previous versions in the list of all commits, or -1 if not known 
+     * </pre>
+     */
+    int getPreviousCommits(int index);
   }
   /**
    * Protobuf type {@code boa.types.ChangedFile}
@@ -438,6 +463,27 @@ public final class Diff {
               input.popLimit(limit);
               break;
             }
+            case 88: {
+              if (!((mutable_bitField0_ & 0x00000400) == 0x00000400)) {
+                previousCommits_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000400;
+              }
+              previousCommits_.add(input.readInt32());
+              break;
+            }
+            case 90: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000400) == 0x00000400) && input.getBytesUntilLimit() > 0) {
+                previousCommits_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000400;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                previousCommits_.add(input.readInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -458,6 +504,9 @@ public final class Diff {
         if (((mutable_bitField0_ & 0x00000200) == 0x00000200)) {
           previousIndices_ = java.util.Collections.unmodifiableList(previousIndices_);
         }
+        if (((mutable_bitField0_ & 0x00000400) == 0x00000400)) {
+          previousCommits_ = java.util.Collections.unmodifiableList(previousCommits_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
@@ -1752,7 +1801,7 @@ public final class Diff {
      * <code>repeated int32 previous_indices = 10;</code>
      *
      * <pre>
-     ** @exclude The indices of the previous files in the list of changed files of the corresponding parent commits 
+     ** @exclude The indices of the previous files in the list of changed files of the commits in previous_commits, or -1 if not known 
      * </pre>
      */
     public java.util.List<java.lang.Integer>
@@ -1763,7 +1812,7 @@ public final class Diff {
      * <code>repeated int32 previous_indices = 10;</code>
      *
      * <pre>
-     ** @exclude The indices of the previous files in the list of changed files of the corresponding parent commits 
+     ** @exclude The indices of the previous files in the list of changed files of the commits in previous_commits, or -1 if not known 
      * </pre>
      */
     public int getPreviousIndicesCount() {
@@ -1773,12 +1822,46 @@ public final class Diff {
      * <code>repeated int32 previous_indices = 10;</code>
      *
      * <pre>
-     ** @exclude The indices of the previous files in the list of changed files of the corresponding parent commits 
+     ** @exclude The indices of the previous files in the list of changed files of the commits in previous_commits, or -1 if not known 
      * </pre>
      */
     public int getPreviousIndices(int index) {
       return previousIndices_.get(index);
     }
+    // repeated int32 previous_commits = 11;
+    public static final int PREVIOUS_COMMITS_FIELD_NUMBER = 11;
+    private java.util.List<java.lang.Integer> previousCommits_;
+    /**
+     * <code>repeated int32 previous_commits = 11;</code>
+     *
+     * <pre>
+     ** @exclude The indices of the commits holding the previous versions in the list of all commits, or -1 if not known 
+     * </pre>
+     */
+    public java.util.List<java.lang.Integer>
+        getPreviousCommitsList() {
+      return previousCommits_;
+    }
+    /**
+     * <code>repeated int32 previous_commits = 11;</code>
+     *
+     * <pre>
+     ** @exclude The indices of the commits holding the previous versions in the list of all commits, or -1 if not known 
+     * </pre>
+     */
+    public int getPreviousCommitsCount() {
+      return previousCommits_.size();
+    }
+    /**
+     * <code>repeated int32 previous_commits = 11;</code>
+     *
+     * <pre>
+     ** @exclude The indices of the commits holding the previous versions in the list of all commits, or -1 if not known 
+     * </pre>
+     */
+    public int getPreviousCommits(int index) {
+      return previousCommits_.get(index);
+    }
 
     private void initFields() {
       change_ = boa.types.Shared.ChangeKind.UNKNOWN;
@@ -1791,6 +1874,7 @@ public final class Diff {
       previousNames_ = com.google.protobuf.LazyStringArrayList.EMPTY;
       previousVersions_ = java.util.Collections.emptyList();
       previousIndices_ = java.util.Collections.emptyList();
+      previousCommits_ = java.util.Collections.emptyList();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -1860,6 +1944,9 @@ public final class Diff {
       for (int i = 0; i < previousIndices_.size(); i++) {
         output.writeInt32(10, previousIndices_.get(i));
       }
+      for (int i = 0; i < previousCommits_.size(); i++) {
+        output.writeInt32(11, previousCommits_.get(i));
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -1929,6 +2016,15 @@ public final class Diff {
         size += dataSize;
         size += 1 * getPreviousIndicesList().size();
       }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < previousCommits_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(previousCommits_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getPreviousCommitsList().size();
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -2074,6 +2170,8 @@ public final class Diff {
         bitField0_ = (bitField0_ & ~0x00000100);
         previousIndices_ = java.util.Collections.emptyList();
         bitField0_ = (bitField0_ & ~0x00000200);
+        previousCommits_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000400);
         return this;
       }
 
@@ -2151,6 +2249,11 @@ public final class Diff {
           bitField0_ = (bitField0_ & ~0x00000200);
         }
         result.previousIndices_ = previousIndices_;
+        if (((bitField0_ & 0x00000400) == 0x00000400)) {
+          previousCommits_ = java.util.Collections.unmodifiableList(previousCommits_);
+          bitField0_ = (bitField0_ & ~0x00000400);
+        }
+        result.previousCommits_ = previousCommits_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -2227,6 +2330,16 @@ public final class Diff {
           }
           onChanged();
         }
+        if (!other.previousCommits_.isEmpty()) {
+          if (previousCommits_.isEmpty()) {
+            previousCommits_ = other.previousCommits_;
+            bitField0_ = (bitField0_ & ~0x00000400);
+          } else {
+            ensurePreviousCommitsIsMutable();
+            previousCommits_.addAll(other.previousCommits_);
+          }
+          onChanged();
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -3068,7 +3181,7 @@ public final class Diff {
        * <code>repeated int32 previous_indices = 10;</code>
        *
        * <pre>
-       ** @exclude The indices of the previous files in the list of changed files of the corresponding parent commits 
+       ** @exclude The indices of the previous files in the list of changed files of the commits in previous_commits, or -1 if not known 
        * </pre>
        */
       public java.util.List<java.lang.Integer>
@@ -3079,7 +3192,7 @@ public final class Diff {
        * <code>repeated int32 previous_indices = 10;</code>
        *
        * <pre>
-       ** @exclude The indices of the previous files in the list of changed files of the corresponding parent commits 
+       ** @exclude The indices of the previous files in the list of changed files of the commits in previous_commits, or -1 if not known 
        * </pre>
        */
       public int getPreviousIndicesCount() {
@@ -3089,7 +3202,7 @@ public final class Diff {
        * <code>repeated int32 previous_indices = 10;</code>
        *
        * <pre>
-       ** @exclude The indices of the previous files in the list of changed files of the corresponding parent commits 
+       ** @exclude The indices of the previous files in the list of changed files of the commits in previous_commits, or -1 if not known 
        * </pre>
        */
       public int getPreviousIndices(int index) {
@@ -3099,7 +3212,7 @@ public final class Diff {
        * <code>repeated int32 previous_indices = 10;</code>
        *
        * <pre>
-       ** @exclude The indices of the previous files in the list of changed files of the corresponding parent commits 
+       ** @exclude The indices of the previous files in the list of changed files of the commits in previous_commits, or -1 if not known 
        * </pre>
        */
       public Builder setPreviousIndices(
@@ -3113,7 +3226,7 @@ public final class Diff {
        * <code>repeated int32 previous_indices = 10;</code>
        *
        * <pre>
-       ** @exclude The indices of the previous files in the list of changed files of the corresponding parent commits 
+       ** @exclude The indices of the previous files in the list of changed files of the commits in previous_commits, or -1 if not known 
        * </pre>
        */
       public Builder addPreviousIndices(int value) {
@@ -3126,7 +3239,7 @@ public final class Diff {
        * <code>repeated int32 previous_indices = 10;</code>
        *
        * <pre>
-       ** @exclude The indices of the previous files in the list of changed files of the corresponding parent commits 
+       ** @exclude The indices of the previous files in the list of changed files of the commits in previous_commits, or -1 if not known 
        * </pre>
        */
       public Builder addAllPreviousIndices(
@@ -3140,7 +3253,7 @@ public final class Diff {
        * <code>repeated int32 previous_indices = 10;</code>
        *
        * <pre>
-       ** @exclude The indices of the previous files in the list of changed files of the corresponding parent commits 
+       ** @exclude The indices of the previous files in the list of changed files of the commits in previous_commits, or -1 if not known 
        * </pre>
        */
       public Builder clearPreviousIndices() {
@@ -3149,6 +3262,99 @@ public final class Diff {
         onChanged();
         return this;
       }
+      // repeated int32 previous_commits = 11;
+      private java.util.List<java.lang.Integer> previousCommits_ = java.util.Collections.emptyList();
+      private void ensurePreviousCommitsIsMutable() {
+        if (!((bitField0_ & 0x00000400) == 0x00000400)) {
+          previousCommits_ = new java.util.ArrayList<java.lang.Integer>(previousCommits_);
+          bitField0_ |= 0x00000400;
+         }
+      }
+      /**
+       * <code>repeated int32 previous_commits = 11;</code>
+       *
+       * <pre>
+       ** @exclude The indices of the commits holding the previous versions in the list of all commits, or -1 if not known 
+       * </pre>
+       */
+      public java.util.List<java.lang.Integer>
+          getPreviousCommitsList() {
+        return java.util.Collections.unmodifiableList(previousCommits_);
+      }
+      /**
+       * <code>repeated int32 previous_commits = 11;</code>
+       *
+       * <pre>
+       ** @exclude The indices of the commits holding the previous versions in the list of all commits, or -1 if not known 
+       * </pre>
+       */
+      public int getPreviousCommitsCount() {
+        return previousCommits_.size();
+      }
+      /**
+       * <code>repeated int32 previous_commits = 11;</code>
+       *
+       * <pre>
+       ** @exclude The indices of the commits holding the previous versions in the list of all commits, or -1 if not known 
+       * </pre>
+       */
+      public int getPreviousCommits(int index) {
+        return previousCommits_.get(index);
+      }
+      /**
+       * <code>repeated int32 previous_commits = 11;</code>
+       *
+       * <pre>
+       ** @exclude The indices of the commits holding the previous versions in the list of all commits, or -1 if not known 
+       * </pre>
+       */
+      public Builder setPreviousCommits(
+          int index, int value) {
+        ensurePreviousCommitsIsMutable();
+        previousCommits_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 previous_commits = 11;</code>
+       *
+       * <pre>
+       ** @exclude The indices of the commits holding the previous versions in the list of all commits, or -1 if not known 
+       * </pre>
+       */
+      public Builder addPreviousCommits(int value) {
+        ensurePreviousCommitsIsMutable();
+        previousCommits_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 previous_commits = 11;</code>
+       *
+       * <pre>
+       ** @exclude The indices of the commits holding the previous versions in the list of all commits, or -1 if not known 
+       * </pre>
+       */
+      public Builder addAllPreviousCommits(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensurePreviousCommitsIsMutable();
+        super.addAll(values, previousCommits_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 previous_commits = 11;</code>
+       *
+       * <pre>
+       ** @exclude The indices of the commits holding the previous versions in the list of all commits, or -1 if not known 
+       * </pre>
+       */
+      public Builder clearPreviousCommits() {
+        previousCommits_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000400);
+        onChanged();
+        return this;
+      }
 
       // @@protoc_insertion_point(builder_scope:boa.types.ChangedFile)
     }
@@ -3176,38 +3382,38 @@ public final class Diff {
   static {
     java.lang.String[] descriptorData = {
       "\n\ndiff.proto\022\tboa.types\032\014shared.proto\032\ta" +
-      "st.proto\"\325\t\n\013ChangedFile\022%\n\006change\030\001 \002(\016" +
+      "st.proto\"\357\t\n\013ChangedFile\022%\n\006change\030\001 \002(\016" +
       "2\025.boa.types.ChangeKind\022-\n\004kind\030\002 \002(\0162\037." +
       "boa.types.ChangedFile.FileKind\022\014\n\004name\030\003" +
       " \002(\t\022\013\n\003key\030\004 \002(\004\022\013\n\003ast\030\005 \002(\010\022)\n\010commen" +
       "ts\030\006 \001(\0132\027.boa.types.CommentsRoot\022&\n\007cha" +
       "nges\030\007 \003(\0162\025.boa.types.ChangeKind\022\026\n\016pre" +
       "vious_names\030\010 \003(\t\022\031\n\021previous_versions\030\t" +
-      " \003(\005\022\030\n\020previous_indices\030\n \003(\005\"\247\007\n\010FileK" +
-      "ind\022\t\n\005OTHER\020\000\022\n\n\006BINARY\020\001\022\010\n\004TEXT\020\002\022\007\n\003",
-      "XML\020\003\022\025\n\021SOURCE_JAVA_ERROR\020d\022\024\n\020SOURCE_J" +
-      "AVA_JLS2\020f\022\024\n\020SOURCE_JAVA_JLS3\020g\022\024\n\020SOUR" +
-      "CE_JAVA_JLS4\020h\022\024\n\020SOURCE_JAVA_JLS8\020l\022\016\n\n" +
-      "JAVA_ERROR\020d\022\010\n\004JLS2\020f\022\010\n\004JLS3\020g\022\010\n\004JLS4" +
-      "\020h\022\010\n\004JLS8\020l\022\024\n\017SOURCE_CS_ERROR\020\310\001\022\022\n\rSO" +
-      "URCE_CS_CS1\020\311\001\022\022\n\rSOURCE_CS_CS2\020\312\001\022\022\n\rSO" +
-      "URCE_CS_CS3\020\313\001\022\022\n\rSOURCE_CS_CS4\020\314\001\022\022\n\rSO" +
-      "URCE_CS_CS5\020\315\001\022\r\n\010CS_ERROR\020\310\001\022\010\n\003CS1\020\311\001\022" +
-      "\010\n\003CS2\020\312\001\022\010\n\003CS3\020\313\001\022\010\n\003CS4\020\314\001\022\010\n\003CS5\020\315\001\022" +
-      "\024\n\017SOURCE_JS_ERROR\020\254\002\022\022\n\rSOURCE_JS_ES1\020\255",
-      "\002\022\022\n\rSOURCE_JS_ES2\020\256\002\022\022\n\rSOURCE_JS_ES3\020\257" +
-      "\002\022\022\n\rSOURCE_JS_ES5\020\260\002\022\022\n\rSOURCE_JS_ES6\020\261" +
-      "\002\022\022\n\rSOURCE_JS_ES7\020\262\002\022\022\n\rSOURCE_JS_ES8\020\263" +
-      "\002\022\r\n\010JS_ERROR\020\254\002\022\025\n\020SOURCE_PHP_ERROR\020\220\003\022" +
-      "\020\n\013SOURCE_PHP5\020\221\003\022\022\n\rSOURCE_PHP5_3\020\222\003\022\022\n" +
-      "\rSOURCE_PHP5_4\020\223\003\022\022\n\rSOURCE_PHP5_5\020\224\003\022\022\n" +
-      "\rSOURCE_PHP5_6\020\225\003\022\022\n\rSOURCE_PHP7_0\020\226\003\022\022\n" +
-      "\rSOURCE_PHP7_1\020\227\003\022\016\n\tPHP_ERROR\020\220\003\022\026\n\021SOU" +
-      "RCE_HTML_ERROR\020\364\003\022\020\n\013Source_HTML\020\365\003\022\017\n\nH" +
-      "TML_ERROR\020\364\003\022\025\n\020SOURCE_XML_ERROR\020\330\004\022\017\n\nS",
-      "ource_XML\020\331\004\022\016\n\tXML_ERROR\020\330\004\022\025\n\020SOURCE_C" +
-      "SS_ERROR\020\274\005\022\017\n\nSource_CSS\020\275\005\022\016\n\tCSS_ERRO" +
-      "R\020\274\005\032\002\020\001B\002H\001"
+      " \003(\005\022\030\n\020previous_indices\030\n \003(\005\022\030\n\020previo" +
+      "us_commits\030\013 \003(\005\"\247\007\n\010FileKind\022\t\n\005OTHER\020\000",
+      "\022\n\n\006BINARY\020\001\022\010\n\004TEXT\020\002\022\007\n\003XML\020\003\022\025\n\021SOURC" +
+      "E_JAVA_ERROR\020d\022\024\n\020SOURCE_JAVA_JLS2\020f\022\024\n\020" +
+      "SOURCE_JAVA_JLS3\020g\022\024\n\020SOURCE_JAVA_JLS4\020h" +
+      "\022\024\n\020SOURCE_JAVA_JLS8\020l\022\016\n\nJAVA_ERROR\020d\022\010" +
+      "\n\004JLS2\020f\022\010\n\004JLS3\020g\022\010\n\004JLS4\020h\022\010\n\004JLS8\020l\022\024" +
+      "\n\017SOURCE_CS_ERROR\020\310\001\022\022\n\rSOURCE_CS_CS1\020\311\001" +
+      "\022\022\n\rSOURCE_CS_CS2\020\312\001\022\022\n\rSOURCE_CS_CS3\020\313\001" +
+      "\022\022\n\rSOURCE_CS_CS4\020\314\001\022\022\n\rSOURCE_CS_CS5\020\315\001" +
+      "\022\r\n\010CS_ERROR\020\310\001\022\010\n\003CS1\020\311\001\022\010\n\003CS2\020\312\001\022\010\n\003C" +
+      "S3\020\313\001\022\010\n\003CS4\020\314\001\022\010\n\003CS5\020\315\001\022\024\n\017SOURCE_JS_E",
+      "RROR\020\254\002\022\022\n\rSOURCE_JS_ES1\020\255\002\022\022\n\rSOURCE_JS" +
+      "_ES2\020\256\002\022\022\n\rSOURCE_JS_ES3\020\257\002\022\022\n\rSOURCE_JS" +
+      "_ES5\020\260\002\022\022\n\rSOURCE_JS_ES6\020\261\002\022\022\n\rSOURCE_JS" +
+      "_ES7\020\262\002\022\022\n\rSOURCE_JS_ES8\020\263\002\022\r\n\010JS_ERROR\020" +
+      "\254\002\022\025\n\020SOURCE_PHP_ERROR\020\220\003\022\020\n\013SOURCE_PHP5" +
+      "\020\221\003\022\022\n\rSOURCE_PHP5_3\020\222\003\022\022\n\rSOURCE_PHP5_4" +
+      "\020\223\003\022\022\n\rSOURCE_PHP5_5\020\224\003\022\022\n\rSOURCE_PHP5_6" +
+      "\020\225\003\022\022\n\rSOURCE_PHP7_0\020\226\003\022\022\n\rSOURCE_PHP7_1" +
+      "\020\227\003\022\016\n\tPHP_ERROR\020\220\003\022\026\n\021SOURCE_HTML_ERROR" +
+      "\020\364\003\022\020\n\013Source_HTML\020\365\003\022\017\n\nHTML_ERROR\020\364\003\022\025",
+      "\n\020SOURCE_XML_ERROR\020\330\004\022\017\n\nSource_XML\020\331\004\022\016" +
+      "\n\tXML_ERROR\020\330\004\022\025\n\020SOURCE_CSS_ERROR\020\274\005\022\017\n" +
+      "\nSource_CSS\020\275\005\022\016\n\tCSS_ERROR\020\274\005\032\002\020\001B\002H\001"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
       new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
@@ -3219,7 +3425,7 @@ public final class Diff {
           internal_static_boa_types_ChangedFile_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_boa_types_ChangedFile_descriptor,
-              new java.lang.String[] { "Change", "Kind", "Name", "Key", "Ast", "Comments", "Changes", "PreviousNames", "PreviousVersions", "PreviousIndices", });
+              new java.lang.String[] { "Change", "Kind", "Name", "Key", "Ast", "Comments", "Changes", "PreviousNames", "PreviousVersions", "PreviousIndices", "PreviousCommits", });
           return null;
         }
       };
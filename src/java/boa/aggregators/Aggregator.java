@@ -17,6 +17,8 @@
 package boa.aggregators;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
 
 import org.apache.hadoop.io.NullWritable;
 import org.apache.hadoop.io.Text;
@@ -38,6 +40,7 @@ public abstract class Aggregator {
 	private Context context;
 	private EmitKey key;
 	private boolean combining;
+	private List<EmitValue> buffer;
 
 	/**
 	 * Construct an Aggregator.
@@ -73,6 +76,33 @@ public abstract class Aggregator {
 
 	public abstract void aggregate(String data, String metadata) throws IOException, InterruptedException, FinishedException;
 
+	/**
+	 * Aggregate a value as it was emitted, keeping numeric data and weights in
+	 * their primitive form.
+	 * 
+	 * @param value
+	 *            The {@link EmitValue} to aggregate
+	 * 
+	 */
+	public void aggregate(final EmitValue value) throws IOException, InterruptedException, FinishedException {
+		if (value.isLong()) {
+			if (value.isLongMetadata())
+				this.aggregate(value.getLong(), value.getLongMetadata());
+			else
+				this.aggregate(value.getLong(), value.getMetadata());
+		} else if (value.isDouble()) {
+			if (value.isLongMetadata())
+				this.aggregate(value.getDouble(), value.getLongMetadata());
+			else
+				this.aggregate(value.getDouble(), value.getMetadata());
+		} else if (value.isDoubles()) {
+			this.aggregate(value.getDoubles(), value.getMetadata());
+		} else {
+			for (final String s : value.getData())
+				this.aggregate(s, value.getMetadata());
+		}
+	}
+
 	public void aggregate(final String data) throws IOException, InterruptedException, FinishedException {
 		this.aggregate(data, null);
 	}
@@ -81,22 +111,45 @@ public abstract class Aggregator {
 		this.aggregate(BoaCasts.longToString(data), metadata);
 	}
 
+	public void aggregate(final long data, final long metadata) throws IOException, InterruptedException, FinishedException {
+		this.aggregate(data, BoaCasts.longToString(metadata));
+	}
+
 	public void aggregate(final long data) throws IOException, InterruptedException, FinishedException {
-		this.aggregate(BoaCasts.longToString(data), null);
+		this.aggregate(data, null);
 	}
 
 	public void aggregate(final double data, final String metadata) throws IOException, InterruptedException, FinishedException {
 		this.aggregate(BoaCasts.doubleToString(data), metadata);
 	}
 
+	public void aggregate(final double data, final long metadata) throws IOException, InterruptedException, FinishedException {
+		this.aggregate(data, BoaCasts.longToString(metadata));
+	}
+
 	public void aggregate(final double data) throws IOException, InterruptedException, FinishedException {
-		this.aggregate(BoaCasts.doubleToString(data), null);
+		this.aggregate(data, null);
+	}
+
+	/**
+	 * Aggregate a tuple of doubles, as written by {@link #collect(double[])}
+	 * in the combiner.  By default, each element is aggregated on its own.
+	 * 
+	 * @param data
+	 *            An array of double containing the tuple
+	 * @param metadata
+	 *            A {@link String} containing the metadata, or null
+	 * 
+	 */
+	public void aggregate(final double[] data, final String metadata) throws IOException, InterruptedException, FinishedException {
+		for (final double d : data)
+			this.aggregate(d, metadata);
 	}
 
 	@SuppressWarnings("unchecked")
 	protected void collect(final String data, final String metadata) throws IOException, InterruptedException {
 		if (this.combining)
-			this.getContext().write(this.getKey(), new EmitValue(data, metadata));
+			this.write(new EmitValue(data, metadata));
 		else if (metadata != null)
 			this.getContext().write(new Text(this.getKey() + " = " + data + " weight " + metadata), NullWritable.get());
 		else
@@ -108,19 +161,62 @@ public abstract class Aggregator {
 	}
 
 	protected void collect(final long data, final String metadata) throws IOException, InterruptedException {
-		this.collect(BoaCasts.longToString(data), metadata);
+		if (this.combining)
+			this.write(new EmitValue(data, metadata));
+		else
+			this.collect(BoaCasts.longToString(data), metadata);
+	}
+
+	protected void collect(final long data, final long metadata) throws IOException, InterruptedException {
+		if (this.combining)
+			this.write(new EmitValue(data, metadata));
+		else
+			this.collect(BoaCasts.longToString(data), BoaCasts.longToString(metadata));
 	}
 
 	protected void collect(final long data) throws IOException, InterruptedException {
-		this.collect(BoaCasts.longToString(data), null);
+		this.collect(data, null);
 	}
 
 	protected void collect(final double data, final String metadata) throws IOException, InterruptedException {
-		this.collect(BoaCasts.doubleToString(data), metadata);
+		if (this.combining)
+			this.write(new EmitValue(data, metadata));
+		else
+			this.collect(BoaCasts.doubleToString(data), metadata);
+	}
+
+	protected void collect(final double data, final long metadata) throws IOException, InterruptedException {
+		if (this.combining)
+			this.write(new EmitValue(data, metadata));
+		else
+			this.collect(BoaCasts.doubleToString(data), BoaCasts.longToString(metadata));
 	}
 
 	protected void collect(final double data) throws IOException, InterruptedException {
-		this.collect(BoaCasts.doubleToString(data), null);
+		this.collect(data, null);
+	}
+
+	protected void collect(final double[] data) throws IOException, InterruptedException {
+		if (this.combining)
+			this.write(new EmitValue(data));
+		else
+			this.collect(Arrays.toString(data));
+	}
+
+	/**
+	 * Write a combined value for the current key, either to the context or to
+	 * the buffer set with {@link #setBuffer(List)}.
+	 * 
+	 * @param value
+	 *            The {@link EmitValue} to write
+	 * 
+	 */
+	@SuppressWarnings("unchecked")
+	protected void write(final EmitValue value) throws IOException, InterruptedException {
+		if (this.buffer != null)
+			this.buffer.add(value);
+		else
+			this.getContext().write(this.getKey(), value);
 	}
 
 	public void finish() throws IOException, InterruptedException {
@@ -135,6 +231,10 @@ public abstract class Aggregator {
 		this.context = context;
 	}
 
+	public void setBuffer(final List<EmitValue> buffer) {
+		this.buffer = buffer;
+	}
+
 	public boolean isCombining() {
 		return this.combining;
 	}
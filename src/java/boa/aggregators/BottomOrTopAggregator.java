@@ -18,7 +18,8 @@
 package boa.aggregators;
 
 import java.io.IOException;
-import java.util.Map.Entry;
+import java.util.Comparator;
+import java.util.PriorityQueue;
 
 import boa.io.EmitKey;
 
@@ -26,17 +27,34 @@ import boa.io.EmitKey;
  * A Boa aggregator to estimate the bottom or top <i>n</i> values in a dataset by
  * cardinality.
  * 
+ * The counts are kept in a {@link StreamSummary}.  Bounded aggregators keep at
+ * most {@link StreamSummary#CAPACITY_PROPERTY} counters (but at least <i>n</i>),
+ * so both their memory and their combiner output are bounded; the results are
+ * exact as long as there are no more distinct values than counters.
+ * 
  * @author anthonyu
  * @author rdyer
  */
 public abstract class BottomOrTopAggregator extends Aggregator {
-	protected final CountingSet<String> set = new CountingSet<String>();
+	protected final StreamSummary summary = new StreamSummary();
 
 	protected final WeightedString[] list;
 	protected final int last;
 
 	protected double DefaultValue;
 
+	/** orders values from the worst to the best */
+	private final Comparator<WeightedString> order = new Comparator<WeightedString>() {
+		@Override
+		public int compare(final WeightedString a, final WeightedString b) {
+			if (isBetter(a.getString(), a.getWeight(), b))
+				return 1;
+			if (isBetter(b.getString(), b.getWeight(), a))
+				return -1;
+			return 0;
+		}
+	};
+
 	/**
 	 * Construct a {@link BottomOrTopAggregator}.
 	 * 
@@ -57,55 +75,66 @@ public abstract class BottomOrTopAggregator extends Aggregator {
 		super.start(key);
 
 		// clear out the data
-		this.set.clear();
-
-		final WeightedString defaultItem = new WeightedString(null, this.DefaultValue);
-		for (int i = 0; i <= this.last; i++)
-			this.list[i] = defaultItem;
+		final int capacity = this.isBounded() ? StreamSummary.getCapacity(this.getContext()) : 0;
+		this.summary.clear(capacity > 0 ? Math.max(capacity, this.last + 1) : 0);
 	}
 
 	/** {@inheritDoc} */
 	@Override
 	public void aggregate(final String data, final String metadata) {
 		if (metadata == null)
-			this.set.add(data, 1.0);
+			this.summary.add(data, 1.0);
 		else
-			this.set.add(data, Double.valueOf(metadata));
+			this.summary.add(data, Double.valueOf(metadata));
 	}
 
 	protected abstract boolean shouldInsert(final double a, final double b);
 
+	/**
+	 * Can this aggregator drop the values with the smallest counts?  Only
+	 * aggregators looking for the largest counts can.
+	 * 
+	 * @return true if the number of counters should be bounded
+	 */
+	protected boolean isBounded() {
+		return false;
+	}
+
+	private boolean isBetter(final String s, final double weight, final WeightedString other) {
+		return shouldInsert(weight, other.getWeight()) || (weight == other.getWeight() && s.compareTo(other.getString()) < 0);
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public void finish() throws IOException, InterruptedException {
 		if (this.isCombining()) {
-			for (final Entry<String, Double> e : this.set.getEntries())
-				this.collect(e.getKey().toString(), e.getValue().toString());
+			for (int i = 0; i < this.summary.size(); i++)
+				this.collect(this.summary.getValue(i), Double.toString(this.summary.getCount(i)));
 		} else {
-			// TODO: replace this with the algorithm described in M. Charikar,
-			// K. Chen, and M. Farach-Colton, Finding frequent items in data
-			// streams, Proc 29th Intl. Colloq. on Automata, Languages and
-			// Programming, 2002.
-
-			for (final Entry<String, Double> e : this.set.getEntries())
-				if (shouldInsert(e.getValue(), this.list[this.last].getWeight()) ||
-						(e.getValue() == this.list[this.last].getWeight() && this.list[this.last].getString().compareTo(e.getKey()) > 0))
-					// find this new item's position within the list
-					for (int i = 0; i <= this.last; i++)
-						if (shouldInsert(e.getValue(), this.list[i].getWeight()) ||
-								(e.getValue() == this.list[i].getWeight() && this.list[i].getString().compareTo(e.getKey()) > 0)) {
-							// here it is. move all subsequent items down one
-							for (int j = this.last - 1; j >= i; j--)
-								this.list[j + 1] = this.list[j];
-
-							// insert the item where it belongs
-							this.list[i] = new WeightedString(e.getKey(), e.getValue());
-							break;
-						}
-
-			for (final WeightedString c : this.list)
-				if (c.getString() != null)
-					this.collect(c.toString());
+			// keep the best n values in a heap, with the worst on top
+			final PriorityQueue<WeightedString> queue = new PriorityQueue<WeightedString>(Math.max(1, this.last + 1), this.order);
+
+			for (int i = 0; i < this.summary.size(); i++) {
+				final String s = this.summary.getValue(i);
+				final double weight = this.summary.getCount(i);
+
+				if (!shouldInsert(weight, this.DefaultValue))
+					continue;
+
+				if (queue.size() <= this.last) {
+					queue.add(new WeightedString(s, weight));
+				} else if (isBetter(s, weight, queue.peek())) {
+					queue.poll();
+					queue.add(new WeightedString(s, weight));
+				}
+			}
+
+			final int size = queue.size();
+			for (int i = size - 1; i >= 0; i--)
+				this.list[i] = queue.poll();
+
+			for (int i = 0; i < size; i++)
+				this.collect(this.list[i].toString());
 		}
 	}
 }
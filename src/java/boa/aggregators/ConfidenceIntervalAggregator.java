@@ -17,12 +17,9 @@
 package boa.aggregators;
 
 import java.io.IOException;
-import java.util.TreeMap;
-import java.util.SortedMap;
 
 import org.apache.commons.math.MathException;
 import org.apache.commons.math.distribution.TDistributionImpl;
-import org.apache.commons.math.stat.descriptive.SummaryStatistics;
 
 import boa.io.EmitKey;
 
@@ -31,9 +28,9 @@ import boa.io.EmitKey;
  * 
  * @author rdyer
  */
-@AggregatorSpec(name = "confidence", formalParameters = {"float"}, type = "int")
+@AggregatorSpec(name = "confidence", formalParameters = {"float"}, type = "int", canCombine = true)
 public class ConfidenceIntervalAggregator extends Aggregator {
-	private SortedMap<Long, Long> map;
+	private SparseHistogram histogram;
 	private double n;
 
 	/**
@@ -58,31 +55,25 @@ public class ConfidenceIntervalAggregator extends Aggregator {
 	public void start(final EmitKey key) {
 		super.start(key);
 
-		map = new TreeMap<Long, Long>();
+		this.histogram = SparseHistogram.forContext(this.getContext());
 	}
 
 	/** {@inheritDoc} */
 	@Override
 	public void aggregate(final String data, final String metadata) throws IOException, InterruptedException {
-		for (final String s : data.split(";")) {
-			final int idx = s.indexOf(":");
-			if (idx > 0) {
-				final long item = Long.valueOf(s.substring(0, idx));
-				final long count = Long.valueOf(s.substring(idx + 1));
-				for (int i = 0; i < count; i++)
-					aggregate(item, metadata);
-			} else
-				aggregate(Long.valueOf(s), metadata);
-		}
+		this.histogram.addAll(data);
 	}
 
 	/** {@inheritDoc} */
 	@Override
 	public void aggregate(final long data, final String metadata) {
-		if (map.containsKey(data))
-			map.put(data, map.get(data) + 1L);
-		else
-			map.put(data, 1L);
+		this.histogram.add(data);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void aggregate(final long data, final long metadata) {
+		this.histogram.add(data, metadata);
 	}
 
 	/** {@inheritDoc} */
@@ -94,24 +85,18 @@ public class ConfidenceIntervalAggregator extends Aggregator {
 	/** {@inheritDoc} */
 	@Override
 	public void finish() throws IOException, InterruptedException {
+		// if we're in the combiner, just output each value and its count
 		if (this.isCombining()) {
-			String s = "";
-			for (final Long key : map.keySet())
-				s += key + ":" + map.get(key) + ";";
-			this.collect(s, null);
+			for (int i = 0; i < this.histogram.size(); i++)
+				this.collect(this.histogram.getValue(i), this.histogram.getCount(i));
 			return;
 		}
 
 		try {
-			final SummaryStatistics summaryStatistics = new SummaryStatistics();
-			
-			for (final Long key : map.keySet())
-				for (int i = 0; i < map.get(key); i++)
-					summaryStatistics.addValue(key);
+			final long count = this.histogram.getTotal();
+			final double a = new TDistributionImpl(count - 1).inverseCumulativeProbability(1.0 - n / 200.0);
 
-			final double a = new TDistributionImpl(summaryStatistics.getN() - 1).inverseCumulativeProbability(1.0 - n / 200.0);
-	
-			this.collect(a * summaryStatistics.getStandardDeviation() / Math.sqrt(summaryStatistics.getN()));
+			this.collect(a * this.histogram.standardDeviation() / Math.sqrt(count));
 		} catch (final MathException e) {
 		}
 	}
@@ -58,7 +58,7 @@ public abstract class GraphAggregator extends Aggregator {
 	@SuppressWarnings("unchecked")
 	protected void collect(final String data, final String metadata) throws IOException, InterruptedException {
 		if (this.isCombining()) {
-			this.getContext().write(this.getKey(), new EmitValue(data, metadata));
+			this.write(new EmitValue(data, metadata));
 			return;
 		}
 		this.getContext().write(new Text(format(this.getKey().getIndex(), data, metadata)), NullWritable.get());
@@ -18,19 +18,28 @@ package boa.aggregators;
 
 import java.io.IOException;
 import java.util.Arrays;
-import java.util.List;
 
 import boa.io.EmitKey;
 
 /**
  * A Boa aggregator to calculate a histogram for the values in a dataset.
  * 
+ * The buckets are known up front, so each value is counted in its bucket as
+ * soon as it is aggregated.  The combiner emits the whole bucket array as one
+ * value and the reducer adds the arrays.
+ * 
  * @author anthonyu
  */
 abstract class HistogramAggregator extends Aggregator {
+	// the metadata marking an emitted value as an encoded bucket array
+	private static final String BUCKETS = "buckets";
+
 	private final long min;
 	private final long max;
 	private final int buckets;
+	private final double step;
+
+	private final long[] counts;
 
 	/**
 	 * Construct a HistogramAggregator.
@@ -50,6 +59,9 @@ abstract class HistogramAggregator extends Aggregator {
 		this.min = min;
 		this.max = max;
 		this.buckets = (int) buckets;
+		// calculate the step or the space between the buckets
+		this.step = (this.max - this.min) / (double) this.buckets;
+		this.counts = new long[this.buckets];
 	}
 
 	public long count(final String metadata) {
@@ -65,39 +77,60 @@ abstract class HistogramAggregator extends Aggregator {
 	@Override
 	public void start(final EmitKey key) {
 		super.start(key);
+
+		Arrays.fill(this.counts, 0);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void aggregate(final String data, final String metadata) throws NumberFormatException, IOException, InterruptedException {
+		if (BUCKETS.equals(metadata)) {
+			// add the bucket array of a combiner
+			int i = 0;
+			int start = 0;
+			for (int end = data.indexOf(','); end >= 0; end = data.indexOf(',', start)) {
+				this.add(i++, data, start, end);
+				start = end + 1;
+			}
+			this.add(i, data, start, data.length());
+		} else {
+			this.aggregate(Double.parseDouble(data), metadata);
+		}
 	}
 
 	/** {@inheritDoc} */
 	@Override
-	public abstract void aggregate(final String data, final String metadata) throws NumberFormatException, IOException, InterruptedException;
+	public void aggregate(final long data, final String metadata) throws IOException {
+		this.counts[(int) ((data - this.min) / this.step)] += this.count(metadata);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void aggregate(final double data, final String metadata) throws IOException {
+		this.aggregate(Double.valueOf(data).longValue(), metadata);
+	}
+
+	private void add(final int i, final String data, final int start, final int end) {
+		if (end > start)
+			this.counts[i] += Long.parseLong(data.substring(start, end), Character.MAX_RADIX);
+	}
 
 	/** {@inheritDoc} */
 	@Override
 	public void finish() throws IOException, InterruptedException {
 		if (this.isCombining()) {
-			// if we're in the combiner, just output the compressed data
-			for (final Pair<Number, Long> p : this.getTuples())
-				this.collect(p.getFirst().toString(), p.getSecond().toString());
+			// if we're in the combiner, output the buckets as one value,
+			// leaving out the empty ones
+			final StringBuilder sb = new StringBuilder();
+			for (int i = 0; i < this.buckets; i++) {
+				if (i > 0)
+					sb.append(',');
+				if (this.counts[i] != 0)
+					sb.append(Long.toString(this.counts[i], Character.MAX_RADIX));
+			}
+			this.collect(sb.toString(), BUCKETS);
 		} else {
-			// otherwise, set up the histogram
-			int[] buckets = new int[this.buckets];
-			// calculate the step or the space between the buckets
-			double step = (this.max - this.min) / (double) this.buckets;
-
-			// for each of the compressed data points, increment the bucket it
-			// belongs to by its cardinality
-			for (final Pair<Number, Long> p : this.getTuples())
-				buckets[(int) ((p.getFirst().longValue() - this.min) / step)] += p.getSecond();
-
-			this.collect(Arrays.toString(buckets));
+			this.collect(Arrays.toString(this.counts));
 		}
 	}
-
-	/**
-	 * Return the data points from the dataset in pairs.
-	 * 
-	 * @return A {@link List} of {@link Pair}&lt{@link Number}, {@link Long}&gt;
-	 *         containing the data points from the dataset
-	 */
-	public abstract List<Pair<Number, Long>> getTuples();
 }
@@ -0,0 +1,270 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boa.aggregators;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.hadoop.mapreduce.Reducer.Context;
+
+/**
+ * A HyperLogLog sketch estimating the number of distinct strings added to it.
+ *
+ * Small sets are kept exactly, as the set of 64-bit hashes of their members.
+ * Once there are more hashes than fit in the space of the registers, the
+ * sketch switches to <code>2^precision</code> registers, with a standard
+ * error of about <code>1.04 / sqrt(2^precision)</code>.  Sketches of different
+ * precisions can be merged; the result has the lower precision.
+ */
+class HyperLogLog {
+	/**
+	 * The {@link org.apache.hadoop.conf.Configuration} property holding the
+	 * precision, which is the log of the number of registers.
+	 */
+	public static final String PRECISION_PROPERTY = "boa.aggregator.unique.precision";
+
+	public static final int DEFAULT_PRECISION = 14;
+	public static final int MIN_PRECISION = 4;
+	public static final int MAX_PRECISION = 18;
+
+	private int precision;
+
+	// the hashes while the sketch is exact, otherwise null
+	private Set<Long> hashes = new HashSet<Long>();
+
+	// the registers once the sketch is not exact, otherwise null
+	private byte[] registers = null;
+
+	/**
+	 * Construct a {@link HyperLogLog}.
+	 *
+	 * @param precision
+	 *            The log of the number of registers, between
+	 *            {@link #MIN_PRECISION} and {@link #MAX_PRECISION}
+	 */
+	public HyperLogLog(final int precision) {
+		this.precision = Math.min(MAX_PRECISION, Math.max(MIN_PRECISION, precision));
+	}
+
+	/**
+	 * Construct a {@link HyperLogLog} with the precision configured for a job.
+	 *
+	 * @param context
+	 *            The context of the task, or <code>null</code>
+	 * @return A new {@link HyperLogLog}
+	 */
+	@SuppressWarnings("rawtypes")
+	public static HyperLogLog forContext(final Context context) {
+		if (context == null)
+			return new HyperLogLog(DEFAULT_PRECISION);
+		return new HyperLogLog(context.getConfiguration().getInt(PRECISION_PROPERTY, DEFAULT_PRECISION));
+	}
+
+	/**
+	 * Add a string to the sketch.
+	 *
+	 * @param s The string to be added
+	 */
+	public void add(final String s) {
+		this.addHash(hash(s));
+	}
+
+	private void addHash(final long h) {
+		if (this.registers != null) {
+			final int i = (int) (h >>> (64 - this.precision));
+			final byte rank = (byte) (Long.numberOfLeadingZeros((h << this.precision) | (1L << (this.precision - 1))) + 1);
+			if (rank > this.registers[i])
+				this.registers[i] = rank;
+		} else if (this.hashes.add(h) && this.hashes.size() > this.sparseLimit()) {
+			this.registers = new byte[1 << this.precision];
+			for (final long hash : this.hashes)
+				this.addHash(hash);
+			this.hashes = null;
+		}
+	}
+
+	/**
+	 * Add all strings added to another sketch.
+	 *
+	 * @param other The sketch to merge into this one
+	 */
+	public void merge(final HyperLogLog other) {
+		if (other.registers == null) {
+			if (other.precision < this.precision)
+				this.fold(other.precision);
+			for (final long h : other.hashes)
+				this.addHash(h);
+			return;
+		}
+
+		if (this.registers == null) {
+			final Set<Long> own = this.hashes;
+			final int precision = this.precision;
+			this.precision = other.precision;
+			this.registers = other.registers.clone();
+			this.hashes = null;
+			this.fold(precision);
+			for (final long h : own)
+				this.addHash(h);
+			return;
+		}
+
+		if (other.precision < this.precision)
+			this.fold(other.precision);
+
+		final int shift = other.precision - this.precision;
+		if (shift == 0) {
+			for (int i = 0; i < this.registers.length; i++)
+				if (other.registers[i] > this.registers[i])
+					this.registers[i] = other.registers[i];
+		} else {
+			final HyperLogLog folded = new HyperLogLog(other.precision);
+			folded.hashes = null;
+			folded.registers = other.registers.clone();
+			folded.fold(this.precision);
+			this.merge(folded);
+		}
+	}
+
+	/**
+	 * Lower the precision of the sketch.  The registers of the new precision
+	 * are exactly those the same strings would have produced.
+	 */
+	private void fold(final int precision) {
+		final int shift = this.precision - precision;
+		if (shift <= 0)
+			return;
+
+		this.precision = precision;
+		if (this.registers == null)
+			return;
+
+		final byte[] folded = new byte[1 << precision];
+		for (int i = 0; i < this.registers.length; i++) {
+			if (this.registers[i] == 0)
+				continue;
+
+			// the dropped index bits come first in the new rank
+			final int low = i & ((1 << shift) - 1);
+			final byte rank = (byte) (low != 0 ? Integer.numberOfLeadingZeros(low) - (32 - shift) + 1 : shift + this.registers[i]);
+			if (rank > folded[i >>> shift])
+				folded[i >>> shift] = rank;
+		}
+		this.registers = folded;
+	}
+
+	/**
+	 * @return the estimated number of distinct strings added
+	 */
+	public long cardinality() {
+		if (this.registers == null)
+			return this.hashes.size();
+
+		final int m = this.registers.length;
+
+		double sum = 0;
+		int zeros = 0;
+		for (final byte r : this.registers) {
+			sum += Math.scalb(1.0, -r);
+			if (r == 0)
+				zeros++;
+		}
+
+		final double alpha = m == 16 ? 0.673 : m == 32 ? 0.697 : m == 64 ? 0.709 : 0.7213 / (1 + 1.079 / m);
+		final double estimate = alpha * m * m / sum;
+
+		// small range correction, the hashes are long enough not to need a large one
+		if (estimate <= 2.5 * m && zeros > 0)
+			return Math.round(m * Math.log(m / (double) zeros));
+		return Math.round(estimate);
+	}
+
+	/**
+	 * @return the sketch as a string, which can be read back with
+	 *         {@link #decode(String)}
+	 */
+	public String encode() {
+		final StringBuilder sb = new StringBuilder();
+		sb.append(this.precision);
+
+		if (this.registers == null) {
+			sb.append('s');
+			boolean first = true;
+			for (final long h : this.hashes) {
+				if (!first)
+					sb.append(',');
+				sb.append(Long.toString(h, Character.MAX_RADIX));
+				first = false;
+			}
+		} else {
+			sb.append('d');
+			for (final byte r : this.registers)
+				sb.append((char) ('0' + r));
+		}
+
+		return sb.toString();
+	}
+
+	/**
+	 * Read a sketch written by {@link #encode()}.
+	 *
+	 * @param s The encoded sketch
+	 * @return The sketch
+	 */
+	public static HyperLogLog decode(final String s) {
+		int pos = 0;
+		while (Character.isDigit(s.charAt(pos)))
+			pos++;
+
+		final HyperLogLog hll = new HyperLogLog(Integer.parseInt(s.substring(0, pos)));
+
+		if (s.charAt(pos) == 's') {
+			if (pos + 1 < s.length())
+				for (final String h : s.substring(pos + 1).split(","))
+					hll.hashes.add(Long.parseLong(h, Character.MAX_RADIX));
+		} else {
+			hll.hashes = null;
+			hll.registers = new byte[1 << hll.precision];
+			for (int i = 0; i < hll.registers.length; i++)
+				hll.registers[i] = (byte) (s.charAt(pos + 1 + i) - '0');
+		}
+
+		return hll;
+	}
+
+	/**
+	 * The number of hashes kept exactly before switching to registers, chosen
+	 * so both encodings have about the same size.
+	 */
+	private int sparseLimit() {
+		return (1 << this.precision) / 16;
+	}
+
+	/**
+	 * A 64-bit hash of a string: a polynomial hash of its characters, mixed
+	 * with the finalizer of MurmurHash3.
+	 */
+	private static long hash(final String s) {
+		long h = 0x9e3779b97f4a7c15L ^ s.length();
+		for (int i = 0; i < s.length(); i++)
+			h = (h ^ s.charAt(i)) * 0x100000001b3L;
+
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+}
@@ -41,6 +41,10 @@ abstract class MeanAggregator extends Aggregator {
 		}
 	}
 
+	public void count(final long metadata) {
+		this.count += metadata;
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public void start(final EmitKey key) {
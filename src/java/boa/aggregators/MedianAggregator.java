@@ -17,8 +17,6 @@
 package boa.aggregators;
 
 import java.io.IOException;
-import java.util.TreeMap;
-import java.util.SortedMap;
 
 import boa.io.EmitKey;
 
@@ -27,43 +25,34 @@ import boa.io.EmitKey;
  * 
  * @author rdyer
  */
-@AggregatorSpec(name = "median", type = "int")
+@AggregatorSpec(name = "median", type = "int", canCombine = true)
 public class MedianAggregator extends Aggregator {
-	private SortedMap<Long, Long> map;
-	private long count;
+	private SparseHistogram histogram;
 
 	/** {@inheritDoc} */
 	@Override
 	public void start(final EmitKey key) {
 		super.start(key);
 
-		map = new TreeMap<Long, Long>();
-		count = 0;
+		this.histogram = SparseHistogram.forContext(this.getContext());
 	}
 
 	/** {@inheritDoc} */
 	@Override
 	public void aggregate(final String data, final String metadata) throws IOException, InterruptedException {
-		for (final String s : data.split(";")) {
-			final int idx = s.indexOf(":");
-			if (idx > 0) {
-				final long item = Long.valueOf(s.substring(0, idx));
-				final long count = Long.valueOf(s.substring(idx + 1));
-				for (int i = 0; i < count; i++)
-					aggregate(item, metadata);
-			} else
-				aggregate(Long.valueOf(s), metadata);
-		}
+		this.histogram.addAll(data);
 	}
 
 	/** {@inheritDoc} */
 	@Override
 	public void aggregate(final long data, final String metadata) {
-		if (map.containsKey(data))
-			map.put(data, map.get(data) + 1L);
-		else
-			map.put(data, 1L);
-		count++;
+		this.histogram.add(data);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void aggregate(final long data, final long metadata) {
+		this.histogram.add(data, metadata);
 	}
 
 	/** {@inheritDoc} */
@@ -75,36 +64,13 @@ public class MedianAggregator extends Aggregator {
 	/** {@inheritDoc} */
 	@Override
 	public void finish() throws IOException, InterruptedException {
+		// if we're in the combiner, just output each value and its count
 		if (this.isCombining()) {
-			String s = "";
-			for (final Long key : map.keySet())
-				s += key + ":" + map.get(key) + ";";
-			this.collect(s, null);
+			for (int i = 0; i < this.histogram.size(); i++)
+				this.collect(this.histogram.getValue(i), this.histogram.getCount(i));
 			return;
 		}
 
-		float median = 0;
-
-		long medianPos = count / 2L;
-		long curPos = 0;
-		long prevPos = 0;
-		long prevKey = 0;
-
-		for (final Long key : map.keySet()) {
-			curPos = prevPos + map.get(key);
-
-			if (prevPos <= medianPos && medianPos < curPos) {
-				if (curPos % 2 == 0 && prevPos == medianPos)
-					median = (float) (key + prevKey) / 2.0f;
-				else
-					median = key;
-				break;
-			}
-
-			prevKey = key;
-			prevPos = curPos;
-		}
-
-		this.collect(median);
+		this.collect(this.histogram.median());
 	}
 }
@@ -0,0 +1,143 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boa.aggregators;
+
+/**
+ * The count, mean and central moments up to the fourth order of a stream of
+ * values.  Values are added with Welford's online update and accumulators are
+ * merged with the pairwise formulas of Chan et al., as extended to higher
+ * moments by P. Pebay, Formulas for robust, one-pass parallel computation of
+ * covariances and arbitrary-order statistical moments, SAND2008-6212, 2008.
+ *
+ * The state is a fixed-size tuple, which is what the moment aggregators emit
+ * from the combiner.
+ */
+class Moments {
+	private double n;
+	private double mean;
+	private double m2;
+	private double m3;
+	private double m4;
+
+	/**
+	 * Remove all values.
+	 */
+	public void clear() {
+		this.n = 0;
+		this.mean = 0;
+		this.m2 = 0;
+		this.m3 = 0;
+		this.m4 = 0;
+	}
+
+	/**
+	 * Add a value.
+	 *
+	 * @param x The value to be added
+	 */
+	public void add(final double x) {
+		final double n1 = this.n;
+		this.n++;
+
+		final double delta = x - this.mean;
+		final double deltaN = delta / this.n;
+		final double deltaN2 = deltaN * deltaN;
+		final double term = delta * deltaN * n1;
+
+		this.mean += deltaN;
+		this.m4 += term * deltaN2 * (this.n * this.n - 3 * this.n + 3) + 6 * deltaN2 * this.m2 - 4 * deltaN * this.m3;
+		this.m3 += term * deltaN * (this.n - 2) - 3 * deltaN * this.m2;
+		this.m2 += term;
+	}
+
+	/**
+	 * Add all values of another accumulator, given as the tuple returned by
+	 * {@link #toArray()}.
+	 *
+	 * @param t The tuple to be merged
+	 */
+	public void merge(final double[] t) {
+		final double nb = t[0];
+		if (nb == 0)
+			return;
+
+		final double na = this.n;
+		final double n = na + nb;
+
+		final double delta = t[1] - this.mean;
+		final double delta2 = delta * delta;
+		final double delta3 = delta * delta2;
+		final double delta4 = delta2 * delta2;
+
+		this.m4 += t[4] + delta4 * na * nb * (na * na - na * nb + nb * nb) / (n * n * n)
+				+ 6 * delta2 * (na * na * t[2] + nb * nb * this.m2) / (n * n)
+				+ 4 * delta * (na * t[3] - nb * this.m3) / n;
+		this.m3 += t[3] + delta3 * na * nb * (na - nb) / (n * n)
+				+ 3 * delta * (na * t[2] - nb * this.m2) / n;
+		this.m2 += t[2] + delta2 * na * nb / n;
+		this.mean += delta * nb / n;
+		this.n = n;
+	}
+
+	/**
+	 * @return the state as a tuple of count, mean, and the sums of the second,
+	 *         third and fourth powers of the deviations from the mean
+	 */
+	public double[] toArray() {
+		return new double[] { this.n, this.mean, this.m2, this.m3, this.m4 };
+	}
+
+	/**
+	 * @return the number of values
+	 */
+	public double getCount() {
+		return this.n;
+	}
+
+	/**
+	 * @return the sample variance, 0 for a single value and NaN for none
+	 */
+	public double getVariance() {
+		if (this.n == 0)
+			return Double.NaN;
+		if (this.n == 1)
+			return 0;
+		return this.m2 / (this.n - 1);
+	}
+
+	/**
+	 * @return the sample standard deviation
+	 */
+	public double getStandardDeviation() {
+		return Math.sqrt(this.getVariance());
+	}
+
+	/**
+	 * @return the third central moment over <code>n s^3</code>, where
+	 *         <code>s</code> is the sample standard deviation
+	 */
+	public double getSkewness() {
+		final double var = this.getVariance();
+		return this.m3 / (this.n * Math.sqrt(var) * var);
+	}
+
+	/**
+	 * @return the fourth central moment over <code>n s^4</code>, where
+	 *         <code>s</code> is the sample standard deviation
+	 */
+	public double getKurtosis() {
+		final double var = this.getVariance();
+		return this.m4 / (this.n * var * var);
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boa.aggregators;
+
+import java.io.IOException;
+
+import boa.io.EmitKey;
+
+/**
+ * The base class for Boa aggregators computing a statistic from the central
+ * moments of the values in a dataset.  The combiner emits the {@link Moments}
+ * tuple and the reducer merges the tuples, so the state is constant-size.
+ */
+abstract class MomentsAggregator extends Aggregator {
+	private final Moments moments = new Moments();
+
+	/** {@inheritDoc} */
+	@Override
+	public void start(final EmitKey key) {
+		super.start(key);
+
+		this.moments.clear();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void aggregate(final String data, final String metadata) throws IOException, InterruptedException {
+		this.aggregate(Double.valueOf(data).longValue(), metadata);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void aggregate(final long data, final String metadata) {
+		this.moments.add(data);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void aggregate(final double data, final String metadata) {
+		this.aggregate(Double.valueOf(data).longValue(), metadata);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void aggregate(final double[] data, final String metadata) {
+		this.moments.merge(data);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void finish() throws IOException, InterruptedException {
+		// if we're in the combiner, just output the moments
+		if (this.isCombining())
+			this.collect(this.moments.toArray());
+		else
+			this.collect(this.compute(this.moments));
+	}
+
+	/**
+	 * Compute the statistic.
+	 * 
+	 * @param moments
+	 *            The {@link Moments} of all values
+	 * @return A double containing the statistic
+	 */
+	protected abstract double compute(final Moments moments);
+}
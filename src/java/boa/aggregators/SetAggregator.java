@@ -17,20 +17,30 @@
 package boa.aggregators;
 
 import java.io.IOException;
-import java.util.HashSet;
 
 import boa.io.EmitKey;
+import boa.io.EmitValue;
 
 /**
  * A Boa aggregator to filter the values in a dataset by maximum size.
  * 
+ * In the reducer, the values of a set arrive sorted (see
+ * {@link EmitKey#isSorted(String)}), so duplicates are adjacent and are dropped
+ * as they stream by.  Otherwise the distinct values are gathered in a
+ * {@link SpillableSet}, which spills sorted runs to local disk once it grows
+ * past its memory budget.
+ * 
  * @author anthonyu
  */
 @AggregatorSpec(name = "set", canCombine = true)
 public class SetAggregator extends Aggregator {
-	private HashSet<String> set;
+	private SpillableSet set;
 	private final long max;
 
+	private boolean sorted;
+	private String last;
+	private long count;
+
 	/**
 	 * Construct a SetAggregator.
 	 */
@@ -59,23 +69,68 @@ public class SetAggregator extends Aggregator {
 	public void start(final EmitKey key) {
 		super.start(key);
 
+		this.sorted = !this.isCombining() && EmitKey.isSorted(key.getName());
+		this.last = null;
+		this.count = 0;
+
 		// the set of data to be collected
-		this.set = new HashSet<String>();
+		if (this.sorted)
+			this.set = null;
+		else if (this.set == null)
+			this.set = new SpillableSet(SpillableSet.getMemory(this.getContext()));
+		else
+			this.set.clear();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void aggregate(final EmitValue value) throws IOException, InterruptedException, FinishedException {
+		if (!this.sorted) {
+			super.aggregate(value);
+			return;
+		}
+
+		// the mapper emits each string of a set on its own, so equal strings
+		// are adjacent and each only needs comparing with the previous one
+		for (final String s : value.getData()) {
+			if (s.equals(this.last))
+				continue;
+			this.last = s;
+
+			if (this.count >= this.max)
+				throw new FinishedException();
+			this.count++;
+			this.collect(s);
+		}
 	}
 
 	/** {@inheritDoc} */
 	@Override
 	public void aggregate(final String data, final String metadata) throws IOException, InterruptedException, FinishedException {
-		if (this.set.size() >= this.max)
-			throw new FinishedException();
+		if (this.sorted) {
+			this.aggregate(new EmitValue(data, metadata));
+			return;
+		}
 
-		this.set.add(data);
+		// keep reading rather than finishing early, so the set still gets emitted;
+		// once spilled the set may hold more than max members, and finish()
+		// drops the extra ones after the runs are merged
+		if (this.set.minimumSize() < this.max)
+			this.set.add(data);
 	}
 
 	/** {@inheritDoc} */
 	@Override
 	public void finish() throws IOException, InterruptedException {
-		for (final String s : this.set)
-			this.collect(s);
+		if (this.sorted)
+			return;
+
+		try {
+			long n = 0;
+			for (String s = this.set.next(); s != null && n < this.max; s = this.set.next(), n++)
+				this.collect(s);
+		} finally {
+			this.set.clear();
+		}
 	}
 }
@@ -0,0 +1,346 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boa.aggregators;
+
+import java.util.Arrays;
+
+import org.apache.hadoop.mapreduce.Reducer.Context;
+
+/**
+ * A sorted histogram of long values and their counts, kept in two primitive
+ * arrays.  New values are buffered and merged into the arrays in batches, so
+ * adding a value is cheap and merging two histograms takes time linear in the
+ * number of distinct values.
+ *
+ * If a maximum number of bins is given, the histogram becomes a sketch once it
+ * holds more distinct values than that: neighboring bins are merged into their
+ * weighted mean until each bin holds at most about <code>2 / bins</code> of
+ * all values.  The total count stays exact, while ranks (and thus medians) are
+ * off by at most the weight of one bin.
+ */
+class SparseHistogram {
+	/**
+	 * The {@link org.apache.hadoop.conf.Configuration} property holding the
+	 * maximum number of bins.  The default of 0 keeps every distinct value.
+	 */
+	public static final String BINS_PROPERTY = "boa.aggregator.histogram.bins";
+
+	private static final int BUFFER_SIZE = 1024;
+
+	private static final long[] EMPTY = new long[0];
+
+	private final int maxBins;
+
+	// the arrays are only allocated once values are added, as a reducer
+	// makes a histogram for every key
+	private long[] values = EMPTY;
+	private long[] counts = EMPTY;
+	private int size = 0;
+	private long total = 0;
+
+	// values added since the last merge and their counts, growing up to BUFFER_SIZE
+	private long[] pendingValues = EMPTY;
+	private long[] pendingCounts = EMPTY;
+	private int pendingSize = 0;
+
+	/**
+	 * Construct a {@link SparseHistogram} that keeps every distinct value.
+	 */
+	public SparseHistogram() {
+		this(0);
+	}
+
+	/**
+	 * Construct a {@link SparseHistogram}.
+	 *
+	 * @param maxBins
+	 *            The maximum number of bins to keep, or 0 to keep every
+	 *            distinct value
+	 */
+	public SparseHistogram(final int maxBins) {
+		this.maxBins = maxBins;
+	}
+
+	/**
+	 * Construct a {@link SparseHistogram} with the maximum number of bins
+	 * configured for a job.
+	 *
+	 * @param context
+	 *            The context of the task, or <code>null</code>
+	 * @return A new {@link SparseHistogram}
+	 */
+	@SuppressWarnings("rawtypes")
+	public static SparseHistogram forContext(final Context context) {
+		if (context == null)
+			return new SparseHistogram();
+		return new SparseHistogram(Math.max(0, context.getConfiguration().getInt(BINS_PROPERTY, 0)));
+	}
+
+	/**
+	 * Add a value, with count 1.
+	 *
+	 * @param value The value to be added
+	 */
+	public void add(final long value) {
+		this.add(value, 1);
+	}
+
+	/**
+	 * Add a value and its count.
+	 *
+	 * @param value The value to be added
+	 * @param count The number of times the value was seen
+	 */
+	public void add(final long value, final long count) {
+		if (count <= 0)
+			return;
+
+		if (this.pendingSize == this.pendingValues.length) {
+			final int length = Math.min(BUFFER_SIZE, Math.max(16, 2 * this.pendingSize));
+			this.pendingValues = Arrays.copyOf(this.pendingValues, length);
+			this.pendingCounts = Arrays.copyOf(this.pendingCounts, length);
+		}
+		this.pendingValues[this.pendingSize] = value;
+		this.pendingCounts[this.pendingSize++] = count;
+		this.total += count;
+
+		if (this.pendingSize == BUFFER_SIZE)
+			this.flush();
+	}
+
+	/**
+	 * Add all values of the encoding <code>value:count;value:count;...</code>,
+	 * where a missing count means 1.
+	 *
+	 * @param data The encoded values
+	 */
+	public void addAll(final String data) {
+		for (final String s : data.split(";")) {
+			if (s.isEmpty())
+				continue;
+			final int idx = s.indexOf(':');
+			if (idx > 0)
+				this.add(Long.parseLong(s.substring(0, idx)), Long.parseLong(s.substring(idx + 1)));
+			else
+				this.add(Long.parseLong(s));
+		}
+	}
+
+	/**
+	 * @return the total count of all values added
+	 */
+	public long getTotal() {
+		return this.total;
+	}
+
+	/**
+	 * @return the number of bins, which are the distinct values unless the
+	 *         histogram was compressed
+	 */
+	public int size() {
+		this.flush();
+		return this.size;
+	}
+
+	/**
+	 * @param i the index of a bin, in increasing order of values
+	 * @return the value of a bin
+	 */
+	public long getValue(final int i) {
+		return this.values[i];
+	}
+
+	/**
+	 * @param i the index of a bin, in increasing order of values
+	 * @return the count of a bin
+	 */
+	public long getCount(final int i) {
+		return this.counts[i];
+	}
+
+	/**
+	 * Compute the median.  For an even number of values that lies between two
+	 * bins, this is the mean of both.
+	 *
+	 * @return the median, or 0 if the histogram is empty
+	 */
+	public float median() {
+		final int n = this.size();
+
+		final long medianPos = this.total / 2L;
+		long curPos = 0;
+		long prevPos = 0;
+		long prevKey = 0;
+
+		for (int i = 0; i < n; i++) {
+			final long key = this.values[i];
+			curPos = prevPos + this.counts[i];
+
+			if (prevPos <= medianPos && medianPos < curPos) {
+				if (curPos % 2 == 0 && prevPos == medianPos)
+					return (float) (key + prevKey) / 2.0f;
+				return key;
+			}
+
+			prevKey = key;
+			prevPos = curPos;
+		}
+
+		return 0;
+	}
+
+	/**
+	 * @return the mean, or NaN if the histogram is empty
+	 */
+	public double mean() {
+		final int n = this.size();
+
+		double sum = 0;
+		for (int i = 0; i < n; i++)
+			sum += (double) this.values[i] * this.counts[i];
+		return sum / this.total;
+	}
+
+	/**
+	 * @return the sample standard deviation, or NaN if there are less than two
+	 *         values
+	 */
+	public double standardDeviation() {
+		if (this.total < 2)
+			return Double.NaN;
+
+		final int n = this.size();
+		final double mean = this.mean();
+
+		double m2 = 0;
+		for (int i = 0; i < n; i++) {
+			final double d = this.values[i] - mean;
+			m2 += d * d * this.counts[i];
+		}
+		return Math.sqrt(m2 / (this.total - 1));
+	}
+
+	/**
+	 * Merge the pending values into the sorted bins.
+	 */
+	private void flush() {
+		if (this.pendingSize == 0)
+			return;
+
+		sort(this.pendingValues, this.pendingCounts, 0, this.pendingSize - 1);
+
+		final long[] newValues = new long[this.size + this.pendingSize];
+		final long[] newCounts = new long[newValues.length];
+		int n = 0;
+
+		int i = 0;
+		int j = 0;
+		while (i < this.size || j < this.pendingSize) {
+			final long value;
+			final long count;
+			if (j == this.pendingSize || (i < this.size && this.values[i] <= this.pendingValues[j])) {
+				value = this.values[i];
+				count = this.counts[i++];
+			} else {
+				value = this.pendingValues[j];
+				count = this.pendingCounts[j++];
+			}
+
+			if (n > 0 && newValues[n - 1] == value) {
+				newCounts[n - 1] += count;
+			} else {
+				newValues[n] = value;
+				newCounts[n++] = count;
+			}
+		}
+
+		this.values = newValues;
+		this.counts = newCounts;
+		this.size = n;
+		this.pendingSize = 0;
+
+		if (this.maxBins > 0 && this.size > this.maxBins)
+			this.compress();
+	}
+
+	/**
+	 * Sort the values from <code>lo</code> to <code>hi</code> (inclusive),
+	 * moving their counts along with them.
+	 */
+	private static void sort(final long[] values, final long[] counts, int lo, int hi) {
+		while (hi - lo > 16) {
+			final long pivot = values[(lo + hi) >>> 1];
+			int i = lo;
+			int j = hi;
+			while (i <= j) {
+				while (values[i] < pivot)
+					i++;
+				while (values[j] > pivot)
+					j--;
+				if (i <= j)
+					swap(values, counts, i++, j--);
+			}
+			// recurse into the smaller half, loop on the larger
+			if (j - lo < hi - i) {
+				sort(values, counts, lo, j);
+				lo = i;
+			} else {
+				sort(values, counts, i, hi);
+				hi = j;
+			}
+		}
+
+		for (int i = lo + 1; i <= hi; i++)
+			for (int j = i; j > lo && values[j - 1] > values[j]; j--)
+				swap(values, counts, j - 1, j);
+	}
+
+	private static void swap(final long[] values, final long[] counts, final int i, final int j) {
+		final long v = values[i];
+		values[i] = values[j];
+		values[j] = v;
+		final long c = counts[i];
+		counts[i] = counts[j];
+		counts[j] = c;
+	}
+
+	/**
+	 * Merge neighboring bins until each holds at most <code>2 / maxBins</code>
+	 * of the total count.  A merged bin takes the weighted mean of its values,
+	 * which lies between its first and last value, so the bins stay sorted.
+	 */
+	private void compress() {
+		final long cap = Math.max(1, 2 * this.total / this.maxBins);
+		int n = 0;
+
+		int i = 0;
+		while (i < this.size) {
+			long count = this.counts[i];
+			double sum = (double) this.values[i] * this.counts[i];
+			final long first = this.values[i];
+			i++;
+
+			while (i < this.size && count + this.counts[i] <= cap) {
+				count += this.counts[i];
+				sum += (double) this.values[i] * this.counts[i];
+				i++;
+			}
+
+			this.values[n] = Math.min(this.values[i - 1], Math.max(first, Math.round(sum / count)));
+			this.counts[n++] = count;
+		}
+
+		this.size = n;
+	}
+}
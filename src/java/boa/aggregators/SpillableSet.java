@@ -0,0 +1,231 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boa.aggregators;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.apache.hadoop.io.Text;
+import org.apache.hadoop.mapreduce.Reducer.Context;
+
+/**
+ * A set of strings that spills to local disk.  Once the estimated heap use of
+ * the set exceeds its memory budget, its members are sorted and written to a
+ * run file, and the set starts over.  Reading the set back merges the runs,
+ * so the members come out sorted and without duplicates.
+ */
+class SpillableSet {
+	/**
+	 * The {@link org.apache.hadoop.conf.Configuration} property holding the
+	 * memory budget, in bytes.
+	 */
+	public static final String MEMORY_PROPERTY = "boa.aggregator.set.memory";
+
+	public static final long DEFAULT_MEMORY = 64 * 1024 * 1024;
+
+	// rough per-member overhead, used to estimate the heap use of the set
+	private static final int ENTRY_OVERHEAD = 64;
+
+	private final long budget;
+	private final HashSet<String> set = new HashSet<String>();
+	private long memory = 0;
+	private int largestRun = 0;
+
+	private final List<File> runs = new ArrayList<File>();
+	private final List<Integer> runSizes = new ArrayList<Integer>();
+
+	private PriorityQueue<Run> queue = null;
+	private String last = null;
+
+	/**
+	 * A sorted run being merged.
+	 */
+	private static class Run {
+		private final DataInputStream in;
+		private final String[] members;
+		private int remaining;
+		private String head;
+
+		private Run(final DataInputStream in, final String[] members, final int size) {
+			this.in = in;
+			this.members = members;
+			this.remaining = size;
+		}
+
+		private boolean advance() throws IOException {
+			if (this.remaining == 0)
+				return false;
+			if (this.in != null)
+				this.head = Text.readString(this.in);
+			else
+				this.head = this.members[this.members.length - this.remaining];
+			this.remaining--;
+			return true;
+		}
+	}
+
+	private static final Comparator<Run> order = new Comparator<Run>() {
+		@Override
+		public int compare(final Run r1, final Run r2) {
+			return r1.head.compareTo(r2.head);
+		}
+	};
+
+	/**
+	 * Construct a {@link SpillableSet}.
+	 *
+	 * @param budget
+	 *            The estimated number of bytes to keep in memory
+	 */
+	public SpillableSet(final long budget) {
+		this.budget = budget;
+	}
+
+	/**
+	 * @param context
+	 *            The context of the task, or <code>null</code>
+	 * @return the memory budget configured for a job
+	 */
+	@SuppressWarnings("rawtypes")
+	public static long getMemory(final Context context) {
+		if (context == null)
+			return DEFAULT_MEMORY;
+		return context.getConfiguration().getLong(MEMORY_PROPERTY, DEFAULT_MEMORY);
+	}
+
+	/**
+	 * Add a string to the set.
+	 *
+	 * @param s The string to be added
+	 * @throws IOException if spilling fails
+	 */
+	public void add(final String s) throws IOException {
+		if (!this.set.add(s))
+			return;
+
+		this.memory += ENTRY_OVERHEAD + 2 * s.length();
+		if (this.memory > this.budget)
+			this.spill();
+	}
+
+	/**
+	 * A member can be in more than one run, so the exact number of members is
+	 * only known once the runs are merged.
+	 *
+	 * @return a lower bound on the number of members: the size of the largest
+	 *         run, or of the members in memory if there are more of them
+	 */
+	public long minimumSize() {
+		return Math.max(this.largestRun, this.set.size());
+	}
+
+	private void spill() throws IOException {
+		final String[] members = this.set.toArray(new String[this.set.size()]);
+		Arrays.sort(members);
+
+		final File f = File.createTempFile("boa-set-", ".run");
+		this.runs.add(f);
+		this.runSizes.add(members.length);
+
+		final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(f)));
+		try {
+			for (final String s : members)
+				Text.writeString(out, s);
+		} finally {
+			out.close();
+		}
+
+		this.largestRun = Math.max(this.largestRun, members.length);
+		this.set.clear();
+		this.memory = 0;
+	}
+
+	/**
+	 * Get the next member, in sorted order.  No strings can be added once
+	 * this was called.
+	 *
+	 * @return the next member, or <code>null</code> if there are no more
+	 * @throws IOException if reading a run fails
+	 */
+	public String next() throws IOException {
+		if (this.queue == null) {
+			this.queue = new PriorityQueue<Run>(this.runs.size() + 1, order);
+
+			final String[] members = this.set.toArray(new String[this.set.size()]);
+			Arrays.sort(members);
+			this.set.clear();
+			this.push(new Run(null, members, members.length));
+
+			for (int i = 0; i < this.runs.size(); i++)
+				this.push(new Run(new DataInputStream(new BufferedInputStream(new FileInputStream(this.runs.get(i)))), null, this.runSizes.get(i)));
+		}
+
+		while (!this.queue.isEmpty()) {
+			final Run r = this.queue.poll();
+			final String s = r.head;
+			this.push(r);
+
+			if (!s.equals(this.last)) {
+				this.last = s;
+				return s;
+			}
+		}
+
+		return null;
+	}
+
+	private void push(final Run r) throws IOException {
+		if (r.advance())
+			this.queue.add(r);
+		else if (r.in != null)
+			r.in.close();
+	}
+
+	/**
+	 * Remove all members and delete the run files.
+	 */
+	public void clear() {
+		if (this.queue != null)
+			for (final Run r : this.queue)
+				if (r.in != null)
+					try {
+						r.in.close();
+					} catch (final IOException e) {
+						// only reading, nothing is lost
+					}
+
+		for (final File f : this.runs)
+			f.delete();
+
+		this.set.clear();
+		this.runs.clear();
+		this.runSizes.clear();
+		this.memory = 0;
+		this.largestRun = 0;
+		this.queue = null;
+		this.last = null;
+	}
+}
@@ -17,12 +17,9 @@
 package boa.aggregators;
 
 import java.io.IOException;
-import java.util.TreeMap;
-import java.util.SortedMap;
 
 import org.apache.commons.math.MathException;
 import org.apache.commons.math.distribution.TDistributionImpl;
-import org.apache.commons.math.stat.descriptive.SummaryStatistics;
 
 import boa.io.EmitKey;
 
@@ -31,43 +28,34 @@ import boa.io.EmitKey;
  * 
  * @author rdyer
  */
-@AggregatorSpec(name = "statistics", type = "int")
+@AggregatorSpec(name = "statistics", type = "int", canCombine = true)
 public class StatisticsAggregator extends Aggregator {
-	private SortedMap<Long, Long> map;
-	private long count;
+	private SparseHistogram histogram;
 
 	/** {@inheritDoc} */
 	@Override
 	public void start(final EmitKey key) {
 		super.start(key);
 
-		map = new TreeMap<Long, Long>();
-		count = 0;
+		this.histogram = SparseHistogram.forContext(this.getContext());
 	}
 
 	/** {@inheritDoc} */
 	@Override
 	public void aggregate(final String data, final String metadata) throws IOException, InterruptedException {
-		for (final String s : data.split(";")) {
-			final int idx = s.indexOf(":");
-			if (idx > 0) {
-				final long item = Long.valueOf(s.substring(0, idx));
-				final long count = Long.valueOf(s.substring(idx + 1));
-				for (int i = 0; i < count; i++)
-					aggregate(item, metadata);
-			} else
-				aggregate(Long.valueOf(s), metadata);
-		}
+		this.histogram.addAll(data);
 	}
 
 	/** {@inheritDoc} */
 	@Override
 	public void aggregate(final long data, final String metadata) {
-		if (map.containsKey(data))
-			map.put(data, map.get(data) + 1L);
-		else
-			map.put(data, 1L);
-		count++;
+		this.histogram.add(data);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void aggregate(final long data, final long metadata) {
+		this.histogram.add(data, metadata);
 	}
 
 	/** {@inheritDoc} */
@@ -79,50 +67,28 @@ public class StatisticsAggregator extends Aggregator {
 	/** {@inheritDoc} */
 	@Override
 	public void finish() throws IOException, InterruptedException {
+		// if we're in the combiner, just output each value and its count
 		if (this.isCombining()) {
-			String s = "";
-			for (final Long key : map.keySet())
-				s += key + ":" + map.get(key) + ";";
-			this.collect(s, null);
+			for (int i = 0; i < this.histogram.size(); i++)
+				this.collect(this.histogram.getValue(i), this.histogram.getCount(i));
 			return;
 		}
 
-		float median = 0;
-
-		long medianPos = count / 2L;
-		long curPos = 0;
-		long prevPos = 0;
-		long prevKey = 0;
-
-		for (final Long key : map.keySet()) {
-			curPos = prevPos + map.get(key);
-
-			if (prevPos <= medianPos && medianPos < curPos) {
-				if (curPos % 2 == 0 && prevPos == medianPos)
-					median = (float) (key + prevKey) / 2.0f;
-				else
-					median = key;
-				break;
-			}
-
-			prevKey = key;
-			prevPos = curPos;
-		}
+		final long count = this.histogram.getTotal();
+		final float median = this.histogram.median();
 
 		double s1 = 0;
 		double s2 = 0;
 		double s3 = 0;
 		double s4 = 0;
 
-		final SummaryStatistics summaryStatistics = new SummaryStatistics();
-
-		for (final Long key : map.keySet()) {
-			s1 += key * map.get(key);
-			s2 += key * key * map.get(key);
-			s3 += key * key * key * map.get(key);
-			s4 += key * key * key * key * map.get(key);
-			for (int i = 0; i < map.get(key); i++)
-				summaryStatistics.addValue(key);
+		for (int i = 0; i < this.histogram.size(); i++) {
+			final long key = this.histogram.getValue(i);
+			final long n = this.histogram.getCount(i);
+			s1 += key * n;
+			s2 += key * key * n;
+			s3 += key * key * key * n;
+			s4 += key * key * key * key * n;
 		}
 
 		final double mean = s1 / (double)count;
@@ -133,9 +99,9 @@ public class StatisticsAggregator extends Aggregator {
 
 		double ci = 0.0;
 		try {
-			final TDistributionImpl tDist = new TDistributionImpl(summaryStatistics.getN() - 1);
+			final TDistributionImpl tDist = new TDistributionImpl(count - 1);
 			final double a = tDist.inverseCumulativeProbability(1.0 - 0.025);
-			ci = a * summaryStatistics.getStandardDeviation() / Math.sqrt(summaryStatistics.getN());
+			ci = a * this.histogram.standardDeviation() / Math.sqrt(count);
 		} catch (final MathException e) {
 		}
 
@@ -0,0 +1,188 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boa.aggregators;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.hadoop.mapreduce.Reducer.Context;
+
+/**
+ * Weighted counts of strings, kept with the Space-Saving algorithm of
+ * A. Metwally, D. Agrawal and A. El Abbadi, Efficient computation of frequent
+ * and top-k elements in data streams, ICDT 2005.
+ *
+ * The counters sit in a min-heap ordered by count.  While there are at most
+ * <code>capacity</code> distinct strings, the counts are exact.  After that,
+ * a new string replaces the string with the smallest count and inherits that
+ * count.  For non-negative weights with total <i>W</i>, every count then
+ * overestimates the true count by at most <i>W / capacity</i>, and every
+ * string whose true count is larger than that has a counter.  A capacity of 0,
+ * or any negative weight, keeps every string.
+ */
+public class StreamSummary {
+	/**
+	 * The {@link org.apache.hadoop.conf.Configuration} property holding the
+	 * number of counters kept by bounded summaries.
+	 */
+	public static final String CAPACITY_PROPERTY = "boa.aggregator.top.capacity";
+
+	public static final int DEFAULT_CAPACITY = 10000;
+
+	private static class Counter {
+		private String value;
+		private double count;
+		private int index;
+	}
+
+	private final Map<String, Counter> counters = new HashMap<String, Counter>();
+	private Counter[] heap = new Counter[16];
+	private int size = 0;
+	private int capacity = 0;
+	private double error = 0;
+
+	/**
+	 * @param context
+	 *            The context of the task, or <code>null</code>
+	 * @return the capacity configured for a job
+	 */
+	@SuppressWarnings("rawtypes")
+	public static int getCapacity(final Context context) {
+		if (context == null)
+			return DEFAULT_CAPACITY;
+		return context.getConfiguration().getInt(CAPACITY_PROPERTY, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Remove all counters.
+	 *
+	 * @param capacity
+	 *            The maximum number of counters to keep from now on, or 0 to
+	 *            keep every string
+	 */
+	public void clear(final int capacity) {
+		this.counters.clear();
+		for (int i = 0; i < this.size; i++)
+			this.heap[i] = null;
+		this.size = 0;
+		this.capacity = Math.max(0, capacity);
+		this.error = 0;
+	}
+
+	/**
+	 * Add a weight to the count of a string.
+	 *
+	 * @param value The string
+	 * @param weight The weight to add
+	 */
+	public void add(final String value, final double weight) {
+		// the error bound only holds for non-negative weights
+		if (weight < 0)
+			this.capacity = 0;
+
+		Counter c = this.counters.get(value);
+		boolean leaf = false;
+		if (c == null) {
+			if (this.capacity > 0 && this.size >= this.capacity) {
+				// replace the smallest counter
+				c = this.heap[0];
+				this.counters.remove(c.value);
+				this.error = Math.max(this.error, c.count);
+			} else {
+				c = new Counter();
+				if (this.size == this.heap.length) {
+					final Counter[] heap = new Counter[2 * this.size];
+					System.arraycopy(this.heap, 0, heap, 0, this.size);
+					this.heap = heap;
+				}
+				c.index = this.size;
+				this.heap[this.size++] = c;
+				leaf = true;
+			}
+			c.value = value;
+			this.counters.put(value, c);
+		}
+
+		c.count += weight;
+		// a new counter is a leaf, and may have to move up whatever its weight
+		if (leaf || weight < 0)
+			this.siftUp(c.index);
+		else
+			this.siftDown(c.index);
+	}
+
+	/**
+	 * @return the number of counters
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * @param i the index of a counter, in no particular order
+	 * @return the string of a counter
+	 */
+	public String getValue(final int i) {
+		return this.heap[i].value;
+	}
+
+	/**
+	 * @param i the index of a counter, in no particular order
+	 * @return the count of a counter
+	 */
+	public double getCount(final int i) {
+		return this.heap[i].count;
+	}
+
+	/**
+	 * @return the largest count a replaced counter had, which bounds how much
+	 *         any count may be overestimated, or 0 if all counts are exact
+	 */
+	public double getError() {
+		return this.error;
+	}
+
+	private void siftUp(int i) {
+		final Counter c = this.heap[i];
+		while (i > 0) {
+			final int parent = (i - 1) >>> 1;
+			if (this.heap[parent].count <= c.count)
+				break;
+			this.move(this.heap[parent], i);
+			i = parent;
+		}
+		this.move(c, i);
+	}
+
+	private void siftDown(int i) {
+		final Counter c = this.heap[i];
+		while (true) {
+			int child = 2 * i + 1;
+			if (child >= this.size)
+				break;
+			if (child + 1 < this.size && this.heap[child + 1].count < this.heap[child].count)
+				child++;
+			if (c.count <= this.heap[child].count)
+				break;
+			this.move(this.heap[child], i);
+			i = child;
+		}
+		this.move(c, i);
+	}
+
+	private void move(final Counter c, final int i) {
+		this.heap[i] = c;
+		c.index = i;
+	}
+}
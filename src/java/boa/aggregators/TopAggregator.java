@@ -41,4 +41,10 @@ public class TopAggregator extends BottomOrTopAggregator {
 	protected boolean shouldInsert(final double a, final double b) {
 		return a > b;
 	}
+
+	/** {@inheritDoc} */
+	@Override
+	protected boolean isBounded() {
+		return true;
+	}
 }
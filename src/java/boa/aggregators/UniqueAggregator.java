@@ -18,26 +18,32 @@ package boa.aggregators;
 
 import java.io.IOException;
 
-import org.apache.hadoop.util.bloom.Key;
-
 import boa.io.EmitKey;
 
 /**
  * A Boa aggregator to estimate the size of the set of unique values in a
  * dataset. Roughly equivalent to a count(distinct(*)).
  * 
+ * The values are counted with a {@link HyperLogLog} sketch.  The combiner
+ * emits the encoded sketch instead of the values, and the reducer merges the
+ * sketches.  The precision of the sketch is set with the
+ * {@link HyperLogLog#PRECISION_PROPERTY} property.
+ * 
  * @author anthonyu
  */
 @AggregatorSpec(name = "unique", formalParameters = { "int" }, canCombine = true)
-public class UniqueAggregator extends DistinctAggregator {
-	private long total;
+public class UniqueAggregator extends Aggregator {
+	// the metadata marking an emitted value as an encoded sketch
+	private static final String SKETCH = "hll";
+
+	private HyperLogLog sketch;
 
 	/**
 	 * Construct a UniqueAggregator.
 	 * 
 	 * @param arg
 	 *            The size of the internal table used to perform the
-	 *            calculation.
+	 *            calculation.  Unused, the sketch has a fixed size.
 	 */
 	public UniqueAggregator(final long arg) {
 		super(arg);
@@ -48,34 +54,24 @@ public class UniqueAggregator extends DistinctAggregator {
 	public void start(final EmitKey key) {
 		super.start(key);
 
-		// clear out the internal total
-		this.total = 0;
+		this.sketch = HyperLogLog.forContext(this.getContext());
 	}
 
 	/** {@inheritDoc} */
 	@Override
 	public void aggregate(final String data, final String metadata) throws IOException, InterruptedException {
-		// instantiate a bloom filter input key initialized by the data
-		final Key key = new Key(data.getBytes());
-
-		// if the key is already in the filter, forget about it
-		if (this.filter.membershipTest(key))
-			return;
-
-		// add the key to the bloom filter
-		this.filter.add(key);
-
-		if (this.isCombining())
-			this.collect(data);
+		if (SKETCH.equals(metadata))
+			this.sketch.merge(HyperLogLog.decode(data));
 		else
-			this.total++;
+			this.sketch.add(data);
 	}
 
 	/** {@inheritDoc} */
 	@Override
 	public void finish() throws IOException, InterruptedException {
-		// if we are reducing, collect the total
-		if (!this.isCombining())
-			this.collect(this.total);
+		if (this.isCombining())
+			this.collect(this.sketch.encode(), SKETCH);
+		else
+			this.collect(this.sketch.cardinality());
 	}
 }
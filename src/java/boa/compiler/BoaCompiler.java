@@ -25,11 +25,18 @@ import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.InputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Enumeration;
 import java.util.List;
 import java.util.UUID;
+import java.util.jar.JarFile;
 import java.util.jar.JarOutputStream;
 import java.util.zip.ZipEntry;
 
@@ -44,8 +51,6 @@ import org.apache.commons.cli.Options;
 import org.apache.commons.cli.PosixParser;
 import org.apache.log4j.Logger;
 
-import org.scannotation.ClasspathUrlFinder;
-
 import boa.BoaMain;
 import boa.compiler.ast.Program;
 import boa.compiler.ast.Start;
@@ -86,6 +91,9 @@ import boa.parser.BoaLexer;
 public class BoaCompiler extends BoaMain {
 	
 	private static Logger LOG = Logger.getLogger(BoaCompiler.class);
+
+	// the default maximum size of the jar cache, in megabytes
+	private static final long DEFAULT_CACHE_SIZE = 1024;
 	
 	public static void main(final String[] args) throws IOException {
 		CommandLine cl = processCommandLineOptions(args);
@@ -102,6 +110,26 @@ public class BoaCompiler extends BoaMain {
 		else
 			jarName = className + ".jar";
 
+		// reuse the jar of an earlier compile with the same inputs
+		File cachedJar = null;
+		if (cl.hasOption("cache") && !cl.hasOption("ast") && !cl.hasOption("ast2") && !cl.hasOption("pp")) {
+			try {
+				cachedJar = new File(cl.getOptionValue("cache"), getCacheKey(className, cl.getOptionValue('v', ""), inputFiles, getLibJars(cl), getTemplates()) + ".jar");
+			} catch (final IOException e) {
+				LOG.warn("not caching the compiled jar, unable to hash its inputs: " + e.getMessage());
+			}
+			if (cachedJar != null && cachedJar.exists()) {
+				LOG.info("using cached jar: " + cachedJar);
+				// the cache evicts the jars used least recently
+				cachedJar.setLastModified(System.currentTimeMillis());
+				copyFile(cachedJar, new File(jarName));
+				// local runs load the classes from the compilation directory
+				if (cl.hasOption("cd") && DefaultProperties.localDataPath != null)
+					extractJar(cachedJar, new File(cl.getOptionValue("cd")));
+				return;
+			}
+		}
+
 		// make the output directory
 		File outputRoot = null;
 		if (cl.hasOption("cd")) {
@@ -245,6 +273,8 @@ public class BoaCompiler extends BoaMain {
 			st.add("jobnames", jobnames);
 			st.add("combineTables", CodeGeneratingVisitor.combineAggregatorStrings);
 			st.add("reduceTables", CodeGeneratingVisitor.reduceAggregatorStrings);
+			st.add("tables", CodeGeneratingVisitor.tableNames);
+			st.add("sortedTables", CodeGeneratingVisitor.sortedTableNames);
 			st.add("splitsize", isSimple ? 64 * 1024 * 1024 : 10 * 1024 * 1024);
 			st.add("seeds", seeds);
 			if (DefaultProperties.localDataPath != null) {
@@ -257,6 +287,16 @@ public class BoaCompiler extends BoaMain {
 		}
 
 		compileGeneratedSrc(cl, jarName, outputRoot, outputFile);
+
+		if (cachedJar != null) {
+			// write under a temporary name first, so a concurrent compile never sees a partial jar
+			cachedJar.getParentFile().mkdirs();
+			final File tmp = new File(cachedJar.getParentFile(), cachedJar.getName() + "." + UUID.randomUUID() + ".tmp");
+			copyFile(new File(jarName), tmp);
+			if (!tmp.renameTo(cachedJar))
+				tmp.delete();
+			pruneCache(cachedJar.getParentFile(), Long.parseLong(cl.getOptionValue("cachesize", "" + DEFAULT_CACHE_SIZE)) * 1024 * 1024);
+		}
 	}
 	
 	public static void parseOnly(final String[] args) throws IOException {
@@ -341,15 +381,22 @@ public class BoaCompiler extends BoaMain {
 		if (compiler.run(null, null, null, "-source", "5", "-target", "5", "-cp", System.getProperty("java.class.path"), outputFile.toString()) != 0)
 			throw new RuntimeException("compile failed");
 
+		generateJar(jarName, outputRoot, getLibJars(cl));
+
+		if (DefaultProperties.localDataPath == null) {
+			delete(outputRoot);
+		}
+	}
+
+	// the jars bundled into the generated jar
+	private static List<File> getLibJars(final CommandLine cl) throws IOException {
 		final List<File> libJars = new ArrayList<File>();
 
 		if (cl.hasOption('j')) {
 			libJars.add(new File(cl.getOptionValue('j')));
 		} else {
-			// find the location of the jar this class is in
-			final String path = ClasspathUrlFinder.findClassBase(BoaCompiler.class).getPath();
 			// find the location of the compiler distribution
-			final File root = new File(path.substring(path.indexOf(':') + 1, path.indexOf('!'))).getParentFile();
+			final File root = getCompilerLocation().getParentFile();
 	
 			libJars.add(new File(root, "boa-runtime.jar"));
 		}
@@ -358,10 +405,174 @@ public class BoaCompiler extends BoaMain {
 			for (final String s : Arrays.asList(cl.getOptionValues('l')))
 				libJars.add(new File(s));
 
-		generateJar(jarName, outputRoot, libJars);
+		return libJars;
+	}
 
-		if (DefaultProperties.localDataPath == null) {
-			delete(outputRoot);
+	/**
+	 * Computes the key of a compile in the jar cache: a SHA-256 over the
+	 * programs, the options changing the generated code, the bundled jars and
+	 * the compiler itself, including its templates.
+	 *
+	 * @param className the name of the generated class
+	 * @param visitors the visitor option, or the empty string
+	 * @param inputs the programs
+	 * @param libJars the jars bundled into the compiled jar
+	 * @param templates the templates of the code generator
+	 * @throws IOException if any of them can not be read, as the key would
+	 *         then not change with them
+	 */
+	public static String getCacheKey(final String className, final String visitors, final List<File> inputs, final List<File> libJars, final List<URL> templates) throws IOException {
+		final MessageDigest md;
+		try {
+			md = MessageDigest.getInstance("SHA-256");
+		} catch (final NoSuchAlgorithmException e) {
+			throw new IOException(e);
+		}
+
+		md.update(("name=" + className + "\nvisitors=" + visitors + "\nlocal=" + (DefaultProperties.localDataPath != null) + "\n").getBytes("UTF-8"));
+
+		for (final File f : inputs)
+			digest(md, f);
+		for (final File f : libJars)
+			digest(md, f);
+
+		// the compiler, which is a jar or a class directory
+		digest(md, getCompilerLocation());
+		for (final URL url : templates)
+			digest(md, url.openStream());
+
+		final StringBuilder sb = new StringBuilder();
+		for (final byte b : md.digest())
+			sb.append(String.format("%02x", b));
+		return sb.toString();
+	}
+
+	// the templates of the code generator, from the compiler's jar or the working directory
+	private static List<URL> getTemplates() throws IOException {
+		final List<URL> templates = new ArrayList<URL>();
+		for (final String template : new String[] { "templates/BoaJavaHadoop.stg", "templates/BoaJava.stg" }) {
+			final URL url = BoaCompiler.class.getClassLoader().getResource(template);
+			templates.add(url != null ? url : new File(template).toURI().toURL());
+		}
+		return templates;
+	}
+
+	private static void digest(final MessageDigest md, final File f) throws IOException {
+		if (f.isDirectory()) {
+			final File[] files = f.listFiles();
+			Arrays.sort(files);
+			for (final File g : files) {
+				md.update(g.getName().getBytes("UTF-8"));
+				digest(md, g);
+			}
+		} else if (f.exists()) {
+			digest(md, new FileInputStream(f));
+		} else {
+			throw new FileNotFoundException(f.toString());
+		}
+	}
+
+	// the jar or class directory the compiler was loaded from
+	private static File getCompilerLocation() throws IOException {
+		final URL url = BoaCompiler.class.getProtectionDomain().getCodeSource().getLocation();
+		try {
+			return new File(url.toURI());
+		} catch (final URISyntaxException e) {
+			throw new IOException("unable to find the compiler at " + url, e);
+		} catch (final IllegalArgumentException e) {
+			throw new IOException("unable to find the compiler at " + url, e);
+		}
+	}
+
+	/**
+	 * Deletes the jars in a cache directory used least recently, by their
+	 * modification times, until the jars take at most maxSize bytes.
+	 *
+	 * @param dir the cache directory
+	 * @param maxSize the most bytes the jars may take
+	 */
+	public static void pruneCache(final File dir, final long maxSize) {
+		final File[] jars = dir.listFiles();
+		if (jars == null)
+			return;
+
+		final long[] used = new long[jars.length];
+		for (int i = 0; i < jars.length; i++)
+			used[i] = jars[i].lastModified();
+		final Integer[] order = new Integer[jars.length];
+		for (int i = 0; i < order.length; i++)
+			order[i] = i;
+		Arrays.sort(order, new Comparator<Integer>() {
+			@Override
+			public int compare(final Integer i, final Integer j) {
+				return used[i] > used[j] ? -1 : (used[i] == used[j] ? 0 : 1);
+			}
+		});
+
+		long size = 0;
+		for (final int i : order) {
+			if (!jars[i].getName().endsWith(".jar"))
+				continue;
+			size += jars[i].length();
+			if (size > maxSize && jars[i].delete())
+				LOG.info("evicted cached jar: " + jars[i]);
+		}
+	}
+
+	private static void digest(final MessageDigest md, final InputStream stream) throws IOException {
+		final InputStream in = new BufferedInputStream(stream);
+		try {
+			final byte[] b = new byte[64 * 1024];
+			int len;
+			while ((len = in.read(b)) > 0)
+				md.update(b, 0, len);
+		} finally {
+			in.close();
+		}
+	}
+
+	private static void copyFile(final File from, final File to) throws IOException {
+		final OutputStream out = new BufferedOutputStream(new FileOutputStream(to));
+		try {
+			copy(new FileInputStream(from), out);
+		} finally {
+			out.close();
+		}
+	}
+
+	private static void copy(final InputStream stream, final OutputStream out) throws IOException {
+		final InputStream in = new BufferedInputStream(stream);
+		try {
+			final byte[] b = new byte[4096];
+			int len;
+			while ((len = in.read(b)) > 0)
+				out.write(b, 0, len);
+		} finally {
+			in.close();
+		}
+	}
+
+	// restores the compilation directory of a cached jar, without the bundled jars
+	private static void extractJar(final File jarFile, final File dir) throws IOException {
+		final JarFile jar = new JarFile(jarFile);
+		try {
+			final Enumeration<? extends ZipEntry> entries = jar.entries();
+			while (entries.hasMoreElements()) {
+				final ZipEntry e = entries.nextElement();
+				if (e.isDirectory() || e.getName().startsWith("lib/"))
+					continue;
+
+				final File f = new File(dir, e.getName());
+				f.getParentFile().mkdirs();
+				final OutputStream out = new BufferedOutputStream(new FileOutputStream(f));
+				try {
+					copy(jar.getInputStream(e), out);
+				} finally {
+					out.close();
+				}
+			}
+		} finally {
+			jar.close();
 		}
 	}
 
@@ -380,6 +591,8 @@ public class BoaCompiler extends BoaMain {
 		options.addOption("ast2", "ast-transformed", false, "print the AST after transformations, before code generation (debug)");
 		options.addOption("pp", "pretty-print", false, "pretty print the AST before code generation (debug)");
 		options.addOption("cd", "compilation-dir", true, "directory to store all generated files");
+		options.addOption("cache", "cache-dir", true, "directory to cache compiled jars in, reused while the programs, libs and compiler are unchanged");
+		options.addOption("cachesize", "cache-size", true, "maximum size of the jar cache, in megabytes (default " + DEFAULT_CACHE_SIZE + ")");
 
 		final CommandLine cl;
 		try {
@@ -485,7 +698,7 @@ public class BoaCompiler extends BoaMain {
 				putJarEntry(jar, f, f.getPath().substring(offset));
 
 			for (final File f : libJars)
-				putJarEntry(jar, f, "lib" + File.separatorChar + f.getName());
+				putJarEntry(jar, f, "lib/" + f.getName());
 		} finally {
 			jar.close();
 		}
@@ -503,17 +716,7 @@ public class BoaCompiler extends BoaMain {
 
 	private static void putJarEntry(final JarOutputStream jar, final File f, final String path) throws IOException {
 		jar.putNextEntry(new ZipEntry(path));
-
-		final InputStream in = new BufferedInputStream(new FileInputStream(f));
-		try {
-			final byte[] b = new byte[4096];
-			int len;
-			while ((len = in.read(b)) > 0)
-				jar.write(b, 0, len);
-		} finally {
-			in.close();
-		}
-
+		copy(new FileInputStream(f), jar);
 		jar.closeEntry();
 	}
 }
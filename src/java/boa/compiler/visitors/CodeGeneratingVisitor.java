@@ -36,6 +36,7 @@ import boa.compiler.ast.literals.*;
 import boa.compiler.ast.statements.*;
 import boa.compiler.ast.types.*;
 import boa.types.*;
+import boa.types.proto.*;
 import boa.compiler.visitors.analysis.*;
 
 /**
@@ -56,6 +57,9 @@ public class CodeGeneratingVisitor extends AbstractCodeGeneratingVisitor {
 	boolean loopSensitive = false;
 	HashMap<String, Boolean> traversalMap = new HashMap<String, Boolean>();
 	String lastVarDecl;
+	// set while generating a traversal whose results hold sets of strings,
+	// which then start out as bit vectors (see boa.runtime.BitVectorSet)
+	boolean bitVectorSets = false;
 
 	protected class AggregatorDescription {
 		protected String aggregator;
@@ -187,11 +191,10 @@ public class CodeGeneratingVisitor extends AbstractCodeGeneratingVisitor {
 			final ST st = stg.getInstanceOf("VarDecl");
 
 			st.add("id", n.getId().getToken());
+			// static variables are fields of the job instance, which lives as
+			// long as its mapper, so each mapper thread has its own copy
 			st.add("type", n.type.toJavaType());
 
-			if (n.isStatic())
-				st.add("isstatic", true);
-
 			code.add(st.render());
 		}
 	}
@@ -281,16 +284,20 @@ public class CodeGeneratingVisitor extends AbstractCodeGeneratingVisitor {
 				final List<String> fields = new ArrayList<String>();
 				final List<String> types = new ArrayList<String>();
 
+				final List<String> copies = new ArrayList<String>();
+
 				int counter = 0;
 				for (final Expression e : n.getExprs()) {
 					fields.add("f" + counter);
 					types.add(e.type.toBoxedJavaType());
+					copies.add(copyOf(e.type));
 					counter++;
 				}
 
 				st.add("name", name);
 				st.add("fields", fields);
 				st.add("types", types);
+				st.add("copies", copies);
 
 				code.add(st.render());
 			}
@@ -317,6 +324,7 @@ public class CodeGeneratingVisitor extends AbstractCodeGeneratingVisitor {
 			final List<Component> members = n.getMembers();
 			final List<String> fields = new ArrayList<String>();
 			final List<String> types = new ArrayList<String>();
+			final List<String> copies = new ArrayList<String>();
 
 			int fieldCount = 0;
 			for (final Component c : members) {
@@ -327,11 +335,13 @@ public class CodeGeneratingVisitor extends AbstractCodeGeneratingVisitor {
 				}
 				fieldCount++;
 				types.add(c.getType().type.toBoxedJavaType());
+				copies.add(copyOf(c.getType().type));
 			}
 
 			st.add("name", tupType.toJavaType());
 			st.add("fields", fields);
 			st.add("types", types);
+			st.add("copies", copies);
 
 			code.add(st.render());
 		}
@@ -496,6 +506,8 @@ public class CodeGeneratingVisitor extends AbstractCodeGeneratingVisitor {
 
 	final public static List<String> combineAggregatorStrings = new ArrayList<String>();
 	final public static List<String> reduceAggregatorStrings = new ArrayList<String>();
+	final public static Set<String> tableNames = new TreeSet<String>();
+	final public static Set<String> sortedTableNames = new TreeSet<String>();
 
 	public CodeGeneratingVisitor(final String name) throws IOException {
 		this.name = name;
@@ -573,6 +585,10 @@ public class CodeGeneratingVisitor extends AbstractCodeGeneratingVisitor {
 			if (combines)
 				combineAggregatorStrings.add("this.aggregators.put(\"" + prefix + "::" + id + "\", " + src.toString().substring(2) + ");");
 			reduceAggregatorStrings.add("this.aggregators.put(\"" + prefix + "::" + id + "\", " + src.toString().substring(2) + ");");
+			tableNames.add(id);
+			// sets read their values in sorted order, so they need not hold them
+			if (description.getAggregator().equals("set"))
+				sortedTableNames.add(id);
 		}
 
 		code.add(st.render());
@@ -1337,7 +1353,12 @@ public class CodeGeneratingVisitor extends AbstractCodeGeneratingVisitor {
 			}
 
 			n.getType().accept(this);
-			st.add("rhs", "new " + code.removeLast() + "()");
+			if (bitVectorSets && isStringSet(lhsType)) {
+				code.removeLast();
+				st.add("rhs", "new boa.runtime.BitVectorSet()");
+			} else {
+				st.add("rhs", "new " + code.removeLast() + "()");
+			}
 			code.add(st.render());
 			return;
 		}
@@ -1486,8 +1507,13 @@ public class CodeGeneratingVisitor extends AbstractCodeGeneratingVisitor {
 			st.add("name", "preTraverse");
 		}
 
-		if (!(funcType.getType() instanceof BoaAny))
+		if (!(funcType.getType() instanceof BoaAny)) {
 			st.add("ret", funcType.getType().toBoxedJavaType());
+			st.add("copy", copyOf(funcType.getType()));
+		}
+
+		final boolean outerBitVectorSets = bitVectorSets;
+		bitVectorSets = hasStringSet(funcType.getType());
 
 		if (n.hasBody()) {
 			if (n.getBody() instanceof Block) {
@@ -1501,6 +1527,8 @@ public class CodeGeneratingVisitor extends AbstractCodeGeneratingVisitor {
 			}
 		}
 
+		bitVectorSets = outerBitVectorSets;
+
 		final CFGBuildingVisitor cfgBuilder = new CFGBuildingVisitor();
 		n.accept(cfgBuilder);
 		final CreateNodeId createNodeId = new CreateNodeId();
@@ -1656,6 +1684,60 @@ public class CodeGeneratingVisitor extends AbstractCodeGeneratingVisitor {
 		code.add(st.render());
 	}
 
+	/** the node types a visitor can visit, with their names in {@link boa.runtime.BoaAbstractVisitor} */
+	protected final static Map<BoaProtoTuple, String> visitorNodeTypes = new LinkedHashMap<BoaProtoTuple, String>();
+
+	static {
+		visitorNodeTypes.put(new ProjectProtoTuple(), "PROJECT");
+		visitorNodeTypes.put(new CodeRepositoryProtoTuple(), "CODE_REPOSITORY");
+		visitorNodeTypes.put(new RevisionProtoTuple(), "REVISION");
+		visitorNodeTypes.put(new ChangedFileProtoTuple(), "CHANGED_FILE");
+		visitorNodeTypes.put(new ASTRootProtoTuple(), "AST_ROOT");
+		visitorNodeTypes.put(new NamespaceProtoTuple(), "NAMESPACE");
+		visitorNodeTypes.put(new DeclarationProtoTuple(), "DECLARATION");
+		visitorNodeTypes.put(new TypeProtoTuple(), "TYPE");
+		visitorNodeTypes.put(new MethodProtoTuple(), "METHOD");
+		visitorNodeTypes.put(new VariableProtoTuple(), "VARIABLE");
+		visitorNodeTypes.put(new StatementProtoTuple(), "STATEMENT");
+		visitorNodeTypes.put(new ExpressionProtoTuple(), "EXPRESSION");
+		visitorNodeTypes.put(new ModifierProtoTuple(), "MODIFIER");
+		visitorNodeTypes.put(new CommentProtoTuple(), "COMMENT");
+		visitorNodeTypes.put(new PersonProtoTuple(), "PERSON");
+	}
+
+	/**
+	 * Finds the node types whose subtrees can hold a node the visitor has a
+	 * clause for, so the generated visitor can skip all other subtrees.
+	 *
+	 * @return the Java expression for the types, or <code>null</code> if the
+	 *         visitor may act on every node
+	 */
+	protected String reachableTypes(final VisitorExpression n) {
+		final Set<Class<? extends BoaType>> visited = new HashSet<Class<? extends BoaType>>();
+		for (final Statement s : n.getBody().getStatements()) {
+			if (!(s instanceof VisitStatement))
+				continue;
+			final VisitStatement v = (VisitStatement) s;
+			if (v.hasWildcard())
+				return null;
+			if (v.hasComponent())
+				visited.add(v.getComponent().getType().type.getClass());
+			else
+				for (final Identifier id : v.getIdList())
+					visited.add(id.type.getClass());
+		}
+
+		String types = "";
+		for (final Entry<BoaProtoTuple, String> e : visitorNodeTypes.entrySet()) {
+			if (Collections.disjoint(e.getKey().reachableTypes(), visited))
+				continue;
+			if (types.length() > 0)
+				types += " | ";
+			types += e.getValue();
+		}
+		return types.length() > 0 ? types : "0";
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public void visit(final VisitorExpression n) {
@@ -1663,6 +1745,7 @@ public class CodeGeneratingVisitor extends AbstractCodeGeneratingVisitor {
 
 		this.varDecl.start(n);
 		st.add("staticDeclarations", this.varDecl.getCode());
+		st.add("reachableTypes", reachableTypes(n));
 
 		final List<String> body = new ArrayList<String>();
 		for (final Node node : n.getBody().getStatements()) {
@@ -1984,6 +2067,32 @@ public class CodeGeneratingVisitor extends AbstractCodeGeneratingVisitor {
 		return replaced;
 	}
 
+	protected static boolean isStringSet(final BoaType type) {
+		return type instanceof BoaSet && ((BoaSet) type).getType() instanceof BoaString;
+	}
+
+	protected static boolean hasStringSet(final BoaType type) {
+		if (type instanceof BoaTuple) {
+			for (final BoaType t : ((BoaTuple) type).getTypes())
+				if (isStringSet(t))
+					return true;
+			return false;
+		}
+		return isStringSet(type);
+	}
+
+	/**
+	 * Returns the start of an expression copying a value of the given type,
+	 * to be followed by the value in parentheses.  Sets of strings are copied
+	 * through {@link boa.runtime.BitVectorSet#copy}, so bit vectors stay bit
+	 * vectors.
+	 */
+	protected static String copyOf(final BoaType type) {
+		if (isStringSet(type))
+			return "boa.runtime.BitVectorSet.copy";
+		return "new " + type.toBoxedJavaType();
+	}
+
 	private static String nonScalarTypeTransform(final BoaType type, String typeStr) {
 		if (type instanceof BoaArray)
 			return typeStr.replace("[]", "[0]");
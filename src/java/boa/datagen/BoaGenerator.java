@@ -65,12 +65,14 @@ public class BoaGenerator {
 				e.printStackTrace();
 			}
 			SeqCombiner.main(new String[0]);
+			generateMappedStores();
 		} else if (tokenAvailable) { // when user provides local repo and does
 										// not have json files
 			MetaDataMaster mdm = new MetaDataMaster();
 			mdm.downloadRepoNames(DefaultProperties.TOKEN, DefaultProperties.OUTPUT);
 
 			SeqCombiner.main(new String[0]);
+			generateMappedStores();
 		} else { // when user provides local repo and does not have json files
 			File output = new File(DefaultProperties.OUTPUT);
 			if (!output.exists())
@@ -81,11 +83,20 @@ public class BoaGenerator {
 			} catch (Exception e) {
 				e.printStackTrace();
 			}
+			generateMappedStores();
 		}
 
 		clear();
 	}
 
+	private static void generateMappedStores() {
+		try {
+			MappedStoreGen.main(new String[0]);
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
+	}
+
 	private static final void printHelp(Options options, String message) {
 		String header = "The most commonly used Boa options are:";
 		String footer = "\nPlease report issues at http://www.github.com/boalang/";
@@ -104,6 +115,8 @@ public class BoaGenerator {
 		options.addOption("inputToken", "token", true, "token file");
 		options.addOption("inputRepo", "json", true, "cloned repo path");
 		options.addOption("threads", "threads", true, "number of threads");
+		options.addOption("cloneThreads", "cloneThreads", true, "number of threads cloning repositories");
+		options.addOption("parseThreads", "parseThreads", true, "number of threads parsing files");
 		options.addOption("projects", "projects", true, "maximum number of projects per sequence file");
 		options.addOption("commits", "commits", true, "maximum number of commits of a project to be stored in the project object");
 		options.addOption("size", "size", true, "maximum size of a project object to be stored");
@@ -168,6 +181,12 @@ public class BoaGenerator {
 		if (cl.hasOption("threads")) {
 			DefaultProperties.NUM_THREADS = cl.getOptionValue("threads");
 		}
+		if (cl.hasOption("cloneThreads")) {
+			DefaultProperties.NUM_CLONE_THREADS = cl.getOptionValue("cloneThreads");
+		}
+		if (cl.hasOption("parseThreads")) {
+			DefaultProperties.NUM_PARSE_THREADS = cl.getOptionValue("parseThreads");
+		}
 		if (cl.hasOption("projects")) {
 			DefaultProperties.MAX_PROJECTS = cl.getOptionValue("projects");
 		}
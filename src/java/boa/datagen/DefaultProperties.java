@@ -24,8 +24,11 @@ import java.io.File;
  */
 public class DefaultProperties {
 	public static String NUM_THREADS = "1";
+	public static String NUM_CLONE_THREADS = "1";
+	public static String NUM_PARSE_THREADS = "1";
 	public static String MAX_PROJECTS = "1000";
 	public static String MAX_COMMITS = "25000";
+	public static String MAX_PARSED_CONTENTS = "250000";
 	public static String MAX_SIZE_FOR_PROJECT_WITH_COMMITS = String.valueOf(1 << 26); // Integer.MAX_VALUE / 3
 	
 	public static boolean DEBUG = false, DEBUGPARSE = false, CACHE = false;
@@ -0,0 +1,62 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boa.datagen;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.BytesWritable;
+import org.apache.hadoop.io.LongWritable;
+import org.apache.hadoop.io.MapFile;
+
+import boa.datagen.util.Properties;
+import boa.io.MappedStore;
+
+/**
+ * Converts the ast and commit {@link MapFile}s into {@link MappedStore}s
+ * (<code>ast.store</code> and <code>commit.store</code>), which can be copied
+ * to the local disk of each node and memory-mapped by the intrinsics.
+ */
+public class MappedStoreGen {
+	private final static String SEQ_FILE_PATH = Properties.getProperty("output.path", DefaultProperties.OUTPUT);
+
+	public static void main(String[] args) throws Exception {
+		System.out.println("generating mapped stores");
+		if (SEQ_FILE_PATH.isEmpty()) {
+			System.out.println("Missing path to sequence file. Please specify it in the properties file.");
+			return;
+		}
+		Configuration conf = new Configuration();
+		FileSystem fs = FileSystem.get(conf);
+		for (String name : new String[]{"ast", "commit"}) {
+			Path dir = new Path(SEQ_FILE_PATH + "/" + name);
+			if (!fs.exists(new Path(dir, MapFile.INDEX_FILE_NAME)))
+				continue;
+
+			MapFile.Reader r = new MapFile.Reader(fs, dir.toString(), conf);
+			MappedStore.Writer w = new MappedStore.Writer(fs, new Path(SEQ_FILE_PATH + "/" + name + MappedStore.SUFFIX));
+			try {
+				LongWritable key = new LongWritable();
+				BytesWritable value = new BytesWritable();
+				while (r.next(key, value))
+					w.append(key.get(), value.getBytes(), value.getLength());
+			} finally {
+				w.close();
+				r.close();
+			}
+		}
+		fs.close();
+	}
+}
@@ -95,6 +95,7 @@ public class SeqCombiner {
 				while (r.next(textKey, value)) {
 					Project p = Project.parseFrom(CodedInputStream.newInstance(value.getBytes(), 0, value.getLength()));
 					Project.Builder pb = Project.newBuilder(p);
+					// every key of a file moves by the same offset, so files sharing an AST still share it
 					for (CodeRepository.Builder crb : pb.getCodeRepositoriesBuilderList()) {
 						if (crb.getRevisionsCount() > 0) {
 							for (Revision.Builder rb : crb.getRevisionsBuilderList()) {
@@ -21,6 +21,10 @@ import java.io.File;
 import java.io.IOException;
 import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileStatus;
@@ -40,6 +44,7 @@ import boa.datagen.forges.github.RepoMetadata;
 import boa.datagen.forges.github.RepositoryCloner;
 import boa.datagen.scm.AbstractConnector;
 import boa.datagen.scm.GitConnector;
+import boa.datagen.scm.ParsedContentCache;
 import boa.datagen.util.FileIO;
 import boa.datagen.util.Properties;
 import boa.types.Code.CodeRepository;
@@ -59,11 +64,27 @@ public class SeqRepoImporter {
 	private static String base = null;
 
 	private final static int poolSize = Integer.parseInt(Properties.getProperty("num.threads", DefaultProperties.NUM_THREADS));
+	private final static int clonePoolSize = Integer.parseInt(Properties.getProperty("num.clone.threads", DefaultProperties.NUM_CLONE_THREADS));
+	private final static int parsePoolSize = Integer.parseInt(Properties.getProperty("num.parse.threads", DefaultProperties.NUM_PARSE_THREADS));
 	public static final int MAX_SIZE_FOR_PROJECT_WITH_COMMITS = Integer.valueOf(DefaultProperties.MAX_SIZE_FOR_PROJECT_WITH_COMMITS);
 	final static String jsonPath = Properties.getProperty("gh.json.path", DefaultProperties.GH_JSON_PATH);
 	final static String jsonCachePath = Properties.getProperty("output.path", DefaultProperties.OUTPUT);
-	private static boolean done = false;
-	
+
+	/*
+	 * The import is a pipeline: the main thread reads project metadata into
+	 * a bounded queue, clone tasks take projects from it and clone them into
+	 * a second bounded queue, and import tasks walk the commits of cloned
+	 * repositories and write them out, parsing files in a shared pool.  The
+	 * bounded queues make each stage wait when the next one falls behind, so
+	 * no more repositories are cloned than the writers can keep up with.
+	 */
+	private static BlockingQueue<Project> projects = null;
+	private static BlockingQueue<ClonedProject> clonedProjects = null;
+	private static ExecutorService parsePool = null;
+
+	/** marks the end of the projects queue */
+	private final static Project NO_PROJECT = Project.getDefaultInstance();
+
 	public static void main(String[] args) throws IOException, InterruptedException {
 
 		conf = new Configuration();
@@ -72,11 +93,20 @@ public class SeqRepoImporter {
 		
 		getProcessedProjects();
 
-		ImportTask[] workers = new ImportTask[poolSize];
+		projects = new ArrayBlockingQueue<Project>(Math.max(1, clonePoolSize));
+		clonedProjects = new ArrayBlockingQueue<ClonedProject>(Math.max(1, poolSize));
+		if (parsePoolSize > 1)
+			parsePool = Executors.newFixedThreadPool(parsePoolSize);
+
+		Thread[] cloneThreads = new Thread[Math.max(1, clonePoolSize)];
+		for (int i = 0; i < cloneThreads.length; i++) {
+			cloneThreads[i] = new Thread(new CloneTask());
+			cloneThreads[i].start();
+		}
+
 		Thread[] threads = new Thread[poolSize];
 		for (int i = 0; i < poolSize; i++) {
-			workers[i] = new ImportTask(i);
-			threads[i] = new Thread(workers[i]);
+			threads[i] = new Thread(new ImportTask(i));
 			threads[i].start();
 			Thread.sleep(10);
 		}
@@ -103,18 +133,7 @@ public class SeqRepoImporter {
 							Project protobufRepo = repo.toBoaMetaDataProtobuf();
 
 							// System.out.println(jRepo.toString());
-							boolean assigned = false;
-							while (!assigned) {
-								for (int j = 0; j < poolSize; j++) {
-									if (workers[j].isReady()) {
-										workers[j].setProject(protobufRepo);
-										workers[j].ready = false;
-										assigned = true;
-										break;
-									}
-								}
-								Thread.sleep(10);
-							}
+							projects.put(protobufRepo);
 							System.out.println(file.getPath() + ": " + i + ": " + repo.id + " " + repo.name);
 						}
 					} catch (Exception e) {
@@ -124,16 +143,20 @@ public class SeqRepoImporter {
 				}
 			}
 		}
-		for (int j = 0; j < poolSize; j++) {
-			while (!workers[j].isReady())
-				Thread.sleep(100);
-		}
-		done = true;
-		
+
+		// let the cloners drain the queue, then the importers
+		for (int i = 0; i < cloneThreads.length; i++)
+			projects.put(NO_PROJECT);
+		for (Thread thread : cloneThreads)
+			thread.join();
+		for (int i = 0; i < poolSize; i++)
+			clonedProjects.put(ClonedProject.NONE);
+
 		// wait for workers to close writers and finish
 		for (Thread thread : threads)
-			while (thread.isAlive())
-				Thread.sleep(1000);
+			thread.join();
+		if (parsePool != null)
+			parsePool.shutdown();
 	}
 
 	private static void getProcessedProjects() throws IOException {
@@ -162,27 +185,107 @@ public class SeqRepoImporter {
 		System.out.println("Got processed projects: " + processedProjectIds.size());
 	}
 
+	/**
+	 * A project whose repository was cloned (or skipped) and is ready to be
+	 * imported.
+	 */
+	private static class ClonedProject {
+		/** marks the end of the cloned projects queue */
+		private final static ClonedProject NONE = new ClonedProject(null, null);
+
+		private final Project project;
+		/** the clone of the project's repository, or <code>null</code> if there is none */
+		private final File gitDir;
+
+		private ClonedProject(final Project project, final File gitDir) {
+			this.project = project;
+			this.gitDir = gitDir;
+		}
+	}
+
+	/**
+	 * Clones the repositories of projects, one at a time.
+	 */
+	public static class CloneTask implements Runnable {
+		@Override
+		public void run() {
+			while (true) {
+				try {
+					final Project project = projects.take();
+					if (project == NO_PROJECT)
+						break;
+					clonedProjects.put(new ClonedProject(project, cloneRepository(project, 0)));
+				} catch (InterruptedException e) {
+					e.printStackTrace();
+					break;
+				} catch (Throwable e) {
+					e.printStackTrace();
+				}
+			}
+		}
+
+		private File cloneRepository(final Project project, final int i) {
+			final CodeRepository repo = project.getCodeRepositories(i);
+
+			final String name = project.getName();
+			File gitDir = new File(gitRootPath + "/" + name);
+			
+			if (isFiltered(project))
+				return null;
+
+			// If repository is already cloned delete then re-clone, this should
+			// only happen during recover
+			FileIO.DirectoryRemover filecheck = new FileIO.DirectoryRemover(gitRootPath + "/" + project.getName());
+			filecheck.run();
+
+			String[] args = { repo.getUrl(), gitDir.getAbsolutePath() };
+			try {
+				RepositoryCloner.clone(args);
+			} catch (Throwable t) {
+				System.err.println("Error cloning " + repo.getUrl());
+				t.printStackTrace();
+				return null;
+			}
+
+			if (debug)
+				System.out.println(Thread.currentThread().getId() + " Has repository: " + name);
+			return gitDir;
+		}
+
+		private boolean isFiltered(Project project) {
+			if (project.getForked())
+				return true;
+//			if (project.getStars() < 2 && project.getSize() < 100)
+//				return true;
+			if (project.getProgrammingLanguagesList().contains("Java")
+					|| project.getProgrammingLanguagesList().contains("JavaScript")
+					|| project.getProgrammingLanguagesList().contains("PHP"))
+				return false;
+			String lang = project.getMainLanguage();
+			if (lang != null
+					&& (lang.equals("Java")
+						|| lang.equals("JavaScript")
+						|| lang.equals("PHP")))
+				return false;
+			return true;
+		}
+	}
+
+	/**
+	 * Imports cloned repositories into a set of sequence files.
+	 */
 	public static class ImportTask implements Runnable {
 		private int id;
 		private int counter = 0;
 		private String suffix;
 		private SequenceFile.Writer projectWriter, astWriter, commitWriter, contentWriter;
 		private long astWriterLen = 1, commitWriterLen = 1, contentWriterLen = 1;
-		private boolean ready = true;
-		Project project;
+		private ParsedContentCache parsedContents;
 
 		public ImportTask(int id) {
 			this.id = id;
 		}
 
-		public void setProject(Project protobufRepo) {
-			this.project = protobufRepo;
-		};
-
-		public boolean isReady() {
-			return this.ready;
-		}
-
 		public void openWriters() {
 			long time = System.currentTimeMillis();
 			suffix = id + "-" + time + ".seq";
@@ -199,6 +302,8 @@ public class SeqRepoImporter {
 					astWriterLen = 1;
 					commitWriterLen = 1;
 					contentWriterLen = 1;
+					// AST keys are only valid within one AST file
+					parsedContents = new ParsedContentCache(Integer.parseInt(DefaultProperties.MAX_PARSED_CONTENTS));
 					break;
 				} catch (Throwable t) {
 					t.printStackTrace();
@@ -236,24 +341,24 @@ public class SeqRepoImporter {
 		public void run() {
 			openWriters();
 			while (true) {
-				while (this.ready) {
-					if (done)
-						break;
-					try {
-						Thread.sleep(10);
-					} catch (InterruptedException e) {
-						e.printStackTrace();
-					}
+				final ClonedProject cloned;
+				try {
+					cloned = clonedProjects.take();
+				} catch (InterruptedException e) {
+					e.printStackTrace();
+					break;
 				}
-				if (done)
+				if (cloned == ClonedProject.NONE)
 					break;
 				try {
+					Project project = cloned.project;
 					final String name = project.getName();
 
 					if (debug)
 						System.out.println(
 								Thread.currentThread().getId() + " Processing " + project.getId() + " " + name);
-					project = storeRepository(project, 0);
+					if (cloned.gitDir != null)
+						project = storeRepository(project, 0, cloned.gitDir);
 					if (debug)
 						System.out.println(
 								Thread.currentThread().getId() + " Putting in sequence file: " + project.getId());
@@ -292,41 +397,20 @@ public class SeqRepoImporter {
 				} catch (Throwable e) {
 					e.printStackTrace();
 				}
-				this.ready = true;
 			}
 			closeWriters();
 		}
 
-		private Project storeRepository(final Project project, final int i) {
+		private Project storeRepository(final Project project, final int i, final File gitDir) {
 			final CodeRepository repo = project.getCodeRepositories(i);
 			final Project.Builder projBuilder = Project.newBuilder(project);
 
-			final String name = project.getName();
-			File gitDir = new File(gitRootPath + "/" + name);
-			
-			if (isFiltered(project))
-				return project;
-
-			// If repository is already cloned delete then re-clone, this should
-			// only happen during recover
-			FileIO.DirectoryRemover filecheck = new FileIO.DirectoryRemover(gitRootPath + "/" + project.getName());
-			filecheck.run();
-
-			String[] args = { repo.getUrl(), gitDir.getAbsolutePath() };
-			try {
-				RepositoryCloner.clone(args);
-			} catch (Throwable t) {
-				System.err.println("Error cloning " + repo.getUrl());
-				t.printStackTrace();
-				return project;
-			}
-
-			if (debug)
-				System.out.println(Thread.currentThread().getId() + " Has repository: " + name);
 			AbstractConnector conn = null;
 			try {
 				conn = new GitConnector(gitDir.getAbsolutePath(), project.getName(), astWriter, astWriterLen, commitWriter, commitWriterLen,
 						contentWriter, contentWriterLen);
+				conn.setParsePool(parsePool, parsePoolSize);
+				conn.setParsedContents(parsedContents);
 				final CodeRepository.Builder repoBuilder = CodeRepository.newBuilder(repo);
 				List<Object> revisions = conn.getRevisions(project.getName());
 				if (!revisions.isEmpty()) {
@@ -371,24 +455,6 @@ public class SeqRepoImporter {
 
 			return project;
 		}
-
-		private boolean isFiltered(Project project) {
-			if (project.getForked())
-				return true;
-//			if (project.getStars() < 2 && project.getSize() < 100)
-//				return true;
-			if (project.getProgrammingLanguagesList().contains("Java")
-					|| project.getProgrammingLanguagesList().contains("JavaScript")
-					|| project.getProgrammingLanguagesList().contains("PHP"))
-				return false;
-			String lang = project.getMainLanguage();
-			if (lang != null
-					&& (lang.equals("Java")
-						|| lang.equals("JavaScript")
-						|| lang.equals("PHP")))
-				return false;
-			return true;
-		}
 	}
 
 	public static void printError(final Throwable e, final String message, String name) {
@@ -20,6 +20,9 @@ package boa.datagen.scm;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.apache.hadoop.io.BytesWritable;
 import org.apache.hadoop.io.LongWritable;
@@ -143,7 +146,15 @@ public abstract class AbstractCommit {
 
 	protected List<Integer> childrenIndices = new LinkedList<Integer>();
 
-	protected static final ByteArrayOutputStream buffer = new ByteArrayOutputStream(4096);
+	protected static final ThreadLocal<ByteArrayOutputStream> buffers = new ThreadLocal<ByteArrayOutputStream>() {
+		@Override
+		protected ByteArrayOutputStream initialValue() {
+			return new ByteArrayOutputStream(4096);
+		}
+	};
+
+	/** the serialized ASTs of parsed files that still have to be written, by path */
+	private final Map<String, byte[]> parsedAsts = new ConcurrentHashMap<String, byte[]>();
 
 	protected abstract String getFileContents(final String path);
 
@@ -181,21 +192,156 @@ public abstract class AbstractCommit {
 			for (int parentIndex : this.parentIndices)
 				revision.addParents(parentIndex);
 
-		for (ChangedFile.Builder cfb : changedFiles) {
+		// parse files in the connector's pool (if any), but write them in order
+		final LinkedList<PendingFile> pending = new LinkedList<PendingFile>();
+		for (final ChangedFile.Builder cfb : changedFiles) {
 			cfb.setKind(FileKind.OTHER);
 			if (cfb.getChange() == ChangeKind.DELETED || cfb.getChange() == ChangeKind.UNKNOWN) {
 				cfb.setKey(0);
 //				cfb.setKind(connector.revisions.get(cfb.getPreviousVersions(0)).changedFiles.get(cfb.getPreviousIndices(0)).getKind());
-			} else
-				processChangeFile(cfb);
-			revision.addFiles(cfb.build());
+				pending.add(new PendingFile(cfb, false, null));
+			} else if (reuseParsedContent(cfb)) {
+				pending.add(new PendingFile(cfb, false, null));
+			} else if (connector.parsePool == null) {
+				parseChangeFile(cfb);
+				pending.add(new PendingFile(cfb, true, null));
+			} else {
+				pending.add(new PendingFile(cfb, true, connector.parsePool.submit(new Runnable() {
+					@Override
+					public void run() {
+						parseChangeFile(cfb);
+					}
+				})));
+			}
+
+			// only keep a few parsed files in memory ahead of the writer
+			if (pending.size() >= connector.parseWindow)
+				revision.addFiles(pending.removeFirst().store().build());
 		}
+		while (!pending.isEmpty())
+			revision.addFiles(pending.removeFirst().store().build());
 
 		return revision.build();
 	}
 
+	/**
+	 * A file of a commit waiting to be written.
+	 */
+	private class PendingFile {
+		private final ChangedFile.Builder file;
+		private final boolean parsed;
+		/** the parsing of the file, or <code>null</code> if it is done */
+		private final Future<?> parsing;
+
+		private PendingFile(final ChangedFile.Builder file, final boolean parsed, final Future<?> parsing) {
+			this.file = file;
+			this.parsed = parsed;
+			this.parsing = parsing;
+		}
+
+		private Builder store() {
+			boolean interrupted = false;
+			while (parsing != null) {
+				try {
+					parsing.get();
+					break;
+				} catch (final InterruptedException e) {
+					interrupted = true;
+				} catch (final ExecutionException e) {
+					throw new RuntimeException(e.getCause());
+				}
+			}
+			if (interrupted)
+				Thread.currentThread().interrupt();
+			return parsed ? storeChangeFile(file) : file;
+		}
+	}
+
 	Builder processChangeFile(final ChangedFile.Builder fb) {
-		long len = connector.astWriterLen;
+		if (reuseParsedContent(fb))
+			return fb;
+		return storeChangeFile(parseChangeFile(fb));
+	}
+
+	/**
+	 * @return an id of the contents of a file, such as a blob hash, or
+	 *         <code>null</code> if there is none
+	 */
+	protected String getContentId(final String path) {
+		return null;
+	}
+
+	private String getContentKey(final String path) {
+		final String id = getContentId(path);
+		if (id == null)
+			return null;
+		// files are parsed by their extension, so the same contents can parse differently
+		final int dot = path.lastIndexOf('.');
+		return dot < path.lastIndexOf('/') + 1 ? id : id + path.substring(dot).toLowerCase();
+	}
+
+	/**
+	 * Reuses the kind and AST of earlier files with the same contents.
+	 *
+	 * @return <code>true</code> if the contents were already parsed
+	 */
+	private boolean reuseParsedContent(final ChangedFile.Builder fb) {
+		final String id = getContentKey(fb.getName());
+		if (id == null)
+			return false;
+
+		final ParsedContentCache.Entry parsed = connector.parsedContents.get(id);
+		if (parsed == null)
+			return false;
+
+		fb.setKind(parsed.kind);
+		if (parsed.key > 0) {
+			fb.setKey(parsed.key);
+			fb.setAst(true);
+		}
+		return true;
+	}
+
+	/**
+	 * Writes the AST of a parsed file, if there is one, and sets its key.
+	 * Files must be stored in order, from a single thread.
+	 */
+	Builder storeChangeFile(final ChangedFile.Builder fb) {
+		final byte[] ast = parsedAsts.remove(fb.getName());
+
+		// an earlier file of this commit may have had the same contents
+		if (reuseParsedContent(fb))
+			return fb;
+
+		final long len = connector.astWriterLen;
+		if (ast != null) {
+			try {
+				BytesWritable bw = new BytesWritable(ast);
+				connector.astWriter.append(new LongWritable(connector.astWriterLen), bw);
+				connector.astWriterLen += bw.getLength();
+			} catch (IOException e) {
+				if (debug)
+					e.printStackTrace();
+			}
+		}
+
+		if (connector.astWriterLen > len) {
+			fb.setKey(len);
+			fb.setAst(true);
+		}
+
+		final String id = getContentKey(fb.getName());
+		if (id != null)
+			connector.parsedContents.put(id, fb.getKind(), fb.getAst() ? fb.getKey() : 0);
+
+		return fb;
+	}
+
+	/**
+	 * Parses a file, keeping its serialized AST until {@link #storeChangeFile(Builder)}.
+	 * Different files of a commit may be parsed concurrently.
+	 */
+	Builder parseChangeFile(final ChangedFile.Builder fb) {
 		String path = fb.getName();
 
 		final String lowerPath = path.toLowerCase();
@@ -350,11 +496,6 @@ public abstract class AbstractCommit {
 				}
 			}
 		}*/
-		 
-		if (connector.astWriterLen > len) {
-			fb.setKey(len);
-			fb.setAst(true);
-		}
 
 		return fb;
 	}
@@ -384,14 +525,7 @@ public abstract class AbstractCommit {
 			System.exit(-1);
 			return false;
 		}
-		try {
-			// System.out.println("writing=" + count + "\t" + path);
-			BytesWritable bw = new BytesWritable(ast.build().toByteArray());
-			connector.astWriter.append(new LongWritable(connector.astWriterLen), bw);
-			connector.astWriterLen += bw.getLength();
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		parsedAsts.put(path, ast.build().toByteArray());
 		return true;
 	}
 
@@ -422,14 +556,7 @@ public abstract class AbstractCommit {
 			System.exit(-1);
 			return false;
 		}
-		try {
-			// System.out.println("writing=" + count + "\t" + path);
-			BytesWritable bw = new BytesWritable(ast.build().toByteArray());
-			connector.astWriter.append(new LongWritable(connector.astWriterLen), bw);
-			connector.astWriterLen += bw.getLength();
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		parsedAsts.put(path, ast.build().toByteArray());
 		return true;
 	}
 
@@ -460,14 +587,7 @@ public abstract class AbstractCommit {
 			System.exit(-1);
 			return false;
 		}
-		try {
-			// System.out.println("writing=" + count + "\t" + path);
-			BytesWritable bw = new BytesWritable(ast.build().toByteArray());
-			connector.astWriter.append(new LongWritable(connector.astWriterLen), bw);
-			connector.astWriterLen += bw.getLength();
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		parsedAsts.put(path, ast.build().toByteArray());
 		return true;
 	}
 	
@@ -502,14 +622,7 @@ public abstract class AbstractCommit {
 				System.exit(-1);
 				return false;
 			}
-			try {
-				// System.out.println("writing=" + count + "\t" + path);
-				BytesWritable bw = new BytesWritable(ast.build().toByteArray());
-				connector.astWriter.append(new LongWritable(connector.astWriterLen), bw);
-				connector.astWriterLen += bw.getLength();
-			} catch (IOException e) {
-				e.printStackTrace();
-			}
+			parsedAsts.put(path, ast.build().toByteArray());
 		}
 		return !errorCheck.hasError;
 	}
@@ -557,14 +670,7 @@ public abstract class AbstractCommit {
 					return false;
 				}
 
-				try {
-					// System.out.println("writing=" + count + "\t" + path);
-					BytesWritable bw = new BytesWritable(ast.build().toByteArray());
-					connector.astWriter.append(new LongWritable(connector.astWriterLen), bw);
-					connector.astWriterLen += bw.getLength();
-				} catch (IOException e) {
-					e.printStackTrace();
-				}
+				parsedAsts.put(path, ast.build().toByteArray());
 				// fb.setComments(comments);
 			}
 
@@ -645,15 +751,7 @@ public abstract class AbstractCommit {
 						fb.setKind(FileKind.SOURCE_JAVA_ERROR);
 				}
 
-				try {
-					BytesWritable bw = new BytesWritable(ast.build().toByteArray());
-					connector.astWriter.append(new LongWritable(connector.astWriterLen), bw);
-					connector.astWriterLen += bw.getLength();
-				} catch (IOException e) {
-					if (debug) 
-						e.printStackTrace();
-					
-				}
+				parsedAsts.put(path, ast.build().toByteArray());
 				// fb.setComments(comments);
 			}
 
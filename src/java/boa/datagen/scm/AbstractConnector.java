@@ -18,6 +18,8 @@
 package boa.datagen.scm;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -25,6 +27,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
 import org.apache.hadoop.io.SequenceFile;
 import boa.types.Diff.ChangedFile;
 import boa.types.Shared.ChangeKind;
@@ -48,6 +52,39 @@ public abstract class AbstractConnector implements AutoCloseable {
 	protected SequenceFile.Writer astWriter, commitWriter, contentWriter;
 	protected long astWriterLen = 1, commitWriterLen = 1, contentWriterLen = 1;
 
+	/** the pool parsing the files of a commit, or <code>null</code> to parse them in this thread */
+	protected ExecutorService parsePool = null;
+	/** the number of files parsed ahead of the AST writer */
+	protected int parseWindow = 1;
+	/** the file contents already parsed into the AST writer */
+	protected ParsedContentCache parsedContents = new ParsedContentCache(Integer.parseInt(boa.datagen.DefaultProperties.MAX_PARSED_CONTENTS));
+
+	/** the parents of each commit seen so far, by commit offset */
+	private List<int[]> commitParents = new ArrayList<int[]>();
+	/** for each file name, the commits (in increasing offset order) changing it */
+	private Map<String, FileHistory> fileHistories = new HashMap<String, FileHistory>();
+
+	private static class FileHistory {
+		private int[] offsets = new int[2];
+		private int[] indices = new int[2];
+		private int size = 0;
+
+		private void add(final int offset, final int index) {
+			if (size == offsets.length) {
+				offsets = Arrays.copyOf(offsets, 2 * size);
+				indices = Arrays.copyOf(indices, 2 * size);
+			}
+			offsets[size] = offset;
+			indices[size] = index;
+			size++;
+		}
+
+		private int indexOf(final int offset) {
+			final int i = Arrays.binarySearch(offsets, 0, size, offset);
+			return i < 0 ? -1 : indices[i];
+		}
+	}
+
 	public long getAstWriterLen() {
 		return astWriterLen;
 	}
@@ -60,6 +97,29 @@ public abstract class AbstractConnector implements AutoCloseable {
 		return contentWriterLen;
 	}
 
+	/**
+	 * Parse the files of each commit in a pool of threads.  The ASTs are
+	 * still written in order, so the output does not depend on the pool.
+	 *
+	 * @param pool the pool to parse files in, or <code>null</code> to parse
+	 *             them in the calling thread
+	 * @param threads the number of threads in the pool
+	 */
+	public void setParsePool(final ExecutorService pool, final int threads) {
+		this.parsePool = pool;
+		this.parseWindow = pool == null ? 1 : 4 * Math.max(1, threads);
+	}
+
+	/**
+	 * Share the file contents parsed by other connectors writing to the same
+	 * AST writer, so their ASTs are not written again.
+	 *
+	 * @param parsedContents the contents parsed into the AST writer so far
+	 */
+	public void setParsedContents(final ParsedContentCache parsedContents) {
+		this.parsedContents = parsedContents;
+	}
+
 	public int getHeadCommitOffset() {
 		return this.headCommitOffset;
 	}
@@ -158,6 +218,103 @@ public abstract class AbstractConnector implements AutoCloseable {
 		}
 	}
 	
+	/**
+	 * Resolves where the previous versions of a commit's changed files live.
+	 * Commits must be passed in offset order, so all ancestors are known.
+	 *
+	 * For each change whose previous version is found in exactly one ancestor
+	 * commit, the previous commit is set to that commit's offset and the
+	 * previous index to the file's position in it, so the runtime can look
+	 * the file up directly instead of walking the history.  Other changes get
+	 * a previous commit and index of -1.  The previous versions keep the
+	 * parent offsets.
+	 *
+	 * @param commit the commit to resolve
+	 * @param offset the offset of the commit
+	 */
+	protected void setPreviousIndices(final AbstractCommit commit, final int offset) {
+		for (final ChangedFile.Builder cf : commit.changedFiles) {
+			if (cf.getPreviousIndicesCount() > 0)
+				continue;
+			boolean resolved = false;
+			final int[] commits = new int[cf.getChangesCount()];
+			final int[] indices = new int[commits.length];
+			for (int i = 0; i < indices.length; i++) {
+				commits[i] = -1;
+				indices[i] = -1;
+				if (cf.getChanges(i) == ChangeKind.ADDED || cf.getChanges(i) == ChangeKind.COPIED)
+					continue;
+				String name = cf.getPreviousNames(i);
+				if (name.isEmpty())
+					name = cf.getName();
+				final int[] found = findPreviousVersion(name, cf.getPreviousVersions(i));
+				if (found != null) {
+					commits[i] = found[0];
+					indices[i] = found[1];
+					resolved = true;
+				}
+			}
+			if (resolved)
+				for (int i = 0; i < indices.length; i++) {
+					cf.addPreviousCommits(commits[i]);
+					cf.addPreviousIndices(indices[i]);
+				}
+		}
+
+		while (commitParents.size() <= offset)
+			commitParents.add(null);
+		commitParents.set(offset, commit.parentIndices == null ? new int[0] : commit.parentIndices);
+		for (int i = 0; i < commit.changedFiles.size(); i++) {
+			final String name = commit.changedFiles.get(i).getName();
+			FileHistory history = fileHistories.get(name);
+			if (history == null) {
+				history = new FileHistory();
+				fileHistories.put(name, history);
+			}
+			history.add(offset, i);
+		}
+	}
+
+	/**
+	 * Walks the ancestors of a commit, newest first, the same way
+	 * {@link boa.functions.BoaIntrinsics#getPreviousVersion} does.
+	 *
+	 * @return the offset of the only commit where the walk finds the file and
+	 *         the file's position in it, or <code>null</code> if the walk finds
+	 *         none or several
+	 */
+	private int[] findPreviousVersion(final String name, final int start) {
+		final FileHistory history = fileHistories.get(name);
+		if (history == null || start >= commitParents.size())
+			return null;
+
+		int[] found = null;
+		PriorityQueue<Integer> pq = new PriorityQueue<Integer>(16, Collections.reverseOrder());
+		Set<Integer> queuedCommitIds = new HashSet<Integer>();
+		pq.offer(start);
+		queuedCommitIds.add(start);
+		while (!pq.isEmpty()) {
+			int offset = pq.poll();
+			// no older commit changes the file
+			if (offset < history.offsets[0])
+				break;
+			int index = history.indexOf(offset);
+			if (index >= 0) {
+				if (found != null)
+					return null;
+				found = new int[] { offset, index };
+			} else {
+				for (int p : commitParents.get(offset)) {
+					if (!queuedCommitIds.contains(p)) {
+						pq.offer(p);
+						queuedCommitIds.add(p);
+					}
+				}
+			}
+		}
+		return found;
+	}
+
 	public abstract void setRevisions();
 
 	public List<AbstractCommit> getRevisions() {
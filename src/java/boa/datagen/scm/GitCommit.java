@@ -18,6 +18,7 @@
 package boa.datagen.scm;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -75,6 +76,7 @@ public class GitCommit extends AbstractCommit {
 	/** {@inheritDoc} */
 	protected String getFileContents(final String path) {
 		ObjectId fileid = filePathGitObjectIds.get(path);
+		final ByteArrayOutputStream buffer = buffers.get();
 		try {
 			buffer.reset();
 			buffer.write(repository.open(fileid, Constants.OBJ_BLOB).getCachedBytes());
@@ -85,12 +87,22 @@ public class GitCommit extends AbstractCommit {
 		return buffer.toString();
 	}
 
+	/** {@inheritDoc} */
+	@Override
+	protected String getContentId(final String path) {
+		final ObjectId fileid = filePathGitObjectIds.get(path);
+		if (fileid == null || fileid.equals(ObjectId.zeroId()))
+			return null;
+		return fileid.name();
+	}
+
 	@Override
 	public String writeFile(final String classpathRoot, final String path) {
 		String name = FileIO.getFileName(path);
 		File file = new File(classpathRoot, name);
 		if (!file.exists()) {
 			ObjectId fileid = filePathGitObjectIds.get(path);
+			final ByteArrayOutputStream buffer = buffers.get();
 			OutputStream fos = null;
 			try {
 				buffer.reset();
@@ -121,6 +133,7 @@ public class GitCommit extends AbstractCommit {
 		Set<String> paths = new HashSet<String>();
 		String content = null;
 		ObjectId fileid = filePathGitObjectIds.get(path);
+		final ByteArrayOutputStream buffer = buffers.get();
 		try {
 			buffer.reset();
 			buffer.write(repository.open(fileid, Constants.OBJ_BLOB).getCachedBytes());
@@ -145,6 +158,7 @@ public class GitCommit extends AbstractCommit {
 		Set<String> paths = new HashSet<String>();
 		String content = null;
 		ObjectId fileid = filePathGitObjectIds.get(path);
+		final ByteArrayOutputStream buffer = buffers.get();
 		try {
 			buffer.reset();
 			buffer.write(repository.open(fileid, Constants.OBJ_BLOB).getCachedBytes());
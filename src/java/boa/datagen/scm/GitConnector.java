@@ -168,6 +168,7 @@ public class GitConnector extends AbstractConnector {
 				
 				if (commitList.size() > MAX_COMMITS) {
 					revisionMap.put(gc.id, revisionKeys.size());
+					setPreviousIndices(gc, revisionKeys.size());
 					
 					Revision revision = gc.asProtobuf(projectName);
 					revisionKeys.add(commitWriterLen);
@@ -176,6 +177,7 @@ public class GitConnector extends AbstractConnector {
 					commitWriterLen += bw.getLength();
 				} else {
 					revisionMap.put(gc.id, revisions.size());
+					setPreviousIndices(gc, revisions.size());
 					
 					revisions.add(gc);
 				}
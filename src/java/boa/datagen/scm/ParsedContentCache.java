@@ -0,0 +1,76 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boa.datagen.scm;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import boa.types.Diff.ChangedFile.FileKind;
+
+/**
+ * Remembers how file contents were parsed, so a file whose contents were
+ * already parsed (a revert, a copy, a vendored library or a fork) reuses the
+ * stored AST instead of parsing and writing it again.
+ *
+ * The AST keys are offsets into one AST writer, so a cache must only be
+ * shared by connectors writing to the same writer.  Combining the sequence
+ * files later adds the same offset to every key of a file, which keeps the
+ * shared keys shared.
+ */
+public class ParsedContentCache {
+	/**
+	 * How some file contents were parsed.
+	 */
+	static class Entry {
+		final FileKind kind;
+		/** the key of the stored AST, or 0 if there is none */
+		final long key;
+
+		private Entry(final FileKind kind, final long key) {
+			this.kind = kind;
+			this.key = key;
+		}
+	}
+
+	private final LinkedHashMap<String, Entry> cache;
+
+	/**
+	 * Construct a {@link ParsedContentCache}.
+	 *
+	 * @param capacity the number of file contents to remember
+	 */
+	public ParsedContentCache(final int capacity) {
+		this.cache = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+				return size() > capacity;
+			}
+		};
+	}
+
+	Entry get(final String id) {
+		return cache.get(id);
+	}
+
+	void put(final String id, final FileKind kind, final long key) {
+		cache.put(id, new Entry(kind, key));
+	}
+
+	public void clear() {
+		cache.clear();
+	}
+}
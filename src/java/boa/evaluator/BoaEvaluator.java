@@ -45,6 +45,7 @@ public class BoaEvaluator extends BoaMain {
 	private final String PROG_PATH;
 	private final String DATA_PATH;
 	private final String COMPILATION_DIR;
+	private final String CACHE_DIR;
 	private final String OUTPUT_DIR;
 
 	public BoaEvaluator(final String prog, final String data) throws IOException {
@@ -55,6 +56,7 @@ public class BoaEvaluator extends BoaMain {
 		this.PROG_PATH = prog;
 		this.DATA_PATH = data;
 		this.COMPILATION_DIR = "./compile"; // can not customize to be user defined because of classpath issues
+		this.CACHE_DIR = "./compile-cache"; // compiled jars, kept between runs
 		this.OUTPUT_DIR = outDir;
 
 		setup();
@@ -156,7 +158,7 @@ public class BoaEvaluator extends BoaMain {
 	}
 
 	private String[] createCompilerArguments() {
-		final String[] compilationArgs = new String[6];
+		final String[] compilationArgs = new String[8];
 
 		compilationArgs[0] = "-i";
 		compilationArgs[1] = this.PROG_PATH;
@@ -164,6 +166,8 @@ public class BoaEvaluator extends BoaMain {
 		compilationArgs[3] = "./dist/boa-runtime.jar";
 		compilationArgs[4] = "-cd";
 		compilationArgs[5] = this.COMPILATION_DIR;
+		compilationArgs[6] = "-cache";
+		compilationArgs[7] = this.CACHE_DIR;
 
 		return compilationArgs;
 	}
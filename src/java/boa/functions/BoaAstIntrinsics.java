@@ -17,7 +17,9 @@
  */
 package boa.functions;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +32,7 @@ import org.apache.hadoop.io.BytesWritable;
 import org.apache.hadoop.io.LongWritable;
 import org.apache.hadoop.io.MapFile;
 import org.apache.hadoop.io.Text;
+import org.apache.hadoop.mapreduce.Counter;
 import org.apache.hadoop.mapreduce.Mapper.Context;
 
 import org.eclipse.jdt.core.dom.AST;
@@ -42,6 +45,7 @@ import com.google.protobuf.InvalidProtocolBufferException;
 import boa.datagen.DefaultProperties;
 import boa.datagen.util.JavaErrorCheckVisitor;
 import boa.datagen.util.JavaVisitor;
+import boa.io.MappedStore;
 import boa.types.Ast.*;
 import boa.types.Code.CodeRepository;
 import boa.types.Code.Revision;
@@ -58,9 +62,22 @@ import boa.types.Toplevel.Project;
  * @author rdyer
  */
 public class BoaAstIntrinsics {
-	@SuppressWarnings("rawtypes")
-	static Context context;
-	private static MapFile.Reader map, commentsMap, issuesMap;
+	/**
+	 * The readers and task context used by one mapper thread.
+	 */
+	private static class State {
+		@SuppressWarnings("rawtypes")
+		private Context context;
+		private MapFile.Reader map, commentsMap, issuesMap, commitMap;
+		private MappedStore astStore, commitStore;
+	}
+
+	private static final ThreadLocal<State> state = new ThreadLocal<State>() {
+		@Override
+		protected State initialValue() {
+			return new State();
+		}
+	};
 
 	private static final Revision emptyRevision;
 	static {
@@ -73,8 +90,33 @@ public class BoaAstIntrinsics {
 		rb.setLog("");
 		emptyRevision = rb.build();
 	}
-	
-	private static MapFile.Reader commitMap;
+
+	/**
+	 * The {@link Configuration} property naming a directory on each node's
+	 * local disk holding copies of the <code>ast.store</code> and
+	 * <code>commit.store</code> files.  When a store is found it is
+	 * memory-mapped and used instead of the corresponding {@link MapFile}.
+	 */
+	public static final String STORE_DIR_PROPERTY = "boa.store.dir";
+
+	/**
+	 * The {@link Configuration} properties holding the capacity, in serialized
+	 * bytes, of the caches of decoded ASTs, comments and revisions.  A
+	 * capacity of 0 disables that cache.
+	 */
+	public static final String AST_CACHE_PROPERTY = "boa.ast.cache.size";
+	public static final String COMMENTS_CACHE_PROPERTY = "boa.comments.cache.size";
+	public static final String COMMIT_CACHE_PROPERTY = "boa.commit.cache.size";
+
+	private static final long DEFAULT_AST_CACHE = 64 * 1024 * 1024;
+	private static final long DEFAULT_COMMENTS_CACHE = 16 * 1024 * 1024;
+	private static final long DEFAULT_COMMIT_CACHE = 16 * 1024 * 1024;
+
+	// the caches are shared by all mapper threads in the task
+	private static volatile BoaMessageCache<Long, ASTRoot> astCache = new BoaMessageCache<Long, ASTRoot>(0);
+	private static volatile BoaMessageCache<String, CommentsRoot> commentsCache = new BoaMessageCache<String, CommentsRoot>(0);
+	private static volatile BoaMessageCache<Long, Revision> commitCache = new BoaMessageCache<Long, Revision>(0);
+	private static int users = 0;
 
 	public static enum COMMITCOUNTER {
 		GETS_ATTEMPTED,
@@ -83,6 +125,8 @@ public class BoaAstIntrinsics {
 		GETS_FAIL_MISSING,
 		GETS_FAIL_BADPROTOBUF,
 		GETS_FAIL_BADLOC,
+		CACHE_HITS,
+		CACHE_MISSES,
 	};
 
 	public static enum ASTCOUNTER {
@@ -92,6 +136,8 @@ public class BoaAstIntrinsics {
 		GETS_FAIL_MISSING,
 		GETS_FAIL_BADPROTOBUF,
 		GETS_FAIL_BADLOC,
+		CACHE_HITS,
+		CACHE_MISSES,
 	};
 
 	@FunctionSpec(name = "url", returnType = "string", formalParameters = { "ChangedFile" })
@@ -109,83 +155,101 @@ public class BoaAstIntrinsics {
 	 * @param f the ChangedFile to get a snapshot of the AST for
 	 * @return the AST, or an empty AST on any sort of error
 	 */
-	@SuppressWarnings("unchecked")
 	@FunctionSpec(name = "getast", returnType = "ASTRoot", formalParameters = { "ChangedFile" })
 	public static ASTRoot getast(final ChangedFile f) {
 		if (!f.getAst())
 			return emptyAst;
 
-		context.getCounter(ASTCOUNTER.GETS_ATTEMPTED).increment(1);
+		final State s = state.get();
+		increment(ASTCOUNTER.GETS_ATTEMPTED);
 
-		if (map == null)
-			openMap();
+		final ASTRoot cached = astCache.get(f.getKey());
+		if (cached != null) {
+			increment(ASTCOUNTER.CACHE_HITS);
+			increment(ASTCOUNTER.GETS_SUCCEED);
+			return cached;
+		}
+		if (astCache.isEnabled())
+			increment(ASTCOUNTER.CACHE_MISSES);
+
+		if (s.map == null && s.astStore == null)
+			openMap(s);
 
 		try {
-			final BytesWritable value = new BytesWritable();
-			if (map.get(new LongWritable(f.getKey()), value) == null) {
-				context.getCounter(ASTCOUNTER.GETS_FAIL_MISSING).increment(1);
+			final CodedInputStream _stream = lookup(s.astStore, s.map, f.getKey());
+			if (_stream == null) {
+				increment(ASTCOUNTER.GETS_FAIL_MISSING);
 			} else {
-				final CodedInputStream _stream = CodedInputStream.newInstance(value.getBytes(), 0, value.getLength());
 				// defaults to 64, really big ASTs require more
 				_stream.setRecursionLimit(Integer.MAX_VALUE);
 				final ASTRoot root = ASTRoot.parseFrom(_stream);
-				context.getCounter(ASTCOUNTER.GETS_SUCCEED).increment(1);
+				astCache.put(f.getKey(), root);
+				increment(ASTCOUNTER.GETS_SUCCEED);
 				return root;
 			}
 		} catch (final InvalidProtocolBufferException e) {
 			e.printStackTrace();
-			context.getCounter(ASTCOUNTER.GETS_FAIL_BADPROTOBUF).increment(1);
+			increment(ASTCOUNTER.GETS_FAIL_BADPROTOBUF);
 		} catch (final IOException e) {
 			e.printStackTrace();
-			context.getCounter(ASTCOUNTER.GETS_FAIL_MISSING).increment(1);
+			increment(ASTCOUNTER.GETS_FAIL_MISSING);
 		} catch (final RuntimeException e) {
 			e.printStackTrace();
-			context.getCounter(ASTCOUNTER.GETS_FAIL_MISSING).increment(1);
+			increment(ASTCOUNTER.GETS_FAIL_MISSING);
 		} catch (final Error e) {
 			e.printStackTrace();
-			context.getCounter(ASTCOUNTER.GETS_FAIL_BADPROTOBUF).increment(1);
+			increment(ASTCOUNTER.GETS_FAIL_BADPROTOBUF);
 		}
 
 		System.err.println("error with ast: " + f.getKey() + " from " + f.getName());
-		context.getCounter(ASTCOUNTER.GETS_FAILED).increment(1);
+		increment(ASTCOUNTER.GETS_FAILED);
 		return emptyAst;
 	}
 
-	@SuppressWarnings("unchecked")
 	static Revision getRevision(long key) {
-		context.getCounter(COMMITCOUNTER.GETS_ATTEMPTED).increment(1);
+		final State s = state.get();
+		increment(COMMITCOUNTER.GETS_ATTEMPTED);
+
+		final Revision cached = commitCache.get(key);
+		if (cached != null) {
+			increment(COMMITCOUNTER.CACHE_HITS);
+			increment(COMMITCOUNTER.GETS_SUCCEED);
+			return cached;
+		}
+		if (commitCache.isEnabled())
+			increment(COMMITCOUNTER.CACHE_MISSES);
 		
-		if (commitMap == null)
-			openCommitMap();
+		if (s.commitMap == null && s.commitStore == null)
+			openCommitMap(s);
 		
 		try {
-			final BytesWritable value = new BytesWritable();
-			if (commitMap.get(new LongWritable(key), value) == null) {
-				context.getCounter(COMMITCOUNTER.GETS_FAIL_MISSING).increment(1);
+			final CodedInputStream _stream = lookup(s.commitStore, s.commitMap, key);
+			if (_stream == null) {
+				increment(COMMITCOUNTER.GETS_FAIL_MISSING);
 			} else {
-				final CodedInputStream _stream = CodedInputStream.newInstance(value.getBytes(), 0, value.getLength());
 				// defaults to 64, really big ASTs require more
 				_stream.setRecursionLimit(Integer.MAX_VALUE);
 				final Revision root = Revision.parseFrom(_stream);
-				context.getCounter(COMMITCOUNTER.GETS_SUCCEED).increment(1);
+				commitCache.put(key, root);
+				increment(COMMITCOUNTER.GETS_SUCCEED);
 				return root;
 			}
 		} catch (final InvalidProtocolBufferException e) {
 			e.printStackTrace();
-			context.getCounter(COMMITCOUNTER.GETS_FAIL_BADPROTOBUF).increment(1);
+			increment(COMMITCOUNTER.GETS_FAIL_BADPROTOBUF);
 		} catch (final IOException e) {
 			e.printStackTrace();
-			context.getCounter(COMMITCOUNTER.GETS_FAIL_MISSING).increment(1);
+			increment(COMMITCOUNTER.GETS_FAIL_MISSING);
 		} catch (final RuntimeException e) {
 			e.printStackTrace();
-			context.getCounter(COMMITCOUNTER.GETS_FAIL_MISSING).increment(1);
+			increment(COMMITCOUNTER.GETS_FAIL_MISSING);
 		} catch (final Error e) {
 			e.printStackTrace();
-			context.getCounter(COMMITCOUNTER.GETS_FAIL_BADPROTOBUF).increment(1);
+			increment(COMMITCOUNTER.GETS_FAIL_BADPROTOBUF);
 		}
 
 		System.err.println("error with revision: " + key);
-		context.getCounter(COMMITCOUNTER.GETS_FAILED).increment(1);
+		increment(COMMITCOUNTER.GETS_FAILED);
 		return emptyRevision;
 	}
 
@@ -206,16 +270,23 @@ public class BoaAstIntrinsics {
 				&& kind != ChangedFile.FileKind.SOURCE_JAVA_JLS8)
 			return emptyComments;
 
+		// cached under the key of its row, which includes the file name
 		final String rowName = f.getKey() + "!!" + f.getName();
+		final CommentsRoot cached = commentsCache.get(rowName);
+		if (cached != null)
+			return cached;
+
+		final State s = state.get();
 
-		if (commentsMap == null)
-			openCommentMap();
+		if (s.commentsMap == null)
+			openCommentMap(s);
 
 		try {
 			final BytesWritable value = new BytesWritable();
-			if (commentsMap.get(new Text(rowName), value) != null) {
+			if (s.commentsMap.get(new Text(rowName), value) != null) {
 				final CodedInputStream _stream = CodedInputStream.newInstance(value.getBytes(), 0, value.getLength());
 				final CommentsRoot root = CommentsRoot.parseFrom(_stream);
+				commentsCache.put(rowName, root);
 				return root;
 			}
 		} catch (final InvalidProtocolBufferException e) {
@@ -240,12 +311,13 @@ public class BoaAstIntrinsics {
 	 */
 	@FunctionSpec(name = "getissues", returnType = "IssuesRoot", formalParameters = { "IssueRepository" })
 	public static IssuesRoot getissues(final IssueRepository f) {
-		if (issuesMap == null)
-			openIssuesMap();
+		final State s = state.get();
+		if (s.issuesMap == null)
+			openIssuesMap(s);
 
 		try {
 			final BytesWritable value = new BytesWritable();
-			if (issuesMap.get(new Text(f.getKey()), value) != null) {
+			if (s.issuesMap.get(new Text(f.getKey()), value) != null) {
 				final CodedInputStream _stream = CodedInputStream.newInstance(value.getBytes(), 0, value.getLength());
 				final IssuesRoot root = IssuesRoot.parseFrom(_stream);
 				return root;
@@ -266,12 +338,93 @@ public class BoaAstIntrinsics {
 
 	@SuppressWarnings("rawtypes")
 	public static void setup(final Context context) {
-		BoaAstIntrinsics.context = context;
+		state.get().context = context;
+
+		synchronized (BoaAstIntrinsics.class) {
+			if (users++ == 0) {
+				final Configuration conf = context.getConfiguration();
+				astCache = new BoaMessageCache<Long, ASTRoot>(conf.getLong(AST_CACHE_PROPERTY, DEFAULT_AST_CACHE));
+				commentsCache = new BoaMessageCache<String, CommentsRoot>(conf.getLong(COMMENTS_CACHE_PROPERTY, DEFAULT_COMMENTS_CACHE));
+				commitCache = new BoaMessageCache<Long, Revision>(conf.getLong(COMMIT_CACHE_PROPERTY, DEFAULT_COMMIT_CACHE));
+			}
+		}
+	}
+
+	/**
+	 * Increment a counter of the current thread's task.  Counters are shared
+	 * by all mapper threads, so updates are synchronized on the counter.
+	 */
+	@SuppressWarnings("unchecked")
+	private static void increment(final Enum<?> name) {
+		final Counter counter = state.get().context.getCounter(name);
+		synchronized (counter) {
+			counter.increment(1);
+		}
+	}
+
+	/**
+	 * Add to a counter of the current thread's task.  Does nothing if the
+	 * thread is not running a task.
+	 *
+	 * @param name the counter to add to
+	 * @param amount the amount to add
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public static void incrementCounter(final Enum<?> name, final long amount) {
+		final Context context = state.get().context;
+		if (context == null)
+			return;
+		final Counter counter = context.getCounter(name);
+		synchronized (counter) {
+			counter.increment(amount);
+		}
 	}
 
-	private static void openMap() {
+	/**
+	 * Look up a serialized message, preferring the memory-mapped store.
+	 *
+	 * @return a stream over the message, or <code>null</code> if it is missing
+	 */
+	private static CodedInputStream lookup(final MappedStore store, final MapFile.Reader reader, final long key) throws IOException {
+		if (store != null) {
+			final ByteBuffer value = store.get(key);
+			return value == null ? null : MappedStore.newCodedInput(value);
+		}
+
+		final BytesWritable value = new BytesWritable();
+		if (reader.get(new LongWritable(key), value) == null)
+			return null;
+		return CodedInputStream.newInstance(value.getBytes(), 0, value.getLength());
+	}
+
+	private static MappedStore openStore(final State s, final String name) {
+		final Configuration conf = s.context.getConfiguration();
+		final File f;
+		if (DefaultProperties.localDataPath != null)
+			f = new File(DefaultProperties.localDataPath, name + MappedStore.SUFFIX);
+		else if (conf.get(STORE_DIR_PROPERTY) != null)
+			f = new File(conf.get(STORE_DIR_PROPERTY), name + MappedStore.SUFFIX);
+		else
+			return null;
+
+		if (!f.isFile())
+			return null;
+
 		try {
-			final Configuration conf = context.getConfiguration();
+			return new MappedStore(f);
+		} catch (final IOException e) {
+			e.printStackTrace();
+			return null;
+		}
+	}
+
+	private static void openMap(final State s) {
+		s.astStore = openStore(s, "ast");
+		if (s.astStore != null)
+			return;
+
+		try {
+			final Configuration conf = s.context.getConfiguration();
 			final FileSystem fs;
 			final Path p;
 			if (DefaultProperties.localDataPath != null) {
@@ -279,7 +432,7 @@ public class BoaAstIntrinsics {
 				fs = FileSystem.getLocal(conf);
 			} else {
 				p = new Path(
-					context.getConfiguration().get("fs.default.name", "hdfs://boa-njt/"),
+					s.context.getConfiguration().get("fs.default.name", "hdfs://boa-njt/"),
 					new Path(
 						conf.get("boa.ast.dir", conf.get("boa.input.dir", "repcache/live")),
 						new Path("ast")
@@ -287,15 +440,15 @@ public class BoaAstIntrinsics {
 				);
 				fs = FileSystem.get(conf);
 			}
-			map = new MapFile.Reader(fs, p.toString(), conf);
+			s.map = new MapFile.Reader(fs, p.toString(), conf);
 		} catch (final Exception e) {
 			e.printStackTrace();
 		}
 	}
 
-	private static void openCommentMap() {
+	private static void openCommentMap(final State s) {
 		try {
-			final Configuration conf = context.getConfiguration();
+			final Configuration conf = s.context.getConfiguration();
 			final FileSystem fs;
 			final Path p;
 			if (DefaultProperties.localDataPath != null) {
@@ -303,7 +456,7 @@ public class BoaAstIntrinsics {
 				fs = FileSystem.getLocal(conf);
 			} else {
 				p = new Path(
-					context.getConfiguration().get("fs.default.name", "hdfs://boa-njt/"),
+					s.context.getConfiguration().get("fs.default.name", "hdfs://boa-njt/"),
 					new Path(
 						conf.get("boa.comments.dir", conf.get("boa.input.dir", "repcache/live")),
 						new Path("comments")
@@ -311,15 +464,15 @@ public class BoaAstIntrinsics {
 				);
 				fs = FileSystem.get(conf);
 			}
-			commentsMap = new MapFile.Reader(fs, p.toString(), conf);
+			s.commentsMap = new MapFile.Reader(fs, p.toString(), conf);
 		} catch (final Exception e) {
 			e.printStackTrace();
 		}
 	}
 
-	private static void openIssuesMap() {
+	private static void openIssuesMap(final State s) {
 		try {
-			final Configuration conf = context.getConfiguration();
+			final Configuration conf = s.context.getConfiguration();
 			final FileSystem fs;
 			final Path p;
 			if (DefaultProperties.localDataPath != null) {
@@ -327,7 +480,7 @@ public class BoaAstIntrinsics {
 				fs = FileSystem.getLocal(conf);
 			} else {
 				p = new Path(
-					context.getConfiguration().get("fs.default.name", "hdfs://boa-njt/"),
+					s.context.getConfiguration().get("fs.default.name", "hdfs://boa-njt/"),
 					new Path(
 						conf.get("boa.issues.dir", conf.get("boa.input.dir", "repcache/live")),
 						new Path("issues")
@@ -335,26 +488,30 @@ public class BoaAstIntrinsics {
 				);
 				fs = FileSystem.get(conf);
 			}
-			issuesMap = new MapFile.Reader(fs, p.toString(), conf);
+			s.issuesMap = new MapFile.Reader(fs, p.toString(), conf);
 		} catch (final Exception e) {
 			e.printStackTrace();
 		}
 	}
 
-	private static void openCommitMap() {
+	private static void openCommitMap(final State s) {
+		s.commitStore = openStore(s, "commit");
+		if (s.commitStore != null)
+			return;
+
 		try {
-			final Configuration conf = context.getConfiguration();
+			final Configuration conf = s.context.getConfiguration();
 			final FileSystem fs;
 			final Path p;
 			if (DefaultProperties.localDataPath != null) {
 				p = new Path(DefaultProperties.localDataPath, "commit");
 				fs = FileSystem.getLocal(conf);
 			} else {
-				p = new Path(context.getConfiguration().get("fs.default.name", "hdfs://boa-njt/"),
+				p = new Path(s.context.getConfiguration().get("fs.default.name", "hdfs://boa-njt/"),
 						new Path(conf.get("boa.ast.dir", conf.get("boa.input.dir", "repcache/live")), new Path("commit")));
 				fs = FileSystem.get(conf);
 			}
-			commitMap = new MapFile.Reader(fs, p.toString(), conf);
+			s.commitMap = new MapFile.Reader(fs, p.toString(), conf);
 		} catch (final Exception e) {
 			e.printStackTrace();
 		}
@@ -362,50 +519,76 @@ public class BoaAstIntrinsics {
 
 	@SuppressWarnings("rawtypes")
 	public static void cleanup(final Context context) {
-		closeMap();
-		closeCommentMap();
-		closeIssuesMap();
-		closeCommitMap();
+		synchronized (BoaAstIntrinsics.class) {
+			if (users > 0 && --users == 0) {
+				astCache.clear();
+				commentsCache.clear();
+				commitCache.clear();
+			}
+		}
+
+		final State s = state.get();
+		closeMap(s);
+		closeCommentMap(s);
+		closeIssuesMap(s);
+		closeCommitMap(s);
+		state.remove();
 	}
 
-	private static void closeMap() {
-		if (map != null)
+	private static void closeMap(final State s) {
+		if (s.map != null)
+			try {
+				s.map.close();
+			} catch (final IOException e) {
+				e.printStackTrace();
+			}
+		s.map = null;
+
+		if (s.astStore != null)
 			try {
-				map.close();
+				s.astStore.close();
 			} catch (final IOException e) {
 				e.printStackTrace();
 			}
-		map = null;
+		s.astStore = null;
 	}
 
-	private static void closeCommentMap() {
-		if (commentsMap != null)
+	private static void closeCommentMap(final State s) {
+		if (s.commentsMap != null)
 			try {
-				commentsMap.close();
+				s.commentsMap.close();
 			} catch (final IOException e) {
 				e.printStackTrace();
 			}
-		commentsMap = null;
+		s.commentsMap = null;
 	}
 
-	private static void closeIssuesMap() {
-		if (issuesMap != null)
+	private static void closeIssuesMap(final State s) {
+		if (s.issuesMap != null)
 			try {
-				issuesMap.close();
+				s.issuesMap.close();
 			} catch (final IOException e) {
 				e.printStackTrace();
 			}
-		issuesMap = null;
+		s.issuesMap = null;
 	}
 
-	private static void closeCommitMap() {
-		if (commitMap != null)
+	private static void closeCommitMap(final State s) {
+		if (s.commitMap != null)
+			try {
+				s.commitMap.close();
+			} catch (final IOException e) {
+				e.printStackTrace();
+			}
+		s.commitMap = null;
+
+		if (s.commitStore != null)
 			try {
-				commitMap.close();
+				s.commitStore.close();
 			} catch (final IOException e) {
 				e.printStackTrace();
 			}
-		commitMap = null;
+		s.commitStore = null;
 	}
 
 	@FunctionSpec(name = "type_name", returnType = "string", formalParameters = { "string" })
@@ -699,12 +882,17 @@ public class BoaAstIntrinsics {
 			return true;
 		}
 	}
-	private static AnnotationCollectingVisitor annotationCollectingVisitor = new AnnotationCollectingVisitor();
+	private static final ThreadLocal<AnnotationCollectingVisitor> annotationCollectingVisitor = new ThreadLocal<AnnotationCollectingVisitor>() {
+		@Override
+		protected AnnotationCollectingVisitor initialValue() {
+			return new AnnotationCollectingVisitor();
+		}
+	};
 
 	@FunctionSpec(name = "collect_annotations", returnType = "map[string] of int", formalParameters = { "ASTRoot", "map[string] of int" })
 	public static HashMap<String,Long> collect_annotations(final ASTRoot f, final HashMap<String,Long> map) throws Exception {
-		annotationCollectingVisitor.initialize(map).visit(f);
-		return annotationCollectingVisitor.map;
+		annotationCollectingVisitor.get().initialize(map).visit(f);
+		return annotationCollectingVisitor.get().map;
 	}
 
 	///////////////////////////
@@ -725,12 +913,17 @@ public class BoaAstIntrinsics {
 			return true;
 		}
 	}
-	private static GenericsCollectingVisitor genericsCollectingVisitor = new GenericsCollectingVisitor();
+	private static final ThreadLocal<GenericsCollectingVisitor> genericsCollectingVisitor = new ThreadLocal<GenericsCollectingVisitor>() {
+		@Override
+		protected GenericsCollectingVisitor initialValue() {
+			return new GenericsCollectingVisitor();
+		}
+	};
 
 	@FunctionSpec(name = "collect_generic_types", returnType = "map[string] of int", formalParameters = { "ASTRoot", "map[string] of int" })
 	public static HashMap<String,Long> collect_generic_types(final ASTRoot f, final HashMap<String,Long> map) throws Exception {
-		genericsCollectingVisitor.initialize(map).visit(f);
-		return genericsCollectingVisitor.map;
+		genericsCollectingVisitor.get().initialize(map).visit(f);
+		return genericsCollectingVisitor.get().map;
 	}
 
 	@SuppressWarnings("unused")
@@ -809,10 +1002,15 @@ public class BoaAstIntrinsics {
 		counts.put(rawType, rawCount + 1);
 	}
 
-	static int indent = 0;
+	private static final ThreadLocal<Integer> indent = new ThreadLocal<Integer>() {
+		@Override
+		protected Integer initialValue() {
+			return 0;
+		}
+	};
 	private static String indent() {
 		String s = "";
-		for (int i = 0; i < indent; i++)
+		for (int i = 0; i < indent.get(); i++)
 			s += "\t";
 		return s;
 	}
@@ -932,7 +1130,7 @@ public class BoaAstIntrinsics {
 
 		s += " {\n";
 
-		indent++;
+		indent.set(indent.get() + 1);
 
 		for (final Variable v : d.getFieldsList())
 			s += indent() + prettyprint(v) + ";\n";
@@ -941,7 +1139,7 @@ public class BoaAstIntrinsics {
 		for (final Declaration d2 : d.getNestedDeclarationsList())
 			s += prettyprint(d2);
 
-		indent--;
+		indent.set(indent.get() - 1);
 
 		s += indent() + "}\n";
 
@@ -1027,10 +1225,10 @@ public class BoaAstIntrinsics {
 
 			case BLOCK:
 				s += "{\n";
-				indent++;
+				indent.set(indent.get() + 1);
 				for (int i = 0; i < stmt.getStatementsCount(); i++)
 					s += indent() + prettyprint(stmt.getStatements(i)) + "\n";
-				indent--;
+				indent.set(indent.get() - 1);
 				s += indent() + "}";
 				return s;
 
@@ -1078,10 +1276,10 @@ public class BoaAstIntrinsics {
 
 			case SYNCHRONIZED:
 				s += "synchronized () {\n";
-				indent++;
+				indent.set(indent.get() + 1);
 				for (int i = 0; i < stmt.getStatementsCount(); i++)
 					s += indent() + prettyprint(stmt.getStatements(i)) + "\n";
-				indent--;
+				indent.set(indent.get() - 1);
 				s += "}";
 				return s;
 
@@ -1089,19 +1287,19 @@ public class BoaAstIntrinsics {
 				s += indent() + "catch (";
 				s += prettyprint(stmt.getVariableDeclaration());
 				s += ") {\n";
-				indent++;
+				indent.set(indent.get() + 1);
 				for (int i = 0; i < stmt.getStatementsCount(); i++)
 					s += indent() + prettyprint(stmt.getStatements(i)) + "\n";
-				indent--;
+				indent.set(indent.get() - 1);
 				s += indent() + "}";
 				return s;
 
 			case FINALLY:
 				s += indent() + "finally {\n";
-				indent++;
+				indent.set(indent.get() + 1);
 				for (int i = 0; i < stmt.getStatementsCount(); i++)
 					s += indent() + prettyprint(stmt.getStatements(i)) + "\n";
-				indent--;
+				indent.set(indent.get() - 1);
 				s += indent() + "}";
 				return s;
 
@@ -1140,48 +1338,48 @@ public class BoaAstIntrinsics {
 					}
 				}
 				s += ")\n";
-				indent++;
+				indent.set(indent.get() + 1);
 				s += indent() + prettyprint(stmt.getStatements(0)) + "\n";
-				indent--;
+				indent.set(indent.get() - 1);
 				return s;
 
 			case DO:
 				s += "do\n";
-				indent++;
+				indent.set(indent.get() + 1);
 				for (int i = 0; i < stmt.getStatementsCount(); i++)
 					s += indent() + prettyprint(stmt.getStatements(i)) + "\n";
-				indent--;
+				indent.set(indent.get() - 1);
 				s += indent() + "while (" + prettyprint(stmt.getConditions(0)) + ");";
 				return s;
 
 			case WHILE:
 				s += "while (" + prettyprint(stmt.getConditions(0)) + ") {\n";
-				indent++;
+				indent.set(indent.get() + 1);
 				for (int i = 0; i < stmt.getStatementsCount(); i++)
 					s += indent() + prettyprint(stmt.getStatements(i)) + "\n";
-				indent--;
+				indent.set(indent.get() - 1);
 				s += indent() + "}";
 				return s;
 
 			case IF:
 				s += "if (" + prettyprint(stmt.getConditions(0)) + ")\n";
-				indent++;
+				indent.set(indent.get() + 1);
 				s += indent() + prettyprint(stmt.getStatements(0)) + "\n";
-				indent--;
+				indent.set(indent.get() - 1);
 				if (stmt.getStatementsCount() > 1) {
 					s += indent() + "else\n";
-					indent++;
+					indent.set(indent.get() + 1);
 					s += indent() + prettyprint(stmt.getStatements(1)) + "\n";
-					indent--;
+					indent.set(indent.get() - 1);
 				}
 				return s;
 
 			case SWITCH:
 				s += "switch (" + prettyprint(stmt.getConditions(0)) + ") {";
-				indent++;
+				indent.set(indent.get() + 1);
 				for (int i = 0; i < stmt.getStatementsCount(); i++)
 					s += indent() + prettyprint(stmt.getStatements(i)) + "\n";
-				indent--;
+				indent.set(indent.get() - 1);
 				s += "}";
 				return s;
 
@@ -0,0 +1,179 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boa.functions;
+
+import boa.graphs.cdg.CDG;
+import boa.graphs.cfg.CFG;
+import boa.graphs.ddg.DDG;
+import boa.graphs.pdg.PDG;
+import boa.types.Ast.Method;
+
+/**
+ * A cache of the graphs built for the methods most recently asked about, so
+ * each graph of a method is built at most once and the CDG, DDG and PDG of a
+ * method share one CFG.  Methods are compared by identity.  Each mapper
+ * thread has its own cache, holding the graphs of a bounded number of
+ * methods; visitors drop the graphs of a method once they leave it.
+ *
+ * None of the graphs are changed once built, so they can be handed out more
+ * than once.  A PDG that is about to be normalized by a slicer must be dropped
+ * from the cache first.
+ */
+class BoaGraphCache {
+	// the number of methods whose graphs are kept
+	private static final int CAPACITY = 8;
+
+	private static final ThreadLocal<BoaGraphCache> cache = new ThreadLocal<BoaGraphCache>() {
+		@Override
+		protected BoaGraphCache initialValue() {
+			return new BoaGraphCache();
+		}
+	};
+
+	/**
+	 * @return the cache of the current thread
+	 */
+	static BoaGraphCache get() {
+		return cache.get();
+	}
+
+	private static final class Graphs {
+		private final Method method;
+		private CFG cfg;
+		private CFG paramCfg;
+		private CDG cdg;
+		private DDG ddg;
+		private PDG pdg;
+		private PDG paramPdg;
+
+		private Graphs(final Method method) {
+			this.method = method;
+		}
+	}
+
+	// most recently used first
+	private final Graphs[] entries = new Graphs[CAPACITY];
+	private int size = 0;
+
+	private BoaGraphCache() {
+	}
+
+	// finds the graphs of a method, making room for them if needed, and moves them to the front
+	private Graphs lookup(final Method method) {
+		int i = 0;
+		while (i < this.size && this.entries[i].method != method)
+			i++;
+
+		final Graphs g;
+		if (i < this.size) {
+			g = this.entries[i];
+		} else {
+			g = new Graphs(method);
+			if (this.size < CAPACITY)
+				this.size++;
+			i = this.size - 1;
+		}
+		System.arraycopy(this.entries, 0, this.entries, 1, i);
+		this.entries[0] = g;
+		return g;
+	}
+
+	/**
+	 * @param method the method
+	 * @param paramAsStatement if true, the parameters are assign statements at the beginning of the CFG
+	 * @return the control flow graph of the method
+	 */
+	CFG getCFG(final Method method, final boolean paramAsStatement) {
+		final Graphs g = lookup(method);
+		if (paramAsStatement) {
+			if (g.paramCfg == null)
+				g.paramCfg = new CFG(method, true).get();
+			return g.paramCfg;
+		}
+		if (g.cfg == null)
+			g.cfg = new CFG(method).get();
+		return g.cfg;
+	}
+
+	/**
+	 * @param method the method
+	 * @return the control dependence graph of the method
+	 * @throws Exception if CDG construction fails
+	 */
+	CDG getCDG(final Method method) throws Exception {
+		final Graphs g = lookup(method);
+		if (g.cdg == null)
+			g.cdg = new CDG(getCFG(method, false));
+		return g.cdg;
+	}
+
+	/**
+	 * @param method the method
+	 * @return the data dependence graph of the method
+	 * @throws Exception if DDG construction fails
+	 */
+	DDG getDDG(final Method method) throws Exception {
+		final Graphs g = lookup(method);
+		if (g.ddg == null)
+			g.ddg = new DDG(getCFG(method, false));
+		return g.ddg;
+	}
+
+	/**
+	 * @param method the method
+	 * @param paramAsStatement if true, the parameters are assign statements at the beginning of the CFG
+	 * @return the program dependence graph of the method
+	 * @throws Exception if PDG construction fails
+	 */
+	PDG getPDG(final Method method, final boolean paramAsStatement) throws Exception {
+		final Graphs g = lookup(method);
+		if (paramAsStatement) {
+			if (g.paramPdg == null)
+				g.paramPdg = new PDG(getCFG(method, true));
+			return g.paramPdg;
+		}
+		if (g.pdg == null)
+			g.pdg = new PDG(getCDG(method), getDDG(method));
+		return g.pdg;
+	}
+
+	/**
+	 * Drops a PDG from the cache, if it is there.
+	 *
+	 * @param pdg the PDG
+	 */
+	void remove(final PDG pdg) {
+		for (int i = 0; i < this.size; i++) {
+			if (this.entries[i].pdg == pdg)
+				this.entries[i].pdg = null;
+			if (this.entries[i].paramPdg == pdg)
+				this.entries[i].paramPdg = null;
+		}
+	}
+
+	/**
+	 * Drops all graphs of a method.
+	 *
+	 * @param method the method
+	 */
+	void remove(final Method method) {
+		for (int i = 0; i < this.size; i++) {
+			if (this.entries[i].method == method) {
+				System.arraycopy(this.entries, i + 1, this.entries, i, this.size - i - 1);
+				this.entries[--this.size] = null;
+				return;
+			}
+		}
+	}
+}
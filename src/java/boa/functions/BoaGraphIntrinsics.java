@@ -21,6 +21,7 @@ import java.util.*;
 
 import boa.graphs.cdg.CDG;
 import boa.graphs.cfg.CFG;
+import boa.graphs.cfg.CFGNode;
 import boa.graphs.ddg.DDG;
 import boa.graphs.pdg.PDG;
 import boa.graphs.slicers.CFGSlicer;
@@ -42,19 +43,24 @@ import boa.types.Control.Node;
  * @author marafat
  */
 public class BoaGraphIntrinsics {
+	// drops the cached graphs of a method, called by visitors as they leave it
+	public static void clearGraphCache(final Method method) {
+		BoaGraphCache.get().remove(method);
+	}
+
 	@FunctionSpec(name = "getcfg", returnType = "CFG", formalParameters = { "Method" })
 	public static CFG getcfg(final Method method) {
-		return new CFG(method).get();
+		return BoaGraphCache.get().getCFG(method, false);
 	}
 
 	@FunctionSpec(name = "getpdtree", returnType = "PDTree", formalParameters = { "Method" })
 	public static PDTree getpdtree(final Method method) throws Exception {
-		return new PDTree(method);
+		return new PDTree(BoaGraphCache.get().getCFG(method, false));
 	}
 
 	@FunctionSpec(name = "getcdg", returnType = "CDG", formalParameters = { "Method" })
 	public static CDG getcdg(final Method method) throws Exception {
-		return new CDG(method);
+		return BoaGraphCache.get().getCDG(method);
 	}
 
 	@FunctionSpec(name = "getcdg", returnType = "CDG", formalParameters = { "CFG" })
@@ -64,7 +70,7 @@ public class BoaGraphIntrinsics {
 
 	@FunctionSpec(name = "getddg", returnType = "DDG", formalParameters = { "Method" })
 	public static DDG getddg(final Method method) throws Exception {
-		return new DDG(method);
+		return BoaGraphCache.get().getDDG(method);
 	}
 
 	@FunctionSpec(name = "getddg", returnType = "DDG", formalParameters = { "CFG" })
@@ -74,12 +80,12 @@ public class BoaGraphIntrinsics {
 
 	@FunctionSpec(name = "getpdg", returnType = "PDG", formalParameters = { "Method" })
 	public static PDG getpdg(final Method method) throws Exception {
-		return new PDG(method);
+		return BoaGraphCache.get().getPDG(method, false);
 	}
 
 	@FunctionSpec(name = "getpdg", returnType = "PDG", formalParameters = { "Method", "bool" })
 	public static PDG getpdg(final Method method, boolean paramAsStatement) throws Exception {
-		return new PDG(method, paramAsStatement);
+		return BoaGraphCache.get().getPDG(method, paramAsStatement);
 	}
 
 	@FunctionSpec(name = "getcfgslice", returnType = "CFGSlicer", formalParameters = { "Method", "int" })
@@ -89,12 +95,28 @@ public class BoaGraphIntrinsics {
 
 	@FunctionSpec(name = "getpdgslice", returnType = "PDGSlicer", formalParameters = { "PDG",  "int", "bool" })
 	public static PDGSlicer getpdgslice(final PDG pdg, Long id, boolean normalize) throws Exception {
+		// normalizing changes the nodes of the PDG, so it can not be handed out again
+		if (normalize)
+			BoaGraphCache.get().remove(pdg);
 		return new PDGSlicer(pdg, (int)(long) id, normalize);
 	}
 
 	@FunctionSpec(name = "getpdgslice", returnType = "PDGSlicer", formalParameters = { "Method",  "int", "bool" })
 	public static PDGSlicer getpdgslice(final Method method, Long id, boolean normalize) throws Exception {
-		return new PDGSlicer(method, (int)(long) id, normalize);
+		final BoaGraphCache cache = BoaGraphCache.get();
+		final PDG pdg = normalize ? new PDG(cache.getCDG(method), cache.getDDG(method)) : cache.getPDG(method, false);
+		return new PDGSlicer(method, pdg.getNode((int)(long) id), normalize);
+	}
+
+	@FunctionSpec(name = "dominance_frontier", returnType = "set of CFGNode", formalParameters = { "CFG", "CFGNode" })
+	public static HashSet<CFGNode> dominanceFrontier(final CFG cfg, final CFGNode node) {
+		return cfg.getDominators().getFrontier(node);
+	}
+
+	// the nodes the given node is control dependent on
+	@FunctionSpec(name = "postdominance_frontier", returnType = "set of CFGNode", formalParameters = { "CFG", "CFGNode" })
+	public static HashSet<CFGNode> postdominanceFrontier(final CFG cfg, final CFGNode node) {
+		return cfg.getPostDominators().getFrontier(node);
 	}
 
 	@FunctionSpec(name = "get_nodes_with_definition", returnType = "set of string", formalParameters = { "Node" })
@@ -21,13 +21,12 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.PriorityQueue;
 import java.util.Set;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import boa.runtime.BitVectorSet;
 import boa.types.Code.CodeRepository;
 import boa.types.Code.Revision;
 import boa.types.Diff.ChangedFile;
@@ -47,11 +46,12 @@ public class BoaIntrinsics {
 		//"\\b(bug|issue|fix)\\b\\s*id(s)?\\s*(=)?\\s*[0-9]+"
 	};
 	
-	private final static List<Matcher> fixingMatchers = new ArrayList<Matcher>();
+	// patterns can be shared by mapper threads, matchers can not
+	private final static List<Pattern> fixingPatterns = new ArrayList<Pattern>();
 
 	static {
 		for (final String s : fixingRegex)
-			fixingMatchers.add(Pattern.compile(s).matcher(""));
+			fixingPatterns.add(Pattern.compile(s));
 	}
 	
 	private static int getRevisionIndex(final CodeRepository cr, final long timestamp) {
@@ -116,23 +116,7 @@ public class BoaIntrinsics {
 	public static ChangedFile[] getSnapshotByIndex(final CodeRepository cr, final long commitOffset, final String... kinds) {
 		if (commitOffset == cr.getHead())
 			return getSnapshot(cr, kinds);
-		List<ChangedFile> snapshot = new LinkedList<ChangedFile>();
-		Set<String> adds = new HashSet<String>(), dels = new HashSet<String>(); 
-		PriorityQueue<Integer> pq = new PriorityQueue<Integer>(100, new Comparator<Integer>() {
-			@Override
-			public int compare(Integer i1, Integer i2) {
-				return i2 - i1;
-			}
-		});
-		Set<Integer> queuedCommitIds = new HashSet<Integer>();
-		pq.offer((int) commitOffset);
-		queuedCommitIds.add((int) commitOffset);
-		while (!pq.isEmpty()) {
-			int offset = pq.poll();
-			Revision commit = getRevision(cr, offset);
-			update(snapshot, commit, adds, dels, pq, queuedCommitIds, kinds);
-		}
-		return snapshot.toArray(new ChangedFile[0]);
+		return BoaSnapshotIndex.get(cr).getSnapshot((int) commitOffset, kinds);
 	}
 
 	@FunctionSpec(name = "getsnapshot", returnType = "array of ChangedFile", formalParameters = { "CodeRepository", "Revision"})
@@ -142,98 +126,10 @@ public class BoaIntrinsics {
 
 	@FunctionSpec(name = "getsnapshot", returnType = "array of ChangedFile", formalParameters = { "CodeRepository", "Revision", "string..." })
 	public static ChangedFile[] getSnapshot(final CodeRepository cr, final Revision commit, final String... kinds) {
-		List<ChangedFile> snapshot = new LinkedList<ChangedFile>();
-		Set<String> adds = new HashSet<String>(), dels = new HashSet<String>(); 
-		PriorityQueue<Integer> pq = new PriorityQueue<Integer>(100, new Comparator<Integer>() {
-			@Override
-			public int compare(Integer i1, Integer i2) {
-				return i2 - i1;
-			}
-		});
-		Set<Integer> queuedCommitIds = new HashSet<Integer>();
-		update(snapshot, commit, adds, dels, pq, queuedCommitIds, kinds);
-		while (!pq.isEmpty()) {
-			int offset = pq.poll();
-			Revision c = getRevision(cr, offset);
-			update(snapshot, c, adds, dels, pq, queuedCommitIds, kinds);
-		}
-		return snapshot.toArray(new ChangedFile[0]);
-	}
-
-	private static void update(List<ChangedFile> snapshot, Revision commit, Set<String> adds, Set<String> dels,
-			PriorityQueue<Integer> pq, Set<Integer> queuedCommitIds, final String... kinds) {
-		for (ChangedFile cf : commit.getFilesList()) {
-			ChangeKind ck = cf.getChange();
-			switch (ck) {
-			case ADDED:
-				if (!adds.contains(cf.getName()) && !dels.contains(cf.getName())) {
-					adds.add(cf.getName());
-					if (isIncluded(cf, kinds))
-						snapshot.add(cf);
-				}
-				break;
-			case COPIED:
-				if (!adds.contains(cf.getName()) && !dels.contains(cf.getName())) {
-					adds.add(cf.getName());
-					if (isIncluded(cf, kinds))
-						snapshot.add(cf);
-				}
-				break;
-			case DELETED:
-				if (!adds.contains(cf.getName()) && !dels.contains(cf.getName()))
-					dels.add(cf.getName());
-				break;
-			case MERGED:
-				if (!adds.contains(cf.getName()) && !dels.contains(cf.getName())) {
-					adds.add(cf.getName());
-					if (isIncluded(cf, kinds))
-						snapshot.add(cf);
-				}
-				for (int i = 0; i < cf.getChangesCount(); i++) {
-					if (cf.getChanges(i) != ChangeKind.ADDED) {
-						ChangeKind pck = cf.getChanges(i);
-//							ChangedFile pcf = revisions.get(cf.getPreviousVersions(i)).getFiles(cf.getPreviousIndices(i));
-//							String name = pcf.getName();
-						String name = cf.getPreviousNames(i);
-						if (name.isEmpty())
-							name = cf.getName();
-						if (!adds.contains(name) && !dels.contains(name) && (pck == ChangeKind.DELETED || pck == ChangeKind.RENAMED))
-							dels.add(name);
-					}
-				}
-				break;
-			case RENAMED:
-				if (!adds.contains(cf.getName()) && !dels.contains(cf.getName())) {
-					adds.add(cf.getName());
-					if (isIncluded(cf, kinds))
-						snapshot.add(cf);
-				}
-				for (int i = 0; i < cf.getChangesCount(); i++) {
-//						ChangedFile pcf = revisions.get(cf.getPreviousVersions(i)).getFiles(cf.getPreviousIndices(i));
-//						String name = pcf.getName();
-					String name = cf.getPreviousNames(i);
-					if (!adds.contains(name) && !dels.contains(name))
-						dels.add(name);
-				}
-				break;
-			default:
-				if (!adds.contains(cf.getName()) && !dels.contains(cf.getName())) {
-					adds.add(cf.getName());
-					if (isIncluded(cf, kinds))
-						snapshot.add(cf);
-				}
-				break;
-			}
-		}
-		for (int p : commit.getParentsList()) {
-			if (!queuedCommitIds.contains(p)) {
-				pq.offer(p);
-				queuedCommitIds.add(p);
-			}
-		}
+		return BoaSnapshotIndex.get(cr).getSnapshot(commit, kinds);
 	}
 
-	private static boolean isIncluded(ChangedFile cf, String[] kinds) {
+	static boolean isIncluded(ChangedFile cf, String[] kinds) {
 		if (kinds == null || kinds.length == 0)
 			return true;
 		final String kindName = cf.getKind().name();
@@ -280,6 +176,14 @@ public class BoaIntrinsics {
 		return cr.getHeadSnapshotList().toArray(new ChangedFile[0]);
 	}
 
+	/** orders changed files by name, the way each revision's files are sorted */
+	private static final Comparator<ChangedFile> nameOrder = new Comparator<ChangedFile>() {
+		@Override
+		public int compare(final ChangedFile f1, final ChangedFile f2) {
+			return f1.getName().compareTo(f2.getName());
+		}
+	};
+
 	@FunctionSpec(name = "getpreviousversion", returnType = "array of ChangedFile", formalParameters = { "CodeRepository", "ChangedFile" })
 	public static ChangedFile[] getPreviousVersion(final CodeRepository cr, final ChangedFile cf) throws Exception {
 		List<ChangedFile> l = new ArrayList<ChangedFile>();
@@ -287,29 +191,28 @@ public class BoaIntrinsics {
 			ChangeKind kind = cf.getChanges(i);
 			if (kind == ChangeKind.ADDED || kind == ChangeKind.COPIED)
 				continue;
+
+			// newer datasets record where the previous version is
+			if (i < cf.getPreviousCommitsCount() && cf.getPreviousCommits(i) >= 0) {
+				ChangedFile ocf = getRevision(cr, cf.getPreviousCommits(i)).getFiles(cf.getPreviousIndices(i));
+				if (ocf.getChange() != ChangeKind.DELETED)
+					l.add(ocf);
+				continue;
+			}
+
 			ChangedFile.Builder fb = ChangedFile.newBuilder(cf);
 			if (!cf.getPreviousNames(i).isEmpty())
 				fb.setName(cf.getPreviousNames(i));
 			ChangedFile key = fb.build();
 			int revisionIndex = cf.getPreviousVersions(i);
 			Set<Integer> queuedRevisionIds = new HashSet<Integer>();
-			PriorityQueue<Integer> pq = new PriorityQueue<Integer>(100, new Comparator<Integer>() {
-				@Override
-				public int compare(Integer i1, Integer i2) {
-					return i2 - i1;
-				}
-			});
+			PriorityQueue<Integer> pq = new PriorityQueue<Integer>(100, Collections.reverseOrder());
 			pq.offer(revisionIndex);
 			queuedRevisionIds.add(revisionIndex);
 			while (!pq.isEmpty()) {
 				revisionIndex = pq.poll();
 				Revision rev = getRevision(cr, revisionIndex);
-				int index = Collections.binarySearch(rev.getFilesList(), key, new Comparator<ChangedFile>() {
-					@Override
-					public int compare(ChangedFile f1, ChangedFile f2) {
-						return f1.getName().compareTo(f2.getName());
-					}
-				});
+				int index = Collections.binarySearch(rev.getFilesList(), key, nameOrder);
 				if (index >= 0) {
 					ChangedFile ocf = rev.getFiles(index);
 					if (ocf.getChange() != ChangeKind.DELETED)
@@ -347,8 +250,8 @@ public class BoaIntrinsics {
 	@FunctionSpec(name = "isfixingrevision", returnType = "bool", formalParameters = { "string" })
 	public static boolean isfixingrevision(final String log) {
 		final String lower = log.toLowerCase();
-		for (final Matcher m : fixingMatchers)
-			if (m.reset(lower).find())
+		for (final Pattern p : fixingPatterns)
+			if (p.matcher(lower).find())
 				return true;
 
 		return false;
@@ -587,23 +490,36 @@ public class BoaIntrinsics {
 	}
 
 	public static <T> java.util.HashSet<T> set_union(final java.util.Set<T> s1, final java.util.Set<T> s2) {
-		final java.util.HashSet<T> s = new java.util.HashSet<T>(s1);
+		final java.util.HashSet<T> s = set_copy(s1, s2);
 		s.addAll(s2);
 		return s;
 	}
 
 	public static <T> java.util.HashSet<T> set_intersect(final java.util.Set<T> s1, final java.util.Set<T> s2) {
-		final java.util.HashSet<T> s = new java.util.HashSet<T>(s1);
+		final java.util.HashSet<T> s = set_copy(s1, s2);
 		s.retainAll(s2);
 		return s;
 	}
 
 	public static <T> java.util.HashSet<T> set_difference(final java.util.Set<T> s1, final java.util.Set<T> s2) {
-		final java.util.HashSet<T> s = new java.util.HashSet<T>(s1);
+		final java.util.HashSet<T> s = set_copy(s1, s2);
 		s.removeAll(s2);
 		return s;
 	}
 
+	// copies s1 as a bit vector if either set is one, so the set operation can work on words
+	@SuppressWarnings("unchecked")
+	private static <T> java.util.HashSet<T> set_copy(final java.util.Set<T> s1, final java.util.Set<T> s2) {
+		if (s1 instanceof BitVectorSet)
+			return (java.util.HashSet<T>) ((BitVectorSet) s1).clone();
+		if (s2 instanceof BitVectorSet) {
+			final BitVectorSet s = new BitVectorSet((BitVectorSet) s2);
+			s.addAll((java.util.Set<String>) s1);
+			return (java.util.HashSet<T>) s;
+		}
+		return new java.util.HashSet<T>(s1);
+	}
+
 	public static <T> java.util.HashSet<T> set_symdiff(final java.util.Set<T> s1, final java.util.Set<T> s2) {
 		return set_union(set_difference(s1, s2), set_difference(s2, s1));
 	}
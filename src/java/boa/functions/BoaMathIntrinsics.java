@@ -28,7 +28,22 @@ import java.util.Random;
  * @author anthonyu
  */
 public class BoaMathIntrinsics {
-	public static Random random = new Random();
+	private static final ThreadLocal<Random> random = new ThreadLocal<Random>() {
+		@Override
+		protected Random initialValue() {
+			return new Random();
+		}
+	};
+
+	/**
+	 * Set the random number generator used by the current thread.
+	 * 
+	 * @param r
+	 *            The {@link Random} to use
+	 */
+	public static void setRandom(final Random r) {
+		BoaMathIntrinsics.random.set(r);
+	}
 
 	/**
 	 * Return a random floating point number x in the range 0.0 &lt; x &lt; 1.0.
@@ -37,7 +52,7 @@ public class BoaMathIntrinsics {
 	 */
 	@FunctionSpec(name = "rand", returnType = "float")
 	public static double rand() {
-		return BoaMathIntrinsics.random.nextDouble();
+		return BoaMathIntrinsics.random.get().nextDouble();
 	}
 
 	/**
@@ -56,7 +71,7 @@ public class BoaMathIntrinsics {
 		if (n < 1)
 			throw new IllegalArgumentException("n must be greater than zero");
 
-		return (long) (BoaMathIntrinsics.random.nextDouble() * n);
+		return (long) (BoaMathIntrinsics.random.get().nextDouble() * n);
 	}
 
 	/**
@@ -0,0 +1,86 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boa.functions;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.google.protobuf.Message;
+
+/**
+ * A bounded least-recently-used cache of decoded protobuf messages, keyed by
+ * the keys of their rows in the data set.  The cache is bounded by the total
+ * serialized size of the messages it holds.  All methods are synchronized, so
+ * one cache can be shared by several mapper threads.
+ */
+class BoaMessageCache<K, T extends Message> {
+	private final LinkedHashMap<K, T> cache = new LinkedHashMap<K, T>(16, 0.75f, true);
+	private final long capacity;
+	private long size = 0;
+
+	/**
+	 * Construct a {@link BoaMessageCache}.
+	 *
+	 * @param capacity
+	 *            The total serialized size of the cached messages, in bytes.  A
+	 *            capacity of 0 disables the cache.
+	 */
+	BoaMessageCache(final long capacity) {
+		this.capacity = capacity;
+	}
+
+	/**
+	 * @return <code>true</code> if the cache can hold any messages
+	 */
+	boolean isEnabled() {
+		return this.capacity > 0;
+	}
+
+	/**
+	 * @return the cached message for a key, or <code>null</code> if there is none
+	 */
+	synchronized T get(final K key) {
+		return this.cache.get(key);
+	}
+
+	/**
+	 * Cache a message, evicting the least recently used messages as needed.
+	 * Messages larger than the whole cache are not cached.
+	 */
+	synchronized void put(final K key, final T message) {
+		final long messageSize = message.getSerializedSize();
+		if (messageSize > this.capacity)
+			return;
+
+		final T old = this.cache.put(key, message);
+		if (old != null)
+			this.size -= old.getSerializedSize();
+		this.size += messageSize;
+
+		final Iterator<Map.Entry<K, T>> i = this.cache.entrySet().iterator();
+		while (this.size > this.capacity && i.hasNext()) {
+			this.size -= i.next().getValue().getSerializedSize();
+			i.remove();
+		}
+	}
+
+	/**
+	 * Remove all cached messages.
+	 */
+	synchronized void clear() {
+		this.cache.clear();
+		this.size = 0;
+	}
+}
@@ -38,7 +38,12 @@ public class BoaMetricIntrinsics {
 			return true;
 		}
 	}
-	private static BoaNOAVisitor noaVisitor = new BoaNOAVisitor();
+	private static final ThreadLocal<BoaNOAVisitor> noaVisitor = new ThreadLocal<BoaNOAVisitor>() {
+		@Override
+		protected BoaNOAVisitor initialValue() {
+			return new BoaNOAVisitor();
+		}
+	};
 
 	/**
 	 * Computes the Number of Attributes (NOA) metric for a node.
@@ -48,8 +53,8 @@ public class BoaMetricIntrinsics {
 	 */
 	@FunctionSpec(name = "get_metric_noa", returnType = "int", formalParameters = { "Declaration" })
 	public static long getMetricNOA(final Declaration node) throws Exception {
-		noaVisitor.initialize().visit(node);
-		return noaVisitor.count;
+		noaVisitor.get().initialize().visit(node);
+		return noaVisitor.get().count;
 	}
 
 	////////////////////////////////
@@ -64,7 +69,12 @@ public class BoaMetricIntrinsics {
     		return true;
 		}
 	}
-	private static BoaNOOVisitor nooVisitor = new BoaNOOVisitor();
+	private static final ThreadLocal<BoaNOOVisitor> nooVisitor = new ThreadLocal<BoaNOOVisitor>() {
+		@Override
+		protected BoaNOOVisitor initialValue() {
+			return new BoaNOOVisitor();
+		}
+	};
 
 	/**
 	 * Computes the Number of Operations (NOO) metric for a node.
@@ -74,8 +84,8 @@ public class BoaMetricIntrinsics {
 	 */
 	@FunctionSpec(name = "get_metric_noo", returnType = "int", formalParameters = { "Declaration" })
 	public static long getMetricNOO(final Declaration node) throws Exception {
-		nooVisitor.initialize().visit(node);
-		return nooVisitor.count;
+		nooVisitor.get().initialize().visit(node);
+		return nooVisitor.get().count;
 	}
 
 	////////////////////////////////////
@@ -90,7 +100,12 @@ public class BoaMetricIntrinsics {
     		return true;
 		}
 	}
-	private static BoaNPMVisitor npmVisitor = new BoaNPMVisitor();
+	private static final ThreadLocal<BoaNPMVisitor> npmVisitor = new ThreadLocal<BoaNPMVisitor>() {
+		@Override
+		protected BoaNPMVisitor initialValue() {
+			return new BoaNPMVisitor();
+		}
+	};
 
 	/**
 	 * Computes the Number of Public Methods (NPM) metric for a node.
@@ -100,8 +115,8 @@ public class BoaMetricIntrinsics {
 	 */
 	@FunctionSpec(name = "get_metric_npm", returnType = "int", formalParameters = { "Declaration" })
 	public static long getMetricNPM(final Declaration node) throws Exception {
-		npmVisitor.initialize().visit(node);
-		return npmVisitor.count;
+		npmVisitor.get().initialize().visit(node);
+		return npmVisitor.get().count;
 	}
 
 	////////////////////////////////
@@ -125,7 +140,12 @@ public class BoaMetricIntrinsics {
 			return super.preVisit(node);
 		}
 	}
-	private static BoaNOCVisitor nocVisitor = new BoaNOCVisitor();
+	private static final ThreadLocal<BoaNOCVisitor> nocVisitor = new ThreadLocal<BoaNOCVisitor>() {
+		@Override
+		protected BoaNOCVisitor initialValue() {
+			return new BoaNOCVisitor();
+		}
+	};
 
 	/**
 	 * (Partially) Computes the Number of Children (NOC) metric.
@@ -135,8 +155,8 @@ public class BoaMetricIntrinsics {
 	 */
 	@FunctionSpec(name = "get_metric_noc", returnType = "map[string] of int", formalParameters = { "ASTRoot" })
 	public static HashMap<String,Long> getMetricNOC(final ASTRoot node) throws Exception {
-		nocVisitor.initialize(new HashMap<String,Long>()).visit(node);
-		return nocVisitor.map;
+		nocVisitor.get().initialize(new HashMap<String,Long>()).visit(node);
+		return nocVisitor.get().map;
 	}
 
 	///////////////////////////////////////////
@@ -146,7 +166,12 @@ public class BoaMetricIntrinsics {
 	private static class BoaLCOOVisitor extends BoaCountingVisitor {
 		// TODO
 	}
-	private static BoaLCOOVisitor lcooVisitor = new BoaLCOOVisitor();
+	private static final ThreadLocal<BoaLCOOVisitor> lcooVisitor = new ThreadLocal<BoaLCOOVisitor>() {
+		@Override
+		protected BoaLCOOVisitor initialValue() {
+			return new BoaLCOOVisitor();
+		}
+	};
 
 	/**
 	 * Computes the Lack of Cohesion in Operations (LCOO) metric for a node.
@@ -156,8 +181,8 @@ public class BoaMetricIntrinsics {
 	 */
 	@FunctionSpec(name = "get_metric_lcoo", returnType = "int", formalParameters = { "Declaration" })
 	public static long getMetricLCOO(final Declaration node) throws Exception {
-		lcooVisitor.initialize().visit(node);
-		return lcooVisitor.count;
+		lcooVisitor.get().initialize().visit(node);
+		return lcooVisitor.get().count;
 	}
 
 	/////////////////////////////////////
@@ -167,7 +192,12 @@ public class BoaMetricIntrinsics {
 	private static class BoaDITVisitor extends BoaCountingVisitor {
 		// TODO
 	}
-	private static BoaDITVisitor ditVisitor = new BoaDITVisitor();
+	private static final ThreadLocal<BoaDITVisitor> ditVisitor = new ThreadLocal<BoaDITVisitor>() {
+		@Override
+		protected BoaDITVisitor initialValue() {
+			return new BoaDITVisitor();
+		}
+	};
 
 	/**
 	 * Computes the Depth of Inheritance Tree (DIT) metric for a node.
@@ -177,8 +207,8 @@ public class BoaMetricIntrinsics {
 	 */
 	@FunctionSpec(name = "get_metric_dit", returnType = "int", formalParameters = { "Declaration" })
 	public static long getMetricDIT(final Declaration node) throws Exception {
-		ditVisitor.initialize().visit(node);
-		return ditVisitor.count;
+		ditVisitor.get().initialize().visit(node);
+		return ditVisitor.get().count;
 	}
 
 	////////////////////////////////
@@ -188,7 +218,12 @@ public class BoaMetricIntrinsics {
 	private static class BoaRFCVisitor extends BoaCountingVisitor {
 		// TODO
 	}
-	private static BoaRFCVisitor rfcVisitor = new BoaRFCVisitor();
+	private static final ThreadLocal<BoaRFCVisitor> rfcVisitor = new ThreadLocal<BoaRFCVisitor>() {
+		@Override
+		protected BoaRFCVisitor initialValue() {
+			return new BoaRFCVisitor();
+		}
+	};
 
 	/**
 	 * Computes the Response For a Class (RFC) metric for a node.
@@ -198,8 +233,8 @@ public class BoaMetricIntrinsics {
 	 */
 	@FunctionSpec(name = "get_metric_rfc", returnType = "int", formalParameters = { "Declaration" })
 	public static long getMetricRFC(final Declaration node) throws Exception {
-		rfcVisitor.initialize().visit(node);
-		return rfcVisitor.count;
+		rfcVisitor.get().initialize().visit(node);
+		return rfcVisitor.get().count;
 	}
 
 	////////////////////////////////////
@@ -209,7 +244,12 @@ public class BoaMetricIntrinsics {
 	private static class BoaCBCVisitor extends BoaCountingVisitor {
 		// TODO
 	}
-	private static BoaCBCVisitor cbcVisitor = new BoaCBCVisitor();
+	private static final ThreadLocal<BoaCBCVisitor> cbcVisitor = new ThreadLocal<BoaCBCVisitor>() {
+		@Override
+		protected BoaCBCVisitor initialValue() {
+			return new BoaCBCVisitor();
+		}
+	};
 
 	/**
 	 * Computes the Coupling Between Classes (CBC) metric for a node.
@@ -219,8 +259,8 @@ public class BoaMetricIntrinsics {
 	 */
 	@FunctionSpec(name = "get_metric_cbc", returnType = "int", formalParameters = { "Declaration" })
 	public static long getMetricCBC(final Declaration node) throws Exception {
-		cbcVisitor.initialize().visit(node);
-		return cbcVisitor.count;
+		cbcVisitor.get().initialize().visit(node);
+		return cbcVisitor.get().count;
 	}
 
 	////////////////////////////
@@ -230,7 +270,12 @@ public class BoaMetricIntrinsics {
 	private static class BoaCAVisitor extends BoaCountingVisitor {
 		// TODO
 	}
-	private static BoaCAVisitor caVisitor = new BoaCAVisitor();
+	private static final ThreadLocal<BoaCAVisitor> caVisitor = new ThreadLocal<BoaCAVisitor>() {
+		@Override
+		protected BoaCAVisitor initialValue() {
+			return new BoaCAVisitor();
+		}
+	};
 
 	/**
 	 * Computes the Afferent Coupling (CA) metric for a node.
@@ -240,7 +285,7 @@ public class BoaMetricIntrinsics {
 	 */
 	@FunctionSpec(name = "get_metric_ca", returnType = "int", formalParameters = { "Declaration" })
 	public static long getMetricCA(final Declaration node) throws Exception {
-		caVisitor.initialize().visit(node);
-		return caVisitor.count;
+		caVisitor.get().initialize().visit(node);
+		return caVisitor.get().count;
 	}
 }
@@ -0,0 +1,296 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boa.functions;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import boa.types.Code.CodeRepository;
+import boa.types.Code.Revision;
+import boa.types.Diff.ChangedFile;
+import boa.types.Shared.ChangeKind;
+
+/**
+ * Computes snapshots of a code repository incrementally.
+ *
+ * A snapshot at a commit holds, for every file name, the change from the
+ * newest ancestor commit (by offset) that touches that name.  Instead of
+ * walking all ancestors on every call, the index keeps a cursor: the set of
+ * ancestors already visited and the newest change seen for each name.  Moving
+ * the cursor to a descendant only visits the new ancestors.  When a query
+ * moves backwards, the index restarts from the nearest checkpoint, which are
+ * copies of the cursor saved every so many commits.
+ *
+ * Each thread keeps the index of the last repository it asked about.
+ */
+class BoaSnapshotIndex {
+	/** the minimum number of commits between checkpoints */
+	private static final int CHECKPOINT_INTERVAL = 1024;
+
+	/** the maximum number of checkpoints kept for a repository */
+	private static final int MAX_CHECKPOINTS = 16;
+
+	private static final ThreadLocal<BoaSnapshotIndex> index = new ThreadLocal<BoaSnapshotIndex>();
+
+	/**
+	 * @return the snapshot index for a repository
+	 */
+	static BoaSnapshotIndex get(final CodeRepository cr) {
+		BoaSnapshotIndex i = index.get();
+		if (i == null || i.repository != cr) {
+			i = new BoaSnapshotIndex(cr);
+			index.set(i);
+		}
+		return i;
+	}
+
+	/**
+	 * The newest change to a file name.
+	 */
+	private static class Entry {
+		/** the changed file, or <code>null</code> if the name was deleted */
+		private final ChangedFile file;
+		private final int offset;
+		private final int position;
+
+		private Entry(final ChangedFile file, final int offset, final int position) {
+			this.file = file;
+			this.offset = offset;
+			this.position = position;
+		}
+	}
+
+	/**
+	 * The newest changes over all ancestors of a set of commits.
+	 */
+	private static class State {
+		private final int[] roots;
+		private final BitSet visited;
+		private final Map<String, Entry> files;
+
+		private State(final int[] roots, final BitSet visited, final Map<String, Entry> files) {
+			this.roots = roots;
+			this.visited = visited;
+			this.files = files;
+		}
+
+		private State copy() {
+			return new State(this.roots, (BitSet) this.visited.clone(), new HashMap<String, Entry>(this.files));
+		}
+	}
+
+	/** orders entries the way a newest-first walk over the ancestors finds them */
+	private static final Comparator<Entry> order = new Comparator<Entry>() {
+		@Override
+		public int compare(final Entry e1, final Entry e2) {
+			if (e1.offset != e2.offset)
+				return e1.offset > e2.offset ? -1 : 1;
+			return e1.position - e2.position;
+		}
+	};
+
+	private final CodeRepository repository;
+	private final int interval;
+	private final TreeMap<Integer, State> checkpoints = new TreeMap<Integer, State>();
+	private State cursor = null;
+
+	private BoaSnapshotIndex(final CodeRepository cr) {
+		this.repository = cr;
+		this.interval = Math.max(CHECKPOINT_INTERVAL, BoaIntrinsics.getRevisionsCount(cr) / MAX_CHECKPOINTS + 1);
+	}
+
+	/**
+	 * Compute the snapshot at a commit.
+	 *
+	 * @param offset the offset of the commit
+	 * @param kinds the file kinds to include, or none for all files
+	 * @return the files in the snapshot
+	 */
+	ChangedFile[] getSnapshot(final int offset, final String... kinds) {
+		return this.toSnapshot(this.advance(new int[] { offset }).files, null, kinds);
+	}
+
+	/**
+	 * Compute the snapshot at a commit that is given by value.
+	 *
+	 * @param commit the commit
+	 * @param kinds the file kinds to include, or none for all files
+	 * @return the files in the snapshot
+	 */
+	ChangedFile[] getSnapshot(final Revision commit, final String... kinds) {
+		final Map<String, Entry> own = new HashMap<String, Entry>();
+		apply(own, commit, Integer.MAX_VALUE);
+
+		final int[] parents = new int[commit.getParentsCount()];
+		for (int i = 0; i < parents.length; i++)
+			parents[i] = commit.getParents(i);
+
+		final Map<String, Entry> files = parents.length == 0 ? Collections.<String, Entry>emptyMap() : this.advance(parents).files;
+		return this.toSnapshot(files, own, kinds);
+	}
+
+	/**
+	 * Move the cursor to the given commits.
+	 */
+	private State advance(final int[] roots) {
+		int max = -1;
+		for (final int root : roots)
+			max = Math.max(max, root);
+
+		// try the cursor, then the nearest checkpoint, then start over
+		if (this.cursor != null && this.advance(this.cursor, roots, false))
+			return this.cursor;
+
+		final Map.Entry<Integer, State> checkpoint = this.checkpoints.floorEntry(max);
+		if (checkpoint != null && this.advance(checkpoint.getValue(), roots, true))
+			return this.cursor;
+
+		this.advance(new State(new int[0], new BitSet(), new HashMap<String, Entry>()), roots, false);
+		return this.cursor;
+	}
+
+	/**
+	 * Try to move a state to the given commits.  This only works if every root
+	 * of the state is an ancestor of the new roots, which is the case exactly
+	 * when the walk over the new ancestors runs into each old root.
+	 *
+	 * @return <code>true</code> if the state could be moved, in which case it
+	 *         (or its copy) is the new cursor
+	 */
+	private boolean advance(State state, final int[] roots, final boolean copy) {
+		final Map<String, Entry> delta = new HashMap<String, Entry>();
+		final Set<Integer> reached = new HashSet<Integer>();
+		final BitSet queued = new BitSet();
+		final List<Integer> queue = new ArrayList<Integer>();
+
+		for (final int root : roots)
+			if (state.visited.get(root))
+				reached.add(root);
+			else if (!queued.get(root)) {
+				queued.set(root);
+				queue.add(root);
+			}
+
+		for (int i = 0; i < queue.size(); i++) {
+			final int offset = queue.get(i);
+			final Revision r = BoaIntrinsics.getRevision(this.repository, offset);
+			apply(delta, r, offset);
+			for (final int p : r.getParentsList())
+				if (state.visited.get(p))
+					reached.add(p);
+				else if (!queued.get(p)) {
+					queued.set(p);
+					queue.add(p);
+				}
+		}
+
+		for (final int root : state.roots)
+			if (!reached.contains(root))
+				return false;
+
+		if (copy)
+			state = state.copy();
+		state.visited.or(queued);
+		for (final Map.Entry<String, Entry> e : delta.entrySet()) {
+			final Entry old = state.files.get(e.getKey());
+			if (old == null || old.offset < e.getValue().offset)
+				state.files.put(e.getKey(), e.getValue());
+		}
+
+		final State moved = new State(roots.clone(), state.visited, state.files);
+		this.cursor = moved;
+
+		if (roots.length == 1) {
+			final Integer last = this.checkpoints.floorKey(roots[0]);
+			if (last == null ? roots[0] >= this.interval : roots[0] - last >= this.interval)
+				this.checkpoints.put(roots[0], moved.copy());
+		}
+
+		return true;
+	}
+
+	/**
+	 * Record the changes of one commit, keeping the newest change for each
+	 * name.  Within a commit, the first change to a name wins.
+	 */
+	private static void apply(final Map<String, Entry> files, final Revision commit, final int offset) {
+		final Set<String> seen = new HashSet<String>();
+		int position = 0;
+
+		for (final ChangedFile cf : commit.getFilesList()) {
+			switch (cf.getChange()) {
+			case DELETED:
+				record(files, seen, cf.getName(), null, offset, position);
+				break;
+			case MERGED:
+				record(files, seen, cf.getName(), cf, offset, position);
+				for (int i = 0; i < cf.getChangesCount(); i++) {
+					final ChangeKind pck = cf.getChanges(i);
+					if (pck == ChangeKind.DELETED || pck == ChangeKind.RENAMED) {
+						String name = cf.getPreviousNames(i);
+						if (name.isEmpty())
+							name = cf.getName();
+						record(files, seen, name, null, offset, position);
+					}
+				}
+				break;
+			case RENAMED:
+				record(files, seen, cf.getName(), cf, offset, position);
+				for (int i = 0; i < cf.getChangesCount(); i++)
+					record(files, seen, cf.getPreviousNames(i), null, offset, position);
+				break;
+			default:
+				record(files, seen, cf.getName(), cf, offset, position);
+				break;
+			}
+			position++;
+		}
+	}
+
+	private static void record(final Map<String, Entry> files, final Set<String> seen, final String name, final ChangedFile cf, final int offset, final int position) {
+		if (!seen.add(name))
+			return;
+		final Entry e = files.get(name);
+		if (e == null || e.offset < offset)
+			files.put(name, new Entry(cf, offset, position));
+	}
+
+	private ChangedFile[] toSnapshot(final Map<String, Entry> files, final Map<String, Entry> own, final String... kinds) {
+		final List<Entry> entries = new ArrayList<Entry>();
+
+		if (own != null)
+			for (final Entry e : own.values())
+				if (e.file != null && BoaIntrinsics.isIncluded(e.file, kinds))
+					entries.add(e);
+
+		for (final Map.Entry<String, Entry> e : files.entrySet())
+			if (e.getValue().file != null && (own == null || !own.containsKey(e.getKey())) && BoaIntrinsics.isIncluded(e.getValue().file, kinds))
+				entries.add(e.getValue());
+
+		Collections.sort(entries, order);
+
+		final ChangedFile[] snapshot = new ChangedFile[entries.size()];
+		for (int i = 0; i < snapshot.length; i++)
+			snapshot[i] = entries.get(i).file;
+		return snapshot;
+	}
+}
@@ -34,31 +34,35 @@ import java.util.TimeZone;
  * @author anthonyu
  */
 public class BoaTimeIntrinsics {
-	private static Map<Character, SimpleDateFormat> strftimeMap = new HashMap<Character, SimpleDateFormat>();
-
-	static {
-		BoaTimeIntrinsics.strftimeMap.put('a', new SimpleDateFormat("E"));
-		BoaTimeIntrinsics.strftimeMap.put('A', new SimpleDateFormat("EEEE"));
-		BoaTimeIntrinsics.strftimeMap.put('b', new SimpleDateFormat("MMM"));
-		BoaTimeIntrinsics.strftimeMap.put('B', new SimpleDateFormat("MMMM"));
-		BoaTimeIntrinsics.strftimeMap.put('c', new SimpleDateFormat("E MMM d HH:mm:ss yyyy"));
-		BoaTimeIntrinsics.strftimeMap.put('d', new SimpleDateFormat("dd"));
-		BoaTimeIntrinsics.strftimeMap.put('H', new SimpleDateFormat("HH"));
-		BoaTimeIntrinsics.strftimeMap.put('I', new SimpleDateFormat("hh"));
-		BoaTimeIntrinsics.strftimeMap.put('j', new SimpleDateFormat("DDD"));
-		BoaTimeIntrinsics.strftimeMap.put('m', new SimpleDateFormat("MM"));
-		BoaTimeIntrinsics.strftimeMap.put('M', new SimpleDateFormat("mm"));
-		BoaTimeIntrinsics.strftimeMap.put('p', new SimpleDateFormat("aa"));
-		BoaTimeIntrinsics.strftimeMap.put('S', new SimpleDateFormat("ss"));
-		BoaTimeIntrinsics.strftimeMap.put('U', new SimpleDateFormat("ww"));
-		BoaTimeIntrinsics.strftimeMap.put('w', new SimpleDateFormat("F"));
-		BoaTimeIntrinsics.strftimeMap.put('W', new SimpleDateFormat("ww"));
-		BoaTimeIntrinsics.strftimeMap.put('x', new SimpleDateFormat("MM/dd/yy"));
-		BoaTimeIntrinsics.strftimeMap.put('X', new SimpleDateFormat("HH:mm:ss"));
-		BoaTimeIntrinsics.strftimeMap.put('y', new SimpleDateFormat("yy"));
-		BoaTimeIntrinsics.strftimeMap.put('Y', new SimpleDateFormat("yyyy"));
-		BoaTimeIntrinsics.strftimeMap.put('Z', new SimpleDateFormat("zzz"));
-	}
+	// SimpleDateFormat is not thread-safe, so each thread gets its own formats
+	private static final ThreadLocal<Map<Character, SimpleDateFormat>> strftimeMap = new ThreadLocal<Map<Character, SimpleDateFormat>>() {
+		@Override
+		protected Map<Character, SimpleDateFormat> initialValue() {
+			final Map<Character, SimpleDateFormat> strftimeMap = new HashMap<Character, SimpleDateFormat>();
+			strftimeMap.put('a', new SimpleDateFormat("E"));
+			strftimeMap.put('A', new SimpleDateFormat("EEEE"));
+			strftimeMap.put('b', new SimpleDateFormat("MMM"));
+			strftimeMap.put('B', new SimpleDateFormat("MMMM"));
+			strftimeMap.put('c', new SimpleDateFormat("E MMM d HH:mm:ss yyyy"));
+			strftimeMap.put('d', new SimpleDateFormat("dd"));
+			strftimeMap.put('H', new SimpleDateFormat("HH"));
+			strftimeMap.put('I', new SimpleDateFormat("hh"));
+			strftimeMap.put('j', new SimpleDateFormat("DDD"));
+			strftimeMap.put('m', new SimpleDateFormat("MM"));
+			strftimeMap.put('M', new SimpleDateFormat("mm"));
+			strftimeMap.put('p', new SimpleDateFormat("aa"));
+			strftimeMap.put('S', new SimpleDateFormat("ss"));
+			strftimeMap.put('U', new SimpleDateFormat("ww"));
+			strftimeMap.put('w', new SimpleDateFormat("F"));
+			strftimeMap.put('W', new SimpleDateFormat("ww"));
+			strftimeMap.put('x', new SimpleDateFormat("MM/dd/yy"));
+			strftimeMap.put('X', new SimpleDateFormat("HH:mm:ss"));
+			strftimeMap.put('y', new SimpleDateFormat("yy"));
+			strftimeMap.put('Y', new SimpleDateFormat("yyyy"));
+			strftimeMap.put('Z', new SimpleDateFormat("zzz"));
+			return strftimeMap;
+		}
+	};
 
 	private static long addPart(final int part, final long t, final long n, final TimeZone tz) {
 		final Calendar calendar = Calendar.getInstance(tz);
@@ -851,8 +855,8 @@ public class BoaTimeIntrinsics {
 				break;
 			default:
 				if (inEscape) {
-					if (BoaTimeIntrinsics.strftimeMap.containsKey(Character.valueOf(c))) {
-						final SimpleDateFormat simpleDateFormat = BoaTimeIntrinsics.strftimeMap.get(Character.valueOf(c));
+					if (BoaTimeIntrinsics.strftimeMap.get().containsKey(Character.valueOf(c))) {
+						final SimpleDateFormat simpleDateFormat = BoaTimeIntrinsics.strftimeMap.get().get(Character.valueOf(c));
 						simpleDateFormat.setTimeZone(tz);
 						sb.append(simpleDateFormat.format(calendar.getTime()));
 					} else {
@@ -0,0 +1,221 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boa.graphs;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * An immutable, array backed snapshot of a graph.  The nodes are numbered
+ * 0 to size - 1 in order of their ids, and the successors and predecessors
+ * of every node are kept as ranges of int arrays (compressed sparse rows),
+ * in the same order {@link Node#getSuccessors()} and
+ * {@link Node#getPredecessors()} give them.
+ */
+public class CompactGraph<N extends Node<N, ?>> {
+	private final Node<?, ?>[] nodes;
+	private final int[] indices;
+
+	private final int[] succOffsets;
+	private final int[] succs;
+	private final int[] predOffsets;
+	private final int[] preds;
+
+	/**
+	 * Builds the compact form of the graph made by the given nodes.  Edges
+	 * to nodes not in the collection are left out.
+	 *
+	 * @param graph the nodes of the graph
+	 */
+	public CompactGraph(final Collection<N> graph) {
+		this.nodes = graph.toArray(new Node<?, ?>[graph.size()]);
+		Arrays.sort(this.nodes, new Comparator<Node<?, ?>>() {
+			@Override
+			public int compare(final Node<?, ?> n1, final Node<?, ?> n2) {
+				return n1.getId() < n2.getId() ? -1 : (n1.getId() == n2.getId() ? 0 : 1);
+			}
+		});
+
+		final int max = this.nodes.length == 0 ? -1 : this.nodes[this.nodes.length - 1].getId();
+		this.indices = new int[max + 1];
+		Arrays.fill(this.indices, -1);
+		for (int i = 0; i < this.nodes.length; i++)
+			if (this.nodes[i].getId() >= 0)
+				this.indices[this.nodes[i].getId()] = i;
+
+		this.succOffsets = new int[this.nodes.length + 1];
+		this.predOffsets = new int[this.nodes.length + 1];
+		int succCount = 0;
+		int predCount = 0;
+		for (int i = 0; i < this.nodes.length; i++) {
+			succCount += this.nodes[i].getOutEdges().size();
+			predCount += this.nodes[i].getInEdges().size();
+		}
+		final int[] succs = new int[succCount];
+		final int[] preds = new int[predCount];
+
+		succCount = predCount = 0;
+		for (int i = 0; i < this.nodes.length; i++) {
+			this.succOffsets[i] = succCount;
+			succCount = fill(succs, succCount, getNode(i).getSuccessors());
+			this.predOffsets[i] = predCount;
+			predCount = fill(preds, predCount, getNode(i).getPredecessors());
+		}
+		this.succOffsets[this.nodes.length] = succCount;
+		this.predOffsets[this.nodes.length] = predCount;
+
+		this.succs = succCount == succs.length ? succs : Arrays.copyOf(succs, succCount);
+		this.preds = predCount == preds.length ? preds : Arrays.copyOf(preds, predCount);
+	}
+
+	private int fill(final int[] a, int pos, final List<N> l) {
+		for (final N n : l) {
+			final int idx = getIndex(n);
+			if (idx != -1)
+				a[pos++] = idx;
+		}
+		return pos;
+	}
+
+	/**
+	 * @return the number of nodes
+	 */
+	public int size() {
+		return this.nodes.length;
+	}
+
+	/**
+	 * @return the number of edges
+	 */
+	public int getEdgeCount() {
+		return this.succs.length;
+	}
+
+	/**
+	 * @param index the index of a node, from 0 to size - 1
+	 * @return the node at the given index
+	 */
+	@SuppressWarnings("unchecked")
+	public N getNode(final int index) {
+		return (N) this.nodes[index];
+	}
+
+	/**
+	 * @param id the id of a node
+	 * @return the index of the node with the given id, or -1 if there is none
+	 */
+	public int getIndex(final int id) {
+		if (id < 0 || id >= this.indices.length)
+			return -1;
+		return this.indices[id];
+	}
+
+	/**
+	 * @param node a node
+	 * @return the index of the node, or -1 if it is not in the graph
+	 */
+	public int getIndex(final N node) {
+		final int idx = getIndex(node.getId());
+		if (idx == -1 || this.nodes[idx] != node)
+			return -1;
+		return idx;
+	}
+
+	/**
+	 * @param id the id of a node
+	 * @return the node with the given id, or <code>null</code> if there is none
+	 */
+	public N getNodeById(final int id) {
+		final int idx = getIndex(id);
+		return idx == -1 ? null : getNode(idx);
+	}
+
+	/**
+	 * @param index the index of a node
+	 * @return the number of successors of the node
+	 */
+	public int getSuccessorCount(final int index) {
+		return this.succOffsets[index + 1] - this.succOffsets[index];
+	}
+
+	/**
+	 * @param index the index of a node
+	 * @param i which successor, from 0 to the successor count - 1
+	 * @return the index of the i-th successor of the node
+	 */
+	public int getSuccessor(final int index, final int i) {
+		return this.succs[this.succOffsets[index] + i];
+	}
+
+	/**
+	 * @param index the index of a node
+	 * @return the number of predecessors of the node
+	 */
+	public int getPredecessorCount(final int index) {
+		return this.predOffsets[index + 1] - this.predOffsets[index];
+	}
+
+	/**
+	 * @param index the index of a node
+	 * @param i which predecessor, from 0 to the predecessor count - 1
+	 * @return the index of the i-th predecessor of the node
+	 */
+	public int getPredecessor(final int index, final int i) {
+		return this.preds[this.predOffsets[index] + i];
+	}
+
+	/**
+	 * Returns the indices of the nodes reachable from a node, in the order a
+	 * depth-first search following the successors (or predecessors) in order
+	 * finishes them.  The search keeps its own stack, so it works on graphs
+	 * of any depth.
+	 *
+	 * @param start the index of the node to start from, or -1
+	 * @param forward <code>true</code> to follow successors, <code>false</code> to follow predecessors
+	 * @return the indices of the reachable nodes in postorder
+	 */
+	public int[] postorder(final int start, final boolean forward) {
+		if (start == -1)
+			return new int[0];
+
+		final int[] order = new int[size()];
+		int count = 0;
+		final boolean[] visited = new boolean[size()];
+		final int[] stack = new int[size()];
+		final int[] next = new int[size()];
+		int top = 0;
+		visited[start] = true;
+		stack[top++] = start;
+		while (top > 0) {
+			final int n = stack[top - 1];
+			final int k = next[top - 1];
+			if (k < (forward ? getSuccessorCount(n) : getPredecessorCount(n))) {
+				next[top - 1]++;
+				final int child = forward ? getSuccessor(n, k) : getPredecessor(n, k);
+				if (!visited[child]) {
+					visited[child] = true;
+					stack[top] = child;
+					next[top] = 0;
+					top++;
+				}
+			} else {
+				order[count++] = n;
+				top--;
+			}
+		}
+		return count == order.length ? order : Arrays.copyOf(order, count);
+	}
+}
@@ -0,0 +1,224 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boa.graphs;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+/**
+ * The immediate dominators and dominance frontiers of the nodes of a
+ * {@link CompactGraph}, following "A Simple, Fast Dominance Algorithm" by
+ * Cooper, Harvey and Kennedy.  Nodes are visited in reverse postorder and
+ * the dominators of each node are found by intersecting the dominator tree
+ * paths of its predecessors, over arrays indexed like the compact graph.
+ *
+ * Post-dominators are the dominators of the reversed graph, rooted at the
+ * exit node.  Nodes that cannot be reached from the root have no dominators
+ * and are ignored as predecessors of the nodes that can.
+ */
+public class Dominators<N extends Node<N, ?>> {
+	private final CompactGraph<N> graph;
+	private final int root;
+	private final boolean forward;
+
+	// the position of each node in postorder, or -1 if it is not reachable
+	private final int[] order;
+	private final int[] idom;
+
+	private int[][] frontiers = null;
+
+	/**
+	 * Computes the dominators of a graph.
+	 *
+	 * @param graph the graph
+	 * @param root the index of the node all paths start from (or end at, for post-dominators)
+	 * @param forward <code>true</code> for dominators, <code>false</code> for post-dominators
+	 */
+	public Dominators(final CompactGraph<N> graph, final int root, final boolean forward) {
+		this.graph = graph;
+		this.root = root;
+		this.forward = forward;
+
+		this.order = new int[graph.size()];
+		this.idom = new int[graph.size()];
+		Arrays.fill(this.order, -1);
+		Arrays.fill(this.idom, -1);
+
+		final int[] postorder = graph.postorder(root, forward);
+		for (int i = 0; i < postorder.length; i++)
+			this.order[postorder[i]] = i;
+
+		if (root == -1)
+			return;
+
+		this.idom[root] = root;
+		boolean changed = true;
+		while (changed) {
+			changed = false;
+			// reverse postorder, skipping the root
+			for (int i = postorder.length - 2; i >= 0; i--) {
+				final int n = postorder[i];
+				int newIdom = -1;
+				for (int k = predecessorCount(n) - 1; k >= 0; k--) {
+					final int p = predecessor(n, k);
+					if (this.idom[p] == -1)
+						continue;
+					newIdom = newIdom == -1 ? p : intersect(p, newIdom);
+				}
+				if (this.idom[n] != newIdom) {
+					this.idom[n] = newIdom;
+					changed = true;
+				}
+			}
+		}
+	}
+
+	// the predecessors in the direction of the analysis
+	private int predecessorCount(final int n) {
+		return this.forward ? this.graph.getPredecessorCount(n) : this.graph.getSuccessorCount(n);
+	}
+
+	private int predecessor(final int n, final int k) {
+		return this.forward ? this.graph.getPredecessor(n, k) : this.graph.getSuccessor(n, k);
+	}
+
+	// the nearest common dominator of two nodes
+	private int intersect(int n1, int n2) {
+		while (n1 != n2) {
+			while (this.order[n1] < this.order[n2])
+				n1 = this.idom[n1];
+			while (this.order[n2] < this.order[n1])
+				n2 = this.idom[n2];
+		}
+		return n1;
+	}
+
+	/**
+	 * @return the graph
+	 */
+	public CompactGraph<N> getGraph() {
+		return this.graph;
+	}
+
+	/**
+	 * @return the index of the root node, or -1 if there is none
+	 */
+	public int getRoot() {
+		return this.root;
+	}
+
+	/**
+	 * @param index the index of a node
+	 * @return <code>true</code> if the node can be reached from the root
+	 */
+	public boolean isReachable(final int index) {
+		return this.order[index] != -1;
+	}
+
+	/**
+	 * @param index the index of a node
+	 * @return the index of its immediate dominator, or -1 for the root and nodes that can not be reached
+	 */
+	public int getImmediateDominator(final int index) {
+		return index == this.root ? -1 : this.idom[index];
+	}
+
+	/**
+	 * @param node a node of the graph
+	 * @return its immediate dominator, or <code>null</code> for the root and nodes that can not be reached
+	 */
+	public N getImmediateDominator(final N node) {
+		final int index = this.graph.getIndex(node);
+		if (index == -1)
+			return null;
+		final int d = getImmediateDominator(index);
+		return d == -1 ? null : this.graph.getNode(d);
+	}
+
+	/**
+	 * @param a the index of a node
+	 * @param b the index of a node
+	 * @return <code>true</code> if a dominates b; every node dominates itself
+	 */
+	public boolean dominates(final int a, int b) {
+		if (!isReachable(a) || !isReachable(b))
+			return false;
+		// dominators come later in postorder
+		while (this.order[b] < this.order[a])
+			b = this.idom[b];
+		return a == b;
+	}
+
+	/**
+	 * Returns the dominance frontier of a node: the nodes it does not strictly
+	 * dominate, but which have a predecessor it dominates.  The frontiers of
+	 * all nodes are computed on first use.
+	 *
+	 * @param index the index of a node
+	 * @return the indices of the nodes in its dominance frontier
+	 */
+	public int[] getFrontier(final int index) {
+		if (this.frontiers == null)
+			computeFrontiers();
+		return this.frontiers[index];
+	}
+
+	/**
+	 * @param node a node of the graph
+	 * @return the nodes in its dominance frontier
+	 */
+	public HashSet<N> getFrontier(final N node) {
+		final HashSet<N> s = new HashSet<N>();
+		final int index = this.graph.getIndex(node);
+		if (index != -1)
+			for (final int n : getFrontier(index))
+				s.add(this.graph.getNode(n));
+		return s;
+	}
+
+	private void computeFrontiers() {
+		final int size = this.graph.size();
+		final int[] counts = new int[size];
+		final int[][] frontiers = new int[size][];
+
+		// a join node is in the frontier of every node on the dominator tree
+		// paths from its predecessors up to (not including) its own idom
+		for (int n = 0; n < size; n++) {
+			if (!isReachable(n) || predecessorCount(n) < 2)
+				continue;
+			final int stop = n == this.root ? -1 : this.idom[n];
+			for (int k = 0; k < predecessorCount(n); k++) {
+				int runner = predecessor(n, k);
+				if (!isReachable(runner))
+					continue;
+				while (runner != stop) {
+					if (frontiers[runner] == null)
+						frontiers[runner] = new int[2];
+					else if (counts[runner] == frontiers[runner].length)
+						frontiers[runner] = Arrays.copyOf(frontiers[runner], 2 * counts[runner]);
+					if (counts[runner] == 0 || frontiers[runner][counts[runner] - 1] != n)
+						frontiers[runner][counts[runner]++] = n;
+					if (runner == this.root)
+						break;
+					runner = this.idom[runner];
+				}
+			}
+		}
+
+		final int[] empty = new int[0];
+		for (int n = 0; n < size; n++)
+			frontiers[n] = counts[n] == 0 ? empty : Arrays.copyOf(frontiers[n], counts[n]);
+		this.frontiers = frontiers;
+	}
+}
@@ -61,6 +61,7 @@ public abstract class Edge<N extends Node, E extends Edge<N, E>> implements Comp
 		} else {
 			this.src = node;
 			node.addOutEdge(this);
+			this.dest.edgesChanged();
 		}
 	}
 
@@ -75,6 +76,7 @@ public abstract class Edge<N extends Node, E extends Edge<N, E>> implements Comp
 		} else {
 			this.dest = node;
 			node.addInEdge(this);
+			this.src.edgesChanged();
 		}
 	}
 
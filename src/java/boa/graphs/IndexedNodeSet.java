@@ -0,0 +1,150 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boa.graphs;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+
+/**
+ * The set of nodes of a graph, which also indexes the nodes by their id so
+ * they can be looked up in constant time.  A node's id must not change while
+ * it is in the set.
+ */
+public class IndexedNodeSet<N extends Node<N, ?>> extends HashSet<N> {
+	private static final long serialVersionUID = 1L;
+
+	private Object[] index = new Object[16];
+	private int version = 0;
+
+	private CompactGraph<N> compact = null;
+	private int compactVersion = -1;
+
+	/**
+	 * Returns the node with the given id.
+	 *
+	 * @param id the id of the node
+	 * @return the node with the given id, or <code>null</code> if there is none
+	 */
+	@SuppressWarnings("unchecked")
+	public N get(final int id) {
+		if (id < 0) {
+			for (final N n : this)
+				if (n.getId() == id)
+					return n;
+			return null;
+		}
+		if (id >= this.index.length)
+			return null;
+		return (N) this.index[id];
+	}
+
+	/**
+	 * Returns the compact form of the graph made by these nodes.  It is built
+	 * on first use and again after nodes are added or removed, or after
+	 * {@link #modified()} was called.
+	 *
+	 * @return the compact form of the graph
+	 */
+	public CompactGraph<N> getCompactGraph() {
+		if (this.compact == null || this.compactVersion != this.version) {
+			this.compact = new CompactGraph<N>(this);
+			this.compactVersion = this.version;
+		}
+		return this.compact;
+	}
+
+	/**
+	 * Marks the edges between these nodes as changed, so the compact graph is
+	 * rebuilt the next time it is asked for.
+	 */
+	public void modified() {
+		this.version++;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean add(final N node) {
+		if (!super.add(node))
+			return false;
+
+		final int id = node.getId();
+		if (id >= 0) {
+			if (id >= this.index.length)
+				this.index = Arrays.copyOf(this.index, Math.max(id + 1, 2 * this.index.length));
+			this.index[id] = node;
+		}
+		this.version++;
+		return true;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean remove(final Object o) {
+		if (!super.remove(o))
+			return false;
+
+		unindex(((Node<?, ?>) o).getId());
+		return true;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void clear() {
+		super.clear();
+		Arrays.fill(this.index, null);
+		this.version++;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Iterator<N> iterator() {
+		final Iterator<N> it = super.iterator();
+		return new Iterator<N>() {
+			private N last = null;
+
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public N next() {
+				return this.last = it.next();
+			}
+
+			@Override
+			public void remove() {
+				it.remove();
+				unindex(this.last.getId());
+			}
+		};
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	@SuppressWarnings("unchecked")
+	public Object clone() {
+		final IndexedNodeSet<N> s = (IndexedNodeSet<N>) super.clone();
+		s.index = this.index.clone();
+		s.compact = null;
+		return s;
+	}
+
+	private void unindex(final int id) {
+		if (id >= 0 && id < this.index.length)
+			this.index[id] = null;
+		this.version++;
+	}
+}
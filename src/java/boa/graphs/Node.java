@@ -17,6 +17,7 @@
 package boa.graphs;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -32,7 +33,13 @@ import boa.types.Control.Node.NodeType;
  * @author rdyer
  */
 public abstract class Node<N extends Node<N, E>, E extends Edge<N, E>> implements Comparable<N> {
-	public static int numOfNodes = -1;
+	// the last id given out, kept per thread so graphs can be built concurrently
+	private static final ThreadLocal<int[]> numOfNodes = new ThreadLocal<int[]>() {
+		@Override
+		protected int[] initialValue() {
+			return new int[] { -1 };
+		}
+	};
 
 	protected int id;
 	protected NodeType kind = NodeType.OTHER;
@@ -43,20 +50,31 @@ public abstract class Node<N extends Node<N, E>, E extends Edge<N, E>> implement
 	protected final Set<E> inEdges = new HashSet<E>();
 	protected final Set<E> outEdges = new HashSet<E>();
 
+	// adjacency built from the edge sets on first use, dropped when an edge changes
+	private N[] predecessors = null;
+	private N[] successors = null;
+
 	@Override
 	public int compareTo(final N node) {
 		return node.id - this.id;
 	}
 
 	public Node() {
-		this.id = ++numOfNodes;
+		this.id = ++numOfNodes.get()[0];
 	}
 
 	public Node(final NodeType kind) {
-		this.id = ++numOfNodes;
+		this.id = ++numOfNodes.get()[0];
 		this.kind = kind;
 	}
 
+	/**
+	 * Restarts the ids given to new nodes in the current thread at 0.
+	 */
+	public static void resetIds() {
+		numOfNodes.get()[0] = -1;
+	}
+
 	public Statement getStmt() {
 		return this.stmt;
 	}
@@ -87,6 +105,7 @@ public abstract class Node<N extends Node<N, E>, E extends Edge<N, E>> implement
 
 	public void setId(final int id) {
 		this.id = id;
+		this.hash = -1;
 	}
 
 	public Set<E> getInEdges() {
@@ -105,18 +124,51 @@ public abstract class Node<N extends Node<N, E>, E extends Edge<N, E>> implement
 		return getSuccessors();
 	}
 
+	/**
+	 * Returns the predecessors of this node.  The list is a copy, so callers
+	 * may sort or otherwise change it.
+	 *
+	 * @return the predecessors of this node
+	 */
 	public List<N> getPredecessors() {
-		final Set<N> nodes = new HashSet<N>();
-		for (final E e : this.inEdges)
-			nodes.add(e.getSrc());
-		return new ArrayList<N>(nodes);
+		if (this.predecessors == null) {
+			final Set<N> nodes = new HashSet<N>();
+			for (final E e : this.inEdges)
+				nodes.add(e.getSrc());
+			this.predecessors = toArray(nodes);
+		}
+		return new ArrayList<N>(Arrays.asList(this.predecessors));
 	}
 
+	/**
+	 * Returns the successors of this node.  The list is a copy, so callers
+	 * may sort or otherwise change it.
+	 *
+	 * @return the successors of this node
+	 */
 	public List<N> getSuccessors() {
-		final Set<N> nodes = new HashSet<N>();
-		for (final E e : this.outEdges)
-			nodes.add(e.getDest());
-		return new ArrayList<N>(nodes);
+		if (this.successors == null) {
+			final Set<N> nodes = new HashSet<N>();
+			for (final E e : this.outEdges)
+				nodes.add(e.getDest());
+			this.successors = toArray(nodes);
+		}
+		return new ArrayList<N>(Arrays.asList(this.successors));
+	}
+
+	// N erases to Node, so an array of nodes can hold any N
+	@SuppressWarnings("unchecked")
+	private N[] toArray(final Set<N> nodes) {
+		return nodes.toArray((N[]) new Node<?, ?>[nodes.size()]);
+	}
+
+	/**
+	 * Drops the cached adjacency of this node.  Called whenever one of its
+	 * edges is added, removed or moved.
+	 */
+	void edgesChanged() {
+		this.predecessors = null;
+		this.successors = null;
 	}
 
 	public E getOutEdge(final N node) {
@@ -136,28 +188,30 @@ public abstract class Node<N extends Node<N, E>, E extends Edge<N, E>> implement
 	}
 
 	public void addInEdge(final E edge) {
-		if (getInEdge(edge.getSrc()) == null)
-			this.inEdges.add(edge);
+		if (getInEdge(edge.getSrc()) == null && this.inEdges.add(edge))
+			this.predecessors = null;
 	}
 
 	public void addOutEdge(final E edge) {
-		if (getOutEdge(edge.getDest()) == null)
-			this.outEdges.add(edge);
+		if (getOutEdge(edge.getDest()) == null && this.outEdges.add(edge))
+			this.successors = null;
 	}
 
 	public void removeOutEdge(final E edge) {
-		this.outEdges.remove(edge);
+		if (this.outEdges.remove(edge))
+			this.successors = null;
 	}
 
 	public void removeInEdge(final E edge) {
-		this.inEdges.remove(edge);
+		if (this.inEdges.remove(edge))
+			this.predecessors = null;
 	}
 
 	public void delete() {
 		final List<E> edges = new ArrayList<E>();
 		edges.addAll(inEdges);
 		edges.addAll(outEdges);
-		for (final Edge e : edges)
+		for (final E e : edges)
 			e.delete();
 	}
 
@@ -205,7 +259,7 @@ public abstract class Node<N extends Node<N, E>, E extends Edge<N, E>> implement
 		if (this == o) return true;
 		if (!(o instanceof Node)) return false;
 
-		final Node n = (Node) o;
+		final Node<?, ?> n = (Node<?, ?>) o;
 
 		return id == n.id;
 	}
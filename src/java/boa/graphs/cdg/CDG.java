@@ -19,13 +19,14 @@ package boa.graphs.cdg;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import boa.functions.BoaAstIntrinsics;
+import boa.graphs.CompactGraph;
+import boa.graphs.IndexedNodeSet;
 import boa.graphs.cfg.CFG;
 import boa.graphs.cfg.CFGEdge;
 import boa.graphs.cfg.CFGNode;
@@ -43,7 +44,7 @@ import boa.types.Control;
 public class CDG {
     private Method md;
     private CDGNode entryNode;
-    private final Set<CDGNode> nodes = new HashSet<CDGNode>();
+    private final IndexedNodeSet<CDGNode> nodes = new IndexedNodeSet<CDGNode>();
 
     /**
      * Constructs a control dependence graph
@@ -128,12 +129,18 @@ public class CDG {
      * @param id node id
      * @return the CDG node for the given node id. If not found then returns null
      */
-    public CDGNode getNode(final int id) { // sort and do b-search
-        for (final CDGNode n : nodes)
-            if (n.getId() == id)
-                return n;
+    public CDGNode getNode(final int id) {
+        return nodes.get(id);
+    }
 
-        return null;
+    /**
+     * Returns the compact, array backed form of the CDG.  It is cached, so
+     * repeated calls on an unchanged CDG are cheap.
+     *
+     * @return the compact form of the CDG
+     */
+    public CompactGraph<CDGNode> getCompactGraph() {
+        return nodes.getCompactGraph();
     }
 
     /**
@@ -186,7 +193,10 @@ public class CDG {
             nodes.remove(startNode);
 
             entryNode.setKind(Control.Node.NodeType.ENTRY);
+            // the node set is indexed by id, so re-add the node under its new id
+            nodes.remove(entryNode);
             entryNode.setId(0);
+            nodes.add(entryNode);
         } catch (final Exception e) {
             System.out.println(BoaAstIntrinsics.prettyprint(md));
             throw e;
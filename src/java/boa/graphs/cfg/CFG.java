@@ -24,6 +24,10 @@ import java.util.List;
 import java.util.Map;
 
 import boa.functions.BoaAstIntrinsics;
+import boa.graphs.CompactGraph;
+import boa.graphs.Dominators;
+import boa.graphs.IndexedNodeSet;
+import boa.graphs.Node;
 import boa.types.Ast.Expression;
 import boa.types.Ast.Method;
 import boa.types.Ast.Statement;
@@ -45,7 +49,7 @@ public class CFG {
 	protected Method md;
 	protected String class_name;
 
-	protected final HashSet<CFGNode> nodes = new HashSet<CFGNode>();
+	protected final IndexedNodeSet<CFGNode> nodes = new IndexedNodeSet<CFGNode>();
 	protected CFGNode entryNode;
 	protected CFGNode exitNode;
 
@@ -58,6 +62,10 @@ public class CFG {
 	protected boolean isBranchPresent = false;
 	protected boolean paramAsStatement = false;
 
+	// cached by getDominators() and getPostDominators()
+	private Dominators<CFGNode> dominators = null;
+	private Dominators<CFGNode> postDominators = null;
+
 	public CFG(final Method method) {
 		this(method, "this");
 	}
@@ -119,11 +127,43 @@ public class CFG {
 	 * @return CFG node
 	 */
 	public CFGNode getNode(int id) {
-		for (final CFGNode node : nodes) {
-			if (node.getId() == id)
-				return node;
-		}
-		return null;
+		return nodes.get(id);
+	}
+
+	/**
+	 * Returns the compact, array backed form of the CFG.  It is cached, so
+	 * repeated calls on an unchanged CFG are cheap.
+	 *
+	 * @return the compact form of the CFG
+	 */
+	public CompactGraph<CFGNode> getCompactGraph() {
+		return nodes.getCompactGraph();
+	}
+
+	/**
+	 * Returns the dominators of the nodes, rooted at the first node.  They are
+	 * cached until the CFG changes.
+	 *
+	 * @return the dominators of the nodes
+	 */
+	public Dominators<CFGNode> getDominators() {
+		final CompactGraph<CFGNode> g = getCompactGraph();
+		if (dominators == null || dominators.getGraph() != g)
+			dominators = new Dominators<CFGNode>(g, g.getIndex(0), true);
+		return dominators;
+	}
+
+	/**
+	 * Returns the post-dominators of the nodes, rooted at the last node.  They
+	 * are cached until the CFG changes.
+	 *
+	 * @return the post-dominators of the nodes
+	 */
+	public Dominators<CFGNode> getPostDominators() {
+		final CompactGraph<CFGNode> g = getCompactGraph();
+		if (postDominators == null || postDominators.getGraph() != g)
+			postDominators = new Dominators<CFGNode>(g, g.getIndex(nodes.size() - 1), false);
+		return postDominators;
 	}
 
 	protected void addNode(final CFGNode node) {
@@ -185,6 +225,7 @@ public class CFG {
 		if (src.getSuccessors().contains(dest))
 			return;
 
+		nodes.modified();
 		if (label == null)
 			new CFGEdge(src, dest);
 		else
@@ -316,7 +357,7 @@ public class CFG {
 
 	public CFG get() {
 		if (md.getStatementsCount() > 0) {
-			CFGNode.numOfNodes = -1;
+			Node.resetIds();
 			final CFGNode startNode = new CFGNode("ENTRY", NodeType.ENTRY, "ENTRY", "ENTRY");
 			mergeSeq(startNode);
 			if (paramAsStatement)
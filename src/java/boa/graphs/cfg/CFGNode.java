@@ -41,6 +41,7 @@ public class CFGNode extends Node<CFGNode, CFGEdge> {
 	private int numOfParameters = 0;
 	private HashSet<Integer> parameters;
 
+	// shared by all mapper threads, guarded by the class lock
 	private static final HashMap<String, Integer> idOfLabel = new HashMap<String, Integer>();
 	private static final HashMap<Integer, String> labelOfID = new HashMap<Integer, String>();
 
@@ -81,7 +82,7 @@ public class CFGNode extends Node<CFGNode, CFGEdge> {
 		this.numOfParameters = numOfParameters;
 	}
 
-	public static int convertLabel(final String label) {
+	public static synchronized int convertLabel(final String label) {
 		if (!CFGNode.idOfLabel.containsKey(label)) {
 			final int index = CFGNode.idOfLabel.size() + 1;
 			CFGNode.idOfLabel.put(label, index);
@@ -91,6 +92,10 @@ public class CFGNode extends Node<CFGNode, CFGEdge> {
 		return CFGNode.idOfLabel.get(label);
 	}
 
+	private static synchronized String getLabel(final int id) {
+		return CFGNode.labelOfID.get(id);
+	}
+
 	public int getNumOfParameters() {
 		return this.numOfParameters;
 	}
@@ -112,11 +117,11 @@ public class CFGNode extends Node<CFGNode, CFGEdge> {
 	}
 
 	public String getObjectName() {
-		return labelOfID.get(this.objectNameId);
+		return getLabel(this.objectNameId);
 	}
 
 	public String getClassName() {
-		return labelOfID.get(this.classNameId);
+		return getLabel(this.classNameId);
 	}
 
 	public HashSet<String> getUseVariables() {
@@ -140,7 +145,7 @@ public class CFGNode extends Node<CFGNode, CFGEdge> {
 	}
 
 	public String getMethod() {
-		return CFGNode.labelOfID.get(this.methodId);
+		return getLabel(this.methodId);
 	}
 
 	public String getName() {
@@ -16,6 +16,8 @@
  */
 package boa.graphs.ddg;
 
+import boa.graphs.CompactGraph;
+import boa.graphs.IndexedNodeSet;
 import boa.graphs.cfg.CFG;
 import boa.graphs.cfg.CFGNode;
 import boa.types.Ast.*;
@@ -31,7 +33,7 @@ import java.util.*;
 public class DDG {
     private Method md;
     private DDGNode entryNode;
-    private final HashSet<DDGNode> nodes = new HashSet<DDGNode>();
+    private final IndexedNodeSet<DDGNode> nodes = new IndexedNodeSet<DDGNode>();
     private final HashMap<DDGNode, Set<DDGNode>> defUseChain = new HashMap<DDGNode, Set<DDGNode>>();
     //private HashMap<DDGNode, Set<DDGNode>> useDefChain; //TODO: needs reaching-def analysis
 
@@ -144,11 +146,17 @@ public class DDG {
      * @return DDGNode
      */
     public DDGNode getNode(final int id) {
-        for (final DDGNode n : nodes)
-            if (n.getId() == id)
-                return n;
+        return nodes.get(id);
+    }
 
-        return null;
+    /**
+     * Returns the compact, array backed form of the DDG.  It is cached, so
+     * repeated calls on an unchanged DDG are cheap.
+     *
+     * @return the compact form of the DDG
+     */
+    public CompactGraph<DDGNode> getCompactGraph() {
+        return nodes.getCompactGraph();
     }
 
     /**
@@ -17,6 +17,8 @@
 package boa.graphs.pdg;
 
 import boa.functions.BoaAstIntrinsics;
+import boa.graphs.CompactGraph;
+import boa.graphs.IndexedNodeSet;
 import boa.graphs.cdg.CDG;
 import boa.graphs.cdg.CDGEdge;
 import boa.graphs.cdg.CDGNode;
@@ -41,7 +43,7 @@ import static boa.functions.BoaNormalFormIntrinsics.normalizeStatement;
 public class PDG {
     private Method md;
     private PDGNode entryNode;
-    private final HashSet<PDGNode> nodes = new HashSet<PDGNode>();
+    private final IndexedNodeSet<PDGNode> nodes = new IndexedNodeSet<PDGNode>();
     private boolean normalize = false;
     private int hashcode;
 
@@ -175,11 +177,17 @@ public class PDG {
      * @return
      */
     public PDGNode getNode(final int id) {
-        for (final PDGNode n : nodes)
-            if (n.getId() == id)
-                return n;
+        return nodes.get(id);
+    }
 
-        return null;
+    /**
+     * Returns the compact, array backed form of the PDG.  It is cached, so
+     * repeated calls on an unchanged PDG are cheap.
+     *
+     * @return the compact form of the PDG
+     */
+    public CompactGraph<PDGNode> getCompactGraph() {
+        return nodes.getCompactGraph();
     }
 
     /**
@@ -19,6 +19,9 @@ package boa.graphs.trees;
 import java.util.*;
 
 import boa.functions.BoaAstIntrinsics;
+import boa.graphs.CompactGraph;
+import boa.graphs.Dominators;
+import boa.graphs.IndexedNodeSet;
 import boa.types.Ast.Method;
 import boa.graphs.cfg.CFG;
 import boa.graphs.cfg.CFGNode;
@@ -32,7 +35,7 @@ import boa.graphs.cfg.CFGNode;
 public class DTree {
     private Method md;
     private TreeNode rootNode;
-    private final HashSet<TreeNode> nodes = new HashSet<TreeNode>();
+    private final IndexedNodeSet<TreeNode> nodes = new IndexedNodeSet<TreeNode>();
     private boolean isEntryNode = false; // as specified in ferrante-1987 paper on PDG
 
     /**
@@ -44,8 +47,7 @@ public class DTree {
     public DTree(final CFG cfg) throws Exception {
         if (cfg != null && cfg.getNodes().size() > 0) {
             this.md = cfg.getMd();
-            final Map<CFGNode, Set<CFGNode>> dom = computeDominators(cfg);
-            final Map<CFGNode, CFGNode> idom = computeImmediateDominator(dom, cfg);
+            final Map<CFGNode, CFGNode> idom = computeImmediateDominators(cfg);
             buildDomTree(idom);
         }
     }
@@ -117,10 +119,7 @@ public class DTree {
      * @return the immediate dominator of the given node
      */
     public TreeNode getImmediateDominator(final TreeNode node) {
-        for (final TreeNode n : nodes)
-            if (n.equals(node))
-                return n.getParent();
-        return null;
+        return getImmediateDominator(node.getId());
     }
 
     /**
@@ -130,10 +129,8 @@ public class DTree {
      * @return the immediate dominator for the given node id
      */
     public TreeNode getImmediateDominator(final int nodeid) {
-        for (final TreeNode n : nodes)
-            if (n.getId() == nodeid)
-                return n.getParent();
-        return null;
+        final TreeNode n = nodes.get(nodeid);
+        return n == null ? null : n.getParent();
     }
 
     /**
@@ -143,107 +140,24 @@ public class DTree {
      * @return the tree node for the given node id. If not found then returns null
      */
     public TreeNode getNode(final int id) {
-        for (final TreeNode node : nodes) {
-            if (node.getId() == id)
-                return node;
-        }
-        return null;
+        return nodes.get(id);
     }
 
     /**
-     * Computes and returns map of dominators for each node in the control flow graph
+     * Computes and returns a map of nodes and corresponding immediate dominators
      *
      * @param cfg control flow graph
-     * @return map of nodes and corresponding set of dominator nodes
-     * @throws Exception
-     */
-    private Map<CFGNode, Set<CFGNode>> computeDominators(final CFG cfg) {
-        final Map<CFGNode, Set<CFGNode>> pDomMap = new HashMap<CFGNode, Set<CFGNode>>();
-
-        // initialize
-        if (cfg.getNodes().size() > 2) {
-            for (final CFGNode n : cfg.getNodes()) {
-                if (n.getId() == 0)
-                    pDomMap.put(n, new HashSet<CFGNode>(Collections.singletonList(n)));
-                else
-                    pDomMap.put(n, cfg.getNodes());
-            }
-        } else {
-            final CFGNode startNode = cfg.getNode(0);
-            pDomMap.put(startNode, new HashSet<CFGNode>(Collections.singletonList(startNode)));
-            pDomMap.put(cfg.getNode(1), new HashSet<CFGNode>(cfg.getNodes()));
-        }
-
-        final Map<CFGNode, Set<CFGNode>> currentPDomMap = new HashMap<CFGNode, Set<CFGNode>>();
-        boolean saturated = false;
-        while (!saturated) { // fix point iteration
-            int changeCount = 0;
-            for (final CFGNode n : cfg.getNodes()) {
-                final Set<CFGNode> currentPDom = new HashSet<CFGNode>();
-
-                // Intersection[pred(node)]
-                boolean first = true;
-                for (final CFGNode pred : n.getPredecessors()) {
-                    if (first) {
-                        currentPDom.addAll(pDomMap.get(pred));
-                        first = false;
-                        continue;
-                    }
-                    currentPDom.retainAll(pDomMap.get(pred));
-                }
-                // D[n] = {n} Union (Intersection[pred[node]])
-                currentPDom.add(n);
-
-                final Set<CFGNode> diff = new HashSet<CFGNode>(pDomMap.get(n));
-                diff.removeAll(currentPDom);
-                if (diff.size() > 0)
-                    changeCount++;
-                currentPDomMap.put(n, currentPDom);
-            }
-
-            if (changeCount == 0) {
-                saturated = true;
-            } else {
-                pDomMap.clear();
-                pDomMap.putAll(currentPDomMap);
-                currentPDomMap.clear();
-            }
-        }
-
-        // strict dominance
-        for (final CFGNode n : pDomMap.keySet())
-            pDomMap.get(n).remove(n);
-
-        return pDomMap;
-    }
-
-    /**
-     * Computes and returns map of nodes and corresponding immediate dominators
-     *
-     * @param dom map of nodes and corresponding dominators
      * @return map of nodes and corresponding immediate dominators
      */
-    private Map<CFGNode, CFGNode> computeImmediateDominator(final Map<CFGNode, Set<CFGNode>> dom, final CFG cfg) {
-        /*
-         * To find idom, we check each dom of a node to see if it is dominating any other
-         * node. Each node should have atmost one i-dom (first node has no immediate dominator)
-         */
+    private Map<CFGNode, CFGNode> computeImmediateDominators(final CFG cfg) {
+        // nodes not reachable from the first node have no immediate dominator
+        final Dominators<CFGNode> dom = cfg.getDominators();
+        final CompactGraph<CFGNode> g = dom.getGraph();
         final Map<CFGNode, CFGNode> idom = new HashMap<CFGNode, CFGNode>();
-        for (final Map.Entry<CFGNode, Set<CFGNode>> entry : dom.entrySet()) {
-            for (final CFGNode pd1 : entry.getValue()) {
-                boolean isIPDom = true;
-                for (final CFGNode pd2 : entry.getValue()) {
-                    if (pd1.getId() != pd2.getId())
-                        if ((dom.get(pd2)).contains(pd1)) {
-                            isIPDom = false;
-                            break;
-                        }
-                }
-                if (isIPDom) {
-                    idom.put(entry.getKey(), pd1);
-                    break;
-                }
-            }
+        for (int i = 0; i < g.size(); i++) {
+            final int d = dom.getImmediateDominator(i);
+            if (d != -1)
+                idom.put(g.getNode(i), g.getNode(d));
         }
 
         return idom;
@@ -19,6 +19,9 @@ package boa.graphs.trees;
 import java.util.*;
 
 import boa.functions.BoaAstIntrinsics;
+import boa.graphs.CompactGraph;
+import boa.graphs.Dominators;
+import boa.graphs.IndexedNodeSet;
 import boa.types.Ast.Method;
 import boa.graphs.cfg.CFG;
 import boa.graphs.cfg.CFGNode;
@@ -32,7 +35,7 @@ import boa.graphs.cfg.CFGNode;
 public class PDTree {
     private Method md;
     private TreeNode rootNode;
-    private final HashSet<TreeNode> nodes = new HashSet<TreeNode>();
+    private final IndexedNodeSet<TreeNode> nodes = new IndexedNodeSet<TreeNode>();
     private boolean hasEntryNode = false; // as specified in ferrante-1987 paper on PDG
 
     /**
@@ -44,8 +47,7 @@ public class PDTree {
     public PDTree(final CFG cfg) throws Exception {
         if (cfg != null && cfg.getNodes().size() > 0) {
             this.md = cfg.getMd();
-            final Map<CFGNode, BitSet> pdom = computePostDomonitors(cfg);
-            final Map<CFGNode, CFGNode> ipdom = computeImmediatePostDominator(pdom, cfg);
+            final Map<CFGNode, CFGNode> ipdom = computeImmediatePostDominators(cfg);
             buildPDomTree(ipdom);
         }
     }
@@ -132,10 +134,7 @@ public class PDTree {
      * @return the immediate post-dominator of the given node
      */
     public TreeNode getImmediatePostDominator(final TreeNode node) {
-        for (final TreeNode n : nodes)
-            if (n.equals(node))
-                return n.getParent();
-        return null;
+        return getImmediatePostDominator(node.getId());
     }
 
     /**
@@ -145,10 +144,8 @@ public class PDTree {
      * @return the immediate post-dominator of the given node
      */
     public TreeNode getImmediatePostDominator(final int nodeid) {
-        for (final TreeNode n : nodes)
-            if (n.getId() == nodeid)
-                return n.getParent();
-        return null;
+        final TreeNode n = nodes.get(nodeid);
+        return n == null ? null : n.getParent();
     }
 
     /**
@@ -158,126 +155,24 @@ public class PDTree {
      * @return the tree node for the given node id. If not found then returns null
      */
     public TreeNode getNode(final int id) {
-        for (final TreeNode node : nodes) {
-            if (node.getId() == id)
-                return node;
-        }
-        return null;
-    }
-
-    /**
-     * Computes and returns map of post-dominators for each node in the control flow graph
-     *
-     * @param cfg control flow graph
-     * @return map of nodes and corresponding set of post-dominator nodes
-     * @throws Exception
-     */
-    private Map<CFGNode, BitSet> computePostDomonitors(final CFG cfg) {
-        final CFGNode[] cfgNodes = cfg.reverseSortNodes();
-        final Map<CFGNode, List<CFGNode>> successors = new HashMap<CFGNode, List<CFGNode>>();
-
-        Map<CFGNode, BitSet> pDomMap = new HashMap<CFGNode, BitSet>();
-        Map<CFGNode, BitSet> currentPDomMap = new HashMap<CFGNode, BitSet>();
-
-        // initialize
-        final BitSet allBits = new BitSet();
-        for (final CFGNode n : cfg.getNodes()) {
-            allBits.set(n.getId());
-        }
-
-        if (cfg.getNodes().size() > 2) {
-            final int stopid = cfg.getNodes().size() - 1;
-
-            for (final CFGNode n : cfg.getNodes()) {
-                if (n.getId() == stopid) {
-                    pDomMap.put(n, new BitSet());
-                    pDomMap.get(n).set(n.getId());
-                } else {
-                    pDomMap.put(n, (BitSet)allBits.clone());
-                }
-
-                successors.put(n, n.getSuccessors());
-            }
-        } else {
-            pDomMap.put(cfg.getNode(0), (BitSet)allBits.clone());
-
-            final CFGNode stopNode = cfg.getNode(1);
-            pDomMap.put(stopNode, new BitSet());
-            pDomMap.get(stopNode).set(stopNode.getId());
-
-            successors.put(cfg.getNode(0), cfg.getNode(0).getSuccessors());
-            successors.put(stopNode, stopNode.getSuccessors());
-        }
-
-        while (true) { // fix point iteration
-            boolean changed = false;
-
-            for (final CFGNode n : cfgNodes) {
-                BitSet currentPDom = null;
-
-                // Intersection[succ(node)]
-                for (final CFGNode succ : successors.get(n)) {
-                    if (currentPDom == null) {
-                        currentPDom = (BitSet)pDomMap.get(succ).clone();
-                        continue;
-                    }
-                    currentPDom.and(pDomMap.get(succ));
-                    if (currentPDom.isEmpty())
-                        break;
-                }
-                // D[n] = {n} Union (Intersection[succ[node]])
-                if (currentPDom == null) currentPDom = new BitSet();
-                currentPDom.set(n.getId());
-
-                if (!pDomMap.get(n).equals(currentPDom))
-                    changed = true;
-                currentPDomMap.put(n, currentPDom);
-            }
-
-            if (!changed)
-                break;
-
-            pDomMap = currentPDomMap;
-            currentPDomMap = new HashMap<CFGNode, BitSet>();
-        }
-
-        // ensure strict post-dominance
-        for (final CFGNode n : cfgNodes) {
-            final BitSet curMap = pDomMap.get(n);
-            curMap.clear(n.getId());
-        }
-
-        return pDomMap;
+        return nodes.get(id);
     }
 
     /**
      * Computes and returns a map of nodes and corresponding immediate post-dominators
      *
-     * @param pdom map of nodes and corresponding post-dominators
+     * @param cfg control flow graph
      * @return map of nodes and corresponding immediate post-dominators
      */
-    private Map<CFGNode, CFGNode> computeImmediatePostDominator(final Map<CFGNode, BitSet> pdom, final CFG cfg) {
+    private Map<CFGNode, CFGNode> computeImmediatePostDominators(final CFG cfg) {
+        // nodes that can not reach the last node have no immediate post-dominator
+        final Dominators<CFGNode> pdom = cfg.getPostDominators();
+        final CompactGraph<CFGNode> g = pdom.getGraph();
         final Map<CFGNode, CFGNode> ipdom = new HashMap<CFGNode, CFGNode>();
-
-        // To find ipdom, we check each pdom of a node to see if it is post dominating any other
-        // node. Each node should have at most one ip-dom (last node has no immediate post dominator)
-        for (final Map.Entry<CFGNode, BitSet> entry : pdom.entrySet()) {
-            BitSet bs1 = entry.getValue();
-            for (int pd1 = 0; pd1 < bs1.size(); pd1++) {
-                if (!bs1.get(pd1)) continue;
-                boolean isIPDom = true;
-                for (int pd2 = 0; pd2 < bs1.size(); pd2++) {
-                    if (!bs1.get(pd2) || pd1 == pd2) continue;
-                    if (pdom.containsKey(pd2) && pdom.get(pd2).get(pd1)) {
-                        isIPDom = false;
-                        break;
-                    }
-                }
-                if (isIPDom) {
-                    ipdom.put(entry.getKey(), cfg.getNode(pd1));
-                    break;
-                }
-            }
+        for (int i = 0; i < g.size(); i++) {
+            final int d = pdom.getImmediateDominator(i);
+            if (d != -1)
+                ipdom.put(g.getNode(i), g.getNode(d));
         }
 
         return ipdom;
@@ -40,7 +40,7 @@ import org.apache.hadoop.mapreduce.TaskAttemptContext;
 public class BoaOutputCommitter extends FileOutputCommitter {
 	private final Path outputPath;
 	private final TaskAttemptContext context;
-	public static Throwable lastSeenEx = null;
+	public static volatile Throwable lastSeenEx = null;
 
 	public BoaOutputCommitter(Path output, TaskAttemptContext context) throws java.io.IOException {
 		super(output, context);
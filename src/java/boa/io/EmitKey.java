@@ -20,26 +20,60 @@ import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 
+import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.io.RawComparator;
 import org.apache.hadoop.io.Text;
 import org.apache.hadoop.io.WritableComparable;
 import org.apache.hadoop.io.WritableComparator;
+import org.apache.hadoop.io.WritableUtils;
 
 /**
  * A {@link WritableComparable} that contains a low resolution key which is the
  * name of the table this value is being emitted to, and a high resolution key
  * which is an index into that table.
  * 
+ * On the wire the table name is replaced by a varint into the sorted list of
+ * table names registered with {@link #setTables(String[])}, so keys can be
+ * ordered without deserializing them.  Tables that were not registered are
+ * written inline.
+ * 
+ * Keys emitted to tables registered with {@link #setSortedTables(String[])}
+ * also carry the value they were emitted with.  The sort order includes the
+ * value, while the {@link GroupingComparator} ignores it, so the reducer sees
+ * the values of each key in sorted order.
+ * 
  * @author anthonyu
  * @author rdyer
  */
 public class EmitKey implements WritableComparable<EmitKey>, RawComparator<EmitKey>, Serializable {
 	private static final long serialVersionUID = -6302400030199718829L;
 
+	/**
+	 * The {@link Configuration} property holding the names of all output
+	 * tables of a job.
+	 */
+	public static final String TABLES_PROPERTY = "boa.tables";
+
+	/**
+	 * The {@link Configuration} property holding the names of the output
+	 * tables whose values are sorted.
+	 */
+	public static final String SORTED_TABLES_PROPERTY = "boa.tables.sorted";
+
+	private static volatile String[] tables = new String[0];
+	private static volatile Map<String, Integer> tableIds = new HashMap<String, Integer>();
+	private static volatile Set<String> sortedTables = new HashSet<String>();
+
 	private int id = 0;
 	private String index;
 	private String name;
+	private String value;
 
 	/**
 	 * Construct an EmitKey.
@@ -85,26 +119,187 @@ public class EmitKey implements WritableComparable<EmitKey>, RawComparator<EmitK
 		this.id = id;
 	}
 
+	/**
+	 * Register the names of the output tables, so keys emitted to them are
+	 * serialized as a table id instead of the full name.
+	 * 
+	 * @param names
+	 *            An array of {@link String} containing the table names
+	 */
+	public static void setTables(final String[] names) {
+		final String[] sorted = names == null ? new String[0] : names.clone();
+		Arrays.sort(sorted);
+
+		final Map<String, Integer> ids = new HashMap<String, Integer>();
+		for (int i = 0; i < sorted.length; i++)
+			ids.put(sorted[i], i);
+
+		tables = sorted;
+		tableIds = ids;
+	}
+
+	/**
+	 * Register the output tables listed in a job's {@link Configuration}.
+	 * 
+	 * @param conf
+	 *            The {@link Configuration} of the job
+	 */
+	public static void setTables(final Configuration conf) {
+		if (conf != null && conf.get(TABLES_PROPERTY) != null)
+			setTables(conf.getStrings(TABLES_PROPERTY));
+		if (conf != null && conf.get(SORTED_TABLES_PROPERTY) != null)
+			setSortedTables(conf.getStrings(SORTED_TABLES_PROPERTY));
+	}
+
+	/**
+	 * Register the names of the output tables whose values are sorted.
+	 * 
+	 * @param names
+	 *            An array of {@link String} containing the table names
+	 */
+	public static void setSortedTables(final String[] names) {
+		final Set<String> sorted = new HashSet<String>();
+		if (names != null)
+			sorted.addAll(Arrays.asList(names));
+		sortedTables = sorted;
+	}
+
+	/**
+	 * Check if the values of a table are sorted.
+	 * 
+	 * @param name
+	 *            A {@link String} containing the name of a table
+	 * @return true if the table was registered with
+	 *         {@link #setSortedTables(String[])}
+	 */
+	public static boolean isSorted(final String name) {
+		return sortedTables.contains(name);
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public void readFields(final DataInput in) throws IOException {
-		this.id = in.readInt();
+		final int table = WritableUtils.readVInt(in);
+		if (table == 0)
+			this.name = Text.readString(in);
+		else
+			this.name = tables[table - 1];
 		this.index = Text.readString(in);
-		this.name = Text.readString(in);
+		this.id = WritableUtils.readVInt(in);
+		this.value = sortedTables.contains(this.name) ? Text.readString(in) : null;
 	}
 
 	/** {@inheritDoc} */
 	@Override
 	public void write(final DataOutput out) throws IOException {
-		out.writeInt(this.id);
+		final Integer table = tableIds.get(this.name);
+		if (table == null) {
+			WritableUtils.writeVInt(out, 0);
+			Text.writeString(out, this.name);
+		} else {
+			WritableUtils.writeVInt(out, table + 1);
+		}
 		Text.writeString(out, this.index);
-		Text.writeString(out, this.name);
+		WritableUtils.writeVInt(out, this.id);
+		if (sortedTables.contains(this.name))
+			Text.writeString(out, this.value == null ? "" : this.value);
 	}
 
 	/** {@inheritDoc} */
 	@Override
 	public int compare(final byte[] b1, final int s1, final int l1, final byte[] b2, final int s2, final int l2) {
-		return WritableComparator.compareBytes(b1, s1, l1, b2, s2, l2);
+		return compare(b1, s1, l1, b2, s2, l2, true);
+	}
+
+	private static int compare(final byte[] b1, final int s1, final int l1, final byte[] b2, final int s2, final int l2, final boolean values) {
+		try {
+			int p1 = s1;
+			int p2 = s2;
+
+			// compare the names
+			final int t1 = WritableComparator.readVInt(b1, p1);
+			final int t2 = WritableComparator.readVInt(b2, p2);
+			p1 += WritableUtils.decodeVIntSize(b1[p1]);
+			p2 += WritableUtils.decodeVIntSize(b2[p2]);
+
+			int c;
+			if (t1 != 0 && t2 != 0) {
+				c = t1 - t2;
+			} else {
+				final String n1;
+				if (t1 == 0) {
+					final int n = WritableComparator.readVInt(b1, p1);
+					p1 += WritableUtils.decodeVIntSize(b1[p1]);
+					n1 = Text.decode(b1, p1, n);
+					p1 += n;
+				} else {
+					n1 = tables[t1 - 1];
+				}
+
+				final String n2;
+				if (t2 == 0) {
+					final int n = WritableComparator.readVInt(b2, p2);
+					p2 += WritableUtils.decodeVIntSize(b2[p2]);
+					n2 = Text.decode(b2, p2, n);
+					p2 += n;
+				} else {
+					n2 = tables[t2 - 1];
+				}
+
+				c = n1.compareTo(n2);
+			}
+			if (c != 0)
+				return c;
+
+			// compare the indices
+			final int i1 = WritableComparator.readVInt(b1, p1);
+			final int i2 = WritableComparator.readVInt(b2, p2);
+			p1 += WritableUtils.decodeVIntSize(b1[p1]);
+			p2 += WritableUtils.decodeVIntSize(b2[p2]);
+			c = compareUTF8(b1, p1, i1, b2, p2, i2);
+			if (c != 0)
+				return c;
+			p1 += i1;
+			p2 += i2;
+
+			// compare the ids
+			c = WritableComparator.readVInt(b1, p1) - WritableComparator.readVInt(b2, p2);
+			if (c != 0 || !values)
+				return c;
+			p1 += WritableUtils.decodeVIntSize(b1[p1]);
+			p2 += WritableUtils.decodeVIntSize(b2[p2]);
+
+			// compare the values, if the keys have them
+			if (p1 == s1 + l1 || p2 == s2 + l2)
+				return (p1 == s1 + l1 ? 0 : 1) - (p2 == s2 + l2 ? 0 : 1);
+			final int v1 = WritableComparator.readVInt(b1, p1);
+			final int v2 = WritableComparator.readVInt(b2, p2);
+			p1 += WritableUtils.decodeVIntSize(b1[p1]);
+			p2 += WritableUtils.decodeVIntSize(b2[p2]);
+			return compareUTF8(b1, p1, v1, b2, p2, v2);
+		} catch (final IOException e) {
+			throw new IllegalArgumentException(e);
+		}
+	}
+
+	/*
+	 * Compares two UTF-8 encoded strings in the same order as String.compareTo().
+	 * The first differing byte decides, unless it is part of a multi-byte
+	 * sequence, in which case UTF-8 byte order and UTF-16 order can disagree
+	 * and the strings are decoded.
+	 */
+	private static int compareUTF8(final byte[] b1, final int s1, final int l1, final byte[] b2, final int s2, final int l2) throws IOException {
+		final int n = Math.min(l1, l2);
+		for (int i = 0; i < n; i++) {
+			final int a = b1[s1 + i] & 0xff;
+			final int b = b2[s2 + i] & 0xff;
+			if (a != b) {
+				if (a < 0x80 && b < 0x80)
+					return a - b;
+				return Text.decode(b1, s1, l1).compareTo(Text.decode(b2, s2, l2));
+			}
+		}
+		return l1 - l2;
 	}
 
 	/** {@inheritDoc} */
@@ -127,7 +322,14 @@ public class EmitKey implements WritableComparable<EmitKey>, RawComparator<EmitK
 			return c;
 
 		// compare the ids 
-		return (this.id - that.id);
+		c = this.id - that.id;
+		if (c != 0)
+			return c;
+
+		// compare the values
+		if (this.value == null || that.value == null)
+			return (this.value == null ? 0 : 1) - (that.value == null ? 0 : 1);
+		return this.value.compareTo(that.value);
 	}
 
 	/** {@inheritDoc} */
@@ -138,6 +340,7 @@ public class EmitKey implements WritableComparable<EmitKey>, RawComparator<EmitK
 		result = prime * result + (this.index == null ? 0 : this.index.hashCode());
 		result = prime * result + (this.name == null ? 0 : this.name.hashCode());
 		result = prime * result + this.id;
+		result = prime * result + (this.value == null ? 0 : this.value.hashCode());
 		return result;
 	}
 
@@ -163,6 +366,11 @@ public class EmitKey implements WritableComparable<EmitKey>, RawComparator<EmitK
 				return false;
 		} else if (!this.name.equals(other.name))
 			return false;
+		if (this.value == null) {
+			if (other.value != null)
+				return false;
+		} else if (!this.value.equals(other.value))
+			return false;
 		return true;
 	}
 
@@ -227,6 +435,25 @@ public class EmitKey implements WritableComparable<EmitKey>, RawComparator<EmitK
 		this.id = id;
 	}
 
+	/**
+	 * Get the value this key is sorted by, for tables with sorted values.
+	 * 
+	 * @return A {@link String} containing the value, or null
+	 */
+	public String getValue() {
+		return this.value;
+	}
+
+	/**
+	 * Set the value this key is sorted by, for tables with sorted values.
+	 * 
+	 * @param value
+	 *            A {@link String} containing the value
+	 */
+	public void setValue(final String value) {
+		this.value = value;
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public String toString() {
@@ -236,4 +463,42 @@ public class EmitKey implements WritableComparable<EmitKey>, RawComparator<EmitK
 	public String getKey() {
 		return this.id + "::" + this.name;
 	}
+
+	/**
+	 * A {@link WritableComparator} that orders serialized {@link EmitKey}s
+	 * without deserializing them.
+	 */
+	public static class Comparator extends WritableComparator {
+		private final EmitKey raw = new EmitKey();
+
+		public Comparator() {
+			super(EmitKey.class);
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public int compare(final byte[] b1, final int s1, final int l1, final byte[] b2, final int s2, final int l2) {
+			return this.raw.compare(b1, s1, l1, b2, s2, l2);
+		}
+	}
+
+	/**
+	 * A {@link WritableComparator} that groups serialized {@link EmitKey}s by
+	 * table, index and job, ignoring the values they are sorted by.
+	 */
+	public static class GroupingComparator extends WritableComparator {
+		public GroupingComparator() {
+			super(EmitKey.class);
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public int compare(final byte[] b1, final int s1, final int l1, final byte[] b2, final int s2, final int l2) {
+			return EmitKey.compare(b1, s1, l1, b2, s2, l2, false);
+		}
+	}
+
+	static {
+		WritableComparator.define(EmitKey.class, new Comparator());
+	}
 }
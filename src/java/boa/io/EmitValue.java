@@ -23,6 +23,7 @@ import java.util.Arrays;
 
 import org.apache.hadoop.io.Text;
 import org.apache.hadoop.io.Writable;
+import org.apache.hadoop.io.WritableUtils;
 
 import boa.functions.BoaCasts;
 
@@ -30,12 +31,29 @@ import boa.functions.BoaCasts;
  * A {@link Writable} that contains a datum and an optional metadatum to be
  * emitted to a Boa table.
  * 
+ * Numeric data and metadata are kept and serialized in their binary form, and
+ * are only rendered as {@link String}s when asked for.
+ * 
  * @author anthonyu
  * @author rdyer
  */
 public class EmitValue implements Writable {
+	private static final byte NONE = 0;
+	private static final byte STRING = 1;
+	private static final byte LONG = 2;
+	private static final byte DOUBLE = 3;
+	private static final byte DOUBLES = 4;
+
+	private byte dataType = NONE;
 	private String[] data;
+	private long longData;
+	private double doubleData;
+	private double[] doublesData;
+
+	private byte metadataType = NONE;
 	private String metadata;
+	private long longMetadata;
+	private double doubleMetadata;
 
 	/**
 	 * Construct an EmitValue.
@@ -53,8 +71,8 @@ public class EmitValue implements Writable {
 	 *            A {@link String} containing the metadata to be emitted
 	 */
 	public EmitValue(final String[] data, final String metadata) {
-		this.data = data;
-		this.metadata = metadata;
+		this.setData(data);
+		this.setMetadata(metadata);
 	}
 
 	/**
@@ -81,8 +99,8 @@ public class EmitValue implements Writable {
 		for (int i = 0; i < data.length; i++)
 			strings[i] = data[i].toString();
 
-		this.data = strings;
-		this.metadata = metadata;
+		this.setData(strings);
+		this.setMetadata(metadata);
 	}
 
 	/**
@@ -126,7 +144,8 @@ public class EmitValue implements Writable {
 	 *            A long representing the metadata to be emitted
 	 */
 	public EmitValue(final String data, final long metadata) {
-		this(new String[] { data }, BoaCasts.longToString(metadata));
+		this.setData(new String[] { data });
+		this.setMetadata(metadata);
 	}
 
 	/**
@@ -138,7 +157,8 @@ public class EmitValue implements Writable {
 	 *            A double representing the metadata to be emitted
 	 */
 	public EmitValue(final String data, final double metadata) {
-		this(new String[] { data }, BoaCasts.doubleToString(metadata));
+		this.setData(new String[] { data });
+		this.setMetadata(metadata);
 	}
 
 	/**
@@ -148,7 +168,7 @@ public class EmitValue implements Writable {
 	 *            A long representing the data to be emitted
 	 */
 	public EmitValue(final long data) {
-		this(new String[] { BoaCasts.longToString(data) }, null);
+		this.setData(data);
 	}
 
 	/**
@@ -160,7 +180,8 @@ public class EmitValue implements Writable {
 	 *            A {@link String} containing the metadata to be emitted
 	 */
 	public EmitValue(final long data, final String metadata) {
-		this(new String[] { BoaCasts.longToString(data) }, metadata);
+		this.setData(data);
+		this.setMetadata(metadata);
 	}
 
 	/**
@@ -172,7 +193,8 @@ public class EmitValue implements Writable {
 	 *            A long representing the metadata to be emitted
 	 */
 	public EmitValue(final long data, final long metadata) {
-		this(new String[] { BoaCasts.longToString(data) }, BoaCasts.longToString(metadata));
+		this.setData(data);
+		this.setMetadata(metadata);
 	}
 
 	/**
@@ -184,7 +206,8 @@ public class EmitValue implements Writable {
 	 *            A double representing the metadata to be emitted
 	 */
 	public EmitValue(final long data, final double metadata) {
-		this(new String[] { BoaCasts.longToString(data) }, BoaCasts.doubleToString(metadata));
+		this.setData(data);
+		this.setMetadata(metadata);
 	}
 
 	/**
@@ -194,7 +217,7 @@ public class EmitValue implements Writable {
 	 *            A double representing the data to be emitted
 	 */
 	public EmitValue(final double data) {
-		this(new String[] { BoaCasts.doubleToString(data) }, null);
+		this.setData(data);
 	}
 
 	/**
@@ -206,7 +229,8 @@ public class EmitValue implements Writable {
 	 *            A {@link String} containing the metadata to be emitted
 	 */
 	public EmitValue(final double data, final String metadata) {
-		this(new String[] { BoaCasts.doubleToString(data) }, metadata);
+		this.setData(data);
+		this.setMetadata(metadata);
 	}
 
 	/**
@@ -218,7 +242,8 @@ public class EmitValue implements Writable {
 	 *            A long representing the metadata to be emitted
 	 */
 	public EmitValue(final double data, final long metadata) {
-		this(new String[] { BoaCasts.doubleToString(data) }, BoaCasts.longToString(metadata));
+		this.setData(data);
+		this.setMetadata(metadata);
 	}
 
 	/**
@@ -230,44 +255,125 @@ public class EmitValue implements Writable {
 	 *            A double representing the metadata to be emitted
 	 */
 	public EmitValue(final double data, final double metadata) {
-		this(new String[] { BoaCasts.doubleToString(data) }, BoaCasts.doubleToString(metadata));
+		this.setData(data);
+		this.setMetadata(metadata);
+	}
+
+	/**
+	 * Construct an EmitValue.
+	 * 
+	 * @param data
+	 *            An array of double containing a fixed-size tuple to be
+	 *            emitted
+	 */
+	public EmitValue(final double[] data) {
+		this.setData(data);
 	}
 
 	/** {@inheritDoc} */
 	@Override
 	public void readFields(final DataInput in) throws IOException {
-		final int count = in.readInt();
-
-		this.data = new String[count];
-		for (int i = 0; i < count; i++)
-			this.data[i] = Text.readString(in);
-
-		final String metadata = Text.readString(in);
-		if (metadata.equals(""))
-			this.metadata = null;
-		else
-			this.metadata = metadata;
+		final byte types = in.readByte();
+
+		this.dataType = (byte) (types & 0x0f);
+		this.data = null;
+		switch (this.dataType) {
+		case STRING:
+			final int count = WritableUtils.readVInt(in);
+			this.data = new String[count];
+			for (int i = 0; i < count; i++)
+				this.data[i] = Text.readString(in);
+			break;
+		case LONG:
+			this.longData = WritableUtils.readVLong(in);
+			break;
+		case DOUBLE:
+			this.doubleData = in.readDouble();
+			break;
+		case DOUBLES:
+			this.doublesData = new double[WritableUtils.readVInt(in)];
+			for (int i = 0; i < this.doublesData.length; i++)
+				this.doublesData[i] = in.readDouble();
+			break;
+		default:
+			break;
+		}
+
+		this.metadataType = (byte) (types >> 4);
+		this.metadata = null;
+		switch (this.metadataType) {
+		case STRING:
+			this.metadata = Text.readString(in);
+			break;
+		case LONG:
+			this.longMetadata = WritableUtils.readVLong(in);
+			break;
+		case DOUBLE:
+			this.doubleMetadata = in.readDouble();
+			break;
+		default:
+			break;
+		}
 	}
 
 	/** {@inheritDoc} */
 	@Override
 	public void write(final DataOutput out) throws IOException {
-		out.writeInt(this.data.length);
-
-		for (final String d : this.data)
-			Text.writeString(out, d);
-
-		if (this.metadata == null)
-			Text.writeString(out, "");
-		else
+		out.writeByte(this.dataType | (this.metadataType << 4));
+
+		switch (this.dataType) {
+		case STRING:
+			WritableUtils.writeVInt(out, this.data.length);
+			for (final String d : this.data)
+				Text.writeString(out, d);
+			break;
+		case LONG:
+			WritableUtils.writeVLong(out, this.longData);
+			break;
+		case DOUBLE:
+			out.writeDouble(this.doubleData);
+			break;
+		case DOUBLES:
+			WritableUtils.writeVInt(out, this.doublesData.length);
+			for (final double d : this.doublesData)
+				out.writeDouble(d);
+			break;
+		default:
+			break;
+		}
+
+		switch (this.metadataType) {
+		case STRING:
 			Text.writeString(out, this.metadata);
+			break;
+		case LONG:
+			WritableUtils.writeVLong(out, this.longMetadata);
+			break;
+		case DOUBLE:
+			out.writeDouble(this.doubleMetadata);
+			break;
+		default:
+			break;
+		}
 	}
 
 	/**
 	 * @return the data
 	 */
 	public String[] getData() {
-		return this.data;
+		switch (this.dataType) {
+		case LONG:
+			return new String[] { BoaCasts.longToString(this.longData) };
+		case DOUBLE:
+			return new String[] { BoaCasts.doubleToString(this.doubleData) };
+		case DOUBLES:
+			final String[] data = new String[this.doublesData.length];
+			for (int i = 0; i < data.length; i++)
+				data[i] = BoaCasts.doubleToString(this.doublesData[i]);
+			return data;
+		default:
+			return this.data;
+		}
 	}
 
 	/**
@@ -275,14 +381,108 @@ public class EmitValue implements Writable {
 	 *            the data to set
 	 */
 	public void setData(final String[] data) {
+		this.dataType = STRING;
 		this.data = data;
 	}
 
+	/**
+	 * @param data
+	 *            the datum to set
+	 */
+	public void setData(final long data) {
+		this.dataType = LONG;
+		this.data = null;
+		this.longData = data;
+	}
+
+	/**
+	 * @param data
+	 *            the datum to set
+	 */
+	public void setData(final double data) {
+		this.dataType = DOUBLE;
+		this.data = null;
+		this.doubleData = data;
+	}
+
+	/**
+	 * @param data
+	 *            the tuple to set
+	 */
+	public void setData(final double[] data) {
+		this.dataType = DOUBLES;
+		this.data = null;
+		this.doublesData = data;
+	}
+
+	/**
+	 * @return true if the datum is a long
+	 */
+	public boolean isLong() {
+		return this.dataType == LONG;
+	}
+
+	/**
+	 * @return true if the datum is a double
+	 */
+	public boolean isDouble() {
+		return this.dataType == DOUBLE;
+	}
+
+	/**
+	 * @return true if the datum is a tuple of doubles
+	 */
+	public boolean isDoubles() {
+		return this.dataType == DOUBLES;
+	}
+
+	/**
+	 * @return the datum, if it is a long
+	 */
+	public long getLong() {
+		return this.longData;
+	}
+
+	/**
+	 * @return the datum, if it is a double
+	 */
+	public double getDouble() {
+		return this.doubleData;
+	}
+
+	/**
+	 * @return the datum, if it is a tuple of doubles
+	 */
+	public double[] getDoubles() {
+		return this.doublesData;
+	}
+
+	/**
+	 * @return true if the metadatum is a long
+	 */
+	public boolean isLongMetadata() {
+		return this.metadataType == LONG;
+	}
+
+	/**
+	 * @return the metadatum, if it is a long
+	 */
+	public long getLongMetadata() {
+		return this.longMetadata;
+	}
+
 	/**
 	 * @return the metadata
 	 */
 	public String getMetadata() {
-		return this.metadata;
+		switch (this.metadataType) {
+		case LONG:
+			return BoaCasts.longToString(this.longMetadata);
+		case DOUBLE:
+			return BoaCasts.doubleToString(this.doubleMetadata);
+		default:
+			return this.metadata;
+		}
 	}
 
 	/**
@@ -290,15 +490,37 @@ public class EmitValue implements Writable {
 	 *            the metadatum to set
 	 */
 	public void setMetadata(final String metadata) {
-		this.metadata = metadata;
+		this.metadataType = metadata == null || metadata.equals("") ? NONE : STRING;
+		this.metadata = this.metadataType == NONE ? null : metadata;
+	}
+
+	/**
+	 * @param metadata
+	 *            the metadatum to set
+	 */
+	public void setMetadata(final long metadata) {
+		this.metadataType = LONG;
+		this.metadata = null;
+		this.longMetadata = metadata;
+	}
+
+	/**
+	 * @param metadata
+	 *            the metadatum to set
+	 */
+	public void setMetadata(final double metadata) {
+		this.metadataType = DOUBLE;
+		this.metadata = null;
+		this.doubleMetadata = metadata;
 	}
 
 	@Override
 	public int hashCode() {
 		final int prime = 31;
 		int result = 1;
-		result = prime * result + Arrays.hashCode(this.data);
-		result = prime * result + (this.metadata == null ? 0 : this.metadata.hashCode());
+		result = prime * result + Arrays.hashCode(this.getData());
+		final String metadata = this.getMetadata();
+		result = prime * result + (metadata == null ? 0 : metadata.hashCode());
 		return result;
 	}
 
@@ -311,12 +533,13 @@ public class EmitValue implements Writable {
 		if (this.getClass() != obj.getClass())
 			return false;
 		final EmitValue other = (EmitValue) obj;
-		if (!Arrays.equals(this.data, other.data))
+		if (!Arrays.equals(this.getData(), other.getData()))
 			return false;
-		if (this.metadata == null) {
-			if (other.metadata != null)
+		final String metadata = this.getMetadata();
+		if (metadata == null) {
+			if (other.getMetadata() != null)
 				return false;
-		} else if (!this.metadata.equals(other.metadata))
+		} else if (!metadata.equals(other.getMetadata()))
 			return false;
 		return true;
 	}
@@ -324,6 +547,6 @@ public class EmitValue implements Writable {
 	/** {@inheritDoc} */
 	@Override
 	public String toString() {
-		return Arrays.toString(this.data) + ":" + this.metadata;
+		return Arrays.toString(this.getData()) + ":" + this.getMetadata();
 	}
 }
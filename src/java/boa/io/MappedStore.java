@@ -0,0 +1,304 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boa.io;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+
+import com.google.protobuf.CodedInputStream;
+
+/**
+ * An immutable, memory-mapped store from long keys to serialized protobuf
+ * messages.  It is a read-side replacement for the <code>ast</code> and
+ * <code>commit</code> {@link org.apache.hadoop.io.MapFile}s: values are stored
+ * uncompressed and looked up through a sorted offset index, so a lookup is a
+ * binary search over mapped memory instead of a seek and a block decompress.
+ *
+ * The file holds all values back to back, followed by the index (one entry of
+ * key, offset and length per value, sorted by key) and a fixed-size footer.
+ */
+public class MappedStore implements Closeable {
+	/**
+	 * The suffix of store files, which sit next to the {@link org.apache.hadoop.io.MapFile}
+	 * they were generated from (e.g., <code>ast.store</code>).
+	 */
+	public static final String SUFFIX = ".store";
+
+	private static final int MAGIC = 0x426f6153; // "BoaS"
+
+	private static final int ENTRY_SIZE = 8 + 8 + 4;
+	private static final int FOOTER_SIZE = 8 + 8 + 4;
+
+	// index entries per mapped index segment
+	private static final int ENTRY_SHIFT = 26;
+	private static final long ENTRY_MASK = (1L << ENTRY_SHIFT) - 1;
+
+	// data segments start every SEGMENT bytes but map up to WINDOW bytes, so
+	// any value no larger than WINDOW - SEGMENT lies inside a single mapping
+	private static final long SEGMENT = 1L << 30;
+	private static final long WINDOW = Integer.MAX_VALUE;
+
+	private final RandomAccessFile file;
+	private final FileChannel channel;
+	private final MappedByteBuffer[] index;
+	private final MappedByteBuffer[] data;
+	private final long count;
+
+	/**
+	 * Open a {@link MappedStore}.
+	 *
+	 * @param f
+	 *            The local {@link File} holding the store
+	 * @throws IOException
+	 */
+	public MappedStore(final File f) throws IOException {
+		this.file = new RandomAccessFile(f, "r");
+		this.channel = this.file.getChannel();
+
+		try {
+			final long size = this.channel.size();
+			if (size < FOOTER_SIZE)
+				throw new IOException("not a store: " + f);
+
+			final ByteBuffer footer = this.channel.map(FileChannel.MapMode.READ_ONLY, size - FOOTER_SIZE, FOOTER_SIZE);
+			final long indexStart = footer.getLong();
+			this.count = footer.getLong();
+			if (footer.getInt() != MAGIC)
+				throw new IOException("not a store: " + f);
+
+			this.index = new MappedByteBuffer[(int) ((this.count + ENTRY_MASK) >> ENTRY_SHIFT)];
+			for (int i = 0; i < this.index.length; i++) {
+				final long start = indexStart + ((long) i << ENTRY_SHIFT) * ENTRY_SIZE;
+				final long entries = Math.min(1L << ENTRY_SHIFT, this.count - ((long) i << ENTRY_SHIFT));
+				this.index[i] = this.channel.map(FileChannel.MapMode.READ_ONLY, start, entries * ENTRY_SIZE);
+			}
+
+			this.data = new MappedByteBuffer[(int) ((indexStart + SEGMENT - 1) / SEGMENT)];
+			for (int i = 0; i < this.data.length; i++) {
+				final long start = i * SEGMENT;
+				this.data[i] = this.channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(WINDOW, indexStart - start));
+			}
+		} catch (final IOException e) {
+			this.file.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Look up the value for a key.
+	 *
+	 * @param key
+	 *            The key to look up
+	 * @return A read-only {@link ByteBuffer} holding exactly the value, or
+	 *         <code>null</code> if the key is not in the store
+	 * @throws IOException
+	 */
+	public ByteBuffer get(final long key) throws IOException {
+		long lo = 0;
+		long hi = this.count - 1;
+
+		while (lo <= hi) {
+			final long mid = (lo + hi) >>> 1;
+			final ByteBuffer segment = this.index[(int) (mid >> ENTRY_SHIFT)];
+			final int pos = (int) (mid & ENTRY_MASK) * ENTRY_SIZE;
+			final long k = segment.getLong(pos);
+
+			if (k < key) {
+				lo = mid + 1;
+			} else if (k > key) {
+				hi = mid - 1;
+			} else {
+				return this.read(segment.getLong(pos + 8), segment.getInt(pos + 16));
+			}
+		}
+
+		return null;
+	}
+
+	private ByteBuffer read(final long offset, final int length) throws IOException {
+		final int seg = (int) (offset / SEGMENT);
+		final int pos = (int) (offset - seg * SEGMENT);
+
+		if ((long) pos + length <= this.data[seg].capacity()) {
+			// never touch the position of the shared buffer, so lookups are thread-safe
+			final ByteBuffer b = this.data[seg].duplicate();
+			b.position(pos);
+			b.limit(pos + length);
+			return b.slice().asReadOnlyBuffer();
+		}
+
+		// really large values don't fit in a mapping, so read them
+		final ByteBuffer b = ByteBuffer.allocate(length);
+		while (b.hasRemaining())
+			if (this.channel.read(b, offset + b.position()) < 0)
+				throw new IOException("truncated store");
+		b.flip();
+		return b;
+	}
+
+	/**
+	 * @return the number of values in the store
+	 */
+	public long size() {
+		return this.count;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void close() throws IOException {
+		this.file.close();
+	}
+
+	/**
+	 * Create a {@link CodedInputStream} reading a value returned by
+	 * {@link #get(long)}.
+	 *
+	 * @param value
+	 *            The {@link ByteBuffer} holding the value
+	 * @return A {@link CodedInputStream} over the value
+	 */
+	public static CodedInputStream newCodedInput(final ByteBuffer value) {
+		final CodedInputStream stream;
+		if (value.hasArray())
+			stream = CodedInputStream.newInstance(value.array(), value.arrayOffset() + value.position(), value.remaining());
+		else
+			stream = CodedInputStream.newInstance(new ByteBufferInputStream(value));
+		stream.setSizeLimit(Integer.MAX_VALUE);
+		return stream;
+	}
+
+	/**
+	 * An {@link InputStream} reading directly from a {@link ByteBuffer}.
+	 */
+	private static class ByteBufferInputStream extends InputStream {
+		private final ByteBuffer buffer;
+
+		public ByteBufferInputStream(final ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public int read() {
+			if (!this.buffer.hasRemaining())
+				return -1;
+			return this.buffer.get() & 0xff;
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public int read(final byte[] b, final int off, final int len) {
+			if (!this.buffer.hasRemaining())
+				return -1;
+			final int n = Math.min(len, this.buffer.remaining());
+			this.buffer.get(b, off, n);
+			return n;
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public int available() {
+			return this.buffer.remaining();
+		}
+	}
+
+	/**
+	 * Writes a {@link MappedStore}.  Keys must be appended in increasing order.
+	 */
+	public static class Writer implements Closeable {
+		private final FileSystem fs;
+		private final Path indexPath;
+		private final DataOutputStream out;
+		private final DataOutputStream indexOut;
+
+		private long position = 0;
+		private long count = 0;
+		private long lastKey = Long.MIN_VALUE;
+
+		/**
+		 * Construct a {@link Writer}.
+		 *
+		 * @param fs
+		 *            The {@link FileSystem} to write to
+		 * @param path
+		 *            The {@link Path} of the store to create
+		 * @throws IOException
+		 */
+		public Writer(final FileSystem fs, final Path path) throws IOException {
+			this.fs = fs;
+			this.indexPath = path.suffix(".index");
+			this.out = fs.create(path, true);
+			this.indexOut = fs.create(this.indexPath, true);
+		}
+
+		/**
+		 * Append a value.
+		 *
+		 * @param key
+		 *            The key, which must be larger than all previous keys
+		 * @param value
+		 *            The array holding the value
+		 * @param length
+		 *            The length of the value
+		 * @throws IOException
+		 */
+		public void append(final long key, final byte[] value, final int length) throws IOException {
+			if (this.count > 0 && key <= this.lastKey)
+				throw new IOException("key out of order: " + key + " after " + this.lastKey);
+
+			this.indexOut.writeLong(key);
+			this.indexOut.writeLong(this.position);
+			this.indexOut.writeInt(length);
+
+			this.out.write(value, 0, length);
+
+			this.position += length;
+			this.lastKey = key;
+			this.count++;
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public void close() throws IOException {
+			this.indexOut.close();
+
+			final DataInputStream in = this.fs.open(this.indexPath);
+			try {
+				final byte[] buf = new byte[64 * 1024];
+				int n;
+				while ((n = in.read(buf)) > 0)
+					this.out.write(buf, 0, n);
+			} finally {
+				in.close();
+			}
+			this.fs.delete(this.indexPath, false);
+
+			this.out.writeLong(this.position);
+			this.out.writeLong(this.count);
+			this.out.writeInt(MAGIC);
+			this.out.close();
+		}
+	}
+}
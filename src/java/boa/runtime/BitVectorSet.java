@@ -0,0 +1,362 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boa.runtime;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * A set of strings kept as a bit vector.  The strings are numbered by a
+ * {@link Universe} shared by every set created while traversing the same
+ * graph, so the set operations used by data-flow analyses (union,
+ * intersection, difference, comparison) work a word at a time, in place.
+ *
+ * This extends {@link HashSet} so it can stand in for the Java type of a Boa
+ * <code>set of string</code>, but none of the inherited storage is used.
+ * Sets over different universes, or mixed with other sets, fall back to
+ * element-wise operations.
+ */
+public class BitVectorSet extends HashSet<String> {
+	private static final long serialVersionUID = 1L;
+
+	private static final long[] EMPTY = new long[0];
+
+	/**
+	 * Numbers the strings of the sets of one graph, in order of first use.
+	 */
+	static final class Universe {
+		private final Object graph;
+		private final Map<String, Integer> index = new HashMap<String, Integer>();
+		private final List<String> strings = new ArrayList<String>();
+
+		private Universe(final Object graph) {
+			this.graph = graph;
+		}
+
+		private int intern(final String s) {
+			final Integer i = this.index.get(s);
+			if (i != null)
+				return i;
+			this.index.put(s, this.strings.size());
+			this.strings.add(s);
+			return this.strings.size() - 1;
+		}
+
+		private int lookup(final Object o) {
+			final Integer i = this.index.get(o);
+			return i == null ? -1 : i;
+		}
+	}
+
+	private static final ThreadLocal<Universe> current = new ThreadLocal<Universe>();
+
+	/**
+	 * Makes new sets in this thread use the universe of the given graph,
+	 * starting a new universe if the graph is not the one last entered.
+	 *
+	 * @param graph the graph about to be traversed
+	 */
+	public static void enter(final Object graph) {
+		final Universe u = current.get();
+		if (u == null || u.graph != graph)
+			current.set(new Universe(graph));
+	}
+
+	private static Universe currentUniverse() {
+		Universe u = current.get();
+		if (u == null) {
+			u = new Universe(null);
+			current.set(u);
+		}
+		return u;
+	}
+
+	/**
+	 * Copies a set, keeping the copy a bit vector if the set is one.
+	 *
+	 * @param s the set to copy
+	 * @return a copy of the set
+	 */
+	public static HashSet<String> copy(final Set<String> s) {
+		if (s instanceof BitVectorSet)
+			return ((BitVectorSet) s).clone();
+		return new HashSet<String>(s);
+	}
+
+	private final Universe universe;
+	private long[] words;
+	private int size;
+
+	/**
+	 * Constructs an empty set over the current universe.
+	 */
+	public BitVectorSet() {
+		this(currentUniverse(), EMPTY, 0);
+	}
+
+	/**
+	 * Constructs an empty set over the same universe as another set.
+	 *
+	 * @param s a set over the universe to use
+	 */
+	public BitVectorSet(final BitVectorSet s) {
+		this(s.universe, EMPTY, 0);
+	}
+
+	private BitVectorSet(final Universe universe, final long[] words, final int size) {
+		super(0);
+		this.universe = universe;
+		this.words = words;
+		this.size = size;
+	}
+
+	private boolean sameUniverse(final Object o) {
+		return o instanceof BitVectorSet && ((BitVectorSet) o).universe == this.universe;
+	}
+
+	private boolean get(final int bit) {
+		final int w = bit >>> 6;
+		return w < this.words.length && (this.words[w] & (1L << bit)) != 0;
+	}
+
+	private void ensure(final int length) {
+		if (this.words.length < length)
+			this.words = Arrays.copyOf(this.words, Math.max(length, 2 * this.words.length));
+	}
+
+	private void recount() {
+		int n = 0;
+		for (final long w : this.words)
+			n += Long.bitCount(w);
+		this.size = n;
+	}
+
+	private int nextSetBit(final int from) {
+		int w = from >>> 6;
+		if (w >= this.words.length)
+			return -1;
+		long word = this.words[w] & (-1L << from);
+		while (word == 0) {
+			if (++w == this.words.length)
+				return -1;
+			word = this.words[w];
+		}
+		return (w << 6) + Long.numberOfTrailingZeros(word);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean contains(final Object o) {
+		final int bit = this.universe.lookup(o);
+		return bit != -1 && get(bit);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean add(final String s) {
+		final int bit = this.universe.intern(s);
+		if (get(bit))
+			return false;
+		ensure((bit >>> 6) + 1);
+		this.words[bit >>> 6] |= 1L << bit;
+		this.size++;
+		return true;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean remove(final Object o) {
+		final int bit = this.universe.lookup(o);
+		if (bit == -1 || !get(bit))
+			return false;
+		this.words[bit >>> 6] &= ~(1L << bit);
+		this.size--;
+		return true;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void clear() {
+		Arrays.fill(this.words, 0);
+		this.size = 0;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean addAll(final Collection<? extends String> c) {
+		if (!sameUniverse(c))
+			return super.addAll(c);
+
+		final long[] other = ((BitVectorSet) c).words;
+		ensure(other.length);
+		final int old = this.size;
+		for (int i = 0; i < other.length; i++)
+			this.words[i] |= other[i];
+		recount();
+		return this.size != old;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean removeAll(final Collection<?> c) {
+		if (!sameUniverse(c))
+			return super.removeAll(c);
+
+		final long[] other = ((BitVectorSet) c).words;
+		final int old = this.size;
+		for (int i = Math.min(this.words.length, other.length) - 1; i >= 0; i--)
+			this.words[i] &= ~other[i];
+		recount();
+		return this.size != old;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean retainAll(final Collection<?> c) {
+		if (!sameUniverse(c))
+			return super.retainAll(c);
+
+		final long[] other = ((BitVectorSet) c).words;
+		final int old = this.size;
+		for (int i = 0; i < this.words.length; i++)
+			this.words[i] &= i < other.length ? other[i] : 0;
+		recount();
+		return this.size != old;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean containsAll(final Collection<?> c) {
+		if (!sameUniverse(c))
+			return super.containsAll(c);
+
+		final long[] other = ((BitVectorSet) c).words;
+		for (int i = 0; i < other.length; i++)
+			if ((other[i] & ~(i < this.words.length ? this.words[i] : 0)) != 0)
+				return false;
+		return true;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean equals(final Object o) {
+		if (!sameUniverse(o))
+			return super.equals(o);
+
+		final BitVectorSet s = (BitVectorSet) o;
+		return this.size == s.size && containsAll(s);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Iterator<String> iterator() {
+		return new Iterator<String>() {
+			private int next = nextSetBit(0);
+			private int last = -1;
+
+			@Override
+			public boolean hasNext() {
+				return this.next != -1;
+			}
+
+			@Override
+			public String next() {
+				if (this.next == -1)
+					throw new NoSuchElementException();
+				this.last = this.next;
+				this.next = nextSetBit(this.next + 1);
+				return universe.strings.get(this.last);
+			}
+
+			@Override
+			public void remove() {
+				if (this.last == -1)
+					throw new IllegalStateException();
+				words[this.last >>> 6] &= ~(1L << this.last);
+				size--;
+				this.last = -1;
+			}
+		};
+	}
+
+	/**
+	 * Splits the set through its iterator, as the spliterator of
+	 * {@link HashSet} reads the inherited storage and would see no elements.
+	 */
+	@Override
+	public Spliterator<String> spliterator() {
+		return Spliterators.spliterator(this, Spliterator.DISTINCT);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Object[] toArray() {
+		return toArray(new Object[this.size]);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T[] toArray(final T[] a) {
+		final T[] r = a.length >= this.size ? a : (T[]) java.lang.reflect.Array.newInstance(a.getClass().getComponentType(), this.size);
+		int i = 0;
+		for (int bit = nextSetBit(0); bit != -1; bit = nextSetBit(bit + 1))
+			r[i++] = (T) this.universe.strings.get(bit);
+		if (i < r.length)
+			r[i] = null;
+		return r;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public BitVectorSet clone() {
+		return new BitVectorSet(this.universe, this.words.clone(), this.size);
+	}
+
+	/**
+	 * Returns the members in the order a {@link HashSet} holding them would,
+	 * so output does not depend on how the set is stored.
+	 */
+	@Override
+	public String toString() {
+		return new HashSet<String>(this).toString();
+	}
+
+	// serialized as a plain set, since the universe is local to this thread
+	private Object writeReplace() {
+		return new HashSet<String>(this);
+	}
+}
@@ -17,11 +17,11 @@
 package boa.runtime;
 
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Queue;
 import java.util.Stack;
 
+import boa.functions.BoaAstIntrinsics;
+import boa.graphs.CompactGraph;
 import boa.graphs.ddg.DDG;
 import boa.graphs.ddg.DDGNode;
 import boa.graphs.pdg.PDG;
@@ -46,11 +46,64 @@ public abstract class BoaAbstractTraversal<T1> {
 	boolean isLoopSensitive = false;
 	boolean isFlowSensitive = false;
 
+	public static enum TRAVERSALCOUNTER {
+		GRAPHS,
+		ITERATIONS,
+		NODE_VISITS,
+	};
+
+	// statistics of the traversal of the current graph
+	private int depth = 0;
+	private long iterations = 0;
+	private long visits = 0;
+	private long lastIterations = 0;
+	private long lastVisits = 0;
+
 	public BoaAbstractTraversal(boolean isFlowSensitive, boolean isLoopSensitive) {
 		this.isFlowSensitive = isFlowSensitive;
 		this.isLoopSensitive = isLoopSensitive;
 	}
 
+	/**
+	 * Returns how many times the solver went over the last graph traversed,
+	 * that is the most times any one node of it was visited.
+	 *
+	 * @return the number of iterations of the last traversal
+	 */
+	public long getIterationCount() {
+		return this.lastIterations;
+	}
+
+	/**
+	 * @return the number of node visits of the last traversal
+	 */
+	public long getVisitCount() {
+		return this.lastVisits;
+	}
+
+	private void begin() {
+		if (this.depth++ == 0) {
+			this.iterations = 0;
+			this.visits = 0;
+		}
+	}
+
+	// reports the statistics of a graph once its outermost traversal is done
+	private void end() {
+		if (--this.depth == 0) {
+			this.lastIterations = this.iterations;
+			this.lastVisits = this.visits;
+			BoaAstIntrinsics.incrementCounter(TRAVERSALCOUNTER.GRAPHS, 1);
+			BoaAstIntrinsics.incrementCounter(TRAVERSALCOUNTER.ITERATIONS, this.iterations);
+			BoaAstIntrinsics.incrementCounter(TRAVERSALCOUNTER.NODE_VISITS, this.visits);
+		}
+	}
+
+	private void visit(final CFGNode node, final boolean flag) throws Exception {
+		this.visits++;
+		traverse(node, flag);
+	}
+
 	public T1 getValue(final CFGNode node) throws Exception {
 		return (T1)outputMapObj.get(node.getId());
 	}
@@ -131,8 +184,9 @@ public abstract class BoaAbstractTraversal<T1> {
 			if (!visitedNodes.contains(n.getId())) {
 				traverse(n, false);
 				visitedNodes.add(n.getId());
-				for (int i = n.getSuccessors().size() - 1; i >= 0; i--) {
-					s.push(n.getSuccessors().get(i));
+				final List<PDGNode> succ = n.getSuccessors();
+				for (int i = succ.size() - 1; i >= 0; i--) {
+					s.push(succ.get(i));
 				}
 			}
 		}
@@ -146,8 +200,9 @@ public abstract class BoaAbstractTraversal<T1> {
 			if (!visitedNodes.contains(n.getId())) {
 				traverse(n, false);
 				visitedNodes.add(n.getId());
-				for (int i = n.getSuccessors().size() - 1; i >= 0; i--) {
-					s.push(n.getSuccessors().get(i));
+				final List<PDGNode> succ = n.getSuccessors();
+				for (int i = succ.size() - 1; i >= 0; i--) {
+					s.push(succ.get(i));
 				}
 			}
 		}
@@ -161,8 +216,9 @@ public abstract class BoaAbstractTraversal<T1> {
 			if (!visitedNodes.contains(n.getId())) {
 				traverse(n, false);
 				visitedNodes.add(n.getId());
-				for (int i = n.getSuccessors().size() - 1; i >= 0; i--) {
-					s.push(n.getSuccessors().get(i));
+				final List<CDGNode> succ = n.getSuccessors();
+				for (int i = succ.size() - 1; i >= 0; i--) {
+					s.push(succ.get(i));
 				}
 			}
 		}
@@ -176,8 +232,53 @@ public abstract class BoaAbstractTraversal<T1> {
 			if (!visitedNodes.contains(n.getId())) {
 				traverse(n, false);
 				visitedNodes.add(n.getId());
-				for (int i = n.getSuccessors().size() - 1; i >= 0; i--) {
-					s.push(n.getSuccessors().get(i));
+				final List<DDGNode> succ = n.getSuccessors();
+				for (int i = succ.size() - 1; i >= 0; i--) {
+					s.push(succ.get(i));
+				}
+			}
+		}
+	}
+
+	public final void dfsForward(final PDG pdg) throws Exception {
+		final CompactGraph<PDGNode> g = pdg.getCompactGraph();
+		dfsForward(g, g.getIndex(pdg.getEntryNode()));
+	}
+
+	public final void dfsForward(final CDG cdg) throws Exception {
+		final CompactGraph<CDGNode> g = cdg.getCompactGraph();
+		dfsForward(g, g.getIndex(cdg.getEntryNode()));
+	}
+
+	public final void dfsForward(final DDG ddg) throws Exception {
+		final CompactGraph<DDGNode> g = ddg.getCompactGraph();
+		dfsForward(g, g.getIndex(ddg.getEntryNode()));
+	}
+
+	// same order as dfsForward(node, Set), without boxing ids or copying successor lists
+	private void dfsForward(final CompactGraph<?> g, final int entry) throws Exception {
+		if (entry == -1)
+			return;
+
+		final boolean[] visited = new boolean[g.size()];
+		final int[] s = new int[g.getEdgeCount() + 1];
+		int top = 0;
+		s[top++] = entry;
+		while (top > 0) {
+			final int n = s[--top];
+			if (!visited[n]) {
+				final Object node = g.getNode(n);
+				if (node instanceof PDGNode)
+					traverse((PDGNode) node, false);
+				else if (node instanceof CDGNode)
+					traverse((CDGNode) node, false);
+				else
+					traverse((DDGNode) node, false);
+				visited[n] = true;
+				for (int i = g.getSuccessorCount(n) - 1; i >= 0; i--) {
+					final int succ = g.getSuccessor(n, i);
+					if (!visited[succ])
+						s[top++] = succ;
 				}
 			}
 		}
@@ -189,7 +290,7 @@ public abstract class BoaAbstractTraversal<T1> {
 		while (!s.isEmpty()) {
 			final CFGNode n = s.pop();
 			if (!visitedNodes.contains(n.getId())) {
-				traverse(n, false);
+				visit(n, false);
 				visitedNodes.add(n.getId());
                 List<CFGNode> succ = n.getSuccessors();
                 Collections.sort(succ);
@@ -206,7 +307,7 @@ public abstract class BoaAbstractTraversal<T1> {
 		while (!s.isEmpty()) {
 			final CFGNode n = s.pop();
 			if (!visitedNodes.contains(n.getId())) {
-				traverse(n, false);
+				visit(n, false);
 				visitedNodes.add(n.getId());
                 List<CFGNode> preds = n.getPredecessors();
                 Collections.sort(preds);
@@ -217,166 +318,74 @@ public abstract class BoaAbstractTraversal<T1> {
 		}
 	}
 
-	public final void postorderBackward(final CFGNode node, java.util.Set<Integer> visitedNodes) throws Exception {
-		// FIXME remove recursion
-		visitedNodes.add(node.getId());
-		for (final CFGNode succ : node.getSuccessors()) {
-			if (!visitedNodes.contains(succ.getId())) {
-				postorderBackward(succ, visitedNodes);
-			}
-		}
-		traverse(node, false);
+	/**
+	 * @param order the indices of some nodes
+	 * @return the indices in the reverse order
+	 */
+	static int[] reverse(final int[] order) {
+		final int[] r = new int[order.length];
+		for (int i = 0; i < order.length; i++)
+			r[i] = order[order.length - 1 - i];
+		return r;
 	}
 
-	public final void postorderForward(final CFGNode node, java.util.Set<Integer> visitedNodes) throws Exception {
-		// FIXME remove recursion
-		visitedNodes.add(node.getId());
-		for (final CFGNode pred : node.getPredecessors()) {
-			if (!visitedNodes.contains(pred.getId())) {
-				postorderForward(pred, visitedNodes);
-			}
-		}
-		traverse(node, false);
+	private int[] postorderFromEntry(final CFG cfg, final CompactGraph<CFGNode> g) {
+		return g.postorder(g.getIndex(cfg.getEntryNode()), true);
 	}
 
-	public final void populateWithPostorder(final CFGNode node, java.util.Set<Integer> visitedNodes, Queue<CFGNode> queue) throws Exception {
-		// FIXME remove recursion
-		visitedNodes.add(node.getId());
-		for (final CFGNode succ : node.getSuccessors()) {
-			if (!visitedNodes.contains(succ.getId())) {
-				populateWithPostorder(succ, visitedNodes, queue);
-			}
-		}
-		queue.offer(node);
+	private int[] postorderFromExit(final CFG cfg, final CompactGraph<CFGNode> g) {
+		return g.postorder(g.getIndex(cfg.getExitNode()), false);
 	}
 
-	public final void populateWithReversePostorder(final CFGNode node, java.util.Set<Integer> visitedNodes, Stack<CFGNode> stack) throws Exception {
-		// FIXME remove recursion
-		visitedNodes.add(node.getId());
-		for (final CFGNode succ : node.getSuccessors()) {
-			if (!visitedNodes.contains(succ.getId())) {
-				populateWithReversePostorder(succ, visitedNodes, stack);
-			}
-		}
-		stack.push(node);
+	/**
+	 * Visits the given nodes once each, in order.
+	 */
+	private void visitInOrder(final CompactGraph<CFGNode> g, final int[] order, final boolean flag) throws Exception {
+		for (final int i : order)
+			visit(g.getNode(i), flag);
+		if (order.length > 0)
+			this.iterations = Math.max(this.iterations, 1);
 	}
 
-	public final void worklistReversePostorderForward(final Stack<CFGNode> stack, final BoaAbstractFixP fixp, final Traversal.TraversalKind kind) throws Exception {
-		int nodeCount = 0;
-		while (!stack.isEmpty()) {
-			final CFGNode node = stack.pop();
-			traverse(node, true);
-			nodeCount++;
-			// FIXME why is this here?
-			if (nodeCount > 3500) {
-				return;
-			}
-			final boolean curFlag = outputMapObj.containsKey(node.getId());
-			boolean fixpFlag = false;
-			if (curFlag) {
-				final boolean prevFlag = prevOutputMapObj.containsKey(node.getId());
-				if (curFlag && prevFlag) {
-					fixpFlag = fixp.invoke((T1)outputMapObj.get(node.getId()), (T1)prevOutputMapObj.get(node.getId()));
-				}
-			}
-			if (!fixpFlag) {
-				for (final CFGNode succ : node.getSuccessors()) {
-					if (!stack.contains(succ))
-						stack.push(succ);
-				}
-			}
-			prevOutputMapObj.put(node.getId(), currentResult);
-		}
-	}
-
-	public final void worklistReversePostorderBackward(final Stack<CFGNode> stack, final BoaAbstractFixP fixp, final Traversal.TraversalKind kind) throws Exception {
-		while (!stack.isEmpty()) {
-			final CFGNode node = stack.pop();
-			traverse(node, true);
-			final boolean curFlag = outputMapObj.containsKey(node.getId());
-			boolean fixpFlag = false;
-			if (curFlag) {
-				final boolean prevFlag = prevOutputMapObj.containsKey(node.getId());
-				if (curFlag && prevFlag) {
-					fixpFlag = fixp.invoke((T1)outputMapObj.get(node.getId()), (T1)prevOutputMapObj.get(node.getId()));
-				}
-			}
-			if (!fixpFlag) {
-				for (final CFGNode succ : node.getPredecessors()) {
-					if (!stack.contains(succ))
-						stack.push(succ);
-				}
-			}
-			prevOutputMapObj.put(node.getId(), currentResult);
-		}
-	}
-
-	public final void worklistReversePostorderWithoutFixp(final Stack<CFGNode> stack, final Traversal.TraversalKind kind) throws Exception {
-		while (!stack.isEmpty()) {
-			final CFGNode node = stack.pop();
-			traverse(node, true);
-			final boolean fixpFlag = true;
-			if (!fixpFlag) {
-				for (final CFGNode succ : node.getSuccessors()) {
-					if (!stack.contains(succ))
-						stack.push(succ);
-				}
-			}
-		}
-	}
+	/**
+	 * Solves the traversal to a fixpoint with a worklist.  Nodes are handed
+	 * out in the given order and a node whose value changed queues its
+	 * successors (or predecessors), which are then visited by their place in
+	 * that order.  Nodes not in the order come after it.
+	 *
+	 * @param g the graph
+	 * @param order the indices of the nodes to start with, in order
+	 * @param forward <code>true</code> to queue successors, <code>false</code> to queue predecessors
+	 * @param fixp decides when the value of a node has stopped changing
+	 */
+	private void worklist(final CompactGraph<CFGNode> g, final int[] order, final boolean forward, final BoaAbstractFixP fixp) throws Exception {
+		final int[] priority = new int[g.size()];
+		for (int i = 0; i < priority.length; i++)
+			priority[i] = order.length + i;
+		for (int i = 0; i < order.length; i++)
+			priority[order[i]] = i;
 
-	public final void worklistPostorderWithoutFixp(final Queue<CFGNode> queue, final Traversal.TraversalKind kind) throws Exception {
-		while (!queue.isEmpty()) {
-			final CFGNode node = queue.remove();
-			traverse(node, true);
-			final boolean fixpFlag = true;
-			if (!fixpFlag) {
-				for (final CFGNode pred : node.getPredecessors()) {
-					if (!queue.contains(pred))
-						queue.add(pred);
-				}
-			}
-		}
-	}
+		final Worklist worklist = new Worklist(priority);
+		for (final int i : order)
+			worklist.add(i);
 
-	public final void worklistPostorderBackward(final Queue<CFGNode> queue, final BoaAbstractFixP fixp, final Traversal.TraversalKind kind) throws Exception {
-		while (!queue.isEmpty()) {
-			final CFGNode node = queue.remove();
-			traverse(node, true);
-			final boolean curFlag = outputMapObj.containsKey(node.getId());
-			boolean fixpFlag = false;
-			if (curFlag) {
-				final boolean prevFlag = prevOutputMapObj.containsKey(node.getId());
-				if (curFlag && prevFlag) {
-					fixpFlag = fixp.invoke((T1)outputMapObj.get(node.getId()), (T1)prevOutputMapObj.get(node.getId()));
-				}
-			}
-			if (!fixpFlag) {
-				for (final CFGNode pred : node.getPredecessors()) {
-					if (!queue.contains(pred))
-						queue.add(pred);
-				}
-			}
-			prevOutputMapObj.put(node.getId(), currentResult);
-		}
-	}
+		final int[] visits = new int[g.size()];
+		while (!worklist.isEmpty()) {
+			final int i = worklist.remove();
+			final CFGNode node = g.getNode(i);
+			visit(node, true);
+			this.iterations = Math.max(this.iterations, ++visits[i]);
 
-	public final void worklistPostorderForward(final Queue<CFGNode> queue, final BoaAbstractFixP fixp, final Traversal.TraversalKind kind) throws Exception {
-		while (!queue.isEmpty()) {
-			final CFGNode node = queue.remove();
-			traverse(node, true);
-			final boolean curFlag = outputMapObj.containsKey(node.getId());
 			boolean fixpFlag = false;
-			if (curFlag) {
-				final boolean prevFlag = prevOutputMapObj.containsKey(node.getId());
-				if (curFlag && prevFlag) {
-					fixpFlag = fixp.invoke((T1)outputMapObj.get(node.getId()), (T1)prevOutputMapObj.get(node.getId()));
-				}
-			}
+			if (outputMapObj.containsKey(node.getId()) && prevOutputMapObj.containsKey(node.getId()))
+				fixpFlag = fixp.invoke((T1)outputMapObj.get(node.getId()), (T1)prevOutputMapObj.get(node.getId()));
 			if (!fixpFlag) {
-				for (final CFGNode pred : node.getSuccessors()) {
-					if (!queue.contains(pred))
-						queue.add(pred);
+				if (forward) {
+					for (int k = g.getSuccessorCount(i) - 1; k >= 0; k--)
+						worklist.add(g.getSuccessor(i, k));
+				} else {
+					for (int k = g.getPredecessorCount(i) - 1; k >= 0; k--)
+						worklist.add(g.getPredecessor(i, k));
 				}
 			}
 			prevOutputMapObj.put(node.getId(), currentResult);
@@ -384,6 +393,8 @@ public abstract class BoaAbstractTraversal<T1> {
 	}
 
 	public final void traverse(final boa.graphs.cfg.CFG cfg, final Traversal.TraversalDirection direction, final Traversal.TraversalKind kind, final BoaAbstractFixP fixp) throws Exception {
+		BitVectorSet.enter(cfg);
+		begin();
 		try {
 			if (outputMapObj == null) {
 				outputMapObj = new java.util.HashMap<Integer, T1>();
@@ -395,8 +406,13 @@ public abstract class BoaAbstractTraversal<T1> {
 				case ITERATIVE:
 				case RANDOM:
 					boolean fixpFlag;
+					int rounds = 0;
+					prevOutputMapObj = new java.util.HashMap<Integer, T1>(outputMapObj);
 					do {
-						prevOutputMapObj = new java.util.HashMap<Integer, T1>(outputMapObj);
+						rounds++;
+						// reuse the snapshot map across rounds instead of allocating a new one
+						prevOutputMapObj.clear();
+						prevOutputMapObj.putAll(outputMapObj);
 						traverse(cfg, direction, kind);
 						fixpFlag = true;
 						final java.util.HashSet<CFGNode> nl = cfg.getNodes();
@@ -413,6 +429,7 @@ public abstract class BoaAbstractTraversal<T1> {
 							}
 						}
 					} while (!fixpFlag);
+					this.iterations = rounds;
 					break;
 				case WORKLIST_POSTORDER:
 				case WORKLIST_REVERSEPOSTORDER:
@@ -421,76 +438,43 @@ public abstract class BoaAbstractTraversal<T1> {
 					break;
 				case HYBRID:
 					prevOutputMapObj = new java.util.HashMap<Integer, T1>();
-					final java.util.Set<Integer> visitedNodes = new java.util.HashSet<Integer>();
 					final CFGNode[] nl = cfg.sortNodes();
 					if (nl.length != 0) {
 						if (this.isFlowSensitive) {
-							if (this.isLoopSensitive) {
-								switch (direction) {
-									case BACKWARD:
-										if (cfg.getIsLoopPresent()) {
-											final Queue<CFGNode> queue = new LinkedList<CFGNode>();
-											populateWithPostorder(cfg.getEntryNode(), visitedNodes, queue);
-											worklistPostorderBackward(queue, fixp, kind);
-										} else if (cfg.getIsBranchPresent()) {
-											postorderBackward(cfg.getEntryNode(), visitedNodes);
-										} else {
-											for (int i = nl.length - 1; i >= 0; i--) {
-												traverse(nl[i], false);
-											}
-										}
-										break;
-									case FORWARD:
-										if (cfg.getIsLoopPresent()) {
-											final Stack<CFGNode> stack = new Stack<CFGNode>();
-											populateWithReversePostorder(cfg.getEntryNode(), visitedNodes, stack);
-											worklistReversePostorderForward(stack, fixp, kind);
-										} else if (cfg.getIsBranchPresent()) {
-											postorderForward(cfg.getExitNode(), visitedNodes);
-										} else {
-											for (int i = 0; i < nl.length; i++) {
-												traverse(nl[i], false);
-											}
-										}
-										break;
-									default:
-										break;
-								}
-							} else {
-								switch (direction) {
-									case BACKWARD:
-										if (cfg.getIsLoopPresent()) {
-											final Queue<CFGNode> queue = new LinkedList<CFGNode>();
-											populateWithPostorder(cfg.getEntryNode(), visitedNodes, queue);
-											while (!queue.isEmpty()) {
-												traverse(queue.remove(), false);
-											}
-										} else if (cfg.getIsBranchPresent()) {
-											postorderBackward(cfg.getEntryNode(), visitedNodes);
-										} else {
-											for (int i = nl.length - 1; i >= 0; i--) {
-												traverse(nl[i], false);
-											}
+							final CompactGraph<CFGNode> g = cfg.getCompactGraph();
+							switch (direction) {
+								case BACKWARD:
+									if (cfg.getIsLoopPresent()) {
+										if (this.isLoopSensitive)
+											worklist(g, postorderFromEntry(cfg, g), false, fixp);
+										else
+											visitInOrder(g, postorderFromEntry(cfg, g), false);
+									} else if (cfg.getIsBranchPresent()) {
+										visitInOrder(g, postorderFromEntry(cfg, g), false);
+									} else {
+										for (int i = nl.length - 1; i >= 0; i--) {
+											visit(nl[i], false);
 										}
-										break;
-									case FORWARD:
-										if (cfg.getIsLoopPresent()) {
-											final Stack<CFGNode> stack = new Stack<CFGNode>();
-											populateWithReversePostorder(cfg.getEntryNode(), visitedNodes, stack);
-											while (!stack.isEmpty()) {
-												traverse(stack.pop(), false);
-											}
-										} else if (cfg.getIsBranchPresent()) {
-											postorderForward(cfg.getExitNode(), visitedNodes);
-										} else {
-											for (int i = 0; i < nl.length; i++) {
-												traverse(nl[i], false);
-											}
+										this.iterations = 1;
+									}
+									break;
+								case FORWARD:
+									if (cfg.getIsLoopPresent()) {
+										if (this.isLoopSensitive)
+											worklist(g, reverse(postorderFromEntry(cfg, g)), true, fixp);
+										else
+											visitInOrder(g, reverse(postorderFromEntry(cfg, g)), false);
+									} else if (cfg.getIsBranchPresent()) {
+										visitInOrder(g, postorderFromExit(cfg, g), false);
+									} else {
+										for (int i = 0; i < nl.length; i++) {
+											visit(nl[i], false);
 										}
-										break;
-									default:
-										break;
-								}
+										this.iterations = 1;
+									}
+									break;
+								default:
+									break;
 							}
 						}
 					}
@@ -498,54 +482,56 @@ public abstract class BoaAbstractTraversal<T1> {
 				default:
 					break;
 			}
-		} catch (final java.lang.StackOverflowError e) {
-			return;
+		} finally {
+			end();
 		}
 	}
 
 	public final void traverseWithFixp(final CFG cfg, final Traversal.TraversalDirection direction, final Traversal.TraversalKind kind, final BoaAbstractFixP fixp) throws Exception {
-		if (preTraverse(cfg)) {
-			if (outputMapObj==null) {
-				outputMapObj = new java.util.HashMap<Integer, T1>();
-			}
-			if (cfg.getNodes().size() != 0) {
-				final java.util.Set<Integer> visitedNodes = new java.util.HashSet<Integer>();
-				switch (kind) {
-					case WORKLIST_POSTORDER:
-						Queue<CFGNode> queue = new LinkedList<CFGNode>();
-						populateWithPostorder(cfg.getEntryNode(), visitedNodes, queue);
-						switch (direction) {
-							case BACKWARD:
-								worklistPostorderBackward(queue, fixp, kind);
-								break;
-
-							case FORWARD:
-								worklistPostorderForward(queue, fixp, kind);
-								break;
-							default : break;
-						}
-						break;
-					case WORKLIST_REVERSEPOSTORDER:
-						Stack<CFGNode> stack = new Stack<CFGNode>();
-						populateWithReversePostorder(cfg.getEntryNode(), visitedNodes, stack);
-						switch (direction) {
-							case BACKWARD:
-								worklistReversePostorderBackward(stack, fixp, kind);
-								break;
-
-							case FORWARD:
-								worklistReversePostorderForward(stack, fixp, kind);
-								break;
-							default : break;
-						}
-						break;
-					default : break;
+		BitVectorSet.enter(cfg);
+		begin();
+		try {
+			if (preTraverse(cfg)) {
+				if (outputMapObj==null) {
+					outputMapObj = new java.util.HashMap<Integer, T1>();
+				}
+				if (cfg.getNodes().size() != 0) {
+					final CompactGraph<CFGNode> g = cfg.getCompactGraph();
+					switch (kind) {
+						case WORKLIST_POSTORDER:
+							switch (direction) {
+								case BACKWARD:
+									worklist(g, postorderFromEntry(cfg, g), false, fixp);
+									break;
+								case FORWARD:
+									worklist(g, postorderFromEntry(cfg, g), true, fixp);
+									break;
+								default : break;
+							}
+							break;
+						case WORKLIST_REVERSEPOSTORDER:
+							switch (direction) {
+								case BACKWARD:
+									worklist(g, reverse(postorderFromEntry(cfg, g)), false, fixp);
+									break;
+								case FORWARD:
+									worklist(g, reverse(postorderFromEntry(cfg, g)), true, fixp);
+									break;
+								default : break;
+							}
+							break;
+						default : break;
+					}
 				}
 			}
+		} finally {
+			end();
 		}
 	}
 
 	public final void traverse(final boa.graphs.cfg.CFG cfg, final Traversal.TraversalDirection direction, final Traversal.TraversalKind kind) throws Exception {
+		BitVectorSet.enter(cfg);
+		begin();
 		try {
 			if (preTraverse(cfg)) {
 				if (outputMapObj == null) {
@@ -554,6 +540,8 @@ public abstract class BoaAbstractTraversal<T1> {
 				if (cfg.getNodes().size() != 0) {
 					final java.util.Set<Integer> visitedNodes = new java.util.HashSet<Integer>();
 					final CFGNode[] nl = cfg.sortNodes();
+					final CompactGraph<CFGNode> g = cfg.getCompactGraph();
+					this.iterations = Math.max(this.iterations, 1);
 					switch (kind) {
 						case DFS:
 							switch (direction) {
@@ -567,38 +555,30 @@ public abstract class BoaAbstractTraversal<T1> {
 							}
 							break;
 						case POSTORDER:
-							postorderBackward(cfg.getEntryNode(), visitedNodes);
+							visitInOrder(g, postorderFromEntry(cfg, g), false);
 							break;
 						case REVERSEPOSTORDER:
-							postorderForward(cfg.getExitNode(), visitedNodes);
+							visitInOrder(g, postorderFromExit(cfg, g), false);
 							break;
 						case WORKLIST_POSTORDER:
 							switch (direction) {
 								case FORWARD:
-									Stack<CFGNode> stack = new Stack<CFGNode>();
-									populateWithReversePostorder(cfg.getEntryNode(), visitedNodes, stack);
-									worklistReversePostorderWithoutFixp(stack, kind);
+									visitInOrder(g, reverse(postorderFromEntry(cfg, g)), true);
 									break;
 								default:
 								case BACKWARD:
-									Queue<CFGNode> queue = new LinkedList<CFGNode>();
-									populateWithPostorder(cfg.getEntryNode(), visitedNodes, queue);
-									worklistPostorderWithoutFixp(queue, kind);
+									visitInOrder(g, postorderFromEntry(cfg, g), true);
 									break;
 							}
 							break;
 						case WORKLIST_REVERSEPOSTORDER:
 							switch (direction) {
 								case FORWARD:
-									final Queue<CFGNode> queue = new LinkedList<CFGNode>();
-									populateWithPostorder(cfg.getEntryNode(), visitedNodes, queue);
-									worklistPostorderWithoutFixp(queue, kind);
+									visitInOrder(g, postorderFromEntry(cfg, g), true);
 									break;
 								default:
 								case BACKWARD:
-									final Stack<CFGNode> stack = new Stack<CFGNode>();
-									populateWithReversePostorder(cfg.getEntryNode(), visitedNodes, stack);
-									worklistReversePostorderWithoutFixp(stack, kind);
+									visitInOrder(g, reverse(postorderFromEntry(cfg, g)), true);
 									break;
 							}
 							break;
@@ -606,25 +586,25 @@ public abstract class BoaAbstractTraversal<T1> {
 							switch (direction) {
 								case FORWARD:
 									for (int i = 0; i < nl.length; i++) {
-										traverse(nl[i], false);
+										visit(nl[i], false);
 									}
 									break;
 								default:
 								case BACKWARD:
 									for (int i = nl.length - 1; i >= 0; i--) {
-										traverse(nl[i], false);
+										visit(nl[i], false);
 									}
 									break;
 							}
 							break;
 						case RANDOM:
 							for (final CFGNode n : cfg.getNodes()) {
-								traverse(n, false);
+								visit(n, false);
 							}
 							break;
 						case HYBRID:
 							for (int i = 0; i < nl.length; i++) {
-								traverse(nl[i], false);
+								visit(nl[i], false);
 							}
 							break;
 						default:
@@ -632,8 +612,8 @@ public abstract class BoaAbstractTraversal<T1> {
 					}
 				}
 			}
-		} catch (final java.lang.StackOverflowError e) {
-			return;
+		} finally {
+			end();
 		}
 	}
 
@@ -641,6 +621,7 @@ public abstract class BoaAbstractTraversal<T1> {
 	}
 
 	public final void traverse(final boa.graphs.cdg.CDG cdg, final Traversal.TraversalDirection direction, final Traversal.TraversalKind kind) throws Exception {
+		BitVectorSet.enter(cdg);
 		try {
 			if (preTraverse(cdg)) {
 				if (outputMapObj == null) {
@@ -653,7 +634,7 @@ public abstract class BoaAbstractTraversal<T1> {
 						case DFS:
 							switch (direction) {
 								case FORWARD:
-									dfsForward(cdg.getEntryNode(), visitedNodes);
+									dfsForward(cdg);
 									break;
 								default:
 								//case BACKWARD:
@@ -738,6 +719,7 @@ public abstract class BoaAbstractTraversal<T1> {
 	}
 
 	public final void traverse(final boa.graphs.ddg.DDG ddg, final Traversal.TraversalDirection direction, final Traversal.TraversalKind kind) throws Exception {
+		BitVectorSet.enter(ddg);
 		try {
 			if (preTraverse(ddg)) {
 				if (outputMapObj == null) {
@@ -750,7 +732,7 @@ public abstract class BoaAbstractTraversal<T1> {
 						case DFS:
 							switch (direction) {
 								case FORWARD:
-									dfsForward(ddg.getEntryNode(), visitedNodes);
+									dfsForward(ddg);
 									break;
 								default:
 									//case BACKWARD:
@@ -835,6 +817,7 @@ public abstract class BoaAbstractTraversal<T1> {
 	}
 
 	public final void traverse(final boa.graphs.pdg.PDG pdg, final Traversal.TraversalDirection direction, final Traversal.TraversalKind kind) throws Exception {
+		BitVectorSet.enter(pdg);
 		try {
 			if (preTraverse(pdg)) {
 				if (outputMapObj == null) {
@@ -847,7 +830,7 @@ public abstract class BoaAbstractTraversal<T1> {
 						case DFS:
 							switch (direction) {
 								case FORWARD:
-									dfsForward(pdg.getEntryNode(), visitedNodes);
+									dfsForward(pdg);
 									break;
 								default:
 									//case BACKWARD:
@@ -932,6 +915,7 @@ public abstract class BoaAbstractTraversal<T1> {
 	}
 
 	public final void traverse(final boa.graphs.slicers.PDGSlicer pdgslicer, final Traversal.TraversalDirection direction, final Traversal.TraversalKind kind) throws Exception {
+		BitVectorSet.enter(pdgslicer);
 		try {
 			if (preTraverse(pdgslicer)) {
 				if (outputMapObj == null) {
@@ -1026,6 +1010,7 @@ public abstract class BoaAbstractTraversal<T1> {
 	}
 
 	public final void traverse(final boa.graphs.trees.PDTree tree, final Traversal.TraversalDirection direction, final Traversal.TraversalKind kind) throws Exception {
+		BitVectorSet.enter(tree);
 		try {
 			if (preTraverse(tree)) {
 				if (outputMapObj == null) {
@@ -16,14 +16,8 @@
  */
 package boa.runtime;
 
-import java.util.Iterator;
-import java.util.List;
-import java.util.Map;
-
-import com.google.protobuf.AbstractMessage;
-import com.google.protobuf.Descriptors.FieldDescriptor;
-
 import boa.functions.BoaAstIntrinsics;
+import boa.functions.BoaGraphIntrinsics;
 import boa.functions.BoaIntrinsics;
 import boa.types.Ast.*;
 import boa.types.Code.CodeRepository;
@@ -44,6 +38,43 @@ import boa.types.Toplevel.Project;
  * @author rdyer
  */
 public abstract class BoaAbstractVisitor {
+	/*
+	 * One bit for each node type, used to describe which subtrees a visitor
+	 * can act on.
+	 */
+	protected static final int PROJECT = 1 << 0;
+	protected static final int CODE_REPOSITORY = 1 << 1;
+	protected static final int REVISION = 1 << 2;
+	protected static final int CHANGED_FILE = 1 << 3;
+	protected static final int AST_ROOT = 1 << 4;
+	protected static final int NAMESPACE = 1 << 5;
+	protected static final int DECLARATION = 1 << 6;
+	protected static final int TYPE = 1 << 7;
+	protected static final int METHOD = 1 << 8;
+	protected static final int VARIABLE = 1 << 9;
+	protected static final int STATEMENT = 1 << 10;
+	protected static final int EXPRESSION = 1 << 11;
+	protected static final int MODIFIER = 1 << 12;
+	protected static final int COMMENT = 1 << 13;
+	protected static final int PERSON = 1 << 14;
+	protected static final int ALL_TYPES = (1 << 15) - 1;
+
+	/** the node types whose subtrees may hold a node this visitor acts on */
+	private final int reachable = reachableTypes();
+
+	/**
+	 * Gives the node types whose subtrees may hold a node this visitor acts on.
+	 * Children of any other type are skipped, so for example a visitor that
+	 * only looks at revisions never loads an AST.  The compiler overrides this
+	 * based on the visitor's clauses.
+	 *
+	 * @return the bits (such as {@link #REVISION}) of the node types to descend
+	 *         into, by default all of them
+	 */
+	protected int reachableTypes() {
+		return ALL_TYPES;
+	}
+
 	/**
 	 * Initializes any visitor-specific data before starting a visit.
 	 * 
@@ -63,60 +94,211 @@ public abstract class BoaAbstractVisitor {
 		return true;
 	}
 
-	private void visitChildren(AbstractMessage message) throws Exception {
-		for (Iterator<Map.Entry<FieldDescriptor, Object>> iter = message.getAllFields().entrySet().iterator(); iter.hasNext();) {
-            Map.Entry<FieldDescriptor, Object> field = iter.next();
-            visitField(field.getKey(), field.getValue());
-        }
-	}
-
-	private void visitField(FieldDescriptor field, Object value) throws Exception {
-		if (field.isRepeated())
-            for (Iterator<?> iter = ((List<?>) value).iterator(); iter.hasNext();)
-                visitFieldValue(field, iter.next());
-        else
-        	visitFieldValue(field, value);
-	}
-
-	private void visitFieldValue(FieldDescriptor field, Object value) throws Exception {
-		if (field.getType() == com.google.protobuf.Descriptors.FieldDescriptor.Type.MESSAGE)
-			visit((AbstractMessage) value);
+	/*
+	 * The children of each node are visited in field number order, which is
+	 * the order protobuf reflection (getAllFields()) uses, without building a
+	 * field map for every node.  These methods mirror the message fields in
+	 * src/proto and must be updated when one of the visited messages changes.
+	 * Message types the visitor does not support still throw when present.
+	 * Children that cannot hold a node the visitor acts on are skipped.
+	 */
+	private void visitChildren(final Project node) throws Exception {
+		if ((reachable & PERSON) != 0)
+			for (int i = 0; i < node.getMaintainersCount(); i++)
+				visit(node.getMaintainers(i));
+		if ((reachable & PERSON) != 0)
+			for (int i = 0; i < node.getDevelopersCount(); i++)
+				visit(node.getDevelopers(i));
+		if ((reachable & CODE_REPOSITORY) != 0)
+			for (int i = 0; i < node.getCodeRepositoriesCount(); i++)
+				visit(node.getCodeRepositories(i));
+		if (node.getIssueRepositoriesCount() > 0)
+			throw new UnsupportedOperationException("Unsupported Boa message type!");
 	}
-
-	private void visit(AbstractMessage value) throws Exception {
-		if (value instanceof Project) {
-			visit((Project) value);
-		} else if (value instanceof CodeRepository) {
-			visit((CodeRepository) value);
-		} else if (value instanceof Revision) {
-			visit((Revision) value);
-		} else if (value instanceof ChangedFile) {
-			visit((ChangedFile) value);
-		} else if (value instanceof ASTRoot) {
-			visit((ASTRoot) value);
-		} else if (value instanceof Namespace) {
-			visit((Namespace) value);
-		} else if (value instanceof Declaration) {
-			visit((Declaration) value);
-		} else if (value instanceof Type) {
-			visit((Type) value);
-		} else if (value instanceof Method) {
-			visit((Method) value);
-		} else if (value instanceof Variable) {
-			visit((Variable) value);
-		} else if (value instanceof Statement) {
-			visit((Statement) value);
-		} else if (value instanceof Expression) {
-			visit((Expression) value);
-		} else if (value instanceof Modifier) {
-			visit((Modifier) value);
-		} else if (value instanceof Comment) {
-			visit((Comment) value);
-		} else if (value instanceof Person) {
-			visit((Person) value);
-		} else
+	private void visitChildren(final Revision node) throws Exception {
+		if ((reachable & PERSON) != 0 && node.hasAuthor())
+			visit(node.getAuthor());
+		if ((reachable & PERSON) != 0 && node.hasCommitter())
+			visit(node.getCommitter());
+		if ((reachable & CHANGED_FILE) != 0)
+			for (int i = 0; i < node.getFilesCount(); i++)
+				visit(node.getFiles(i));
+	}
+	private void visitChildren(final ASTRoot node) throws Exception {
+		if ((reachable & NAMESPACE) != 0)
+			for (int i = 0; i < node.getNamespacesCount(); i++)
+				visit(node.getNamespaces(i));
+		if (node.hasDocument())
 			throw new UnsupportedOperationException("Unsupported Boa message type!");
 	}
+	private void visitChildren(final Namespace node) throws Exception {
+		if ((reachable & MODIFIER) != 0)
+			for (int i = 0; i < node.getModifiersCount(); i++)
+				visit(node.getModifiers(i));
+		if ((reachable & DECLARATION) != 0)
+			for (int i = 0; i < node.getDeclarationsCount(); i++)
+				visit(node.getDeclarations(i));
+		if ((reachable & STATEMENT) != 0)
+			for (int i = 0; i < node.getStatementsCount(); i++)
+				visit(node.getStatements(i));
+		if ((reachable & METHOD) != 0)
+			for (int i = 0; i < node.getMethodsCount(); i++)
+				visit(node.getMethods(i));
+		if ((reachable & EXPRESSION) != 0)
+			for (int i = 0; i < node.getExpressionsCount(); i++)
+				visit(node.getExpressions(i));
+		if ((reachable & NAMESPACE) != 0)
+			for (int i = 0; i < node.getNamespacesCount(); i++)
+				visit(node.getNamespaces(i));
+		if ((reachable & VARIABLE) != 0)
+			for (int i = 0; i < node.getVariablesCount(); i++)
+				visit(node.getVariables(i));
+	}
+	private void visitChildren(final Declaration node) throws Exception {
+		if ((reachable & MODIFIER) != 0)
+			for (int i = 0; i < node.getModifiersCount(); i++)
+				visit(node.getModifiers(i));
+		if ((reachable & TYPE) != 0)
+			for (int i = 0; i < node.getGenericParametersCount(); i++)
+				visit(node.getGenericParameters(i));
+		if ((reachable & TYPE) != 0)
+			for (int i = 0; i < node.getParentsCount(); i++)
+				visit(node.getParents(i));
+		if ((reachable & METHOD) != 0)
+			for (int i = 0; i < node.getMethodsCount(); i++)
+				visit(node.getMethods(i));
+		if ((reachable & VARIABLE) != 0)
+			for (int i = 0; i < node.getFieldsCount(); i++)
+				visit(node.getFields(i));
+		if ((reachable & DECLARATION) != 0)
+			for (int i = 0; i < node.getNestedDeclarationsCount(); i++)
+				visit(node.getNestedDeclarations(i));
+		if ((reachable & COMMENT) != 0)
+			for (int i = 0; i < node.getCommentsCount(); i++)
+				visit(node.getComments(i));
+		if ((reachable & STATEMENT) != 0)
+			for (int i = 0; i < node.getStatementsCount(); i++)
+				visit(node.getStatements(i));
+	}
+	private void visitChildren(final Type node) throws Exception {
+		if ((reachable & EXPRESSION) != 0 && node.hasComputedName())
+			visit(node.getComputedName());
+	}
+	private void visitChildren(final Method node) throws Exception {
+		if ((reachable & MODIFIER) != 0)
+			for (int i = 0; i < node.getModifiersCount(); i++)
+				visit(node.getModifiers(i));
+		if ((reachable & TYPE) != 0 && node.hasReturnType())
+			visit(node.getReturnType());
+		if ((reachable & TYPE) != 0)
+			for (int i = 0; i < node.getGenericParametersCount(); i++)
+				visit(node.getGenericParameters(i));
+		if ((reachable & VARIABLE) != 0)
+			for (int i = 0; i < node.getArgumentsCount(); i++)
+				visit(node.getArguments(i));
+		if ((reachable & TYPE) != 0)
+			for (int i = 0; i < node.getExceptionTypesCount(); i++)
+				visit(node.getExceptionTypes(i));
+		if ((reachable & STATEMENT) != 0)
+			for (int i = 0; i < node.getStatementsCount(); i++)
+				visit(node.getStatements(i));
+		if ((reachable & COMMENT) != 0)
+			for (int i = 0; i < node.getCommentsCount(); i++)
+				visit(node.getComments(i));
+		if ((reachable & EXPRESSION) != 0 && node.hasComputedName())
+			visit(node.getComputedName());
+	}
+	private void visitChildren(final Variable node) throws Exception {
+		if ((reachable & TYPE) != 0 && node.hasVariableType())
+			visit(node.getVariableType());
+		if ((reachable & MODIFIER) != 0)
+			for (int i = 0; i < node.getModifiersCount(); i++)
+				visit(node.getModifiers(i));
+		if ((reachable & EXPRESSION) != 0 && node.hasInitializer())
+			visit(node.getInitializer());
+		if ((reachable & COMMENT) != 0)
+			for (int i = 0; i < node.getCommentsCount(); i++)
+				visit(node.getComments(i));
+		if ((reachable & EXPRESSION) != 0 && node.hasComputedName())
+			visit(node.getComputedName());
+		if ((reachable & EXPRESSION) != 0)
+			for (int i = 0; i < node.getExpressionsCount(); i++)
+				visit(node.getExpressions(i));
+	}
+	private void visitChildren(final Statement node) throws Exception {
+		if ((reachable & COMMENT) != 0)
+			for (int i = 0; i < node.getCommentsCount(); i++)
+				visit(node.getComments(i));
+		if ((reachable & STATEMENT) != 0)
+			for (int i = 0; i < node.getStatementsCount(); i++)
+				visit(node.getStatements(i));
+		if ((reachable & EXPRESSION) != 0)
+			for (int i = 0; i < node.getInitializationsCount(); i++)
+				visit(node.getInitializations(i));
+		if ((reachable & EXPRESSION) != 0)
+			for (int i = 0; i < node.getConditionsCount(); i++)
+				visit(node.getConditions(i));
+		if ((reachable & EXPRESSION) != 0)
+			for (int i = 0; i < node.getUpdatesCount(); i++)
+				visit(node.getUpdates(i));
+		if ((reachable & VARIABLE) != 0 && node.hasVariableDeclaration())
+			visit(node.getVariableDeclaration());
+		if ((reachable & DECLARATION) != 0 && node.hasTypeDeclaration())
+			visit(node.getTypeDeclaration());
+		if ((reachable & EXPRESSION) != 0)
+			for (int i = 0; i < node.getExpressionsCount(); i++)
+				visit(node.getExpressions(i));
+		if ((reachable & METHOD) != 0)
+			for (int i = 0; i < node.getMethodsCount(); i++)
+				visit(node.getMethods(i));
+		if ((reachable & VARIABLE) != 0)
+			for (int i = 0; i < node.getVariableDeclarationsCount(); i++)
+				visit(node.getVariableDeclarations(i));
+		if ((reachable & DECLARATION) != 0)
+			for (int i = 0; i < node.getTypeDeclarationsCount(); i++)
+				visit(node.getTypeDeclarations(i));
+	}
+	private void visitChildren(final Expression node) throws Exception {
+		if ((reachable & EXPRESSION) != 0)
+			for (int i = 0; i < node.getExpressionsCount(); i++)
+				visit(node.getExpressions(i));
+		if ((reachable & VARIABLE) != 0)
+			for (int i = 0; i < node.getVariableDeclsCount(); i++)
+				visit(node.getVariableDecls(i));
+		if ((reachable & TYPE) != 0 && node.hasNewType())
+			visit(node.getNewType());
+		if ((reachable & TYPE) != 0)
+			for (int i = 0; i < node.getGenericParametersCount(); i++)
+				visit(node.getGenericParameters(i));
+		if ((reachable & EXPRESSION) != 0)
+			for (int i = 0; i < node.getMethodArgsCount(); i++)
+				visit(node.getMethodArgs(i));
+		if ((reachable & DECLARATION) != 0 && node.hasAnonDeclaration())
+			visit(node.getAnonDeclaration());
+		if ((reachable & MODIFIER) != 0 && node.hasAnnotation())
+			visit(node.getAnnotation());
+		if ((reachable & TYPE) != 0 && node.hasDeclaringType())
+			visit(node.getDeclaringType());
+		if ((reachable & TYPE) != 0 && node.hasReturnType())
+			visit(node.getReturnType());
+		if ((reachable & METHOD) != 0)
+			for (int i = 0; i < node.getMethodsCount(); i++)
+				visit(node.getMethods(i));
+		if ((reachable & STATEMENT) != 0)
+			for (int i = 0; i < node.getStatementsCount(); i++)
+				visit(node.getStatements(i));
+		if ((reachable & EXPRESSION) != 0 && node.hasComputedVariable())
+			visit(node.getComputedVariable());
+		if ((reachable & EXPRESSION) != 0 && node.hasComputedMethod())
+			visit(node.getComputedMethod());
+		if ((reachable & METHOD) != 0 && node.hasTrait())
+			visit(node.getTrait());
+	}
+	private void visitChildren(final Modifier node) throws Exception {
+		if ((reachable & EXPRESSION) != 0)
+			for (int i = 0; i < node.getAnnotationValuesCount(); i++)
+				visit(node.getAnnotationValues(i));
+	}
 
 	protected boolean preVisit(final Project node) throws Exception {
 		return defaultPreVisit();
@@ -225,9 +407,11 @@ public abstract class BoaAbstractVisitor {
 	}
 	public final void visit(final CodeRepository node) throws Exception {
 		if (preVisit(node)) {
-			final int revisionsSize = BoaIntrinsics.getRevisionsCount(node);
-			for (int i = 0; i < revisionsSize; i++)
-				visit(BoaIntrinsics.getRevision(node, i));
+			if ((reachable & REVISION) != 0) {
+				final int revisionsSize = BoaIntrinsics.getRevisionsCount(node);
+				for (int i = 0; i < revisionsSize; i++)
+					visit(BoaIntrinsics.getRevision(node, i));
+			}
 
 			postVisit(node);
 		}
@@ -241,7 +425,8 @@ public abstract class BoaAbstractVisitor {
 	}
 	public final void visit(final ChangedFile node) throws Exception {
 		if (preVisit(node)) {
-			visit(BoaAstIntrinsics.getast(node));
+			if ((reachable & AST_ROOT) != 0)
+				visit(BoaAstIntrinsics.getast(node));
 
 			postVisit(node);
 		}
@@ -280,6 +465,7 @@ public abstract class BoaAbstractVisitor {
 
 			postVisit(node);
 		}
+		BoaGraphIntrinsics.clearGraphCache(node);
 	}
 	public final void visit(final Variable node) throws Exception {
 		if (preVisit(node)) {
@@ -70,6 +70,8 @@ public abstract class BoaCombiner extends Reducer<EmitKey, EmitValue, EmitKey, E
 	@Override
 	public void setConf(final Configuration conf) {
 		this.conf = conf;
+
+		EmitKey.setTables(conf);
 	}
 
 	/** {@inheritDoc} */
@@ -88,13 +90,12 @@ public abstract class BoaCombiner extends Reducer<EmitKey, EmitValue, EmitKey, E
 		final Aggregator a = this.aggregators.get(key.getKey());
 
 		a.setCombining(true);
-		a.start(key);
 		a.setContext(context);
+		a.start(key);
 
 		for (final EmitValue value : values)
 			try {
-				for (final String s : value.getData())
-					a.aggregate(s, value.getMetadata());
+				a.aggregate(value);
 			} catch (final FinishedException e) {
 				// we are done
 				return;
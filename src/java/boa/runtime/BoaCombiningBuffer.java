@@ -0,0 +1,201 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boa.runtime;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.mapreduce.RecordWriter;
+import org.apache.hadoop.mapreduce.TaskAttemptContext;
+import org.apache.hadoop.mapreduce.TaskInputOutputContext;
+
+import boa.aggregators.Aggregator;
+import boa.aggregators.FinishedException;
+import boa.io.EmitKey;
+import boa.io.EmitValue;
+
+/**
+ * A {@link RecordWriter} that performs in-mapper combining.  Values emitted to
+ * tables with a combinable {@link Aggregator} are grouped by {@link EmitKey}
+ * and periodically combined in memory.  The buffer is written to the real
+ * context once its estimated size exceeds the memory budget, and when closed.
+ */
+public class BoaCombiningBuffer extends RecordWriter<EmitKey, EmitValue> {
+	/**
+	 * The {@link Configuration} property holding the memory budget, in bytes.
+	 * A budget of 0 disables in-mapper combining.
+	 */
+	public static final String SIZE_PROPERTY = "boa.mapper.buffer.size";
+
+	/**
+	 * The {@link Configuration} property holding the number of values buffered
+	 * for a key before they are combined.
+	 */
+	public static final String VALUES_PROPERTY = "boa.mapper.buffer.values";
+
+	public static final long DEFAULT_SIZE = 32 * 1024 * 1024;
+	public static final int DEFAULT_VALUES = 64;
+
+	/*
+	 * rough per-object overheads, used to estimate the heap use of the buffer
+	 */
+	private static final int KEY_OVERHEAD = 96;
+	private static final int VALUE_OVERHEAD = 48;
+
+	private final TaskInputOutputContext<?, ?, EmitKey, EmitValue> context;
+	private final Map<String, Aggregator> aggregators;
+	private final long budget;
+	private final int threshold;
+
+	private final Map<EmitKey, Entry> buffer = new HashMap<EmitKey, Entry>();
+	private long size = 0;
+
+	private static class Entry {
+		private List<EmitValue> values = new ArrayList<EmitValue>();
+		private long size;
+		private int threshold;
+
+		private Entry(final int threshold) {
+			this.threshold = threshold;
+		}
+	}
+
+	/**
+	 * Construct a {@link BoaCombiningBuffer}.
+	 *
+	 * @param context
+	 *            The context combined values are written to
+	 * @param aggregators
+	 *            A {@link Map} from table identifiers to their combinable
+	 *            {@link Aggregator}s
+	 * @param budget
+	 *            The estimated number of bytes to buffer before flushing
+	 * @param threshold
+	 *            The number of values to buffer for a key before combining them
+	 */
+	public BoaCombiningBuffer(final TaskInputOutputContext<?, ?, EmitKey, EmitValue> context, final Map<String, Aggregator> aggregators, final long budget, final int threshold) {
+		this.context = context;
+		this.aggregators = aggregators;
+		this.budget = budget;
+		this.threshold = Math.max(2, threshold);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void write(final EmitKey key, final EmitValue value) throws IOException, InterruptedException {
+		final Aggregator a = this.aggregators.get(key.getKey());
+
+		// if we can't combine, just pass the output through
+		if (a == null) {
+			this.context.write(key, value);
+			return;
+		}
+
+		Entry e = this.buffer.get(key);
+		if (e == null) {
+			e = new Entry(this.threshold);
+			this.buffer.put(key, e);
+			this.size += sizeOf(key);
+		}
+
+		e.values.add(value);
+		e.size += sizeOf(value);
+		this.size += sizeOf(value);
+
+		if (e.values.size() >= e.threshold) {
+			this.combine(key, e, a);
+
+			// if combining did not help much, wait longer before trying again
+			e.threshold = Math.max(this.threshold, 2 * e.values.size());
+		}
+
+		if (this.size > this.budget)
+			this.flush();
+	}
+
+	/**
+	 * Combine and write out all buffered values.
+	 *
+	 * @throws IOException
+	 * @throws InterruptedException
+	 */
+	public void flush() throws IOException, InterruptedException {
+		for (final Map.Entry<EmitKey, Entry> e : this.buffer.entrySet()) {
+			final EmitKey key = e.getKey();
+			final Entry entry = e.getValue();
+
+			if (entry.values.size() > 1)
+				this.combine(key, entry, this.aggregators.get(key.getKey()));
+
+			for (final EmitValue value : entry.values)
+				this.context.write(key, value);
+		}
+
+		this.buffer.clear();
+		this.size = 0;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void close(final TaskAttemptContext context) throws IOException, InterruptedException {
+		this.flush();
+	}
+
+	private void combine(final EmitKey key, final Entry e, final Aggregator a) throws IOException, InterruptedException {
+		final List<EmitValue> combined = new ArrayList<EmitValue>();
+
+		a.setCombining(true);
+		a.start(key);
+		a.setBuffer(combined);
+
+		try {
+			for (final EmitValue value : e.values)
+				a.aggregate(value);
+			a.finish();
+		} catch (final FinishedException ex) {
+			// leave the values as they are, the combiner will handle them
+			return;
+		} finally {
+			a.setBuffer(null);
+		}
+
+		long combinedSize = 0;
+		for (final EmitValue value : combined)
+			combinedSize += sizeOf(value);
+
+		this.size += combinedSize - e.size;
+		e.values = combined;
+		e.size = combinedSize;
+	}
+
+	private static long sizeOf(final EmitKey key) {
+		return KEY_OVERHEAD + 2 * (key.getName().length() + key.getIndex().length());
+	}
+
+	private static long sizeOf(final EmitValue value) {
+		if (value.isLong() || value.isDouble())
+			return VALUE_OVERHEAD;
+		if (value.isDoubles())
+			return VALUE_OVERHEAD + 8 * value.getDoubles().length;
+
+		long size = VALUE_OVERHEAD;
+		for (final String s : value.getData())
+			size += VALUE_OVERHEAD + 2 * s.length();
+		return size;
+	}
+}
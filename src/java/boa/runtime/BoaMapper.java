@@ -17,14 +17,27 @@
 package boa.runtime;
 
 import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.apache.hadoop.conf.Configurable;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.io.Text;
 import org.apache.hadoop.io.BytesWritable;
+import org.apache.hadoop.mapreduce.Counter;
+import org.apache.hadoop.mapreduce.InputSplit;
+import org.apache.hadoop.mapreduce.Job;
+import org.apache.hadoop.mapreduce.MapContext;
 import org.apache.hadoop.mapreduce.Mapper;
+import org.apache.hadoop.mapreduce.RecordReader;
+import org.apache.hadoop.mapreduce.RecordWriter;
+import org.apache.hadoop.mapreduce.StatusReporter;
+import org.apache.hadoop.mapreduce.TaskAttemptContext;
+import org.apache.hadoop.mapreduce.lib.map.MultithreadedMapper;
 import org.apache.log4j.Logger;
 
+import boa.aggregators.Aggregator;
 import boa.io.EmitKey;
 import boa.io.EmitValue;
 
@@ -36,8 +49,53 @@ import boa.io.EmitValue;
 public abstract class BoaMapper extends Mapper<Text, BytesWritable, EmitKey, EmitValue> implements Configurable {
 	protected static final Logger LOG = Logger.getLogger(BoaMapper.class);
 
+	/**
+	 * The {@link Configuration} property holding the number of mapper threads
+	 * each map task runs.  Each thread has its own mapper instance and
+	 * processes its own projects.
+	 */
+	public static final String THREADS_PROPERTY = "boa.mapper.threads";
+
+	/**
+	 * Set the mapper of a job.  If more than one mapper thread is configured,
+	 * the mapper runs inside a {@link MultithreadedMapper}, which gives each
+	 * thread its own instance and synchronizes reading input and writing
+	 * output.
+	 * 
+	 * @param job
+	 *            The {@link Job} to configure
+	 * @param cls
+	 *            The generated {@link BoaMapper} class
+	 */
+	public static void setMapperClass(final Job job, final Class<? extends BoaMapper> cls) {
+		final int threads = job.getConfiguration().getInt(THREADS_PROPERTY, 1);
+
+		if (threads > 1) {
+			job.setMapperClass(MultithreadedMapper.class);
+			MultithreadedMapper.setMapperClass(job, cls);
+			MultithreadedMapper.setNumberOfThreads(job, threads);
+		} else {
+			job.setMapperClass(cls);
+		}
+	}
+
+	/**
+	 * A {@link Map} from {@link String} to {@link Aggregator} indexing the
+	 * combinable aggregators to their Boa identifiers, used for in-mapper
+	 * combining.
+	 */
+	protected Map<String, Aggregator> aggregators;
+
 	private Configuration conf;
 	protected Context context;
+	private BoaCombiningBuffer buffer;
+
+	/**
+	 * Construct a {@link BoaMapper}.
+	 */
+	protected BoaMapper() {
+		this.aggregators = new HashMap<String, Aggregator>();
+	}
 
 	/** {@inheritDoc} */
 	@Override
@@ -49,6 +107,8 @@ public abstract class BoaMapper extends Mapper<Text, BytesWritable, EmitKey, Emi
 	@Override
 	public void setConf(final Configuration conf) {
 		this.conf = conf;
+
+		EmitKey.setTables(conf);
 	}
 
 	/** {@inheritDoc} */
@@ -58,4 +118,191 @@ public abstract class BoaMapper extends Mapper<Text, BytesWritable, EmitKey, Emi
 
 		this.context = context;
 	}
+
+	/** {@inheritDoc} */
+	@Override
+	protected void cleanup(final Mapper<Text, BytesWritable, EmitKey, EmitValue>.Context context) throws IOException, InterruptedException {
+		if (this.buffer != null)
+			this.buffer.close(context);
+
+		super.cleanup(context);
+	}
+
+	/**
+	 * Runs the mapper.  If any output table can combine, the map methods are
+	 * handed a context whose output goes through a {@link BoaCombiningBuffer}.
+	 * If any output table has sorted values, the output first goes through a
+	 * {@link ValueSortingWriter}.
+	 */
+	@Override
+	public void run(final Mapper<Text, BytesWritable, EmitKey, EmitValue>.Context context) throws IOException, InterruptedException {
+		final long budget = context.getConfiguration().getLong(BoaCombiningBuffer.SIZE_PROPERTY, BoaCombiningBuffer.DEFAULT_SIZE);
+		final boolean sorted = context.getConfiguration().get(EmitKey.SORTED_TABLES_PROPERTY) != null;
+
+		if ((this.aggregators.isEmpty() || budget <= 0) && !sorted) {
+			super.run(context);
+			return;
+		}
+
+		if (!this.aggregators.isEmpty() && budget > 0)
+			this.buffer = new BoaCombiningBuffer(context, this.aggregators, budget,
+					context.getConfiguration().getInt(BoaCombiningBuffer.VALUES_PROPERTY, BoaCombiningBuffer.DEFAULT_VALUES));
+
+		RecordWriter<EmitKey, EmitValue> writer = this.buffer;
+		if (sorted)
+			writer = new ValueSortingWriter(context, this.buffer);
+
+		super.run(new Context(context.getConfiguration(), context.getTaskAttemptID(),
+				new ContextRecordReader(context), writer,
+				context.getOutputCommitter(), new ContextStatusReporter(context),
+				context.getInputSplit()));
+	}
+
+	/**
+	 * A {@link RecordWriter} that sets the value each key of a table with
+	 * sorted values is sorted by, and passes the output on to another writer
+	 * or to the context.  A value of several strings for such a table is
+	 * passed on as one value per string.
+	 */
+	private static class ValueSortingWriter extends RecordWriter<EmitKey, EmitValue> {
+		private final Mapper<Text, BytesWritable, EmitKey, EmitValue>.Context context;
+		private final RecordWriter<EmitKey, EmitValue> writer;
+
+		public ValueSortingWriter(final Mapper<Text, BytesWritable, EmitKey, EmitValue>.Context context, final RecordWriter<EmitKey, EmitValue> writer) {
+			this.context = context;
+			this.writer = writer;
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public void write(final EmitKey key, final EmitValue value) throws IOException, InterruptedException {
+			if (!EmitKey.isSorted(key.getName())) {
+				this.pass(key, value);
+				return;
+			}
+
+			final String[] data = value.getData();
+			if (data.length == 1) {
+				key.setValue(data[0]);
+				this.pass(key, value);
+				return;
+			}
+
+			// each string of the value is a member of the set on its own, so
+			// it is sorted, and its duplicates dropped, apart from the others
+			for (final String s : data) {
+				final EmitKey k = new EmitKey(key.getIndex(), key.getName(), key.getId());
+				k.setValue(s);
+				this.pass(k, new EmitValue(new String[] { s }, value.getMetadata()));
+			}
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public void close(final TaskAttemptContext context) {
+			// the buffer is closed in cleanup
+		}
+
+		private void pass(final EmitKey key, final EmitValue value) throws IOException, InterruptedException {
+			if (this.writer != null)
+				this.writer.write(key, value);
+			else
+				this.context.write(key, value);
+		}
+	}
+
+	/**
+	 * A {@link RecordReader} reading the records of another context.
+	 */
+	private class ContextRecordReader extends RecordReader<Text, BytesWritable> {
+		private final Mapper<Text, BytesWritable, EmitKey, EmitValue>.Context context;
+		// the reader of the other context, for its progress, or null if it can not be found
+		private final RecordReader<?, ?> reader;
+
+		public ContextRecordReader(final Mapper<Text, BytesWritable, EmitKey, EmitValue>.Context context) {
+			this.context = context;
+
+			// MapContext does not expose its reader or its progress
+			RecordReader<?, ?> reader = null;
+			try {
+				final Field f = MapContext.class.getDeclaredField("reader");
+				f.setAccessible(true);
+				reader = (RecordReader<?, ?>) f.get(context);
+			} catch (final Exception e) {
+				LOG.warn("unable to find the record reader of the map context, progress will not be reported", e);
+			}
+			this.reader = reader;
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public void initialize(final InputSplit split, final TaskAttemptContext context) {
+			// already initialized
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public boolean nextKeyValue() throws IOException, InterruptedException {
+			return this.context.nextKeyValue();
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public Text getCurrentKey() throws IOException, InterruptedException {
+			return this.context.getCurrentKey();
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public BytesWritable getCurrentValue() throws IOException, InterruptedException {
+			return this.context.getCurrentValue();
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public float getProgress() throws IOException, InterruptedException {
+			return this.reader == null ? 0 : this.reader.getProgress();
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public void close() {
+			// closed by the framework
+		}
+	}
+
+	/**
+	 * A {@link StatusReporter} reporting to another context.
+	 */
+	private class ContextStatusReporter extends StatusReporter {
+		private final Mapper<Text, BytesWritable, EmitKey, EmitValue>.Context context;
+
+		public ContextStatusReporter(final Mapper<Text, BytesWritable, EmitKey, EmitValue>.Context context) {
+			this.context = context;
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public Counter getCounter(final Enum<?> name) {
+			return this.context.getCounter(name);
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public Counter getCounter(final String group, final String name) {
+			return this.context.getCounter(group, name);
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public void progress() {
+			this.context.progress();
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public void setStatus(final String status) {
+			this.context.setStatus(status);
+		}
+	}
 }
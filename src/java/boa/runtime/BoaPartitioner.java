@@ -16,7 +16,38 @@
  */
 package boa.runtime;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.hadoop.conf.Configurable;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.DefaultStringifier;
+import org.apache.hadoop.io.Text;
+import org.apache.hadoop.mapreduce.Counter;
+import org.apache.hadoop.mapreduce.Counters;
+import org.apache.hadoop.mapreduce.InputFormat;
+import org.apache.hadoop.mapreduce.InputSplit;
+import org.apache.hadoop.mapreduce.Job;
+import org.apache.hadoop.mapreduce.Mapper;
 import org.apache.hadoop.mapreduce.Partitioner;
+import org.apache.hadoop.mapreduce.RecordReader;
+import org.apache.hadoop.mapreduce.RecordWriter;
+import org.apache.hadoop.mapreduce.StatusReporter;
+import org.apache.hadoop.mapreduce.TaskAttemptContext;
+import org.apache.hadoop.mapreduce.TaskAttemptID;
+import org.apache.hadoop.mapreduce.lib.map.MultithreadedMapper;
+import org.apache.hadoop.util.ReflectionUtils;
+import org.apache.log4j.Logger;
 
 import boa.io.EmitKey;
 import boa.io.EmitValue;
@@ -24,11 +55,372 @@ import boa.io.EmitValue;
 /**
  * A {@link Partitioner} that takes several merged jobs and partitions
  * keys from each job to its own reducer.
- * 
+ *
+ * If there are more reducers than jobs and split keys are known, either from
+ * a split file or from sampling the map output with
+ * {@link #sample(Job)}, the keys are instead range partitioned in the order of
+ * job, table and index.  Each job then gets its own run of reducers, in
+ * proportion to how many keys it emits, and a table with many indices is
+ * spread over all of them.  Since every reducer sorts its keys by table and
+ * index, concatenating the reducer outputs in order gives the same output as
+ * one reducer per job.
+ *
  * @author rdyer
  */
-public class BoaPartitioner extends Partitioner<EmitKey, EmitValue> {
+public class BoaPartitioner extends Partitioner<EmitKey, EmitValue> implements Configurable {
+	protected static final Logger LOG = Logger.getLogger(BoaPartitioner.class);
+
+	/**
+	 * The {@link Configuration} property holding the number of merged jobs.
+	 */
+	public static final String JOBS_PROPERTY = "boa.partitioner.jobs";
+
+	/**
+	 * The {@link Configuration} property holding the number of reducers.  The
+	 * default is one per job.
+	 */
+	public static final String REDUCERS_PROPERTY = "boa.partitioner.reducers";
+
+	/**
+	 * The {@link Configuration} property holding the number of input records
+	 * the mapper runs on to sample the map output keys.  The default of 0 does
+	 * not sample.
+	 */
+	public static final String SAMPLE_PROPERTY = "boa.partitioner.sample";
+
+	/**
+	 * The {@link Configuration} property holding the path of a split file.
+	 * Each line holds a split key as the job id, table name and index,
+	 * separated by tabs, and the keys are sorted in that order.  Reducer
+	 * <i>i</i> gets the keys from split key <i>i - 1</i> up to split key
+	 * <i>i</i>, so there must be one less split key than reducers.
+	 */
+	public static final String SPLITS_FILE_PROPERTY = "boa.partitioner.splits.file";
+
+	/**
+	 * The {@link Configuration} property holding the split keys found by
+	 * {@link #sample(Job)}.
+	 */
+	public static final String SPLITS_PROPERTY = "boa.partitioner.splits";
+
+	// the number of input splits sampled from
+	private static final int SAMPLE_SPLITS = 10;
+
+	private static final Comparator<EmitKey> order = new Comparator<EmitKey>() {
+		@Override
+		public int compare(final EmitKey k1, final EmitKey k2) {
+			int c = k1.getId() - k2.getId();
+			if (c != 0)
+				return c;
+			c = k1.getName().compareTo(k2.getName());
+			if (c != 0)
+				return c;
+			return k1.getIndex().compareTo(k2.getIndex());
+		}
+	};
+
+	private Configuration conf;
+	private EmitKey[] splits = null;
+
+	/** {@inheritDoc} */
+	@Override
+	public Configuration getConf() {
+		return this.conf;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void setConf(final Configuration conf) {
+		this.conf = conf;
+
+		try {
+			if (conf.get(SPLITS_PROPERTY) != null)
+				this.splits = decode(DefaultStringifier.loadArray(conf, SPLITS_PROPERTY, Text.class));
+			else if (conf.get(SPLITS_FILE_PROPERTY) != null)
+				this.splits = readSplits(conf, new Path(conf.get(SPLITS_FILE_PROPERTY)));
+		} catch (final IOException e) {
+			throw new RuntimeException("could not read the split keys", e);
+		}
+	}
+
+	/** {@inheritDoc} */
+	@Override
 	public int getPartition(final EmitKey key, final EmitValue value, final int num) {
-		return key.getId() % num;
+		if (this.splits == null || this.splits.length != num - 1)
+			return key.getId() % num;
+
+		// the number of split keys not after the key
+		int lo = 0;
+		int hi = this.splits.length;
+		while (lo < hi) {
+			final int mid = (lo + hi) >>> 1;
+			if (order.compare(this.splits[mid], key) <= 0)
+				lo = mid + 1;
+			else
+				hi = mid;
+		}
+		return lo;
+	}
+
+	/**
+	 * Find split keys for a job by running its mapper on a sample of its input,
+	 * if sampling is configured and there are more reducers than jobs.  If the
+	 * sample can not be taken, the keys are partitioned by job.
+	 *
+	 * @param job
+	 *            The {@link Job} to sample, with its number of reducers set
+	 */
+	public static void sample(final Job job) throws IOException, InterruptedException {
+		final Configuration conf = job.getConfiguration();
+		final int records = conf.getInt(SAMPLE_PROPERTY, 0);
+		final int jobs = conf.getInt(JOBS_PROPERTY, 1);
+
+		if (records <= 0 || job.getNumReduceTasks() <= jobs || conf.get(SPLITS_FILE_PROPERTY) != null)
+			return;
+
+		final Map<EmitKey, long[]> counts = new HashMap<EmitKey, long[]>();
+		try {
+			countKeys(job, records, counts);
+		} catch (final Exception e) {
+			LOG.warn("could not sample the map output, partitioning by job", e);
+			return;
+		}
+
+		DefaultStringifier.storeArray(conf, encode(computeSplits(counts, jobs, job.getNumReduceTasks())), SPLITS_PROPERTY);
+	}
+
+	/**
+	 * Compute split keys from a sample.  Each job gets one reducer, and the
+	 * remaining reducers go to the jobs with the most sampled keys per
+	 * reducer.  The split keys then cut the sampled keys of each job into runs
+	 * of about the same count.  A single key can not be split, so a hot key
+	 * gets a reducer of its own and a job with fewer distinct keys than
+	 * reducers leaves some reducers empty.
+	 *
+	 * @param counts
+	 *            The sampled keys and their counts
+	 * @param jobs
+	 *            The number of merged jobs
+	 * @param reducers
+	 *            The number of reducers, at least the number of jobs
+	 * @return the split keys, one less than reducers
+	 */
+	public static EmitKey[] computeSplits(final Map<EmitKey, long[]> counts, final int jobs, final int reducers) {
+		final List<List<EmitKey>> keys = new ArrayList<List<EmitKey>>();
+		final long[] totals = new long[jobs];
+		for (int j = 0; j < jobs; j++)
+			keys.add(new ArrayList<EmitKey>());
+
+		for (final Map.Entry<EmitKey, long[]> e : counts.entrySet()) {
+			final int id = e.getKey().getId();
+			if (id < 0 || id >= jobs)
+				continue;
+			keys.get(id).add(e.getKey());
+			totals[id] += e.getValue()[0];
+		}
+
+		final int[] shares = new int[jobs];
+		Arrays.fill(shares, 1);
+		for (int r = jobs; r < reducers; r++) {
+			int best = 0;
+			for (int j = 1; j < jobs; j++)
+				if ((double) totals[j] / shares[j] > (double) totals[best] / shares[best])
+					best = j;
+			shares[best]++;
+		}
+
+		final List<EmitKey> splits = new ArrayList<EmitKey>();
+		for (int j = 0; j < jobs; j++) {
+			if (j > 0)
+				splits.add(new EmitKey("[]", "", j));
+
+			final List<EmitKey> jobKeys = keys.get(j);
+			Collections.sort(jobKeys, order);
+
+			// close a run before a key that would take it further past its
+			// share of the count left than it is short of it, so a hot key
+			// takes a reducer of its own
+			long remaining = totals[j];
+			long run = 0;
+			int left = shares[j];
+			for (final EmitKey k : jobKeys) {
+				final long count = counts.get(k)[0];
+				if (left > 1 && run > 0 && (double) (2 * run + count) * left > 2.0 * remaining) {
+					splits.add(k);
+					remaining -= run;
+					run = 0;
+					left--;
+				}
+				run += count;
+			}
+
+			// too few distinct keys, the remaining reducers stay empty
+			for (; left > 1; left--)
+				splits.add(new EmitKey("[]", "", j + 1));
+		}
+
+		return splits.toArray(new EmitKey[splits.size()]);
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private static void countKeys(final Job job, final int records, final Map<EmitKey, long[]> counts) throws Exception {
+		final Configuration conf = new Configuration(job.getConfiguration());
+
+		// count every emit, not what the mapper would combine them into
+		conf.setLong(BoaCombiningBuffer.SIZE_PROPERTY, 0);
+
+		final InputFormat format = ReflectionUtils.newInstance(job.getInputFormatClass(), conf);
+		final List<InputSplit> inputs = format.getSplits(job);
+		if (inputs.isEmpty())
+			return;
+
+		Class<? extends Mapper> cls = job.getMapperClass();
+		if (cls == MultithreadedMapper.class)
+			cls = MultithreadedMapper.getMapperClass(job);
+
+		final int step = Math.max(1, inputs.size() / SAMPLE_SPLITS);
+		final int perSplit = Math.max(1, records / ((inputs.size() + step - 1) / step));
+
+		final RecordWriter<EmitKey, EmitValue> writer = new RecordWriter<EmitKey, EmitValue>() {
+			@Override
+			public void write(final EmitKey key, final EmitValue value) {
+				final EmitKey k = new EmitKey(key.getIndex(), key.getName(), key.getId());
+				final long[] count = counts.get(k);
+				if (count == null)
+					counts.put(k, new long[] { 1 });
+				else
+					count[0]++;
+			}
+
+			@Override
+			public void close(final TaskAttemptContext context) {
+			}
+		};
+
+		final Counters counters = new Counters();
+		final StatusReporter reporter = new StatusReporter() {
+			@Override
+			public Counter getCounter(final Enum<?> name) {
+				return counters.findCounter(name);
+			}
+
+			@Override
+			public Counter getCounter(final String group, final String name) {
+				return counters.findCounter(group, name);
+			}
+
+			@Override
+			public void progress() {
+			}
+
+			@Override
+			public void setStatus(final String status) {
+			}
+		};
+
+		for (int i = 0; i < inputs.size(); i += step) {
+			final InputSplit split = inputs.get(i);
+			final TaskAttemptContext context = new TaskAttemptContext(conf, new TaskAttemptID());
+
+			final RecordReader reader = format.createRecordReader(split, context);
+			reader.initialize(split, context);
+			try {
+				final Mapper mapper = ReflectionUtils.newInstance(cls, conf);
+				mapper.run(mapper.new Context(conf, context.getTaskAttemptID(), new LimitedRecordReader(reader, perSplit), writer, null, reporter, split));
+			} finally {
+				reader.close();
+			}
+		}
+	}
+
+	private static Text[] encode(final EmitKey[] splits) {
+		final Text[] texts = new Text[3 * splits.length];
+		for (int i = 0; i < splits.length; i++) {
+			texts[3 * i] = new Text(Integer.toString(splits[i].getId()));
+			texts[3 * i + 1] = new Text(splits[i].getName());
+			texts[3 * i + 2] = new Text(splits[i].getIndex());
+		}
+		return texts;
+	}
+
+	private static EmitKey[] decode(final Text[] texts) {
+		final EmitKey[] splits = new EmitKey[texts.length / 3];
+		for (int i = 0; i < splits.length; i++)
+			splits[i] = new EmitKey(texts[3 * i + 2].toString(), texts[3 * i + 1].toString(), Integer.parseInt(texts[3 * i].toString()));
+		return splits;
+	}
+
+	private static EmitKey[] readSplits(final Configuration conf, final Path path) throws IOException {
+		final List<EmitKey> splits = new ArrayList<EmitKey>();
+
+		final BufferedReader in = new BufferedReader(new InputStreamReader(FileSystem.get(path.toUri(), conf).open(path), "UTF-8"));
+		try {
+			String line;
+			while ((line = in.readLine()) != null) {
+				if (line.isEmpty())
+					continue;
+				final String[] parts = line.split("\t", 3);
+				if (parts.length != 3)
+					throw new IOException("malformed split key '" + line + "' in " + path);
+				splits.add(new EmitKey(parts[2], parts[1], Integer.parseInt(parts[0])));
+			}
+		} finally {
+			in.close();
+		}
+
+		return splits.toArray(new EmitKey[splits.size()]);
+	}
+
+	/**
+	 * A {@link RecordReader} reading at most a given number of records of
+	 * another reader.
+	 */
+	private static class LimitedRecordReader<K, V> extends RecordReader<K, V> {
+		private final RecordReader<K, V> reader;
+		private int remaining;
+
+		public LimitedRecordReader(final RecordReader<K, V> reader, final int limit) {
+			this.reader = reader;
+			this.remaining = limit;
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public void initialize(final InputSplit split, final TaskAttemptContext context) {
+			// already initialized
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public boolean nextKeyValue() throws IOException, InterruptedException {
+			if (this.remaining <= 0)
+				return false;
+			this.remaining--;
+			return this.reader.nextKeyValue();
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public K getCurrentKey() throws IOException, InterruptedException {
+			return this.reader.getCurrentKey();
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public V getCurrentValue() throws IOException, InterruptedException {
+			return this.reader.getCurrentValue();
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public float getProgress() throws IOException, InterruptedException {
+			return this.reader.getProgress();
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public void close() {
+			// closed by the sampler
+		}
 	}
 }
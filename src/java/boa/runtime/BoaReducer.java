@@ -71,6 +71,8 @@ public abstract class BoaReducer extends Reducer<EmitKey, EmitValue, Text, NullW
 	@Override
 	public void setConf(final Configuration conf) {
 		this.conf = conf;
+
+		EmitKey.setTables(conf);
 	}
 
 	/** {@inheritDoc} */
@@ -80,13 +82,12 @@ public abstract class BoaReducer extends Reducer<EmitKey, EmitValue, Text, NullW
 		final Aggregator a = this.aggregators.get(key.getKey());
 
 		a.setCombining(false);
-		a.start(key);
 		a.setContext(context);
+		a.start(key);
 
 		for (final EmitValue value : values)
 			try {
-				for (final String s : value.getData())
-					a.aggregate(s, value.getMetadata());
+				a.aggregate(value);
 			} catch (final FinishedException e) {
 				// we are done
 				return;
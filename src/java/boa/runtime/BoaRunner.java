@@ -92,6 +92,8 @@ public abstract class BoaRunner extends Configured implements Tool {
 
 		job.setMapOutputKeyClass(EmitKey.class);
 		job.setMapOutputValueClass(EmitValue.class);
+		job.setSortComparatorClass(EmitKey.Comparator.class);
+		job.setGroupingComparatorClass(EmitKey.GroupingComparator.class);
 
 		job.setOutputFormatClass(BoaOutputFormat.class);
 		job.setOutputKeyClass(Text.class);
@@ -0,0 +1,116 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boa.runtime;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A worklist of the nodes of a graph, given by their index in a
+ * {@link boa.graphs.CompactGraph}.  It is a binary heap that always hands out
+ * the queued node of lowest priority, and it keeps a bitmap of the queued
+ * nodes so a node is never queued twice and membership is checked in
+ * constant time.
+ */
+public class Worklist {
+	private final int[] priority;
+	private final int[] heap;
+	private final boolean[] queued;
+	private int size = 0;
+
+	/**
+	 * Constructs an empty worklist.
+	 *
+	 * @param priority the priority of each node, lower first; no two nodes may share one
+	 */
+	public Worklist(final int[] priority) {
+		this.priority = priority;
+		this.heap = new int[priority.length];
+		this.queued = new boolean[priority.length];
+	}
+
+	/**
+	 * @return <code>true</code> if no node is queued
+	 */
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/**
+	 * @return the number of queued nodes
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * @param node the index of a node
+	 * @return <code>true</code> if the node is queued
+	 */
+	public boolean contains(final int node) {
+		return this.queued[node];
+	}
+
+	/**
+	 * Queues a node, unless it is already queued.
+	 *
+	 * @param node the index of the node
+	 * @return <code>true</code> if the node was not already queued
+	 */
+	public boolean add(final int node) {
+		if (this.queued[node])
+			return false;
+		this.queued[node] = true;
+
+		// sift up
+		int i = this.size++;
+		while (i > 0) {
+			final int parent = (i - 1) >>> 1;
+			if (this.priority[this.heap[parent]] < this.priority[node])
+				break;
+			this.heap[i] = this.heap[parent];
+			i = parent;
+		}
+		this.heap[i] = node;
+		return true;
+	}
+
+	/**
+	 * Removes the queued node of lowest priority.
+	 *
+	 * @return the index of the node
+	 */
+	public int remove() {
+		if (this.size == 0)
+			throw new NoSuchElementException();
+		final int top = this.heap[0];
+		this.queued[top] = false;
+
+		// sift down the last node from the root
+		final int last = this.heap[--this.size];
+		int i = 0;
+		while (true) {
+			int child = 2 * i + 1;
+			if (child >= this.size)
+				break;
+			if (child + 1 < this.size && this.priority[this.heap[child + 1]] < this.priority[this.heap[child]])
+				child++;
+			if (this.priority[last] < this.priority[this.heap[child]])
+				break;
+			this.heap[i] = this.heap[child];
+			i = child;
+		}
+		this.heap[i] = last;
+		return top;
+	}
+}
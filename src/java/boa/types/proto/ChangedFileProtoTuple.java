@@ -75,6 +75,9 @@ public class ChangedFileProtoTuple extends BoaProtoTuple {
 
 		names.put("previous_indices", counter++);
 		members.add(new BoaProtoList(new BoaInt()));
+
+		names.put("previous_commits", counter++);
+		members.add(new BoaProtoList(new BoaInt()));
 		
 		names.put("mapped_key", counter++);
 		members.add(new BoaInt());
@@ -0,0 +1,181 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boa.test.aggregators;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.io.DataInputBuffer;
+import org.apache.hadoop.mapred.RawKeyValueIterator;
+import org.apache.hadoop.mapreduce.Counter;
+import org.apache.hadoop.mapreduce.Counters;
+import org.apache.hadoop.mapreduce.RecordWriter;
+import org.apache.hadoop.mapreduce.Reducer;
+import org.apache.hadoop.mapreduce.StatusReporter;
+import org.apache.hadoop.mapreduce.TaskAttemptContext;
+import org.apache.hadoop.mapreduce.TaskAttemptID;
+import org.apache.hadoop.util.Progress;
+
+import boa.aggregators.Aggregator;
+import boa.aggregators.FinishedException;
+import boa.io.EmitKey;
+import boa.io.EmitValue;
+
+/**
+ * The base class for aggregator tests.  It runs an aggregator the way
+ * {@link boa.runtime.BoaCombiner} and {@link boa.runtime.BoaReducer} do, over
+ * a task context with a given configuration, and returns what it emits.
+ */
+public abstract class BaseAggregatorTest {
+	protected static final EmitKey KEY = new EmitKey("[]", "t", 0);
+
+	/**
+	 * Run an aggregator as a combiner.
+	 *
+	 * @param a the aggregator
+	 * @param conf the configuration of the job
+	 * @param values the values emitted for the key
+	 * @return the values the combiner emits, after a round trip through their
+	 *         serialized form
+	 */
+	protected static List<EmitValue> combine(final Aggregator a, final Configuration conf, final Collection<EmitValue> values) throws IOException, InterruptedException {
+		final List<Object> output = run(a, conf, values, true);
+
+		final List<EmitValue> combined = new ArrayList<EmitValue>();
+		for (final Object o : output) {
+			final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			((EmitValue) o).write(new DataOutputStream(bytes));
+			final EmitValue copy = new EmitValue();
+			copy.readFields(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+			combined.add(copy);
+		}
+		return combined;
+	}
+
+	/**
+	 * Run an aggregator as a reducer.
+	 *
+	 * @param a the aggregator
+	 * @param conf the configuration of the job
+	 * @param values the values emitted for the key, or emitted by combiners
+	 * @return the output lines of the reducer, without the key
+	 */
+	protected static List<String> reduce(final Aggregator a, final Configuration conf, final Collection<EmitValue> values) throws IOException, InterruptedException {
+		final List<String> lines = new ArrayList<String>();
+		final String prefix = KEY + " = ";
+		for (final Object o : run(a, conf, values, false)) {
+			final String line = o.toString();
+			lines.add(line.startsWith(prefix) ? line.substring(prefix.length()) : line);
+		}
+		return lines;
+	}
+
+	/**
+	 * Concatenate two lists of values, such as the outputs of two combiners.
+	 */
+	protected static List<EmitValue> concat(final List<EmitValue> a, final List<EmitValue> b) {
+		final List<EmitValue> all = new ArrayList<EmitValue>(a);
+		all.addAll(b);
+		return all;
+	}
+
+	/**
+	 * @return each long as an emitted value
+	 */
+	protected static List<EmitValue> longs(final long... data) {
+		final List<EmitValue> values = new ArrayList<EmitValue>();
+		for (final long l : data)
+			values.add(new EmitValue(l));
+		return values;
+	}
+
+	private static List<Object> run(final Aggregator a, final Configuration conf, final Collection<EmitValue> values, final boolean combining) throws IOException, InterruptedException {
+		final List<Object> output = new ArrayList<Object>();
+
+		a.setCombining(combining);
+		a.setContext(context(conf, output));
+		a.start(KEY);
+		try {
+			for (final EmitValue value : values)
+				a.aggregate(value);
+		} catch (final FinishedException e) {
+			return output;
+		}
+		a.finish();
+
+		return output;
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private static Reducer.Context context(final Configuration conf, final List<Object> output) throws IOException, InterruptedException {
+		final Counters counters = new Counters();
+		return new Reducer().new Context(conf, new TaskAttemptID(), new EmptyIterator(), null, null, new RecordWriter() {
+			@Override
+			public void write(final Object key, final Object value) {
+				// the reducer writes its output as the key, the combiner as the value
+				output.add(value instanceof EmitValue ? value : key);
+			}
+
+			@Override
+			public void close(final TaskAttemptContext context) {
+			}
+		}, null, new StatusReporter() {
+			@Override
+			public Counter getCounter(final Enum<?> name) {
+				return counters.findCounter(name);
+			}
+
+			@Override
+			public Counter getCounter(final String group, final String name) {
+				return counters.findCounter(group, name);
+			}
+
+			@Override
+			public void progress() {
+			}
+
+			@Override
+			public void setStatus(final String status) {
+			}
+		}, new EmitKey.Comparator(), EmitKey.class, EmitValue.class);
+	}
+
+	private static class EmptyIterator implements RawKeyValueIterator {
+		public DataInputBuffer getKey() {
+			return null;
+		}
+
+		public DataInputBuffer getValue() {
+			return null;
+		}
+
+		public boolean next() {
+			return false;
+		}
+
+		public void close() {
+		}
+
+		public Progress getProgress() {
+			return new Progress();
+		}
+	}
+}
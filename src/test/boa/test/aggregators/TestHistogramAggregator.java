@@ -0,0 +1,106 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boa.test.aggregators;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.hadoop.conf.Configuration;
+import org.junit.Test;
+
+import boa.aggregators.Aggregator;
+import boa.aggregators.FloatHistogramAggregator;
+import boa.aggregators.IntHistogramAggregator;
+import boa.io.EmitValue;
+
+/**
+ * Test that the bucket arrays the histogram combiners emit give the same
+ * histogram in the reducer as aggregating the values directly.
+ */
+public class TestHistogramAggregator extends BaseAggregatorTest {
+	private static final Configuration CONF = new Configuration();
+
+	private static List<EmitValue> values(final int n, final long seed) {
+		final Random r = new Random(seed);
+		final List<EmitValue> values = new ArrayList<EmitValue>();
+		for (int i = 0; i < n; i++) {
+			switch (i % 3) {
+			case 0:
+				values.add(new EmitValue(r.nextInt(100)));
+				break;
+			case 1:
+				// weighted, with weights that take several base 36 digits
+				values.add(new EmitValue(r.nextInt(100), Long.toString(1 + r.nextInt(100000))));
+				break;
+			default:
+				values.add(new EmitValue(r.nextDouble() * 100));
+				break;
+			}
+		}
+		return values;
+	}
+
+	private static String direct(final Aggregator a, final List<EmitValue> values) throws IOException, InterruptedException {
+		return reduce(a, CONF, values).get(0);
+	}
+
+	private static String merged(final Aggregator a, final List<EmitValue> values, final int split) throws IOException, InterruptedException {
+		final List<EmitValue> first = combine(a, CONF, values.subList(0, split));
+		final List<EmitValue> second = combine(a, CONF, values.subList(split, values.size()));
+		assertEquals(1, first.size());
+		assertEquals(1, second.size());
+		return reduce(a, CONF, concat(first, second)).get(0);
+	}
+
+	@Test
+	public void mergeMatchesDirect() throws IOException, InterruptedException {
+		final List<EmitValue> values = values(3000, 1);
+		for (final Aggregator a : new Aggregator[] { new IntHistogramAggregator(0, 100, 7), new FloatHistogramAggregator(0, 100, 10), new IntHistogramAggregator(0, 100, 1) })
+			for (final int split : new int[] { 0, 1, 1000, 3000 })
+				assertEquals(a.getClass().getSimpleName() + " split at " + split, direct(a, values), merged(a, values, split));
+	}
+
+	@Test
+	public void emptyBucketsAreLeftOut() throws IOException, InterruptedException {
+		final Aggregator a = new IntHistogramAggregator(0, 10, 5);
+		final List<EmitValue> values = new ArrayList<EmitValue>();
+		values.add(new EmitValue(2));
+		values.add(new EmitValue(3));
+		values.add(new EmitValue(9, "36"));
+
+		final List<EmitValue> combined = combine(a, CONF, values);
+		assertEquals(",2,,,10", combined.get(0).getData()[0]);
+		assertEquals("buckets", combined.get(0).getMetadata());
+		assertEquals("[0, 2, 0, 0, 36]", reduce(a, CONF, combined).get(0));
+
+		assertEquals(",,,,", combine(a, CONF, new ArrayList<EmitValue>()).get(0).getData()[0]);
+		assertEquals("[0, 0, 0, 0, 0]", reduce(a, CONF, combine(a, CONF, new ArrayList<EmitValue>())).get(0));
+	}
+
+	@Test
+	public void combinerOfCombinerOutputs() throws IOException, InterruptedException {
+		final Aggregator a = new IntHistogramAggregator(0, 100, 13);
+		final List<EmitValue> values = values(2000, 2);
+
+		final List<EmitValue> first = combine(a, CONF, values.subList(0, 500));
+		final List<EmitValue> second = combine(a, CONF, values.subList(500, values.size()));
+		final List<EmitValue> again = combine(a, CONF, concat(first, second));
+		assertEquals(1, again.size());
+		assertEquals(direct(a, values), reduce(a, CONF, again).get(0));
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boa.test.aggregators;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.hadoop.conf.Configuration;
+import org.junit.Test;
+
+import boa.aggregators.UniqueAggregator;
+import boa.io.EmitValue;
+
+/**
+ * Test the HyperLogLog sketch behind the unique aggregator, through the
+ * sketches its combiner emits and the estimates its reducer outputs.
+ */
+public class TestHyperLogLog extends BaseAggregatorTest {
+	private static final String PRECISION_PROPERTY = "boa.aggregator.unique.precision";
+
+	private static Configuration precision(final int p) {
+		final Configuration conf = new Configuration();
+		conf.setInt(PRECISION_PROPERTY, p);
+		return conf;
+	}
+
+	// the strings from..to-1, each emitted twice
+	private static List<EmitValue> strings(final int from, final int to) {
+		final List<EmitValue> values = new ArrayList<EmitValue>();
+		for (int i = from; i < to; i++)
+			values.add(new EmitValue("value" + i));
+		for (int i = from; i < to; i++)
+			values.add(new EmitValue("value" + i));
+		return values;
+	}
+
+	private static String sketch(final int p, final List<EmitValue> values) throws IOException, InterruptedException {
+		final List<EmitValue> combined = combine(new UniqueAggregator(0), precision(p), values);
+		assertEquals(1, combined.size());
+		assertEquals("hll", combined.get(0).getMetadata());
+		return combined.get(0).getData()[0];
+	}
+
+	private static long estimate(final Configuration conf, final List<EmitValue> values) throws IOException, InterruptedException {
+		return Long.parseLong(reduce(new UniqueAggregator(0), conf, values).get(0));
+	}
+
+	@Test
+	public void exactUntilRegistersAreSmaller() throws IOException, InterruptedException {
+		// 2^10 / 16 hashes are kept exactly, one more switches to registers
+		final int limit = (1 << 10) / 16;
+
+		final String exact = sketch(10, strings(0, limit));
+		assertTrue(exact.startsWith("10s"));
+		assertEquals(limit, estimate(precision(10), strings(0, limit)));
+
+		final String dense = sketch(10, strings(0, limit + 1));
+		assertTrue(dense.startsWith("10d"));
+		assertEquals(3 + (1 << 10), dense.length());
+	}
+
+	@Test
+	public void exactCountsAreExact() throws IOException, InterruptedException {
+		for (final int n : new int[] { 0, 1, 2, 100, 1000 })
+			assertEquals(n, estimate(new Configuration(), strings(0, n)));
+	}
+
+	@Test
+	public void mergeFoldsToLowerPrecision() throws IOException, InterruptedException {
+		final List<EmitValue> a = strings(0, 3000);
+		final List<EmitValue> b = strings(2000, 6000);
+		final List<EmitValue> all = strings(0, 6000);
+
+		// both orders of merging give the sketch built at the lower precision
+		final String low = sketch(6, all);
+		assertEquals(low, sketch(14, concat(combine(new UniqueAggregator(0), precision(10), a), combine(new UniqueAggregator(0), precision(6), b))));
+		assertEquals(low, sketch(14, concat(combine(new UniqueAggregator(0), precision(6), b), combine(new UniqueAggregator(0), precision(10), a))));
+
+		// an exact sketch merged into registers of a lower precision
+		final String mixed = sketch(14, concat(combine(new UniqueAggregator(0), precision(14), strings(0, 100)), combine(new UniqueAggregator(0), precision(8), all)));
+		assertEquals(sketch(8, all), mixed);
+
+		// and registers merged into an exact sketch of a lower precision
+		final String exactLow = sketch(14, concat(combine(new UniqueAggregator(0), precision(12), all), combine(new UniqueAggregator(0), precision(8), strings(0, 10))));
+		assertEquals(sketch(8, all), exactLow);
+	}
+
+	@Test
+	public void mergeOfParts() throws IOException, InterruptedException {
+		final Configuration conf = precision(12);
+		final List<EmitValue> merged = concat(combine(new UniqueAggregator(0), conf, strings(0, 30000)), combine(new UniqueAggregator(0), conf, strings(10000, 50000)));
+		assertEquals(estimate(conf, strings(0, 50000)), estimate(conf, merged));
+	}
+
+	@Test
+	public void estimateWithinError() throws IOException, InterruptedException {
+		for (final int p : new int[] { 8, 10, 14 }) {
+			final int n = 100000;
+			// three standard errors
+			final double error = 3 * 1.04 / Math.sqrt(1 << p);
+			final long estimate = estimate(precision(p), strings(0, n));
+			assertEquals("precision " + p, n, estimate, n * error);
+		}
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boa.test.aggregators;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.hadoop.conf.Configuration;
+import org.junit.Test;
+
+import boa.aggregators.Aggregator;
+import boa.aggregators.KurtosisAggregator;
+import boa.aggregators.SkewnessAggregator;
+import boa.aggregators.StDevAggregator;
+import boa.aggregators.StatisticsAggregator;
+import boa.aggregators.VarianceAggregator;
+import boa.io.EmitValue;
+
+/**
+ * Test the moment accumulator behind the variance, stdev, skewness and
+ * kurtosis aggregators: merging the tuples of two combiners must give the
+ * tuple of one pass over all values, and the statistics must match their
+ * two-pass definitions.
+ */
+public class TestMoments extends BaseAggregatorTest {
+	private static final Configuration CONF = new Configuration();
+
+	private static long[] values(final int n, final long seed) {
+		// skewed, so the third and fourth moments are not trivial
+		final Random r = new Random(seed);
+		final long[] values = new long[n];
+		for (int i = 0; i < n; i++)
+			values[i] = 1000 + (long) (100 * Math.exp(2 * r.nextDouble()));
+		return values;
+	}
+
+	// the tuple of count, mean and central moment sums a combiner emits
+	private static double[] tuple(final List<EmitValue> values) throws IOException, InterruptedException {
+		final List<EmitValue> combined = combine(new VarianceAggregator(), CONF, values);
+		assertEquals(1, combined.size());
+		assertTrue(combined.get(0).isDoubles());
+		return combined.get(0).getDoubles();
+	}
+
+	private static double[] tuple(final long[] values) throws IOException, InterruptedException {
+		return tuple(longs(values));
+	}
+
+	// count, mean, and the sums of the 2nd, 3rd and 4th powers of the deviations
+	private static double[] twoPass(final long[] values) {
+		double mean = 0;
+		for (final long v : values)
+			mean += v;
+		mean /= values.length;
+
+		final double[] t = { values.length, mean, 0, 0, 0 };
+		for (final long v : values) {
+			final double d = v - mean;
+			t[2] += d * d;
+			t[3] += d * d * d;
+			t[4] += d * d * d * d;
+		}
+		return t;
+	}
+
+	private static void assertClose(final double[] expected, final double[] actual) {
+		assertEquals(expected.length, actual.length);
+		for (int i = 0; i < expected.length; i++)
+			assertEquals("element " + i, expected[i], actual[i], 1e-9 * Math.max(1, Math.abs(expected[i])));
+	}
+
+	private static double reduced(final Aggregator a, final List<EmitValue> values) throws IOException, InterruptedException {
+		return Double.parseDouble(reduce(a, CONF, values).get(0));
+	}
+
+	@Test
+	public void onePassMatchesTwoPass() throws IOException, InterruptedException {
+		final long[] values = values(5000, 1);
+		assertClose(twoPass(values), tuple(values));
+	}
+
+	@Test
+	public void mergeMatchesOnePass() throws IOException, InterruptedException {
+		final long[] values = values(5000, 2);
+		final double[] all = tuple(values);
+
+		for (final int split : new int[] { 1, 2, 100, 2500, 4999 }) {
+			final List<EmitValue> a = combine(new VarianceAggregator(), CONF, longs(Arrays.copyOfRange(values, 0, split)));
+			final List<EmitValue> b = combine(new VarianceAggregator(), CONF, longs(Arrays.copyOfRange(values, split, values.length)));
+			assertClose(all, tuple(concat(a, b)));
+			assertClose(all, tuple(concat(b, a)));
+		}
+	}
+
+	@Test
+	public void mergeEmpty() throws IOException, InterruptedException {
+		final long[] values = values(100, 3);
+		final List<EmitValue> empty = combine(new VarianceAggregator(), CONF, longs());
+		final List<EmitValue> some = combine(new VarianceAggregator(), CONF, longs(values));
+
+		assertArrayEquals(new double[5], empty.get(0).getDoubles(), 0);
+		assertArrayEquals(tuple(values), tuple(concat(empty, some)), 0);
+		assertArrayEquals(tuple(values), tuple(concat(some, empty)), 0);
+		assertArrayEquals(new double[5], tuple(concat(empty, empty)), 0);
+
+		assertEquals(reduced(new KurtosisAggregator(), longs(values)), reduced(new KurtosisAggregator(), concat(empty, some)), 0);
+	}
+
+	@Test
+	public void statisticsMatchDefinitions() throws IOException, InterruptedException {
+		final long[] values = values(3000, 4);
+		final double[] t = twoPass(values);
+		final double n = t[0];
+		final double var = t[2] / (n - 1);
+
+		final List<EmitValue> merged = concat(combine(new VarianceAggregator(), CONF, longs(Arrays.copyOfRange(values, 0, 1000))),
+				combine(new VarianceAggregator(), CONF, longs(Arrays.copyOfRange(values, 1000, values.length))));
+
+		assertEquals(var, reduced(new VarianceAggregator(), merged), var * 1e-9);
+		assertEquals(Math.sqrt(var), reduced(new StDevAggregator(), merged), Math.sqrt(var) * 1e-9);
+
+		final double skewness = t[3] / (n * Math.sqrt(var) * var);
+		assertEquals(skewness, reduced(new SkewnessAggregator(), merged), Math.abs(skewness) * 1e-9);
+
+		final double kurtosis = t[4] / (n * var * var);
+		assertEquals(kurtosis, reduced(new KurtosisAggregator(), merged), kurtosis * 1e-9);
+	}
+
+	@Test
+	public void kurtosisUsesFourthMoment() throws IOException, InterruptedException {
+		// m4 = 16 + 1 + 0 + 1 + 16 = 34, s^2 = 10 / 4, kurtosis = 34 / (5 * 6.25)
+		assertEquals(1.088, reduced(new KurtosisAggregator(), longs(1, 2, 3, 4, 5)), 1e-12);
+		assertEquals(1.088, reduced(new KurtosisAggregator(), concat(combine(new KurtosisAggregator(), CONF, longs(5, 1)), combine(new KurtosisAggregator(), CONF, longs(3, 4, 2)))), 1e-12);
+
+		// and agrees with the kurtosis reported by statistics
+		final long[] values = values(500, 5);
+		final String[] statistics = reduce(new StatisticsAggregator(), CONF, longs(values)).get(0).split(", ");
+		assertEquals(Double.parseDouble(statistics[5]), reduced(new KurtosisAggregator(), longs(values)), 1e-6);
+	}
+
+	@Test
+	public void singleValue() throws IOException, InterruptedException {
+		assertEquals(0, reduced(new VarianceAggregator(), longs(7)), 0);
+		assertEquals(0, reduced(new StDevAggregator(), concat(combine(new StDevAggregator(), CONF, longs(7)), combine(new StDevAggregator(), CONF, longs()))), 0);
+	}
+}
@@ -0,0 +1,303 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boa.test.aggregators;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.io.BytesWritable;
+import org.apache.hadoop.io.DataInputBuffer;
+import org.apache.hadoop.io.Text;
+import org.apache.hadoop.io.WritableComparator;
+import org.apache.hadoop.mapreduce.Counter;
+import org.apache.hadoop.mapreduce.Counters;
+import org.apache.hadoop.mapreduce.InputSplit;
+import org.apache.hadoop.mapreduce.Mapper;
+import org.apache.hadoop.mapreduce.RecordReader;
+import org.apache.hadoop.mapreduce.RecordWriter;
+import org.apache.hadoop.mapreduce.StatusReporter;
+import org.apache.hadoop.mapreduce.TaskAttemptContext;
+import org.apache.hadoop.mapreduce.TaskAttemptID;
+import org.junit.After;
+import org.junit.Test;
+
+import boa.aggregators.SetAggregator;
+import boa.io.EmitKey;
+import boa.io.EmitValue;
+import boa.runtime.BoaMapper;
+
+/**
+ * Test the set aggregator, both when its values arrive sorted in the reducer
+ * and when it gathers them in a {@link boa.aggregators.SpillableSet} that
+ * spills to disk.
+ */
+public class TestSetAggregator extends BaseAggregatorTest {
+	private static final String MEMORY_PROPERTY = "boa.aggregator.set.memory";
+
+	@After
+	public void tearDown() {
+		EmitKey.setSortedTables(null);
+	}
+
+	private static Configuration sorted() {
+		final Configuration conf = new Configuration();
+		conf.setStrings(EmitKey.SORTED_TABLES_PROPERTY, KEY.getName());
+		EmitKey.setTables(conf);
+		return conf;
+	}
+
+	private static Configuration memory(final long budget) {
+		final Configuration conf = new Configuration();
+		conf.setLong(MEMORY_PROPERTY, budget);
+		return conf;
+	}
+
+	private static List<EmitValue> values(final String[]... data) {
+		final List<EmitValue> values = new ArrayList<EmitValue>();
+		for (final String[] d : data)
+			values.add(new EmitValue(d));
+		return values;
+	}
+
+	private static byte[] bytes(final EmitKey key) throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		key.write(new DataOutputStream(bytes));
+		return bytes.toByteArray();
+	}
+
+	private static EmitValue copy(final EmitValue value) throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		value.write(new DataOutputStream(bytes));
+		final DataInputBuffer in = new DataInputBuffer();
+		in.reset(bytes.toByteArray(), bytes.size());
+		final EmitValue copy = new EmitValue();
+		copy.readFields(in);
+		return copy;
+	}
+
+	private static int compare(final WritableComparator c, final byte[] b1, final byte[] b2) {
+		return c.compare(b1, 0, b1.length, b2, 0, b2.length);
+	}
+
+	/**
+	 * Runs the values through a mapper emitting each of them, and shuffles
+	 * the map output the way the job does: sorted by the raw comparator, then
+	 * grouped by the grouping comparator.
+	 *
+	 * @return the values of each group, in the order the reducer sees them
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private static List<List<EmitValue>> mapAndShuffle(final Configuration conf, final List<EmitValue> values) throws IOException, InterruptedException {
+		final List<byte[]> keys = new ArrayList<byte[]>();
+		final List<EmitValue> output = new ArrayList<EmitValue>();
+
+		final BoaMapper mapper = new BoaMapper() {
+			@Override
+			protected void map(final Text key, final BytesWritable value, final Context context) throws IOException, InterruptedException {
+				for (final EmitValue v : values)
+					context.write(new EmitKey(KEY.getIndex(), KEY.getName(), KEY.getId()), v);
+			}
+		};
+		mapper.setConf(conf);
+
+		final Counters counters = new Counters();
+		mapper.run(new Mapper().new Context(conf, new TaskAttemptID(), new OneRecordReader(), new RecordWriter() {
+			@Override
+			public void write(final Object key, final Object value) throws IOException {
+				keys.add(bytes((EmitKey) key));
+				output.add(copy((EmitValue) value));
+			}
+
+			@Override
+			public void close(final TaskAttemptContext context) {
+			}
+		}, null, new StatusReporter() {
+			@Override
+			public Counter getCounter(final Enum<?> name) {
+				return counters.findCounter(name);
+			}
+
+			@Override
+			public Counter getCounter(final String group, final String name) {
+				return counters.findCounter(group, name);
+			}
+
+			@Override
+			public void progress() {
+			}
+
+			@Override
+			public void setStatus(final String status) {
+			}
+		}, null));
+
+		// sort the indices of the map output by their keys
+		final WritableComparator sort = new EmitKey.Comparator();
+		final List<Integer> order = new ArrayList<Integer>();
+		for (int i = 0; i < keys.size(); i++)
+			order.add(i);
+		Collections.sort(order, new Comparator<Integer>() {
+			@Override
+			public int compare(final Integer i, final Integer j) {
+				return TestSetAggregator.compare(sort, keys.get(i), keys.get(j));
+			}
+		});
+
+		final WritableComparator grouping = new EmitKey.GroupingComparator();
+		final List<List<EmitValue>> groups = new ArrayList<List<EmitValue>>();
+		byte[] previous = null;
+		for (final int i : order) {
+			if (previous == null || compare(grouping, previous, keys.get(i)) != 0)
+				groups.add(new ArrayList<EmitValue>());
+			groups.get(groups.size() - 1).add(output.get(i));
+			previous = keys.get(i);
+		}
+		return groups;
+	}
+
+	private static List<String> sortedReduce(final SetAggregator a, final List<EmitValue> values) throws IOException, InterruptedException {
+		final Configuration conf = sorted();
+		final List<List<EmitValue>> groups = mapAndShuffle(conf, values);
+		// the values only sort the keys, they do not split them into groups
+		assertEquals(1, groups.size());
+		return reduce(a, conf, groups.get(0));
+	}
+
+	private static List<String> unsortedReduce(final SetAggregator a, final List<EmitValue> values) throws IOException, InterruptedException {
+		EmitKey.setSortedTables(null);
+		return reduce(a, new Configuration(), values);
+	}
+
+	@Test
+	public void arraysAddEachString() throws IOException, InterruptedException {
+		final List<EmitValue> values = values(new String[] { "x", "y" }, new String[] { "y", "z" });
+		assertEquals(Arrays.asList("x", "y", "z"), sortedReduce(new SetAggregator(), values));
+		assertEquals(Arrays.asList("x", "y", "z"), unsortedReduce(new SetAggregator(), values));
+
+		// duplicates do not count towards the maximum size
+		assertEquals(Arrays.asList("x", "y", "z"), sortedReduce(new SetAggregator(3), values));
+		assertEquals(Arrays.asList("x", "y"), sortedReduce(new SetAggregator(2), values));
+	}
+
+	@Test
+	public void sortedMatchesUnsorted() throws IOException, InterruptedException {
+		final Random r = new Random(1);
+		final List<EmitValue> values = new ArrayList<EmitValue>();
+		for (int i = 0; i < 500; i++) {
+			final String[] data = new String[1 + r.nextInt(3)];
+			for (int j = 0; j < data.length; j++)
+				data[j] = "v" + r.nextInt(100);
+			values.add(new EmitValue(data));
+		}
+
+		final List<String> sorted = sortedReduce(new SetAggregator(), values);
+		assertEquals(new ArrayList<String>(new TreeSet<String>(sorted)), sorted);
+		assertEquals(new TreeSet<String>(unsortedReduce(new SetAggregator(), values)), new TreeSet<String>(sorted));
+		assertEquals(sortedReduce(new SetAggregator(40), values), sorted.subList(0, 40));
+	}
+
+	private static List<EmitValue> strings(final int n, final int distinct, final long seed) {
+		final Random r = new Random(seed);
+		final List<EmitValue> values = new ArrayList<EmitValue>();
+		for (int i = 0; i < n; i++)
+			values.add(new EmitValue("member" + r.nextInt(distinct)));
+		return values;
+	}
+
+	private static List<String> data(final List<EmitValue> values) {
+		final List<String> data = new ArrayList<String>();
+		for (final EmitValue v : values)
+			data.addAll(Arrays.asList(v.getData()));
+		return data;
+	}
+
+	@Test
+	public void spilledRunsMerge() throws IOException, InterruptedException {
+		// room for a handful of members, so the set spills many runs that
+		// share members
+		final List<EmitValue> values = strings(5000, 700, 2);
+		final List<String> expected = new ArrayList<String>(new TreeSet<String>(data(values)));
+
+		assertEquals(expected, data(combine(new SetAggregator(), memory(1000), values)));
+		assertEquals(expected, reduce(new SetAggregator(), memory(1000), values));
+		assertEquals(expected, reduce(new SetAggregator(), memory(1 << 20), values));
+
+		// a combiner's output merged again
+		final List<EmitValue> merged = concat(combine(new SetAggregator(), memory(1000), values.subList(0, 2500)),
+				combine(new SetAggregator(), memory(1000), values.subList(2500, values.size())));
+		assertEquals(expected, reduce(new SetAggregator(), memory(1000), merged));
+	}
+
+	@Test
+	public void spilledSetKeepsMaximum() throws IOException, InterruptedException {
+		final List<EmitValue> values = strings(5000, 700, 3);
+		final List<String> expected = new ArrayList<String>(new TreeSet<String>(data(values))).subList(0, 100);
+		assertEquals(expected, reduce(new SetAggregator(100), memory(1000), values));
+	}
+
+	@Test
+	public void spilledSetIsClearedBetweenKeys() throws IOException, InterruptedException {
+		final SetAggregator a = new SetAggregator();
+		reduce(a, memory(1000), strings(2000, 700, 4));
+
+		final List<EmitValue> values = strings(50, 10, 5);
+		assertEquals(new ArrayList<String>(new TreeSet<String>(data(values))), reduce(a, memory(1000), values));
+	}
+
+	private static class OneRecordReader extends RecordReader<Text, BytesWritable> {
+		private boolean read = false;
+
+		@Override
+		public void initialize(final InputSplit split, final TaskAttemptContext context) {
+		}
+
+		@Override
+		public boolean nextKeyValue() {
+			if (this.read)
+				return false;
+			this.read = true;
+			return true;
+		}
+
+		@Override
+		public Text getCurrentKey() {
+			return new Text("project");
+		}
+
+		@Override
+		public BytesWritable getCurrentValue() {
+			return new BytesWritable();
+		}
+
+		@Override
+		public float getProgress() {
+			return this.read ? 1 : 0;
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+}
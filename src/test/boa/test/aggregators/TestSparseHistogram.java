@@ -0,0 +1,143 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boa.test.aggregators;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.hadoop.conf.Configuration;
+import org.junit.Test;
+
+import boa.aggregators.Aggregator;
+import boa.aggregators.ConfidenceIntervalAggregator;
+import boa.aggregators.MedianAggregator;
+import boa.aggregators.StatisticsAggregator;
+import boa.io.EmitValue;
+
+/**
+ * Test that the histograms behind the median, statistics and confidence
+ * aggregators give the same result when the combiner outputs of parts of the
+ * values are merged as when all values are aggregated at once.
+ */
+public class TestSparseHistogram extends BaseAggregatorTest {
+	private static final String BINS_PROPERTY = "boa.aggregator.histogram.bins";
+
+	private static Aggregator[] aggregators() {
+		return new Aggregator[] { new MedianAggregator(), new StatisticsAggregator(), new ConfidenceIntervalAggregator() };
+	}
+
+	// values with many duplicates, in random order
+	private static long[] values(final int n, final int range, final long seed) {
+		final Random r = new Random(seed);
+		final long[] values = new long[n];
+		for (int i = 0; i < n; i++)
+			values[i] = r.nextInt(range) - range / 4;
+		return values;
+	}
+
+	private static String direct(final Aggregator a, final Configuration conf, final long[] values) throws IOException, InterruptedException {
+		return reduce(a, conf, longs(values)).get(0);
+	}
+
+	private static String merged(final Aggregator a, final Configuration conf, final long[] values, final int split) throws IOException, InterruptedException {
+		final List<EmitValue> first = combine(a, conf, longs(Arrays.copyOfRange(values, 0, split)));
+		final List<EmitValue> second = combine(a, conf, longs(Arrays.copyOfRange(values, split, values.length)));
+		return reduce(a, conf, concat(first, second)).get(0);
+	}
+
+	@Test
+	public void mergeMatchesDirect() throws IOException, InterruptedException {
+		final Configuration conf = new Configuration();
+		final long[] values = values(5000, 300, 1);
+
+		for (final Aggregator a : aggregators())
+			for (final int split : new int[] { 0, 1, 1717, 4999, 5000 })
+				assertEquals(a.getClass().getSimpleName() + " split at " + split, direct(a, conf, values), merged(a, conf, values, split));
+	}
+
+	@Test
+	public void combinerEmitsValueCounts() throws IOException, InterruptedException {
+		final List<EmitValue> combined = combine(new MedianAggregator(), new Configuration(), longs(3, 1, 3, 2, 3, 1));
+		assertEquals(3, combined.size());
+		assertEquals(1, combined.get(0).getLong());
+		assertEquals(2, combined.get(0).getLongMetadata());
+		assertEquals(2, combined.get(1).getLong());
+		assertEquals(1, combined.get(1).getLongMetadata());
+		assertEquals(3, combined.get(2).getLong());
+		assertEquals(3, combined.get(2).getLongMetadata());
+	}
+
+	@Test
+	public void combinerOfCombinerOutputs() throws IOException, InterruptedException {
+		// a combiner may run again over the outputs of other combiners
+		final Configuration conf = new Configuration();
+		final long[] values = values(2000, 50, 2);
+
+		for (final Aggregator a : aggregators()) {
+			final List<EmitValue> first = combine(a, conf, longs(Arrays.copyOfRange(values, 0, 700)));
+			final List<EmitValue> second = combine(a, conf, longs(Arrays.copyOfRange(values, 700, values.length)));
+			final List<EmitValue> again = combine(a, conf, concat(first, second));
+			assertEquals(a.getClass().getSimpleName(), direct(a, conf, values), reduce(a, conf, again).get(0));
+		}
+	}
+
+	@Test
+	public void medianAcrossParts() throws IOException, InterruptedException {
+		final Configuration conf = new Configuration();
+		final Aggregator a = new MedianAggregator();
+		assertEquals("3.0", reduce(a, conf, concat(combine(a, conf, longs(1, 5)), combine(a, conf, longs(4, 3, 2)))).get(0));
+		assertEquals("3.0", reduce(a, conf, concat(combine(a, conf, longs(3, 3)), combine(a, conf, longs(1, 5, 9)))).get(0));
+	}
+
+	@Test
+	public void boundedBinsStayClose() throws IOException, InterruptedException {
+		final int bins = 32;
+		final Configuration conf = new Configuration();
+		conf.setInt(BINS_PROPERTY, bins);
+
+		// more distinct values than bins, with duplicates
+		final long[] values = values(20000, 10000, 3);
+		final long[] sorted = values.clone();
+		Arrays.sort(sorted);
+		final double median = (sorted[values.length / 2 - 1] + sorted[values.length / 2]) / 2.0;
+
+		final Aggregator a = new MedianAggregator();
+		final List<EmitValue> first = combine(a, conf, longs(Arrays.copyOfRange(values, 0, 8000)));
+		final List<EmitValue> second = combine(a, conf, longs(Arrays.copyOfRange(values, 8000, values.length)));
+		assertTrue(first.size() <= bins);
+		assertTrue(second.size() <= bins);
+
+		long total = 0;
+		for (final EmitValue v : concat(first, second))
+			total += v.getLongMetadata();
+		assertEquals(values.length, total);
+
+		// a compression moves a rank by at most the weight of a bin, 2 / bins of
+		// the values; there are two values per unit, and both the combiner and
+		// the reducer compress
+		final double tolerance = 2 * (2.0 / bins * values.length) / 2;
+		assertEquals(median, Double.parseDouble(merged(a, conf, values, 8000)), tolerance);
+		assertEquals(median, Double.parseDouble(direct(a, conf, values)), tolerance);
+
+		// the spread survives the compression
+		final Configuration exact = new Configuration();
+		final double ci = Double.parseDouble(direct(new ConfidenceIntervalAggregator(), exact, values));
+		assertEquals(ci, Double.parseDouble(merged(new ConfidenceIntervalAggregator(), conf, values, 8000)), ci * 0.05);
+	}
+}
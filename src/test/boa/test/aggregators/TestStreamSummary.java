@@ -0,0 +1,115 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boa.test.aggregators;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import boa.aggregators.StreamSummary;
+
+/**
+ * Test the Space-Saving counters of the top and bottom aggregators.
+ */
+public class TestStreamSummary {
+	private static Map<String, Double> counts(final StreamSummary s) {
+		final Map<String, Double> m = new HashMap<String, Double>();
+		for (int i = 0; i < s.size(); i++)
+			m.put(s.getValue(i), s.getCount(i));
+		return m;
+	}
+
+	@Test
+	public void exactBelowCapacity() {
+		final StreamSummary s = new StreamSummary();
+		s.clear(3);
+		s.add("a", 2);
+		s.add("b", 1);
+		s.add("a", 3);
+		s.add("c", 4);
+
+		final Map<String, Double> m = counts(s);
+		assertEquals(3, m.size());
+		assertEquals(5, m.get("a"), 0);
+		assertEquals(1, m.get("b"), 0);
+		assertEquals(4, m.get("c"), 0);
+		assertEquals(0, s.getError(), 0);
+	}
+
+	@Test
+	public void heavyValueSurvives() {
+		final StreamSummary s = new StreamSummary();
+		s.clear(2);
+		s.add("a", 10);
+		s.add("b", 1);
+		s.add("c", 1);
+
+		final Map<String, Double> m = counts(s);
+		assertEquals(2, m.size());
+		assertEquals(10, m.get("a"), 0);
+		assertEquals(2, m.get("c"), 0);
+		assertEquals(1, s.getError(), 0);
+	}
+
+	@Test
+	public void heavyValuesSurviveManyLightOnes() {
+		final StreamSummary s = new StreamSummary();
+		s.clear(10);
+		for (int i = 0; i < 5; i++)
+			s.add("heavy" + i, 1000 - i);
+		for (int i = 0; i < 1000; i++)
+			s.add("light" + i, 1);
+
+		final Map<String, Double> m = counts(s);
+		assertEquals(10, m.size());
+		for (int i = 0; i < 5; i++)
+			assertEquals(1000 - i, m.get("heavy" + i), 0);
+	}
+
+	@Test
+	public void errorBound() {
+		final Random r = new Random(42);
+		final int capacity = 20;
+		final StreamSummary s = new StreamSummary();
+		s.clear(capacity);
+		final Map<String, Double> exact = new HashMap<String, Double>();
+		double total = 0;
+		for (int i = 0; i < 10000; i++) {
+			// skewed, so a few strings are frequent
+			final String v = "v" + (int) Math.abs(r.nextGaussian() * 30);
+			final double w = 1 + r.nextInt(3);
+			s.add(v, w);
+			final Double old = exact.get(v);
+			exact.put(v, (old == null ? 0 : old) + w);
+			total += w;
+		}
+
+		final Map<String, Double> m = counts(s);
+		assertEquals(capacity, m.size());
+		assertTrue(s.getError() <= total / capacity);
+		for (final Map.Entry<String, Double> e : exact.entrySet()) {
+			if (e.getValue() > total / capacity)
+				assertTrue(e.getKey() + " has no counter", m.containsKey(e.getKey()));
+			if (m.containsKey(e.getKey())) {
+				assertTrue(m.get(e.getKey()) >= e.getValue());
+				assertTrue(m.get(e.getKey()) <= e.getValue() + s.getError());
+			}
+		}
+	}
+}
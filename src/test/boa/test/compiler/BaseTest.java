@@ -249,6 +249,8 @@ public abstract class BaseTest {
 
 		CodeGeneratingVisitor.combineAggregatorStrings.clear();
 		CodeGeneratingVisitor.reduceAggregatorStrings.clear();
+		CodeGeneratingVisitor.tableNames.clear();
+		CodeGeneratingVisitor.sortedTableNames.clear();
 
 		final List<String> jobnames = new ArrayList<String>();
 		final List<String> jobs = new ArrayList<String>();
@@ -277,6 +279,8 @@ public abstract class BaseTest {
 			st.add("jobnames", jobnames);
 			st.add("combineTables", CodeGeneratingVisitor.combineAggregatorStrings);
 			st.add("reduceTables", CodeGeneratingVisitor.reduceAggregatorStrings);
+			st.add("tables", CodeGeneratingVisitor.tableNames);
+			st.add("sortedTables", CodeGeneratingVisitor.sortedTableNames);
 			st.add("splitsize", 64 * 1024 * 1024);
 			st.add("seeds", seeds);
 
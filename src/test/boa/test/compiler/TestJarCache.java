@@ -0,0 +1,141 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boa.test.compiler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import boa.compiler.BoaCompiler;
+
+/**
+ * Test the keys of the compiled jar cache, and that the cache evicts the jars
+ * used least recently.
+ */
+public class TestJarCache {
+	private File dir;
+
+	@Before
+	public void setUp() throws IOException {
+		dir = new File(new File(System.getProperty("java.io.tmpdir")), UUID.randomUUID().toString());
+		if (!dir.mkdirs())
+			throw new IOException("unable to mkdir " + dir);
+	}
+
+	@After
+	public void tearDown() {
+		for (final File f : dir.listFiles())
+			f.delete();
+		dir.delete();
+	}
+
+	private File write(final String name, final String contents) throws IOException {
+		final File f = new File(dir, name);
+		final FileOutputStream out = new FileOutputStream(f);
+		try {
+			out.write(contents.getBytes("UTF-8"));
+		} finally {
+			out.close();
+		}
+		return f;
+	}
+
+	private String key(final File query, final File lib, final File template) throws IOException {
+		return key("Test", query, lib, template);
+	}
+
+	private String key(final String className, final File query, final File lib, final File template) throws IOException {
+		final List<URL> templates = Arrays.asList(template.toURI().toURL());
+		return BoaCompiler.getCacheKey(className, "", Arrays.asList(query), Arrays.asList(lib), templates);
+	}
+
+	@Test
+	public void keyChangesWithInputs() throws IOException {
+		final File query = write("q.boa", "o: output sum of int;\no << 1;\n");
+		final File lib = write("lib.jar", "lib");
+		final File template = write("BoaJava.stg", "template");
+		final String key = key(query, lib, template);
+		assertEquals(key, key(query, lib, template));
+		assertFalse(key.equals(key("Other", query, lib, template)));
+
+		write("q.boa", "o: output sum of int;\no << 2;\n");
+		assertFalse(key.equals(key(query, lib, template)));
+		write("q.boa", "o: output sum of int;\no << 1;\n");
+		assertEquals(key, key(query, lib, template));
+
+		write("lib.jar", "lib2");
+		assertFalse(key.equals(key(query, lib, template)));
+		write("lib.jar", "lib");
+
+		write("BoaJava.stg", "template2");
+		assertFalse(key.equals(key(query, lib, template)));
+		write("BoaJava.stg", "template");
+		assertEquals(key, key(query, lib, template));
+	}
+
+	@Test(expected = IOException.class)
+	public void missingInputHasNoKey() throws IOException {
+		key(new File(dir, "missing.boa"), write("lib.jar", "lib"), write("BoaJava.stg", "template"));
+	}
+
+	// a jar of 100 bytes, last used at the given second
+	private File jar(final String name, final int used) throws IOException {
+		final File f = write(name, String.format("%100s", name));
+		assertTrue(f.setLastModified(1000000000000L + used * 1000L));
+		return f;
+	}
+
+	@Test
+	public void leastRecentlyUsedIsPruned() throws IOException {
+		// names out of the order of use, so only the times decide
+		final File a = jar("a.jar", 3);
+		final File b = jar("b.jar", 1);
+		final File c = jar("c.jar", 4);
+		final File d = jar("d.jar", 2);
+		final File other = jar("e.jar.tmp", 0);
+
+		BoaCompiler.pruneCache(dir, 250);
+		assertTrue(a.exists());
+		assertTrue(c.exists());
+		assertFalse(b.exists());
+		assertFalse(d.exists());
+		// files other than jars are left alone
+		assertTrue(other.exists());
+
+		// using a makes c the least recently used
+		assertTrue(a.setLastModified(1000000000000L + 5 * 1000L));
+		final File f = jar("f.jar", 6);
+		BoaCompiler.pruneCache(dir, 250);
+		assertTrue(a.exists());
+		assertTrue(f.exists());
+		assertFalse(c.exists());
+
+		// a cache under its size is left as it is
+		BoaCompiler.pruneCache(dir, 200);
+		assertTrue(a.exists());
+		assertTrue(f.exists());
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boa.test.functions;
+
+import static org.junit.Assert.assertEquals;
+import static boa.functions.BoaAstIntrinsics.parse;
+import static boa.functions.BoaGraphIntrinsics.dominanceFrontier;
+import static boa.functions.BoaGraphIntrinsics.getcfg;
+import static boa.functions.BoaGraphIntrinsics.postdominanceFrontier;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import boa.graphs.cfg.CFG;
+import boa.graphs.cfg.CFGNode;
+import boa.types.Control.Node.NodeType;
+
+/**
+ * Test the dominance_frontier and postdominance_frontier functions on the
+ * CFG of a method with a branch followed by a loop:
+ *
+ * <pre>
+ *   0 ENTRY -&gt; 1
+ *   1 if (x &gt; 0) -&gt; 2 x++, 3 x--
+ *   2, 3 -&gt; 4
+ *   4 while (x &gt; 0) -&gt; 5 x--, 6 x = 0
+ *   5 -&gt; 4
+ *   6 -&gt; 7 EXIT
+ * </pre>
+ */
+public class TestDominanceFrontier {
+	private CFG cfg;
+
+	@Before
+	public void setUp() throws Exception {
+		cfg = getcfg(parse(
+				"public class C {\n" +
+				"    public void m(int x) {\n" +
+				"        if (x > 0)\n" +
+				"            x++;\n" +
+				"        else\n" +
+				"            x--;\n" +
+				"        while (x > 0)\n" +
+				"            x--;\n" +
+				"        x = 0;\n" +
+				"    }\n" +
+				"}\n").getNamespaces(0).getDeclarations(0).getMethods(0));
+		assertEquals(8, cfg.getNodes().size());
+	}
+
+	private static Set<Integer> ids(final Set<CFGNode> nodes) {
+		final Set<Integer> ids = new TreeSet<Integer>();
+		for (final CFGNode n : nodes)
+			ids.add(n.getId());
+		return ids;
+	}
+
+	private static Set<Integer> ids(final int... ids) {
+		final Set<Integer> s = new TreeSet<Integer>();
+		for (final int id : ids)
+			s.add(id);
+		return s;
+	}
+
+	@Test
+	public void dominanceFrontiers() {
+		final Set<?>[] expected = { ids(), ids(), ids(4), ids(4), ids(4), ids(4), ids(), ids() };
+		for (int id = 0; id < expected.length; id++)
+			assertEquals("node " + id, expected[id], ids(dominanceFrontier(cfg, cfg.getNode(id))));
+	}
+
+	@Test
+	public void postdominanceFrontiers() {
+		// the branches a node is control dependent on
+		final Set<?>[] expected = { ids(), ids(), ids(1), ids(1), ids(4), ids(4), ids(), ids() };
+		for (int id = 0; id < expected.length; id++)
+			assertEquals("node " + id, expected[id], ids(postdominanceFrontier(cfg, cfg.getNode(id))));
+	}
+
+	@Test
+	public void nodeOfAnotherGraph() {
+		// the same id as a node of the graph, but not that node
+		final CFGNode other = new CFGNode("", NodeType.OTHER, "", "");
+		other.setId(2);
+		assertEquals(ids(), ids(dominanceFrontier(cfg, other)));
+		assertEquals(ids(), ids(postdominanceFrontier(cfg, other)));
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boa.test.functions;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static boa.functions.BoaAstIntrinsics.parse;
+import static boa.functions.BoaGraphIntrinsics.clearGraphCache;
+import static boa.functions.BoaGraphIntrinsics.getcdg;
+import static boa.functions.BoaGraphIntrinsics.getcfg;
+import static boa.functions.BoaGraphIntrinsics.getddg;
+import static boa.functions.BoaGraphIntrinsics.getpdg;
+import static boa.functions.BoaGraphIntrinsics.getpdgslice;
+import static boa.functions.BoaGraphIntrinsics.pdgToDot;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import boa.graphs.cfg.CFG;
+import boa.graphs.pdg.PDG;
+import boa.graphs.pdg.PDGNode;
+import boa.types.Ast.Method;
+
+/**
+ * Test that the graph functions share the graphs they build for a method,
+ * and that the cache of those graphs lets go of them when it should.
+ */
+public class TestGraphCache {
+	// the methods of a new class, so the cache has not seen them
+	private static List<Method> methods(final int n) throws Exception {
+		String s = "public class C {\n";
+		for (int i = 0; i < n; i++)
+			s += "    public int m" + i + "(int x) {\n" +
+				"        int y = x + " + i + ";\n" +
+				"        if (y > 0)\n" +
+				"            y = y * 2;\n" +
+				"        return y;\n" +
+				"    }\n";
+		s += "}\n";
+		return parse(s).getNamespaces(0).getDeclarations(0).getMethodsList();
+	}
+
+	private static Method method() throws Exception {
+		return methods(1).get(0);
+	}
+
+	@Test
+	public void graphsAreBuiltOnce() throws Exception {
+		final Method m = method();
+		assertSame(getcfg(m), getcfg(m));
+		assertSame(getcdg(m), getcdg(m));
+		assertSame(getddg(m), getddg(m));
+		assertSame(getpdg(m), getpdg(m));
+		assertSame(getpdg(m, true), getpdg(m, true));
+		assertNotSame(getpdg(m), getpdg(m, true));
+	}
+
+	@Test
+	public void pdgUsesTheCfg() throws Exception {
+		final Method m = method();
+		final CFG cfg = getcfg(m);
+		final PDG pdg = getpdg(m);
+		final PDG fresh = new PDG(m);
+
+		// the nodes of the graphs built from a CFG share its sets of used
+		// variables, except the entry node the post-dominator tree adds
+		assertFalse(pdg.getNodes().isEmpty());
+		for (final PDGNode n : pdg.getNodes()) {
+			if (n == pdg.getEntryNode())
+				continue;
+			assertSame(cfg.getNode(n.getId()).getUseVariables(), n.getUseVariables());
+			assertNotSame(cfg.getNode(n.getId()).getUseVariables(), fresh.getNode(n.getId()).getUseVariables());
+		}
+		assertSame(cfg, getcfg(m));
+	}
+
+	@Test
+	public void normalizedSliceLeavesThePdg() throws Exception {
+		final Method m = method();
+		final String dot = pdgToDot(new PDG(m));
+
+		// slicing the cached PDG normalizes it, so the next one is built anew
+		final PDG pdg = getpdg(m);
+		getpdgslice(pdg, 1L, true);
+		assertFalse(dot.equals(pdgToDot(pdg)));
+		assertNotSame(pdg, getpdg(m));
+		assertEquals(dot, pdgToDot(getpdg(m)));
+
+		// slicing the method normalizes a PDG of its own
+		final PDG cached = getpdg(m);
+		getpdgslice(m, 1L, true);
+		assertSame(cached, getpdg(m));
+		assertEquals(dot, pdgToDot(cached));
+
+		// a slice that does not normalize leaves the PDG as it is
+		getpdgslice(cached, 1L, false);
+		getpdgslice(m, 1L, false);
+		assertSame(cached, getpdg(m));
+		assertEquals(dot, pdgToDot(cached));
+	}
+
+	@Test
+	public void leastRecentlyUsedIsEvicted() throws Exception {
+		// the cache holds the graphs of 8 methods
+		final List<Method> ms = methods(10);
+		final CFG[] cfgs = new CFG[ms.size()];
+		for (int i = 0; i < 8; i++)
+			cfgs[i] = getcfg(ms.get(i));
+		for (int i = 0; i < 8; i++)
+			assertSame(cfgs[i], getcfg(ms.get(i)));
+
+		// using m0 again makes m1 the least recently used
+		getcfg(ms.get(0));
+		cfgs[8] = getcfg(ms.get(8));
+		assertSame(cfgs[0], getcfg(ms.get(0)));
+		assertNotSame(cfgs[1], getcfg(ms.get(1)));
+
+		// m2 was evicted for m1, and the others are still there
+		cfgs[1] = getcfg(ms.get(1));
+		for (int i = 3; i < 9; i++)
+			assertSame(cfgs[i], getcfg(ms.get(i)));
+		assertNotSame(cfgs[2], getcfg(ms.get(2)));
+	}
+
+	@Test
+	public void clearDropsTheMethod() throws Exception {
+		final List<Method> ms = methods(2);
+		final CFG cfg0 = getcfg(ms.get(0));
+		final PDG pdg0 = getpdg(ms.get(0));
+		final CFG cfg1 = getcfg(ms.get(1));
+
+		clearGraphCache(ms.get(0));
+		assertNotSame(pdg0, getpdg(ms.get(0)));
+		assertNotSame(cfg0, getcfg(ms.get(0)));
+		assertSame(cfg1, getcfg(ms.get(1)));
+
+		// clearing a method the cache does not hold changes nothing
+		clearGraphCache(method());
+		assertSame(cfg1, getcfg(ms.get(1)));
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boa.test.functions;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static boa.functions.BoaIntrinsics.getPreviousVersion;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import boa.types.Code.CodeRepository;
+import boa.types.Code.Revision;
+import boa.types.Diff.ChangedFile;
+import boa.types.Diff.ChangedFile.FileKind;
+import boa.types.Shared.ChangeKind;
+
+/**
+ * Test that getpreviousversion finds a file's previous version through the
+ * commit recorded in previous_commits, and through the parent commits in
+ * previous_versions when none is recorded.
+ */
+public class TestPreviousVersion {
+	private static ChangedFile.Builder file(final String name, final ChangeKind change, final long key) {
+		return ChangedFile.newBuilder().setName(name).setChange(change).setKind(FileKind.TEXT).setKey(key).setAst(false);
+	}
+
+	private static Revision revision(final int[] parents, final ChangedFile.Builder... files) {
+		final Revision.Builder rb = Revision.newBuilder();
+		for (final int p : parents)
+			rb.addParents(p);
+		for (final ChangedFile.Builder f : files)
+			rb.addFiles(f);
+		return rb.buildPartial();
+	}
+
+	// 0: adds a and b, 1: changes b, 2: changes a
+	private static CodeRepository repository() {
+		return CodeRepository.newBuilder()
+				.addRevisions(revision(new int[0], file("a", ChangeKind.ADDED, 1), file("b", ChangeKind.ADDED, 2)))
+				.addRevisions(revision(new int[] { 0 }, file("b", ChangeKind.MODIFIED, 3)))
+				.addRevisions(revision(new int[] { 1 }, file("a", ChangeKind.MODIFIED, 4)))
+				.buildPartial();
+	}
+
+	private static long[] keys(final ChangedFile[] files) {
+		final long[] keys = new long[files.length];
+		for (int i = 0; i < files.length; i++)
+			keys[i] = files[i].getKey();
+		return keys;
+	}
+
+	private static ChangedFile.Builder changedA() {
+		return file("a", ChangeKind.MODIFIED, 4).addChanges(ChangeKind.MODIFIED).addPreviousNames("").addPreviousVersions(1);
+	}
+
+	@Test
+	public void walksTheParents() throws Exception {
+		final ChangedFile a = changedA().build();
+		assertArrayEquals(new long[] { 1 }, keys(getPreviousVersion(repository(), a)));
+	}
+
+	@Test
+	public void readsTheRecordedCommit() throws Exception {
+		// the recorded commit and index are used as they are, without a walk
+		final ChangedFile a = changedA().addPreviousCommits(0).addPreviousIndices(1).build();
+		assertArrayEquals(new long[] { 2 }, keys(getPreviousVersion(repository(), a)));
+	}
+
+	@Test
+	public void unknownCommitWalksTheParents() throws Exception {
+		final ChangedFile a = changedA().addPreviousCommits(-1).addPreviousIndices(-1).build();
+		assertArrayEquals(new long[] { 1 }, keys(getPreviousVersion(repository(), a)));
+	}
+
+	@Test
+	public void previousCommitsAreSerialized() throws Exception {
+		final ChangedFile a = changedA().addPreviousCommits(0).addPreviousIndices(1).build();
+		final ChangedFile read = ChangedFile.parseFrom(a.toByteArray());
+		assertEquals(a, read);
+		assertEquals(Arrays.asList(1), read.getPreviousVersionsList());
+		assertEquals(Arrays.asList(0), read.getPreviousCommitsList());
+		assertEquals(Arrays.asList(0), read.getField(ChangedFile.getDescriptor().findFieldByName("previous_commits")));
+
+		// a file written before the field existed has no previous commits
+		assertEquals(0, ChangedFile.parseFrom(changedA().build().toByteArray()).getPreviousCommitsCount());
+	}
+}
@@ -0,0 +1,183 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boa.test.graphs;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import boa.graphs.CompactGraph;
+import boa.graphs.Dominators;
+import boa.graphs.cfg.CFGEdge;
+import boa.graphs.cfg.CFGNode;
+import boa.types.Control.Node.NodeType;
+
+/**
+ * Test the dominators, post-dominators and dominance frontiers of a small
+ * graph with a branch, a loop and a node that can not be reached:
+ *
+ * <pre>
+ *   0 -&gt; 1
+ *   1 -&gt; 2, 3        (if)
+ *   2 -&gt; 4, 3 -&gt; 4
+ *   4 -&gt; 5, 6        (while)
+ *   5 -&gt; 4           (back edge)
+ *   7 -&gt; 4           (unreachable)
+ * </pre>
+ */
+public class TestDominators {
+	private CFGNode[] nodes;
+	private CompactGraph<CFGNode> graph;
+	private Dominators<CFGNode> dom;
+	private Dominators<CFGNode> pdom;
+
+	@Before
+	public void setUp() {
+		nodes = new CFGNode[8];
+		for (int i = 0; i < nodes.length; i++) {
+			nodes[i] = new CFGNode("", i == 1 || i == 4 ? NodeType.CONTROL : NodeType.OTHER, "", "");
+			nodes[i].setId(i);
+		}
+		edge(0, 1);
+		edge(1, 2);
+		edge(1, 3);
+		edge(2, 4);
+		edge(3, 4);
+		edge(4, 5);
+		edge(4, 6);
+		edge(5, 4);
+		edge(7, 4);
+
+		graph = new CompactGraph<CFGNode>(Arrays.asList(nodes));
+		dom = new Dominators<CFGNode>(graph, graph.getIndex(nodes[0]), true);
+		pdom = new Dominators<CFGNode>(graph, graph.getIndex(nodes[6]), false);
+	}
+
+	private void edge(final int src, final int dest) {
+		new CFGEdge(nodes[src], nodes[dest]);
+	}
+
+	private CFGNode idom(final Dominators<CFGNode> d, final int n) {
+		return d.getImmediateDominator(nodes[n]);
+	}
+
+	private boolean dominates(final Dominators<CFGNode> d, final int a, final int b) {
+		return d.dominates(graph.getIndex(nodes[a]), graph.getIndex(nodes[b]));
+	}
+
+	private Set<CFGNode> frontier(final Dominators<CFGNode> d, final int n) {
+		return d.getFrontier(nodes[n]);
+	}
+
+	private Set<CFGNode> set(final int... ns) {
+		final Set<CFGNode> s = new HashSet<CFGNode>();
+		for (final int n : ns)
+			s.add(nodes[n]);
+		return s;
+	}
+
+	@Test
+	public void immediateDominators() {
+		assertNull(idom(dom, 0));
+		assertSame(nodes[0], idom(dom, 1));
+		assertSame(nodes[1], idom(dom, 2));
+		assertSame(nodes[1], idom(dom, 3));
+		// neither arm of the branch, nor the unreachable node, dominates the join
+		assertSame(nodes[1], idom(dom, 4));
+		assertSame(nodes[4], idom(dom, 5));
+		assertSame(nodes[4], idom(dom, 6));
+	}
+
+	@Test
+	public void dominates() {
+		for (int n = 0; n < 7; n++) {
+			assertTrue(dominates(dom, 0, n));
+			assertTrue(dominates(dom, n, n));
+		}
+		assertTrue(dominates(dom, 1, 6));
+		assertTrue(dominates(dom, 4, 5));
+		assertFalse(dominates(dom, 2, 4));
+		assertFalse(dominates(dom, 3, 4));
+		assertFalse(dominates(dom, 5, 4));
+		assertFalse(dominates(dom, 6, 1));
+	}
+
+	@Test
+	public void unreachable() {
+		final int n = graph.getIndex(nodes[7]);
+		assertFalse(dom.isReachable(n));
+		assertNull(idom(dom, 7));
+		assertEquals(-1, dom.getImmediateDominator(n));
+		assertFalse(dominates(dom, 0, 7));
+		assertFalse(dominates(dom, 7, 7));
+		assertFalse(dominates(dom, 7, 4));
+		assertEquals(set(), frontier(dom, 7));
+
+		// but it still reaches the exit, so it has post-dominators
+		assertTrue(pdom.isReachable(n));
+		assertSame(nodes[4], idom(pdom, 7));
+		assertTrue(dominates(pdom, 6, 7));
+	}
+
+	@Test
+	public void frontiers() {
+		assertEquals(set(), frontier(dom, 0));
+		assertEquals(set(), frontier(dom, 1));
+		assertEquals(set(4), frontier(dom, 2));
+		assertEquals(set(4), frontier(dom, 3));
+		// a loop header is in its own frontier
+		assertEquals(set(4), frontier(dom, 4));
+		assertEquals(set(4), frontier(dom, 5));
+		assertEquals(set(), frontier(dom, 6));
+	}
+
+	@Test
+	public void immediatePostDominators() {
+		assertSame(nodes[1], idom(pdom, 0));
+		assertSame(nodes[4], idom(pdom, 1));
+		assertSame(nodes[4], idom(pdom, 2));
+		assertSame(nodes[4], idom(pdom, 3));
+		assertSame(nodes[6], idom(pdom, 4));
+		assertSame(nodes[4], idom(pdom, 5));
+		assertNull(idom(pdom, 6));
+
+		for (int n = 0; n < nodes.length; n++)
+			assertTrue(dominates(pdom, 6, n));
+		assertTrue(dominates(pdom, 4, 0));
+		assertFalse(dominates(pdom, 2, 1));
+		assertFalse(dominates(pdom, 5, 4));
+	}
+
+	@Test
+	public void postDominanceFrontiers() {
+		// the nodes each node is control dependent on
+		assertEquals(set(), frontier(pdom, 0));
+		assertEquals(set(), frontier(pdom, 1));
+		assertEquals(set(1), frontier(pdom, 2));
+		assertEquals(set(1), frontier(pdom, 3));
+		assertEquals(set(4), frontier(pdom, 4));
+		assertEquals(set(4), frontier(pdom, 5));
+		assertEquals(set(), frontier(pdom, 6));
+		assertEquals(set(), frontier(pdom, 7));
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boa.test.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.hadoop.io.WritableComparator;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import boa.io.EmitKey;
+
+/**
+ * Test that serialized {@link EmitKey}s read back unchanged, and that the raw
+ * comparator used by the shuffle orders them the same way as
+ * {@link EmitKey#compareTo(EmitKey)}.
+ */
+public class TestEmitKey {
+	@Before
+	public void setUp() {
+		EmitKey.setTables(new String[] { "m", "a", "z" });
+		EmitKey.setSortedTables(new String[] { "a", "s" });
+	}
+
+	@After
+	public void tearDown() {
+		EmitKey.setTables(new String[0]);
+		EmitKey.setSortedTables(new String[0]);
+	}
+
+	private static byte[] write(final EmitKey key) throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		key.write(new DataOutputStream(bytes));
+		return bytes.toByteArray();
+	}
+
+	private static EmitKey read(final byte[] bytes) throws IOException {
+		final EmitKey key = new EmitKey();
+		key.readFields(new DataInputStream(new ByteArrayInputStream(bytes)));
+		return key;
+	}
+
+	private static EmitKey key(final String index, final String name, final int id, final String value) {
+		final EmitKey key = new EmitKey(index, name, id);
+		key.setValue(value);
+		return key;
+	}
+
+	// compare two serialized keys placed at different offsets of larger buffers
+	private static int raw(final WritableComparator comparator, final byte[] b1, final byte[] b2) {
+		final byte[] p1 = new byte[b1.length + 3];
+		final byte[] p2 = new byte[b2.length + 5];
+		System.arraycopy(b1, 0, p1, 3, b1.length);
+		System.arraycopy(b2, 0, p2, 5, b2.length);
+		return comparator.compare(p1, 3, b1.length, p2, 5, b2.length);
+	}
+
+	private static List<EmitKey> keys() {
+		// registered and unregistered names, with and without sorted values
+		final String[] names = { "a", "m", "z", "b", "s", "zz", "é" };
+		// ASCII, two byte, three byte and supplementary characters, where
+		// UTF-8 byte order and String order disagree
+		final String[] indices = { "[]", "[1]", "[10]", "[é]", "[Ａ]", "[😀]", "[aＡ]", "[a😀]" };
+		final int[] ids = { 0, 1, 300 };
+		final String[] values = { "", "1", "10", "é", "Ａ", "😀" };
+
+		final List<EmitKey> keys = new ArrayList<EmitKey>();
+		for (final String name : names)
+			for (final String index : indices)
+				for (final int id : ids)
+					if (EmitKey.isSorted(name))
+						for (final String value : values)
+							keys.add(key(index, name, id, value));
+					else
+						keys.add(key(index, name, id, null));
+		return keys;
+	}
+
+	@Test
+	public void roundTrip() throws IOException {
+		for (final EmitKey key : keys()) {
+			final EmitKey copy = read(write(key));
+			assertEquals(key, copy);
+			assertEquals(key.getName(), copy.getName());
+			assertEquals(key.getIndex(), copy.getIndex());
+			assertEquals(key.getId(), copy.getId());
+			assertEquals(key.getValue(), copy.getValue());
+		}
+	}
+
+	@Test
+	public void registeredNamesAreShorter() throws IOException {
+		assertTrue(write(new EmitKey("[]", "m", 0)).length < write(new EmitKey("[]", "mm", 0)).length - 1);
+	}
+
+	@Test
+	public void rawCompareAgreesWithCompareTo() throws IOException {
+		final WritableComparator comparator = WritableComparator.get(EmitKey.class);
+		assertTrue(comparator instanceof EmitKey.Comparator);
+
+		final List<EmitKey> keys = keys();
+		final List<byte[]> bytes = new ArrayList<byte[]>();
+		for (final EmitKey key : keys)
+			bytes.add(write(key));
+
+		for (int i = 0; i < keys.size(); i++)
+			for (int j = 0; j < keys.size(); j++) {
+				final int expected = Integer.signum(keys.get(i).compareTo(keys.get(j)));
+				assertEquals(keys.get(i) + "/" + keys.get(i).getValue() + " vs " + keys.get(j) + "/" + keys.get(j).getValue(),
+						expected, Integer.signum(raw(comparator, bytes.get(i), bytes.get(j))));
+				assertEquals(expected, Integer.signum(keys.get(i).compare(bytes.get(i), 0, bytes.get(i).length, bytes.get(j), 0, bytes.get(j).length)));
+			}
+	}
+
+	@Test
+	public void unregisteredNamesSortAmongRegistered() throws IOException {
+		final WritableComparator comparator = new EmitKey.Comparator();
+		// "b" is not registered and falls between "a" and "m"
+		assertTrue(raw(comparator, write(key("[]", "a", 0, "")), write(new EmitKey("[]", "b", 0))) < 0);
+		assertTrue(raw(comparator, write(new EmitKey("[]", "b", 0)), write(new EmitKey("[]", "m", 0))) < 0);
+		assertTrue(raw(comparator, write(new EmitKey("[]", "zz", 0)), write(new EmitKey("[]", "z", 0))) > 0);
+	}
+
+	@Test
+	public void groupingIgnoresValues() throws IOException {
+		final WritableComparator sort = new EmitKey.Comparator();
+		final WritableComparator grouping = new EmitKey.GroupingComparator();
+
+		final byte[] k1 = write(key("[1]", "a", 0, "x"));
+		final byte[] k2 = write(key("[1]", "a", 0, "y"));
+		assertTrue(raw(sort, k1, k2) < 0);
+		assertEquals(0, raw(grouping, k1, k2));
+		assertEquals(0, raw(grouping, k2, k1));
+
+		// everything but the value still separates groups
+		final List<EmitKey> keys = keys();
+		for (final EmitKey a : keys)
+			for (final EmitKey b : keys) {
+				final boolean same = a.getName().equals(b.getName()) && a.getIndex().equals(b.getIndex()) && a.getId() == b.getId();
+				final int c = raw(grouping, write(a), write(b));
+				if (same)
+					assertEquals(0, c);
+				else {
+					assertNotEquals(0, c);
+					assertEquals(Integer.signum(a.compareTo(b)), Integer.signum(c));
+				}
+			}
+	}
+}
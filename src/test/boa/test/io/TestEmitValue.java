@@ -0,0 +1,105 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boa.test.io;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import org.junit.Test;
+
+import boa.io.EmitValue;
+
+/**
+ * Test that each kind of {@link EmitValue} reads back unchanged.
+ */
+public class TestEmitValue {
+	private static EmitValue roundTrip(final EmitValue value) throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		value.write(new DataOutputStream(bytes));
+
+		// read into a reused value of another kind, as the reducer does
+		final EmitValue copy = new EmitValue(new String[] { "stale" }, "stale");
+		copy.readFields(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+		assertEquals(value, copy);
+		return copy;
+	}
+
+	@Test
+	public void strings() throws IOException {
+		final EmitValue v = roundTrip(new EmitValue(new String[] { "a", "", "é😀" }));
+		assertArrayEquals(new String[] { "a", "", "é😀" }, v.getData());
+		assertNull(v.getMetadata());
+		assertFalse(v.isLong());
+	}
+
+	@Test
+	public void stringWithMetadata() throws IOException {
+		assertEquals("m", roundTrip(new EmitValue("a", "m")).getMetadata());
+		assertEquals(-5, roundTrip(new EmitValue("a", -5L)).getLongMetadata());
+		assertEquals("2.5", roundTrip(new EmitValue("a", 2.5)).getMetadata());
+	}
+
+	@Test
+	public void longs() throws IOException {
+		for (final long l : new long[] { 0, 1, -1, 300, Long.MAX_VALUE, Long.MIN_VALUE }) {
+			final EmitValue v = roundTrip(new EmitValue(l));
+			assertTrue(v.isLong());
+			assertEquals(l, v.getLong());
+			assertNull(v.getMetadata());
+		}
+
+		final EmitValue v = roundTrip(new EmitValue(7L, 3L));
+		assertTrue(v.isLongMetadata());
+		assertEquals(3, v.getLongMetadata());
+		assertEquals("x", roundTrip(new EmitValue(7L, "x")).getMetadata());
+		assertEquals("0.5", roundTrip(new EmitValue(7L, 0.5)).getMetadata());
+	}
+
+	@Test
+	public void doubles() throws IOException {
+		for (final double d : new double[] { 0, -1.5, Double.MAX_VALUE, Double.MIN_VALUE, Double.NaN }) {
+			final EmitValue v = roundTrip(new EmitValue(d));
+			assertTrue(v.isDouble());
+			assertEquals(d, v.getDouble(), 0);
+		}
+
+		assertEquals("x", roundTrip(new EmitValue(1.5, "x")).getMetadata());
+		assertEquals(4, roundTrip(new EmitValue(1.5, 4L)).getLongMetadata());
+		assertEquals("0.25", roundTrip(new EmitValue(1.5, 0.25)).getMetadata());
+	}
+
+	@Test
+	public void tuples() throws IOException {
+		final double[] data = { 1, 2.5, -3 };
+		final EmitValue v = roundTrip(new EmitValue(data));
+		assertTrue(v.isDoubles());
+		assertArrayEquals(data, v.getDoubles(), 0);
+
+		assertArrayEquals(new double[0], roundTrip(new EmitValue(new double[0])).getDoubles(), 0);
+	}
+
+	@Test
+	public void emptyMetadataIsDropped() throws IOException {
+		assertNull(roundTrip(new EmitValue("a", "")).getMetadata());
+	}
+}
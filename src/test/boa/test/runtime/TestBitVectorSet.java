@@ -0,0 +1,331 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boa.test.runtime;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import boa.runtime.BitVectorSet;
+
+/**
+ * Test the bit vector sets of strings used by data-flow analyses, comparing
+ * each operation against a plain {@link HashSet}.
+ */
+public class TestBitVectorSet {
+	@Before
+	public void setUp() {
+		BitVectorSet.enter(new Object());
+	}
+
+	private static BitVectorSet bits(final BitVectorSet universe, final String... values) {
+		final BitVectorSet s = universe == null ? new BitVectorSet() : new BitVectorSet(universe);
+		s.addAll(Arrays.asList(values));
+		return s;
+	}
+
+	private static Set<String> hash(final String... values) {
+		return new HashSet<String>(Arrays.asList(values));
+	}
+
+	// many values, so the sets span more than one word
+	private static String[] range(final String prefix, final int from, final int to) {
+		final String[] values = new String[to - from];
+		for (int i = from; i < to; i++)
+			values[i - from] = prefix + i;
+		return values;
+	}
+
+	private static void assertSameSet(final Set<String> expected, final Set<String> actual) {
+		assertEquals(expected, actual);
+		assertEquals(actual, expected);
+		assertEquals(expected.size(), actual.size());
+		assertEquals(expected.hashCode(), actual.hashCode());
+		assertEquals(expected, new HashSet<String>(actual));
+	}
+
+	@Test
+	public void addRemoveContains() {
+		final BitVectorSet s = bits(null, "a", "b");
+		assertFalse(s.add("a"));
+		assertTrue(s.add("c"));
+		assertTrue(s.contains("c"));
+		assertFalse(s.contains("d"));
+		assertFalse(s.contains(null));
+		assertTrue(s.remove("b"));
+		assertFalse(s.remove("b"));
+		assertFalse(s.remove("d"));
+		assertSameSet(hash("a", "c"), s);
+
+		s.clear();
+		assertTrue(s.isEmpty());
+		assertSameSet(hash(), s);
+	}
+
+	@Test
+	public void sameUniverse() {
+		final BitVectorSet a = bits(null, range("v", 0, 100));
+		final BitVectorSet b = bits(a, range("v", 50, 150));
+
+		final BitVectorSet union = a.clone();
+		assertTrue(union.addAll(b));
+		assertFalse(union.addAll(b));
+		assertSameSet(hash(range("v", 0, 150)), union);
+
+		final BitVectorSet intersection = a.clone();
+		assertTrue(intersection.retainAll(b));
+		assertFalse(intersection.retainAll(b));
+		assertSameSet(hash(range("v", 50, 100)), intersection);
+
+		final BitVectorSet difference = a.clone();
+		assertTrue(difference.removeAll(b));
+		assertFalse(difference.removeAll(b));
+		assertSameSet(hash(range("v", 0, 50)), difference);
+
+		assertTrue(union.containsAll(a));
+		assertTrue(union.containsAll(b));
+		assertFalse(a.containsAll(b));
+
+		// the operands are left alone
+		assertSameSet(hash(range("v", 0, 100)), a);
+		assertSameSet(hash(range("v", 50, 150)), b);
+	}
+
+	@Test
+	public void shorterOperand() {
+		// the set made first has fewer words than the one made after it
+		final BitVectorSet small = bits(null, "x");
+		final BitVectorSet large = bits(small, range("v", 0, 200));
+		large.add("x");
+
+		final BitVectorSet intersection = large.clone();
+		intersection.retainAll(small);
+		assertSameSet(hash("x"), intersection);
+
+		final BitVectorSet difference = small.clone();
+		difference.removeAll(large);
+		assertSameSet(hash(), difference);
+
+		final BitVectorSet union = small.clone();
+		union.addAll(large);
+		assertEquals(large, union);
+		assertTrue(large.containsAll(small));
+		assertFalse(small.containsAll(large));
+	}
+
+	@Test
+	public void differentUniverses() {
+		final BitVectorSet a = bits(null, "a", "b", "c");
+		BitVectorSet.enter(new Object());
+		// numbered in a different order than in the first universe
+		final BitVectorSet b = bits(null, "d", "c", "b");
+
+		final BitVectorSet union = a.clone();
+		assertTrue(union.addAll(b));
+		assertSameSet(hash("a", "b", "c", "d"), union);
+
+		final BitVectorSet intersection = a.clone();
+		assertTrue(intersection.retainAll(b));
+		assertSameSet(hash("b", "c"), intersection);
+
+		final BitVectorSet difference = a.clone();
+		assertTrue(difference.removeAll(b));
+		assertSameSet(hash("a"), difference);
+
+		assertTrue(union.containsAll(b));
+		assertFalse(a.containsAll(b));
+
+		b.remove("d");
+		b.add("a");
+		assertSameSet(a, b);
+	}
+
+	@Test
+	public void mixedWithHashSet() {
+		final BitVectorSet s = bits(null, "a", "b", "c");
+
+		final BitVectorSet union = s.clone();
+		union.addAll(hash("c", "d"));
+		assertSameSet(hash("a", "b", "c", "d"), union);
+
+		final BitVectorSet intersection = s.clone();
+		intersection.retainAll(hash("b", "c", "d"));
+		assertSameSet(hash("b", "c"), intersection);
+
+		final BitVectorSet difference = s.clone();
+		difference.removeAll(hash("a", "d"));
+		assertSameSet(hash("b", "c"), difference);
+
+		final Set<String> h = hash("a", "b", "c", "d");
+		h.retainAll(s);
+		assertSameSet(h, s);
+		h.removeAll(s);
+		assertTrue(h.isEmpty());
+	}
+
+	@Test
+	public void equalsAndHashCode() {
+		final BitVectorSet a = bits(null, range("v", 0, 70));
+		final BitVectorSet b = bits(a, range("v", 69, 70));
+		b.addAll(Arrays.asList(range("v", 0, 69)));
+		assertSameSet(a, b);
+		assertSameSet(hash(range("v", 0, 70)), a);
+
+		b.remove("v3");
+		assertFalse(a.equals(b));
+		assertFalse(b.equals(a));
+		assertFalse(a.equals(hash(range("v", 0, 69))));
+
+		// equal after emptying, whatever words were used
+		a.clear();
+		b.clear();
+		assertSameSet(a, b);
+		assertSameSet(hash(), a);
+		assertSameSet(new BitVectorSet(), a);
+	}
+
+	@Test
+	public void cloneAndCopy() {
+		final BitVectorSet a = bits(null, "a", "b");
+		final BitVectorSet c = a.clone();
+		c.add("c");
+		assertSameSet(hash("a", "b"), a);
+		assertSameSet(hash("a", "b", "c"), c);
+
+		final Set<String> copy = BitVectorSet.copy(a);
+		assertTrue(copy instanceof BitVectorSet);
+		assertSameSet(a, copy);
+		copy.remove("a");
+		assertTrue(a.contains("a"));
+
+		final Set<String> plain = BitVectorSet.copy(hash("a"));
+		assertSame(HashSet.class, plain.getClass());
+		assertSameSet(hash("a"), plain);
+	}
+
+	@Test
+	public void iteratorRemove() {
+		final BitVectorSet s = bits(null, range("v", 0, 130));
+		final Set<String> expected = hash(range("v", 0, 130));
+		final Set<String> seen = new HashSet<String>();
+
+		for (final Iterator<String> i = s.iterator(); i.hasNext(); ) {
+			final String v = i.next();
+			assertTrue(seen.add(v));
+			if (Integer.parseInt(v.substring(1)) % 3 != 0) {
+				i.remove();
+				expected.remove(v);
+			}
+		}
+		assertSameSet(hash(range("v", 0, 130)), seen);
+		assertSameSet(expected, s);
+		assertFalse(s.contains("v64"));
+		assertTrue(s.contains("v63"));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void iteratorRemoveTwice() {
+		final Iterator<String> i = bits(null, "a", "b").iterator();
+		i.next();
+		i.remove();
+		i.remove();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void iteratorRemoveBeforeNext() {
+		bits(null, "a").iterator().remove();
+	}
+
+	@Test
+	public void spliterator() {
+		final BitVectorSet s = bits(null, range("v", 0, 130));
+		s.remove("v64");
+		final Set<String> expected = hash(range("v", 0, 130));
+		expected.remove("v64");
+
+		final Spliterator<String> i = s.spliterator();
+		assertTrue(i.hasCharacteristics(Spliterator.DISTINCT));
+		assertEquals(129, i.getExactSizeIfKnown());
+
+		final Set<String> seen = new HashSet<String>();
+		final Consumer<String> add = new Consumer<String>() {
+			@Override
+			public void accept(final String v) {
+				assertTrue(seen.add(v));
+			}
+		};
+		while (i.tryAdvance(add))
+			;
+		assertSameSet(expected, seen);
+
+		// streams go through the spliterator
+		assertEquals(129, s.stream().count());
+		assertEquals(129, s.parallelStream().filter(new Predicate<String>() {
+			@Override
+			public boolean test(final String v) {
+				return expected.contains(v);
+			}
+		}).count());
+	}
+
+	@Test
+	public void toArray() {
+		final BitVectorSet s = bits(null, range("v", 0, 100));
+		s.removeAll(Arrays.asList(range("v", 10, 90)));
+
+		final Set<String> expected = hash(range("v", 0, 10));
+		expected.addAll(Arrays.asList(range("v", 90, 100)));
+
+		final Object[] objects = s.toArray();
+		assertEquals(20, objects.length);
+		assertSameSet(expected, hash(Arrays.copyOf(objects, objects.length, String[].class)));
+
+		// too small, so a new array of the right size and type is made
+		final String[] small = new String[3];
+		final String[] grown = s.toArray(small);
+		assertEquals(20, grown.length);
+		assertEquals(String[].class, grown.getClass());
+		assertNull(small[0]);
+
+		// exactly the right size, so it is filled in place
+		final String[] exact = new String[20];
+		assertSame(exact, s.toArray(exact));
+		assertArrayEquals(grown, exact);
+
+		// larger, so filled in place and terminated by a null
+		final String[] large = new String[25];
+		Arrays.fill(large, "x");
+		assertSame(large, s.toArray(large));
+		assertArrayEquals(grown, Arrays.copyOf(large, 20));
+		assertNull(large[20]);
+		assertEquals("x", large[21]);
+
+		assertSameSet(expected, hash(grown));
+		assertEquals(0, new BitVectorSet().toArray().length);
+	}
+}
@@ -0,0 +1,212 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boa.test.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.hadoop.conf.Configuration;
+import org.junit.Test;
+
+import boa.io.EmitKey;
+import boa.runtime.BoaPartitioner;
+
+/**
+ * Test the split keys {@link BoaPartitioner} computes from a sample of the
+ * map output, and how it partitions keys with them.
+ */
+public class TestBoaPartitioner {
+	// the job order: by job, then as EmitKey.compareTo orders keys of a job
+	private static final Comparator<EmitKey> order = new Comparator<EmitKey>() {
+		@Override
+		public int compare(final EmitKey k1, final EmitKey k2) {
+			final int c = k1.getId() - k2.getId();
+			return c != 0 ? c : k1.compareTo(k2);
+		}
+	};
+
+	private static void add(final Map<EmitKey, long[]> counts, final int job, final String name, final int index, final long count) {
+		counts.put(new EmitKey("[" + index + "]", name, job), new long[] { count });
+	}
+
+	// a job with n keys, each seen count times
+	private static void job(final Map<EmitKey, long[]> counts, final int job, final int n, final long count) {
+		for (int i = 0; i < n; i++)
+			add(counts, job, "t", i, count);
+	}
+
+	// a partitioner reading the split keys from a split file
+	private static BoaPartitioner partitioner(final EmitKey[] splits) throws IOException {
+		final File file = File.createTempFile("splits", ".txt");
+		file.deleteOnExit();
+
+		final Writer out = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+		try {
+			for (final EmitKey k : splits)
+				out.write(k.getId() + "\t" + k.getName() + "\t" + k.getIndex() + "\n");
+		} finally {
+			out.close();
+		}
+
+		final Configuration conf = new Configuration();
+		conf.set(BoaPartitioner.SPLITS_FILE_PROPERTY, file.toURI().toString());
+
+		final BoaPartitioner p = new BoaPartitioner();
+		p.setConf(conf);
+		return p;
+	}
+
+	// the reducers each job's keys go to
+	private static List<Set<Integer>> reducers(final BoaPartitioner p, final Map<EmitKey, long[]> counts, final int jobs, final int reducers) {
+		final List<Set<Integer>> used = new ArrayList<Set<Integer>>();
+		for (int j = 0; j < jobs; j++)
+			used.add(new HashSet<Integer>());
+		for (final EmitKey k : counts.keySet())
+			used.get(k.getId()).add(p.getPartition(k, null, reducers));
+		return used;
+	}
+
+	@Test
+	public void oneReducerPerJobWithoutSplits() {
+		final BoaPartitioner p = new BoaPartitioner();
+		p.setConf(new Configuration());
+		for (int j = 0; j < 5; j++)
+			assertEquals(j, p.getPartition(new EmitKey("[]", "t", j), null, 5));
+	}
+
+	@Test
+	public void sharesGoToHeavierJobs() throws IOException {
+		final Map<EmitKey, long[]> counts = new HashMap<EmitKey, long[]>();
+		job(counts, 0, 50, 2);
+		job(counts, 1, 50, 10);
+		job(counts, 2, 50, 4);
+
+		// totals 100, 500 and 200 over 8 reducers
+		final EmitKey[] splits = BoaPartitioner.computeSplits(counts, 3, 8);
+		assertEquals(7, splits.length);
+
+		final List<Set<Integer>> used = reducers(partitioner(splits), counts, 3, 8);
+		assertEquals(1, used.get(0).size());
+		assertEquals(5, used.get(1).size());
+		assertEquals(2, used.get(2).size());
+	}
+
+	@Test
+	public void everyJobGetsAReducer() throws IOException {
+		final Map<EmitKey, long[]> counts = new HashMap<EmitKey, long[]>();
+		job(counts, 0, 1000, 100);
+		job(counts, 1, 1, 1);
+
+		final List<Set<Integer>> used = reducers(partitioner(BoaPartitioner.computeSplits(counts, 3, 6)), counts, 2, 6);
+		assertEquals(4, used.get(0).size());
+		assertEquals(1, used.get(1).size());
+	}
+
+	@Test
+	public void hotKeyGetsItsOwnReducer() throws IOException {
+		// the hot key is anywhere in its job, with lighter keys on both sides
+		for (final int hot : new int[] { 0, 3, 15, 29 }) {
+			final Map<EmitKey, long[]> counts = new HashMap<EmitKey, long[]>();
+			for (int i = 0; i < 30; i++)
+				add(counts, 0, "t", i, i == hot ? 1000 : 10);
+
+			final BoaPartitioner p = partitioner(BoaPartitioner.computeSplits(counts, 1, 4));
+			final EmitKey hotKey = new EmitKey("[" + hot + "]", "t", 0);
+			final int partition = p.getPartition(hotKey, null, 4);
+			for (final EmitKey k : counts.keySet())
+				if (!k.equals(hotKey))
+					assertTrue("hot key " + hot + " shares with " + k, p.getPartition(k, null, 4) != partition);
+		}
+	}
+
+	@Test
+	public void evenKeysSplitEvenly() throws IOException {
+		final Map<EmitKey, long[]> counts = new HashMap<EmitKey, long[]>();
+		job(counts, 0, 100, 10);
+
+		final BoaPartitioner p = partitioner(BoaPartitioner.computeSplits(counts, 1, 4));
+		final int[] load = new int[4];
+		for (final EmitKey k : counts.keySet())
+			load[p.getPartition(k, null, 4)]++;
+		for (final int l : load)
+			assertEquals(25, l);
+	}
+
+	@Test
+	public void fewKeysStayInOrderWithinTheirJob() throws IOException {
+		// fewer distinct keys than reducers
+		final Map<EmitKey, long[]> counts = new HashMap<EmitKey, long[]>();
+		add(counts, 0, "b", 1, 50);
+		add(counts, 0, "b", 2, 50);
+		add(counts, 1, "a", 1, 40);
+		add(counts, 1, "c", 1, 40);
+		add(counts, 2, "a", 1, 1);
+		final int reducers = 9;
+
+		final EmitKey[] splits = BoaPartitioner.computeSplits(counts, 3, reducers);
+		assertEquals(reducers - 1, splits.length);
+		final BoaPartitioner p = partitioner(splits);
+
+		// the sampled keys and keys that were not sampled, sorted
+		final List<EmitKey> keys = new ArrayList<EmitKey>();
+		for (int j = 0; j < 3; j++)
+			for (final String name : new String[] { "a", "b", "c", "d", "é" })
+				for (final String index : new String[] { "[]", "[0]", "[1]", "[10]", "[2]", "[3]", "[é]" })
+					keys.add(new EmitKey(index, name, j));
+		Collections.sort(keys, order);
+
+		final int[] first = new int[3];
+		final int[] last = new int[3];
+		for (int j = 0; j < 3; j++) {
+			first[j] = reducers;
+			last[j] = -1;
+		}
+
+		int previous = 0;
+		for (final EmitKey k : keys) {
+			final int partition = p.getPartition(k, null, reducers);
+			assertTrue(partition >= 0 && partition < reducers);
+			// concatenating the reducer outputs keeps the order
+			assertTrue(k + " of job " + k.getId(), partition >= previous);
+			previous = partition;
+
+			first[k.getId()] = Math.min(first[k.getId()], partition);
+			last[k.getId()] = Math.max(last[k.getId()], partition);
+		}
+
+		// the runs of reducers of the jobs do not overlap
+		assertTrue(last[0] < first[1]);
+		assertTrue(last[1] < first[2]);
+
+		// each distinct sampled key of a job has a reducer of its own
+		final List<Set<Integer>> used = reducers(p, counts, 3, reducers);
+		assertEquals(2, used.get(0).size());
+		assertEquals(2, used.get(1).size());
+		assertEquals(1, used.get(2).size());
+	}
+}
@@ -0,0 +1,239 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boa.test.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Test;
+
+import boa.graphs.cfg.CFG;
+import boa.graphs.cfg.CFGNode;
+import boa.runtime.BoaAbstractFixP;
+import boa.runtime.BoaAbstractTraversal;
+import boa.runtime.Worklist;
+import boa.types.Ast.Expression;
+import boa.types.Ast.Expression.ExpressionKind;
+import boa.types.Ast.Method;
+import boa.types.Ast.Statement;
+import boa.types.Ast.Statement.StatementKind;
+import boa.types.Graph.Traversal.TraversalDirection;
+import boa.types.Graph.Traversal.TraversalKind;
+
+/**
+ * Test the worklist of the traversal solver, and that traversals of a method
+ * with a long loop visit all of its nodes.
+ */
+public class TestWorklist {
+	// more statements in the loop than the old solver visited, and too many
+	// for the old recursive depth-first search on a small stack
+	private static final int STATEMENTS = 20000;
+
+	// a permutation of 0..n-1
+	private static int[] priorities(final int n, final long seed) {
+		final List<Integer> l = new ArrayList<Integer>();
+		for (int i = 0; i < n; i++)
+			l.add(i);
+		Collections.shuffle(l, new Random(seed));
+
+		final int[] priority = new int[n];
+		for (int i = 0; i < n; i++)
+			priority[i] = l.get(i);
+		return priority;
+	}
+
+	@Test
+	public void removesByPriority() {
+		final int n = 1000;
+		final int[] priority = priorities(n, 1);
+		final Worklist w = new Worklist(priority);
+		for (final int node : priorities(n, 2))
+			assertTrue(w.add(node));
+		assertEquals(n, w.size());
+
+		for (int p = 0; p < n; p++)
+			assertEquals(p, priority[w.remove()]);
+		assertTrue(w.isEmpty());
+	}
+
+	@Test
+	public void addsAfterRemovesKeepOrder() {
+		final int n = 500;
+		final int[] priority = priorities(n, 3);
+		final Worklist w = new Worklist(priority);
+		final Random r = new Random(4);
+
+		// interleave adds and removes, checking each remove against a scan
+		for (int step = 0; step < 10000; step++) {
+			if (w.isEmpty() || r.nextInt(3) != 0) {
+				w.add(r.nextInt(n));
+			} else {
+				int lowest = -1;
+				for (int i = 0; i < n; i++)
+					if (w.contains(i) && (lowest == -1 || priority[i] < priority[lowest]))
+						lowest = i;
+				assertEquals(lowest, w.remove());
+				assertFalse(w.contains(lowest));
+			}
+		}
+	}
+
+	@Test
+	public void refusesDuplicates() {
+		final Worklist w = new Worklist(new int[] { 2, 0, 1 });
+		assertTrue(w.add(0));
+		assertTrue(w.add(1));
+		assertFalse(w.add(0));
+		assertFalse(w.add(1));
+		assertEquals(2, w.size());
+		assertTrue(w.contains(0));
+		assertFalse(w.contains(2));
+
+		assertEquals(1, w.remove());
+		assertFalse(w.contains(1));
+		// a removed node can be queued again
+		assertTrue(w.add(1));
+		assertEquals(1, w.remove());
+		assertEquals(0, w.remove());
+		assertTrue(w.isEmpty());
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void removeFromEmpty() {
+		new Worklist(new int[3]).remove();
+	}
+
+	// while (x) { x; x; ... }
+	private static CFG loop(final int statements) {
+		final Expression x = Expression.newBuilder().setKind(ExpressionKind.VARACCESS).setVariable("x").build();
+		final Statement.Builder body = Statement.newBuilder().setKind(StatementKind.BLOCK);
+		for (int i = 0; i < statements; i++)
+			body.addStatements(Statement.newBuilder().setKind(StatementKind.EXPRESSION).addExpressions(x));
+		final Statement loop = Statement.newBuilder().setKind(StatementKind.WHILE).addConditions(x).addStatements(body).build();
+		final Statement block = Statement.newBuilder().setKind(StatementKind.BLOCK).addStatements(loop).build();
+
+		final CFG cfg = new CFG(Method.newBuilder().setName("m").addStatements(block).build()).get();
+		assertTrue(cfg.getIsLoopPresent());
+		assertEquals(statements + 3, cfg.getNodes().size());
+		return cfg;
+	}
+
+	/**
+	 * The shortest distance of each node from the entry, found with the
+	 * values of its predecessors visited so far.
+	 */
+	private static class Distance extends BoaAbstractTraversal<Integer> {
+		public Distance() {
+			super(true, true);
+		}
+
+		@Override
+		public void traverse(final CFGNode node, final boolean flag) throws Exception {
+			int d = node.getPredecessors().isEmpty() ? 0 : Integer.MAX_VALUE;
+			for (final CFGNode pred : node.getPredecessors())
+				if (outputMapObj.containsKey(pred.getId()) && outputMapObj.get(pred.getId()) < Integer.MAX_VALUE)
+					d = Math.min(d, outputMapObj.get(pred.getId()) + 1);
+			if (flag)
+				currentResult = d;
+			outputMapObj.put(node.getId(), d);
+		}
+	}
+
+	private static final BoaAbstractFixP equal = new BoaAbstractFixP() {
+		@Override
+		public boolean invoke(final Object curr, final Object prev) {
+			return curr.equals(prev);
+		}
+	};
+
+	// runs on a thread with a small stack, where the old recursion overflowed
+	private static void onSmallStack(final Runnable r) throws Throwable {
+		final Throwable[] thrown = new Throwable[1];
+		final Thread t = new Thread(null, new Runnable() {
+			@Override
+			public void run() {
+				try {
+					r.run();
+				} catch (final Throwable e) {
+					thrown[0] = e;
+				}
+			}
+		}, "small stack", 256 * 1024);
+		t.start();
+		t.join();
+		if (thrown[0] != null)
+			throw thrown[0];
+	}
+
+	private static void assertDistances(final String message, final CFG cfg, final Distance t) {
+		assertEquals(message, cfg.getNodes().size(), t.outputMapObj.size());
+		// ENTRY, WHILE, then the statements of the loop in order
+		int max = 0;
+		for (final CFGNode n : cfg.getNodes())
+			max = Math.max(max, t.outputMapObj.get(n.getId()));
+		assertEquals(message, STATEMENTS + 1, max);
+	}
+
+	@Test
+	public void postorderOfLongLoop() throws Throwable {
+		final CFG cfg = loop(STATEMENTS);
+		for (final TraversalKind kind : new TraversalKind[] { TraversalKind.POSTORDER, TraversalKind.REVERSEPOSTORDER, TraversalKind.DFS }) {
+			final Distance t = new Distance();
+			onSmallStack(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						t.traverse(cfg, TraversalDirection.FORWARD, kind);
+					} catch (final Exception e) {
+						throw new RuntimeException(e);
+					}
+				}
+			});
+			assertEquals(kind.name(), cfg.getNodes().size(), t.getVisitCount());
+			assertEquals(kind.name(), cfg.getNodes().size(), t.outputMapObj.size());
+			// a depth-first search from the entry goes down the loop in order
+			if (kind == TraversalKind.DFS)
+				assertDistances(kind.name(), cfg, t);
+		}
+	}
+
+	@Test
+	public void worklistOfLongLoop() throws Throwable {
+		final CFG cfg = loop(STATEMENTS);
+		for (final TraversalKind kind : new TraversalKind[] { TraversalKind.WORKLIST_REVERSEPOSTORDER, TraversalKind.WORKLIST_POSTORDER, TraversalKind.HYBRID }) {
+			final Distance t = new Distance();
+			onSmallStack(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						t.traverse(cfg, TraversalDirection.FORWARD, kind, equal);
+					} catch (final Exception e) {
+						throw new RuntimeException(e);
+					}
+				}
+			});
+
+			// every node is visited, far past the old cap of 3500 visits
+			assertTrue(kind.name(), t.getVisitCount() >= cfg.getNodes().size());
+			assertDistances(kind.name(), cfg, t);
+		}
+	}
+}